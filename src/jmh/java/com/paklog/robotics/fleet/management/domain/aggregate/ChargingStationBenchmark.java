@@ -0,0 +1,71 @@
+package com.paklog.robotics.fleet.management.domain.aggregate;
+
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Charging station queue operations on a full station with a waiting queue of
+ * the given length. The rotation releases the longest-charging robot, which
+ * starts the queue head, and puts the released robot back at the tail, so the
+ * queue length stays constant across invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChargingStationBenchmark {
+
+    private static final int CAPACITY = 5;
+
+    @Param({"0", "8", "64"})
+    public int queued;
+
+    private ChargingStation station;
+    private String[] robotIds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        station = ChargingStation.create("STATION-1", RobotPosition.of(0.0, 0.0, 0.0), CAPACITY);
+        robotIds = new String[CAPACITY + queued];
+        for (int i = 0; i < robotIds.length; i++) {
+            robotIds[i] = "ROBOT-" + i;
+            station.addToQueue(robotIds[i]);
+            if (station.isAvailable()) {
+                station.startCharging(robotIds[i]);
+            }
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public int releaseAndRequeue() {
+        String robotId = robotIds[next];
+        next = next + 1 == robotIds.length ? 0 : next + 1;
+        station.releaseRobot(robotId);
+        station.addToQueue(robotId);
+        if (station.isAvailable()) {
+            station.startCharging(robotId);
+        }
+        return station.getQueueLength();
+    }
+
+    @Benchmark
+    public int queuePosition() {
+        return station.getQueuePosition(robotIds[robotIds.length - 1]);
+    }
+
+    @Benchmark
+    public int estimateWaitTime() {
+        return station.estimateWaitTime(robotIds[robotIds.length - 1]);
+    }
+
+    @Benchmark
+    public boolean holds() {
+        return station.holds(robotIds[robotIds.length - 1]);
+    }
+}
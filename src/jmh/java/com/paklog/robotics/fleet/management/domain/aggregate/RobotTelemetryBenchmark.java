@@ -0,0 +1,83 @@
+package com.paklog.robotics.fleet.management.domain.aggregate;
+
+import com.paklog.robotics.fleet.management.domain.state.FleetStateStore;
+import com.paklog.robotics.fleet.management.domain.state.RobotSlotRegistry;
+import com.paklog.robotics.fleet.management.domain.valueobject.HealthMetric;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotId;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of applying one telemetry sample to a Robot, with and without the
+ * columnar state store attached. Battery readings stay above the low-battery
+ * threshold so no domain events are raised.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RobotTelemetryBenchmark {
+
+    private static final int SAMPLES = 1024;
+
+    @Param({"false", "true"})
+    public boolean stateStore;
+
+    private Robot robot;
+    private RobotPosition[] positions;
+    private int[] batteryLevels;
+    private double[] temperatures;
+    private Instant[] observedAt;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        robot = Robot.register(RobotId.of("ROBOT-1"), "AMR-X1", RobotPosition.of(0.0, 0.0, 0.0),
+            Set.of(RobotCapability.PICKER));
+        if (stateStore) {
+            robot.attachStateStore(new FleetStateStore(new RobotSlotRegistry(16), 16));
+        }
+        Random random = new Random(42);
+        positions = new RobotPosition[SAMPLES];
+        batteryLevels = new int[SAMPLES];
+        temperatures = new double[SAMPLES];
+        observedAt = new Instant[SAMPLES];
+        Instant start = Instant.parse("2026-01-05T06:00:00Z");
+        for (int i = 0; i < SAMPLES; i++) {
+            positions[i] = RobotPosition.of(random.nextDouble() * 100.0, random.nextDouble() * 100.0,
+                random.nextDouble() * 360.0);
+            batteryLevels[i] = 60 + random.nextInt(40);
+            temperatures[i] = 30.0 + random.nextDouble() * 20.0;
+            observedAt[i] = start.plusMillis(100L * i);
+        }
+    }
+
+    @Benchmark
+    public Robot updatePosition() {
+        int sample = next++ & (SAMPLES - 1);
+        robot.updatePosition(positions[sample], observedAt[sample]);
+        return robot;
+    }
+
+    @Benchmark
+    public Robot updateBatteryLevel() {
+        int sample = next++ & (SAMPLES - 1);
+        robot.updateBatteryLevel(batteryLevels[sample], observedAt[sample]);
+        return robot;
+    }
+
+    @Benchmark
+    public Robot recordHealthMetric() {
+        int sample = next++ & (SAMPLES - 1);
+        robot.recordHealthMetric(HealthMetric.TEMPERATURE, temperatures[sample], observedAt[sample]);
+        return robot;
+    }
+}
@@ -0,0 +1,86 @@
+package com.paklog.robotics.fleet.management.domain.service;
+
+import com.paklog.robotics.fleet.management.domain.valueobject.PathPlan;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.TrafficZone;
+import com.paklog.robotics.fleet.management.domain.valueobject.TrafficZoneType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grid A* planning and path validation on synthetic warehouse maps: rack rows
+ * of one-metre obstacles split by cross aisles every 40 m, with a slow dock
+ * strip along the front. The map is scaled by the floor width; the depth is
+ * two thirds of it. Start/goal pairs are seeded and cycled so every call plans
+ * a different route across the racks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathPlanningBenchmark {
+
+    private static final int ROUTES = 256;
+
+    @Param({"60", "120", "480"})
+    public int floorWidth;
+
+    private PathPlanningService planner;
+    private Set<RobotPosition> racks;
+    private List<TrafficZone> zones;
+    private RobotPosition[] starts;
+    private RobotPosition[] goals;
+    private PathPlan[] plans;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        planner = new GridPathPlanningService();
+        double depth = floorWidth * 2.0 / 3.0;
+        racks = new HashSet<>();
+        for (double y = 15.0; y < depth - 10.0; y += 10.0) {
+            for (int x = 10; x <= floorWidth - 10; x++) {
+                if (x % 40 > 3) {
+                    racks.add(RobotPosition.of(x, y, 0.0));
+                }
+            }
+        }
+        zones = List.of(TrafficZone.of("DOCK", 0.0, 0.0, floorWidth, 6.0, 20, 0.6, TrafficZoneType.STAGING_AREA));
+
+        Random random = new Random(42);
+        starts = new RobotPosition[ROUTES];
+        goals = new RobotPosition[ROUTES];
+        plans = new PathPlan[ROUTES];
+        List<RobotPosition> points = new ArrayList<>();
+        while (points.size() < ROUTES * 2) {
+            // Aisle centres lie halfway between rack rows
+            double y = 10.0 + 10.0 * random.nextInt((int) ((depth - 10.0) / 10.0));
+            RobotPosition point = RobotPosition.of(2.0 + random.nextDouble() * (floorWidth - 4.0), y, 0.0);
+            points.add(point);
+        }
+        for (int i = 0; i < ROUTES; i++) {
+            starts[i] = points.get(2 * i);
+            goals[i] = points.get(2 * i + 1);
+            plans[i] = planner.calculatePath(starts[i], goals[i], racks, zones);
+        }
+    }
+
+    @Benchmark
+    public PathPlan calculatePath() {
+        int route = next++ & (ROUTES - 1);
+        return planner.calculatePath(starts[route], goals[route], racks, zones);
+    }
+
+    @Benchmark
+    public boolean validatePath() {
+        return planner.validatePath(plans[next++ & (ROUTES - 1)], racks);
+    }
+}
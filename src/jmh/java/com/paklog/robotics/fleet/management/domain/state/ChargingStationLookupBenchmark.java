@@ -0,0 +1,89 @@
+package com.paklog.robotics.fleet.management.domain.state;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.ChargingStation;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nearest charging station with a free charger, by scanning every station
+ * versus the ChargingStationIndex. Three stations in four are full, as when a
+ * shift's worth of robots cross the low battery threshold together.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChargingStationLookupBenchmark {
+
+    private static final double FLOOR_SIZE = 500.0;
+
+    @Param({"16", "256", "4096"})
+    public int stations;
+
+    private List<ChargingStation> stationList;
+    private ChargingStationIndex index;
+    private RobotPosition[] targets;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new ChargingStationIndex(FLOOR_SIZE / Math.sqrt(stations));
+        stationList = new ArrayList<>(stations);
+        for (int i = 0; i < stations; i++) {
+            ChargingStation station = ChargingStation.create("STATION-" + i,
+                RobotPosition.of(random.nextDouble() * FLOOR_SIZE, random.nextDouble() * FLOOR_SIZE, 0.0), 1);
+            station.attachIndex(index);
+            if (i % 4 != 0) {
+                station.addToQueue("ROBOT-" + i);
+                station.startCharging("ROBOT-" + i);
+            }
+            stationList.add(station);
+        }
+        targets = new RobotPosition[1024];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = RobotPosition.of(random.nextDouble() * FLOOR_SIZE, random.nextDouble() * FLOOR_SIZE, 0.0);
+        }
+    }
+
+    private RobotPosition nextTarget() {
+        return targets[next++ & (targets.length - 1)];
+    }
+
+    @Benchmark
+    public Optional<ChargingStation> nearestAvailableScan() {
+        RobotPosition target = nextTarget();
+        ChargingStation best = null;
+        double bestDistance = Double.MAX_VALUE;
+        for (ChargingStation station : stationList) {
+            if (!station.isAvailable()) {
+                continue;
+            }
+            double distance = station.getLocation().distanceTo(target);
+            if (distance < bestDistance) {
+                best = station;
+                bestDistance = distance;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    @Benchmark
+    public Optional<String> nearestAvailableIndexed() {
+        RobotPosition target = nextTarget();
+        return index.nearestAvailable(target.getX(), target.getY());
+    }
+
+    @Benchmark
+    public Optional<String> shortestWaitIndexed() {
+        return index.shortestWait();
+    }
+}
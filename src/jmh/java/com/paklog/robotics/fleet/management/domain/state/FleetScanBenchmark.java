@@ -0,0 +1,107 @@
+package com.paklog.robotics.fleet.management.domain.state;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.Fleet;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotId;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fleet-wide scans over Robot objects versus the columnar FleetStateStore.
+ * Robots are created in shuffled order with interleaved garbage so the object
+ * graph is spread over the heap the way a long-running fleet's would be.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FleetScanBenchmark {
+
+    private static final double FLOOR_SIZE = 500.0;
+    private static final double CELL_SIZE = 5.0;
+    private static final int GRID = (int) (FLOOR_SIZE / CELL_SIZE);
+
+    @Param({"100", "1000", "10000"})
+    public int robots;
+
+    private Fleet objectFleet;
+    private Fleet columnarFleet;
+    private FleetStateStore store;
+    private List<Robot> robotList;
+    private RobotPosition target;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        objectFleet = Fleet.create("OBJECTS");
+        columnarFleet = Fleet.create("COLUMNS");
+        store = new FleetStateStore(new RobotSlotRegistry(robots), robots);
+        columnarFleet.attachStateStore(store);
+
+        RobotCapability[] capabilities = RobotCapability.values();
+        Object[] garbage = new Object[robots];
+        for (int i = 0; i < robots; i++) {
+            Robot robot = Robot.register(RobotId.of("ROBOT-" + i), "AMR-X1",
+                RobotPosition.of(random.nextDouble() * FLOOR_SIZE, random.nextDouble() * FLOOR_SIZE, 0.0),
+                Set.of(capabilities[i % capabilities.length]));
+            if (i % 3 == 0) {
+                robot.setStatus(RobotStatus.EXECUTING);
+            }
+            garbage[i] = new byte[64 + random.nextInt(512)];
+            objectFleet.addRobot(robot);
+            columnarFleet.addRobot(robot);
+        }
+        robotList = List.copyOf(objectFleet.getRobots().values());
+        target = RobotPosition.of(FLOOR_SIZE / 2, FLOOR_SIZE / 2, 0.0);
+    }
+
+    @Benchmark
+    public Optional<Robot> nearestObjects() {
+        return objectFleet.findNearestAvailableRobot(target, RobotCapability.PICKER);
+    }
+
+    @Benchmark
+    public Optional<Robot> nearestColumnar() {
+        return columnarFleet.findNearestAvailableRobot(target, RobotCapability.PICKER);
+    }
+
+    @Benchmark
+    public double utilizationObjects() {
+        objectFleet.recalculateMetrics();
+        return objectFleet.getUtilizationRate();
+    }
+
+    @Benchmark
+    public double utilizationColumnar() {
+        columnarFleet.recalculateMetrics();
+        return columnarFleet.getUtilizationRate();
+    }
+
+    @Benchmark
+    public int[] heatmapObjects() {
+        int[] cells = new int[GRID * GRID];
+        for (Robot robot : robotList) {
+            int column = (int) (robot.getPosition().getX() / CELL_SIZE);
+            int row = (int) (robot.getPosition().getY() / CELL_SIZE);
+            if (column < GRID && row < GRID) {
+                cells[row * GRID + column]++;
+            }
+        }
+        return cells;
+    }
+
+    @Benchmark
+    public int[] heatmapColumnar() {
+        return store.heatmap(0.0, 0.0, CELL_SIZE, GRID, GRID);
+    }
+}
@@ -0,0 +1,79 @@
+package com.paklog.robotics.fleet.management.domain.state;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scalar versus Vector API proximity kernels over the fleet state columns:
+ * one masked nearest-robot query, and an all-pairs safety-margin sweep.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProximityKernelBenchmark {
+
+    private static final double FLOOR_SIZE = 500.0;
+    private static final double SAFETY_MARGIN = 1.5;
+    private static final long REQUIRED = FleetStateStore.AVAILABLE_BIT | FleetStateStore.OCCUPIED_BIT | 1L;
+
+    @Param({"200", "2000", "20000"})
+    public int robots;
+
+    private final ProximityKernel scalar = new ScalarProximityKernel();
+    private final ProximityKernel vector = new VectorProximityKernel();
+    private double[] x;
+    private double[] y;
+    private long[] masks;
+    private int[] neighbours;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        x = new double[robots];
+        y = new double[robots];
+        masks = new long[robots];
+        neighbours = new int[robots];
+        for (int i = 0; i < robots; i++) {
+            x[i] = random.nextDouble() * FLOOR_SIZE;
+            y[i] = random.nextDouble() * FLOOR_SIZE;
+            masks[i] = FleetStateStore.OCCUPIED_BIT
+                | (random.nextInt(3) == 0 ? 0L : FleetStateStore.AVAILABLE_BIT)
+                | (1L << random.nextInt(6));
+        }
+    }
+
+    @Benchmark
+    public int nearestScalar() {
+        return scalar.nearest(x, y, masks, null, robots, FLOOR_SIZE / 2, FLOOR_SIZE / 2, REQUIRED);
+    }
+
+    @Benchmark
+    public int nearestVector() {
+        return vector.nearest(x, y, masks, null, robots, FLOOR_SIZE / 2, FLOOR_SIZE / 2, REQUIRED);
+    }
+
+    @Benchmark
+    public int allPairsScalar() {
+        return allPairs(scalar);
+    }
+
+    @Benchmark
+    public int allPairsVector() {
+        return allPairs(vector);
+    }
+
+    private int allPairs(ProximityKernel kernel) {
+        double marginSquared = SAFETY_MARGIN * SAFETY_MARGIN;
+        int pairs = 0;
+        for (int i = 0; i < robots; i++) {
+            pairs += kernel.withinRadius(x, y, masks, i + 1, robots, x[i], y[i], marginSquared,
+                FleetStateStore.OCCUPIED_BIT, neighbours);
+        }
+        return pairs;
+    }
+}
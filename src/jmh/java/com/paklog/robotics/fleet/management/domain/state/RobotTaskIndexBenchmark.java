@@ -0,0 +1,94 @@
+package com.paklog.robotics.fleet.management.domain.state;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskPriority;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskStatus;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskType;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task lifecycle and filtered lookups on the RobotTaskIndex with many tasks
+ * open, against filtering a plain list of the same tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RobotTaskIndexBenchmark {
+
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final RobotCapability[] CAPABILITIES = RobotCapability.values();
+    private static final RobotPosition ORIGIN = RobotPosition.of(10.0, 10.0, 0.0);
+    private static final RobotPosition DESTINATION = RobotPosition.of(40.0, 25.0, 0.0);
+
+    @Param({"1000", "100000"})
+    public int openTasks;
+
+    private RobotTaskIndex index;
+    private List<RobotTask> taskList;
+    private long next;
+
+    @Setup
+    public void setUp() {
+        index = new RobotTaskIndex(Duration.ofSeconds(1));
+        taskList = new ArrayList<>(openTasks);
+        for (int i = 0; i < openTasks; i++) {
+            RobotTask task = newTask(i);
+            // Urgent lifter work is rare, as in a real backlog
+            if (task.getPriority() == TaskPriority.URGENT && task.getRequiredCapability() == RobotCapability.LIFTER
+                    && (i / 24) % 10 != 0) {
+                task = RobotTask.create("TASK-" + i, TaskType.PICK, TaskPriority.NORMAL, ORIGIN, DESTINATION,
+                    RobotCapability.PICKER, Map.of());
+                task.attachIndex(index);
+            }
+            index.add(task);
+            taskList.add(task);
+        }
+        next = openTasks;
+    }
+
+    private RobotTask newTask(long i) {
+        RobotTask task = RobotTask.create("TASK-" + i, TaskType.TRANSPORT,
+            PRIORITIES[(int) (i % PRIORITIES.length)], ORIGIN, DESTINATION,
+            CAPABILITIES[(int) ((i / PRIORITIES.length) % CAPABILITIES.length)], Map.of());
+        task.attachIndex(index);
+        return task;
+    }
+
+    @Benchmark
+    public int lifecycle() {
+        RobotTask task = newTask(next++);
+        index.add(task);
+        task.assign("ROBOT-1");
+        task.start();
+        task.complete();
+        return index.openSize();
+    }
+
+    @Benchmark
+    public List<RobotTask> pendingUrgentLifterIndexed() {
+        return index.find(TaskStatus.PENDING, TaskPriority.URGENT, RobotCapability.LIFTER);
+    }
+
+    @Benchmark
+    public List<RobotTask> pendingUrgentLifterScan() {
+        List<RobotTask> matches = new ArrayList<>();
+        for (RobotTask task : taskList) {
+            if (task.getStatus() == TaskStatus.PENDING && task.getPriority() == TaskPriority.URGENT
+                    && task.getRequiredCapability() == RobotCapability.LIFTER) {
+                matches.add(task);
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,148 @@
+package com.paklog.robotics.fleet.management.infrastructure.history;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.paklog.robotics.fleet.management.application.port.out.PositionHistory.PositionSample;
+import com.paklog.robotics.fleet.management.infrastructure.config.PositionHistoryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cost of recording one position sample and of replaying a minute of history,
+ * for 500 robots moving at up to 1.5 m/s and sampled at 10 Hz.
+ * Setup prints the bytes per sample against the same samples as NDJSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PositionHistoryBenchmark {
+
+    private static final int ROBOTS = 500;
+    private static final int SAMPLES_PER_MINUTE = ROBOTS * 10 * 60;
+
+    private Path directory;
+    private MappedPositionHistory writeHistory;
+    private MappedPositionHistory readHistory;
+    private Fleet writeFleet;
+    private long replayFrom;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("position-history-bench");
+        long start = System.currentTimeMillis() - Duration.ofMinutes(5).toMillis();
+
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        readHistory = history(directory.resolve("read"), Duration.ofDays(1), registry);
+        Fleet fleet = new Fleet(start);
+        for (int i = 0; i < SAMPLES_PER_MINUTE; i++) {
+            fleet.next(readHistory);
+        }
+        replayFrom = start;
+
+        double historyBytes = registry.get("robotics.history.bytes").gauge().value();
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        long jsonBytes = objectMapper.writeValueAsBytes(
+            new PositionSample("ROBOT-123", Instant.ofEpochMilli(start), 123.456, 78.901, 271.25, 64)).length + 1;
+        double bytesPerSample = historyBytes / SAMPLES_PER_MINUTE;
+        System.out.printf("%nPosition history: %.2f bytes/sample, NDJSON %d bytes/sample, ratio %.1fx%n",
+            bytesPerSample, jsonBytes, jsonBytes / bytesPerSample);
+
+        // Simulated time runs far ahead of wall time here; a short retention bounds disk use
+        writeHistory = history(directory.resolve("write"), Duration.ofMinutes(10), new SimpleMeterRegistry());
+        writeFleet = new Fleet(start);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        writeHistory.close();
+        readHistory.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static MappedPositionHistory history(Path directory, Duration retention, SimpleMeterRegistry registry)
+            throws IOException {
+        MappedPositionHistory history = new MappedPositionHistory(new PositionHistoryProperties(directory,
+            DataSize.ofMegabytes(64), Duration.ofSeconds(10), retention), registry);
+        history.open();
+        return history;
+    }
+
+    @Benchmark
+    public void record() {
+        writeFleet.next(writeHistory);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES_PER_MINUTE)
+    public long replayMinute() {
+        return readHistory.replay(Instant.ofEpochMilli(replayFrom), Instant.ofEpochMilli(replayFrom + 60_000),
+            null, sample -> { });
+    }
+
+    /**
+     * Robots wandering the floor, precomputed for one minute and then repeated
+     * shifted in time, so the benchmark measures recording rather than the walk
+     */
+    private static final class Fleet {
+        private final String[] robotIds = new String[ROBOTS];
+        private final long[] offsets = new long[SAMPLES_PER_MINUTE];
+        private final double[] x = new double[SAMPLES_PER_MINUTE];
+        private final double[] y = new double[SAMPLES_PER_MINUTE];
+        private final double[] heading = new double[SAMPLES_PER_MINUTE];
+        private final int[] battery = new int[SAMPLES_PER_MINUTE];
+        private long startMillis;
+        private int next;
+
+        private Fleet(long startMillis) {
+            this.startMillis = startMillis;
+            Random random = new Random(42);
+            double[] rx = new double[ROBOTS];
+            double[] ry = new double[ROBOTS];
+            double[] rh = new double[ROBOTS];
+            for (int i = 0; i < ROBOTS; i++) {
+                robotIds[i] = "ROBOT-" + i;
+                rx[i] = random.nextDouble() * 200.0;
+                ry[i] = random.nextDouble() * 200.0;
+                rh[i] = random.nextDouble() * 360.0;
+            }
+            for (int s = 0; s < SAMPLES_PER_MINUTE; s++) {
+                int i = s % ROBOTS;
+                rh[i] = (rh[i] + random.nextGaussian() * 5.0 + 360.0) % 360.0;
+                double step = random.nextDouble() * 0.15;
+                rx[i] = Math.min(200.0, Math.max(0.0, rx[i] + step * Math.cos(Math.toRadians(rh[i]))));
+                ry[i] = Math.min(200.0, Math.max(0.0, ry[i] + step * Math.sin(Math.toRadians(rh[i]))));
+                offsets[s] = (s / ROBOTS) * 100L + random.nextInt(3);
+                x[s] = rx[i];
+                y[s] = ry[i];
+                heading[s] = rh[i];
+                battery[s] = 100 - s / (SAMPLES_PER_MINUTE / 10);
+            }
+        }
+
+        void next(MappedPositionHistory history) {
+            int s = next;
+            history.record(robotIds[s % ROBOTS], startMillis + offsets[s], x[s], y[s], heading[s], battery[s]);
+            if (++next == SAMPLES_PER_MINUTE) {
+                next = 0;
+                startMillis += 60_000;
+            }
+        }
+    }
+}
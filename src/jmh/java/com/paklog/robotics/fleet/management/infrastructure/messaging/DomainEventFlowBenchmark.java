@@ -0,0 +1,83 @@
+package com.paklog.robotics.fleet.management.infrastructure.messaging;
+
+import com.paklog.robotics.fleet.management.domain.event.RobotTaskFailedEvent;
+import com.paklog.robotics.fleet.management.infrastructure.config.EventBusProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Events per second through the domain event path: the previous per-aggregate
+ * ArrayList buffer drained with a copy, versus publishing into the ring bus and
+ * draining it with one handler. Both hand the same preallocated events to a
+ * consumer, so only buffering and hand-off costs are compared.
+ * Run with {@code -prof gc} to compare allocation per event.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class DomainEventFlowBenchmark {
+
+    private static final int ROBOTS = 64;
+
+    @Param({"1", "16"})
+    public int eventsPerDrain;
+
+    private String[] robotIds;
+    private Object[] events;
+    private List<Object>[] listBuffers;
+    private DomainEventBus bus;
+    private Blackhole blackhole;
+    private int next;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        robotIds = new String[ROBOTS];
+        events = new Object[ROBOTS];
+        listBuffers = new List[ROBOTS];
+        for (int i = 0; i < ROBOTS; i++) {
+            robotIds[i] = "ROBOT-" + i;
+            events[i] = new RobotTaskFailedEvent(robotIds[i], "TASK-" + i, "benchmark", Instant.EPOCH);
+            listBuffers[i] = new ArrayList<>();
+        }
+        bus = new DomainEventBus(new EventBusProperties(4, 4096, 256, Duration.ofMillis(1)),
+            List.of((aggregateId, event, publishedNanos, endOfBatch) -> this.blackhole.consume(event)),
+            new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public void arrayListCopy() {
+        int robot = next++ & (ROBOTS - 1);
+        List<Object> buffer = listBuffers[robot];
+        for (int i = 0; i < eventsPerDrain; i++) {
+            buffer.add(events[robot]);
+        }
+        // Previous getDomainEvents(): copy, then clear
+        List<Object> drained = new ArrayList<>(buffer);
+        buffer.clear();
+        for (Object event : drained) {
+            blackhole.consume(event);
+        }
+    }
+
+    @Benchmark
+    public void ringBus() {
+        int robot = next++ & (ROBOTS - 1);
+        for (int i = 0; i < eventsPerDrain; i++) {
+            bus.publish(robotIds[robot], events[robot]);
+        }
+        bus.drain(0);
+    }
+}
@@ -0,0 +1,84 @@
+package com.paklog.robotics.fleet.management.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.paklog.robotics.fleet.management.domain.event.BatteryLowEvent;
+import com.paklog.robotics.fleet.management.domain.event.RobotMaintenanceRequiredEvent;
+import com.paklog.robotics.fleet.management.domain.event.RobotTaskAssignedEvent;
+import com.paklog.robotics.fleet.management.domain.event.RobotTaskCompletedEvent;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskPriority;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskType;
+import com.paklog.robotics.fleet.management.infrastructure.config.EventPublisherProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning one domain event into bytes: the bare Jackson payload, and
+ * the full CloudEvents binary-mode record built by the Kafka publisher, sent to
+ * an auto-completing MockProducer so no broker is involved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainEventSerializationBenchmark {
+
+    @Param({"TaskAssigned", "TaskCompleted", "BatteryLow", "MaintenanceRequired"})
+    public String eventType;
+
+    private ObjectMapper objectMapper;
+    private MockProducer<String, byte[]> producer;
+    private CloudEventKafkaPublisher publisher;
+    private Object event;
+    private int sends;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        publisher = new CloudEventKafkaPublisher(producer, objectMapper,
+            new EventPublisherProperties("robotics.fleet.events", URI.create("/robotics-fleet-management"),
+                10_000, Duration.ofMillis(5), 65_536, "lz4", Duration.ofSeconds(1)),
+            new SimpleMeterRegistry());
+        RobotPosition position = RobotPosition.of(42.5, 17.25, 90.0);
+        Instant occurredAt = Instant.parse("2026-01-05T06:00:00Z");
+        event = switch (eventType) {
+            case "TaskAssigned" -> new RobotTaskAssignedEvent("ROBOT-1", "TASK-1", TaskType.PICK,
+                TaskPriority.HIGH, occurredAt);
+            case "TaskCompleted" -> new RobotTaskCompletedEvent("ROBOT-1", "TASK-1", position, occurredAt);
+            case "BatteryLow" -> new BatteryLowEvent("ROBOT-1", 18, false, position, occurredAt);
+            case "MaintenanceRequired" -> new RobotMaintenanceRequiredEvent("ROBOT-1",
+                Map.of("errorCount", 12.0, "temperature", 84.5, "motorCurrent", 3.2, "vibration", 1.1), occurredAt);
+            default -> throw new IllegalArgumentException("Unknown event type " + eventType);
+        };
+    }
+
+    @Benchmark
+    public byte[] jsonPayload() throws Exception {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public int cloudEventRecord() throws Exception {
+        publisher.onEvent("ROBOT-1", event, 0L, true);
+        // MockProducer keeps every record it was given
+        if (++sends == 4096) {
+            producer.clear();
+            sends = 0;
+        }
+        return sends;
+    }
+}
@@ -0,0 +1,96 @@
+package com.paklog.robotics.fleet.management.infrastructure.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paklog.robotics.fleet.management.application.service.TelemetryIngestionService;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.state.RobotSlotRegistry;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotId;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.infrastructure.config.TelemetryProperties;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryRobotRepository;
+import com.paklog.robotics.fleet.management.infrastructure.rest.dto.RobotTelemetryRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frames per second per core: binary telemetry frames versus JSON request bodies,
+ * both decoded and handed to the ingestion pipeline. HTTP and WebSocket transport
+ * costs are excluded; only the decode-and-submit path is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+public class TelemetryDecodeBenchmark {
+
+    private static final int ROBOTS = 100;
+
+    private TelemetryIngestionService ingestionService;
+    private RobotSlotRegistry slotRegistry;
+    private ByteBuffer binaryMessage;
+    private byte[][] jsonBodies;
+    private String[] robotIds;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() throws IOException {
+        InMemoryRobotRepository repository = new InMemoryRobotRepository();
+        slotRegistry = new RobotSlotRegistry(ROBOTS);
+        objectMapper = new ObjectMapper();
+        robotIds = new String[ROBOTS];
+        jsonBodies = new byte[ROBOTS][];
+        binaryMessage = ByteBuffer.allocate(ROBOTS * TelemetryFrameCodec.TELEMETRY_FRAME_SIZE);
+
+        for (int i = 0; i < ROBOTS; i++) {
+            String robotId = "ROBOT-" + i;
+            robotIds[i] = robotId;
+            repository.save(Robot.register(RobotId.of(robotId), "AMR-X1",
+                RobotPosition.of(i, i, 0.0), Set.of(RobotCapability.PICKER)));
+            int slot = slotRegistry.assign(robotId);
+
+            double x = 100.0 + i * 1.5;
+            double y = 200.0 + i * 0.5;
+            TelemetryFrameCodec.encodeTelemetry(binaryMessage, slot,
+                TelemetryFrameCodec.FLAG_POSITION_VALID | TelemetryFrameCodec.FLAG_BATTERY_VALID,
+                x, y, 45.0, 80);
+            jsonBodies[i] = objectMapper.writeValueAsBytes(new RobotTelemetryRequest(x, y, 45.0, 80));
+        }
+        binaryMessage.flip();
+
+        ingestionService = new TelemetryIngestionService(repository,
+            new TelemetryProperties(1, 256, ROBOTS, Duration.ofSeconds(1)), List.of(), new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROBOTS)
+    public int binaryFrames() {
+        ByteBuffer message = binaryMessage.duplicate();
+        return TelemetryFrameCodec.decodeTelemetry(message, (slot, flags, x, y, heading, battery) -> {
+            String robotId = slotRegistry.robotIdAt(slot);
+            ingestionService.submitPosition(robotId, x, y, heading);
+            ingestionService.submitBattery(robotId, battery);
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROBOTS)
+    public int jsonBodies() throws IOException {
+        for (int i = 0; i < ROBOTS; i++) {
+            RobotTelemetryRequest request = objectMapper.readValue(jsonBodies[i], RobotTelemetryRequest.class);
+            ingestionService.submitPosition(robotIds[i], request.x(), request.y(), request.heading());
+            ingestionService.submitBattery(robotIds[i], request.batteryPercentage());
+        }
+        return ROBOTS;
+    }
+}
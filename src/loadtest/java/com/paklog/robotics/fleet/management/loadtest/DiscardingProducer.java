@@ -0,0 +1,47 @@
+package com.paklog.robotics.fleet.management.loadtest;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Discarding Producer
+ * Stands in for the Kafka producer: every send is serialized and acknowledged
+ * at once, then dropped, so the publisher's in-flight window never fills.
+ */
+public class DiscardingProducer extends MockProducer<String, byte[]> {
+
+    private static final int HISTORY_LIMIT = 4096;
+
+    private final LongAdder records = new LongAdder();
+    private int retained;
+
+    public DiscardingProducer() {
+        super(true, new StringSerializer(), new ByteArraySerializer());
+    }
+
+    @Override
+    public synchronized Future<RecordMetadata> send(ProducerRecord<String, byte[]> record, Callback callback) {
+        Future<RecordMetadata> result = super.send(record, callback);
+        records.increment();
+        // MockProducer keeps every record it was given
+        if (++retained == HISTORY_LIMIT) {
+            clear();
+            retained = 0;
+        }
+        return result;
+    }
+
+    /**
+     * Records sent since startup
+     */
+    public long getRecordCount() {
+        return records.sum();
+    }
+}
@@ -0,0 +1,49 @@
+package com.paklog.robotics.fleet.management.loadtest;
+
+import com.paklog.robotics.fleet.management.application.port.out.RobotPositionCache;
+import com.paklog.robotics.fleet.management.application.port.out.TelemetryApplyListener;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-Memory Robot Position Cache
+ * Stands in for the Redis GEO cache: positions are kept in a map and radius
+ * queries scan it, so nearby lookups cost what a local round trip would.
+ */
+public class InMemoryRobotPositionCache implements RobotPositionCache, TelemetryApplyListener {
+
+    private final Map<String, CachedPosition> positions = new ConcurrentHashMap<>();
+
+    @Override
+    public void onTelemetryApplied(Robot robot, Instant observedAt) {
+        positions.put(robot.getRobotId().getValue(), new CachedPosition(robot.getPosition(),
+            robot.getBatteryLevel().getPercentage(), robot.getStatus(), observedAt));
+    }
+
+    @Override
+    public Optional<CachedPosition> findPosition(String robotId) {
+        return Optional.ofNullable(positions.get(robotId));
+    }
+
+    @Override
+    public List<NearbyRobot> findWithinRadius(double x, double y, double radius, int limit) {
+        List<NearbyRobot> nearby = new ArrayList<>();
+        for (Map.Entry<String, CachedPosition> entry : positions.entrySet()) {
+            double dx = entry.getValue().position().getX() - x;
+            double dy = entry.getValue().position().getY() - y;
+            double distance = Math.sqrt(dx * dx + dy * dy);
+            if (distance <= radius) {
+                nearby.add(new NearbyRobot(entry.getKey(), distance));
+            }
+        }
+        nearby.sort(Comparator.comparingDouble(NearbyRobot::distance));
+        return nearby.size() > limit ? List.copyOf(nearby.subList(0, limit)) : nearby;
+    }
+}
@@ -0,0 +1,91 @@
+package com.paklog.robotics.fleet.management.loadtest;
+
+import com.paklog.robotics.fleet.management.infrastructure.cache.RedisRobotPositionCache;
+import com.paklog.robotics.fleet.management.infrastructure.config.KafkaIntakeConfig;
+import com.paklog.robotics.fleet.management.infrastructure.config.KafkaPublisherConfig;
+import com.paklog.robotics.fleet.management.infrastructure.messaging.TaskIntakeListener;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.MongoWriteBehindPersistence;
+import org.apache.kafka.clients.producer.Producer;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.util.Set;
+
+/**
+ * In-process infrastructure for load tests
+ * Keeps the Redis cache, Kafka producer and MongoDB write-behind out of the
+ * component scan and puts in-memory stand-ins in their place. Kafka task intake
+ * is left out with no stand-in; tasks arrive over REST. Everything else,
+ * from the MVC stack to the event bus, journal and position history, is real.
+ * The in-memory repositories are the source of truth either way, so MongoDB
+ * needs no stand-in beyond leaving the write-behind out.
+ */
+@Configuration(proxyBeanMethods = false)
+public class InProcessInfrastructure {
+
+    /**
+     * Auto-configurations that would open connections to the real services
+     */
+    static final String EXCLUDED_AUTO_CONFIGURATIONS = String.join(",",
+        "org.springframework.boot.autoconfigure.mongo.MongoAutoConfiguration",
+        "org.springframework.boot.autoconfigure.data.mongo.MongoDataAutoConfiguration",
+        "org.springframework.boot.autoconfigure.data.mongo.MongoRepositoriesAutoConfiguration",
+        "org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration",
+        "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration",
+        "org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration");
+
+    @Bean
+    public Producer<String, byte[]> domainEventProducer() {
+        return new DiscardingProducer();
+    }
+
+    @Bean
+    public InMemoryRobotPositionCache robotPositionCache() {
+        return new InMemoryRobotPositionCache();
+    }
+
+    /**
+     * Mongo auditing needs a mapping context even with no database behind it
+     */
+    @Bean
+    public MongoMappingContext mongoMappingContext() {
+        return new MongoMappingContext();
+    }
+
+    /**
+     * Register the scan exclusions before the application's component scan runs
+     */
+    static void register(ConfigurableApplicationContext context) {
+        context.getBeanFactory().registerSingleton("externalAdapterExcludeFilter", new ExternalAdapterExcludeFilter());
+    }
+
+    static final class ExternalAdapterExcludeFilter extends TypeExcludeFilter {
+
+        private static final Set<String> EXCLUDED = Set.of(
+            RedisRobotPositionCache.class.getName(),
+            KafkaPublisherConfig.class.getName(),
+            KafkaIntakeConfig.class.getName(),
+            TaskIntakeListener.class.getName(),
+            MongoWriteBehindPersistence.class.getName());
+
+        @Override
+        public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+            return EXCLUDED.contains(metadataReader.getClassMetadata().getClassName());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other != null && other.getClass() == getClass();
+        }
+
+        @Override
+        public int hashCode() {
+            return getClass().hashCode();
+        }
+    }
+}
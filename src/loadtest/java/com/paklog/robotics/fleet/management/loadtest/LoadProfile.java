@@ -0,0 +1,121 @@
+package com.paklog.robotics.fleet.management.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Load Profile
+ * How much traffic the harness sends and in what mix. With a positive rate the
+ * load is open: requests start on a fixed schedule whatever the latency, and
+ * latency is measured from the scheduled start so queueing is not hidden.
+ * With rate 0 the load is closed: the given number of clients each send their
+ * next request as soon as the previous one returns.
+ *
+ * @param robots Robots registered before the run
+ * @param warmup Traffic sent before measuring
+ * @param duration Measured traffic
+ * @param rate Requests per second, or 0 for a closed loop
+ * @param clients Concurrent clients in a closed loop
+ * @param maxInFlight Open-loop requests outstanding before the schedule waits
+ * @param telemetryWeight Share of robot telemetry updates
+ * @param taskWeight Share of task creations
+ * @param pathWeight Share of path calculations
+ * @param nearbyWeight Share of nearby-robot queries
+ * @param lookupWeight Share of robot lookups
+ * @param floorWidth Width of the floor positions are drawn from, in metres
+ * @param floorDepth Depth of the floor positions are drawn from, in metres
+ * @param springArgs Extra --key=value arguments passed to the application
+ */
+public record LoadProfile(
+    int robots,
+    Duration warmup,
+    Duration duration,
+    int rate,
+    int clients,
+    int maxInFlight,
+    int telemetryWeight,
+    int taskWeight,
+    int pathWeight,
+    int nearbyWeight,
+    int lookupWeight,
+    double floorWidth,
+    double floorDepth,
+    List<String> springArgs
+) {
+
+    private static final Set<String> OPTIONS = Set.of("robots", "warmup", "seconds", "rate", "clients",
+        "maxInFlight", "telemetry", "tasks", "paths", "nearby", "lookups");
+
+    public LoadProfile {
+        if (robots <= 0 || clients <= 0 || maxInFlight <= 0 || rate < 0) {
+            throw new IllegalArgumentException("Robots, clients and in-flight limit must be positive, rate not negative");
+        }
+        if (telemetryWeight < 0 || taskWeight < 0 || pathWeight < 0 || nearbyWeight < 0 || lookupWeight < 0
+                || telemetryWeight + taskWeight + pathWeight + nearbyWeight + lookupWeight == 0) {
+            throw new IllegalArgumentException("Weights must not be negative and must not all be zero");
+        }
+        springArgs = List.copyOf(springArgs);
+    }
+
+    /**
+     * 200 robots at 2000 requests per second, mostly telemetry, for 30 seconds after a 10 second warmup
+     */
+    public static LoadProfile defaults() {
+        return new LoadProfile(200, Duration.ofSeconds(10), Duration.ofSeconds(30), 2_000, 64, 1_024,
+            70, 10, 10, 5, 5, 120.0, 80.0, List.of());
+    }
+
+    /**
+     * Read key=value options over the defaults; arguments starting with -- go to the application
+     */
+    public static LoadProfile parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        List<String> springArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                springArgs.add(arg);
+                continue;
+            }
+            String[] option = arg.split("=", 2);
+            if (option.length != 2) {
+                throw new IllegalArgumentException("Expected key=value but got " + arg);
+            }
+            if (!OPTIONS.contains(option[0])) {
+                throw new IllegalArgumentException("Unknown option " + option[0]);
+            }
+            options.put(option[0], option[1]);
+        }
+        LoadProfile defaults = defaults();
+        return new LoadProfile(
+            option(options, "robots", defaults.robots),
+            Duration.ofSeconds(option(options, "warmup", (int) defaults.warmup.toSeconds())),
+            Duration.ofSeconds(option(options, "seconds", (int) defaults.duration.toSeconds())),
+            option(options, "rate", defaults.rate),
+            option(options, "clients", defaults.clients),
+            option(options, "maxInFlight", defaults.maxInFlight),
+            option(options, "telemetry", defaults.telemetryWeight),
+            option(options, "tasks", defaults.taskWeight),
+            option(options, "paths", defaults.pathWeight),
+            option(options, "nearby", defaults.nearbyWeight),
+            option(options, "lookups", defaults.lookupWeight),
+            defaults.floorWidth,
+            defaults.floorDepth,
+            springArgs);
+    }
+
+    private static int option(Map<String, String> options, String name, int defaultValue) {
+        String value = options.get(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    /**
+     * Sum of all endpoint weights
+     */
+    public int totalWeight() {
+        return telemetryWeight + taskWeight + pathWeight + nearbyWeight + lookupWeight;
+    }
+}
@@ -0,0 +1,345 @@
+package com.paklog.robotics.fleet.management.loadtest;
+
+import com.paklog.robotics.fleet.management.RoboticsFleetManagementApplication;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * REST Load Test Harness
+ * Boots the application on a random local port with {@link InProcessInfrastructure}
+ * in place of MongoDB, Kafka and Redis, registers a fleet, then sends a weighted mix
+ * of telemetry updates, task creations, path calculations, nearby queries and robot
+ * lookups over HTTP from virtual threads. Prints throughput and latency percentiles
+ * per endpoint for the measured window; the warmup is sent but not recorded.
+ *
+ * Options are key=value (see {@link LoadProfile}); --key=value arguments are passed
+ * to the application, e.g. --spring.threads.virtual.enabled=true.
+ */
+public final class LoadTestHarness {
+
+    private static final long MAX_LATENCY_MICROS = 60_000_000L;
+
+    private final LoadProfile profile;
+    private final Map<Endpoint, Stats> stats = new EnumMap<>(Endpoint.class);
+    private final Endpoint[] mix;
+    private final AtomicLong taskIds = new AtomicLong();
+    private HttpClient client;
+    private String baseUrl;
+
+    public LoadTestHarness(LoadProfile profile) {
+        this.profile = profile;
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new Stats());
+        }
+        this.mix = new Endpoint[profile.totalWeight()];
+        int slot = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            for (int i = 0; i < endpoint.weight(profile); i++) {
+                mix[slot++] = endpoint;
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadProfile profile = LoadProfile.parse(args);
+        Path dataDirectory = Files.createTempDirectory("fleet-load-");
+        List<String> springArgs = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--spring.main.banner-mode=off",
+            "--spring.autoconfigure.exclude=" + InProcessInfrastructure.EXCLUDED_AUTO_CONFIGURATIONS,
+            "--robotics.snapshot.directory=" + dataDirectory.resolve("snapshot"),
+            "--robotics.history.directory=" + dataDirectory.resolve("history"),
+            "--logging.level.com.paklog.robotics.fleet.management=INFO"));
+        springArgs.addAll(profile.springArgs());
+
+        SpringApplication application = new SpringApplication(
+            RoboticsFleetManagementApplication.class, InProcessInfrastructure.class);
+        application.addInitializers(InProcessInfrastructure::register);
+        ConfigurableApplicationContext context = application.run(springArgs.toArray(String[]::new));
+        int exitCode = 0;
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadTestHarness harness = new LoadTestHarness(profile);
+            System.out.print(harness.run("http://localhost:" + port));
+            System.out.printf(Locale.ROOT, "  domain events published: %d%n",
+                context.getBean(DiscardingProducer.class).getRecordCount());
+        } catch (Exception e) {
+            e.printStackTrace();
+            exitCode = 1;
+        } finally {
+            context.close();
+            deleteRecursively(dataDirectory);
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * Register the fleet, send the warmup and measured traffic, and format the results
+     */
+    public String run(String baseUrl) throws InterruptedException {
+        this.baseUrl = baseUrl;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .build();
+            registerFleet(executor);
+
+            long start = System.nanoTime();
+            long measureFrom = start + profile.warmup().toNanos();
+            long end = measureFrom + profile.duration().toNanos();
+            if (profile.rate() > 0) {
+                runOpenLoop(executor, start, measureFrom, end);
+            } else {
+                runClosedLoop(executor, measureFrom, end);
+            }
+        }
+        return format();
+    }
+
+    private void registerFleet(ExecutorService executor) throws InterruptedException {
+        LongAdder failures = new LongAdder();
+        List<Future<?>> registrations = new ArrayList<>();
+        for (int i = 0; i < profile.robots(); i++) {
+            String body = String.format(Locale.ROOT,
+                "{\"robotId\":\"%s\",\"model\":\"AMR-X1\",\"x\":%.2f,\"y\":%.2f,\"heading\":0.0,"
+                    + "\"capabilities\":[\"%s\"]}",
+                robotId(i), randomX(), randomY(), i % 3 == 0 ? "PICKER" : i % 3 == 1 ? "TRANSPORTER" : "SORTER");
+            registrations.add(executor.submit(() -> {
+                if (send(post("/api/v1/robots", body)) != 201) {
+                    failures.increment();
+                }
+            }));
+        }
+        for (Future<?> registration : registrations) {
+            try {
+                registration.get();
+            } catch (ExecutionException e) {
+                failures.increment();
+            }
+        }
+        if (failures.sum() > 0) {
+            throw new IllegalStateException(failures.sum() + " of " + profile.robots() + " robots failed to register");
+        }
+    }
+
+    /**
+     * Start requests on a fixed schedule; latency counts from the scheduled start
+     */
+    private void runOpenLoop(ExecutorService executor, long start, long measureFrom, long end)
+            throws InterruptedException {
+        Semaphore inFlight = new Semaphore(profile.maxInFlight());
+        long interval = 1_000_000_000L / profile.rate();
+        for (long scheduled = start; scheduled < end; scheduled += interval) {
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            inFlight.acquire();
+            long startedAt = scheduled;
+            executor.execute(() -> {
+                try {
+                    execute(pick(), startedAt, measureFrom, end);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        }
+        inFlight.acquire(profile.maxInFlight());
+    }
+
+    /**
+     * Each client sends its next request as soon as the previous one returns
+     */
+    private void runClosedLoop(ExecutorService executor, long measureFrom, long end) throws InterruptedException {
+        List<Future<?>> clients = new ArrayList<>();
+        for (int i = 0; i < profile.clients(); i++) {
+            clients.add(executor.submit(() -> {
+                long startedAt;
+                while ((startedAt = System.nanoTime()) < end) {
+                    execute(pick(), startedAt, measureFrom, end);
+                }
+            }));
+        }
+        for (Future<?> client : clients) {
+            try {
+                client.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Client failed", e.getCause());
+            }
+        }
+    }
+
+    private Endpoint pick() {
+        return mix[ThreadLocalRandom.current().nextInt(mix.length)];
+    }
+
+    private void execute(Endpoint endpoint, long startedAt, long measureFrom, long end) {
+        int status = send(request(endpoint));
+        long finishedAt = System.nanoTime();
+        if (startedAt < measureFrom || startedAt >= end) {
+            return;
+        }
+        Stats endpointStats = stats.get(endpoint);
+        if (status / 100 == 2) {
+            endpointStats.latency.recordValue(Math.min((finishedAt - startedAt) / 1_000L, MAX_LATENCY_MICROS));
+        } else {
+            endpointStats.errors.increment();
+        }
+    }
+
+    private HttpRequest request(Endpoint endpoint) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String robotId = robotId(random.nextInt(profile.robots()));
+        return switch (endpoint) {
+            case TELEMETRY -> post("/api/v1/robots/" + robotId + "/telemetry", String.format(Locale.ROOT,
+                "{\"x\":%.2f,\"y\":%.2f,\"heading\":%.1f,\"batteryPercentage\":%d}",
+                randomX(), randomY(), random.nextDouble(360.0), 40 + random.nextInt(60)));
+            case CREATE_TASK -> post("/api/v1/tasks", String.format(Locale.ROOT,
+                "{\"taskId\":\"LOAD-TASK-%d\",\"taskType\":\"PICK\",\"priority\":\"NORMAL\","
+                    + "\"originX\":%.2f,\"originY\":%.2f,\"destinationX\":%.2f,\"destinationY\":%.2f,"
+                    + "\"requiredCapability\":\"PICKER\"}",
+                taskIds.incrementAndGet(), randomX(), randomY(), randomX(), randomY()));
+            case PLAN_PATH -> post("/api/v1/paths/calculate", String.format(Locale.ROOT,
+                "{\"startX\":%.2f,\"startY\":%.2f,\"goalX\":%.2f,\"goalY\":%.2f}",
+                randomX(), randomY(), randomX(), randomY()));
+            case NEARBY -> get(String.format(Locale.ROOT, "/api/v1/traffic/nearby?x=%.2f&y=%.2f&radius=10",
+                randomX(), randomY()));
+            case GET_ROBOT -> get("/api/v1/robots/" + robotId);
+        };
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private double randomX() {
+        return ThreadLocalRandom.current().nextDouble(profile.floorWidth());
+    }
+
+    private double randomY() {
+        return ThreadLocalRandom.current().nextDouble(profile.floorDepth());
+    }
+
+    private static String robotId(int index) {
+        return String.format(Locale.ROOT, "LOAD-ROBOT-%05d", index);
+    }
+
+    private String format() {
+        double seconds = profile.duration().toNanos() / 1e9;
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT,
+            "%d robots, %s load, %d s measured after %d s warmup%n",
+            profile.robots(),
+            profile.rate() > 0 ? profile.rate() + " req/s open" : profile.clients() + " client closed",
+            profile.duration().toSeconds(), profile.warmup().toSeconds()));
+        report.append(String.format(Locale.ROOT, "  %-34s %9s %7s %9s %8s %8s %8s %8s %8s%n",
+            "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        Histogram total = new Histogram(MAX_LATENCY_MICROS, 3);
+        long totalErrors = 0;
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (endpoint.weight(profile) == 0) {
+                continue;
+            }
+            Histogram histogram = stats.get(endpoint).latency.getIntervalHistogram();
+            long errors = stats.get(endpoint).errors.sum();
+            total.add(histogram);
+            totalErrors += errors;
+            report.append(row(endpoint.label, histogram, errors, seconds));
+        }
+        report.append(row("total", total, totalErrors, seconds));
+        return report.toString();
+    }
+
+    private static String row(String label, Histogram histogram, long errors, double seconds) {
+        return String.format(Locale.ROOT, "  %-34s %9d %7d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+            label, histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+            millis(histogram, 50.0), millis(histogram, 90.0), millis(histogram, 99.0), millis(histogram, 99.9),
+            histogram.getMaxValue() / 1000.0);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private enum Endpoint {
+        TELEMETRY("POST /robots/{id}/telemetry"),
+        CREATE_TASK("POST /tasks"),
+        PLAN_PATH("POST /paths/calculate"),
+        NEARBY("GET /traffic/nearby"),
+        GET_ROBOT("GET /robots/{id}");
+
+        private final String label;
+
+        Endpoint(String label) {
+            this.label = label;
+        }
+
+        int weight(LoadProfile profile) {
+            return switch (this) {
+                case TELEMETRY -> profile.telemetryWeight();
+                case CREATE_TASK -> profile.taskWeight();
+                case PLAN_PATH -> profile.pathWeight();
+                case NEARBY -> profile.nearbyWeight();
+                case GET_ROBOT -> profile.lookupWeight();
+            };
+        }
+    }
+
+    private static final class Stats {
+        private final Recorder latency = new Recorder(MAX_LATENCY_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+}
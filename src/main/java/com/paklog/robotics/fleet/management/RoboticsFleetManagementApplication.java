@@ -2,6 +2,7 @@ package com.paklog.robotics.fleet.management;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.data.mongodb.config.EnableMongoAuditing;
 import org.springframework.kafka.annotation.EnableKafka;
 
@@ -14,6 +15,7 @@ import org.springframework.kafka.annotation.EnableKafka;
  * @version 1.0.0
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
 @EnableKafka
 @EnableMongoAuditing
 public class RoboticsFleetManagementApplication {
@@ -0,0 +1,27 @@
+package com.paklog.robotics.fleet.management.application.port.out;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Position History
+ * Append-only record of where robots have been and how charged they were,
+ * kept for replay, heatmaps and incident investigation.
+ */
+public interface PositionHistory {
+
+    /**
+     * Stream recorded samples in the order they were recorded
+     * @param from Inclusive start of the window
+     * @param to Exclusive end of the window
+     * @param robotId Only samples of this robot, or all robots when null
+     * @return Number of samples delivered
+     */
+    long replay(Instant from, Instant to, String robotId, Consumer<PositionSample> consumer);
+
+    /**
+     * Coordinates are kept to the millimetre, heading to 0.01 degrees and time to the millisecond
+     */
+    record PositionSample(String robotId, Instant timestamp, double x, double y, double heading,
+                          int batteryPercentage) {}
+}
@@ -0,0 +1,31 @@
+package com.paklog.robotics.fleet.management.application.port.out;
+
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotStatus;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Robot Position Cache
+ * Latest known robot positions, shared with other services.
+ * Lookups by robot id are answered locally; radius queries go to the shared store.
+ */
+public interface RobotPositionCache {
+
+    /**
+     * Last position written by this service, without a remote round trip
+     */
+    Optional<CachedPosition> findPosition(String robotId);
+
+    /**
+     * Robots within radius of a point in the shared store, nearest first
+     * @param limit Maximum number of robots to return
+     */
+    List<NearbyRobot> findWithinRadius(double x, double y, double radius, int limit);
+
+    record CachedPosition(RobotPosition position, int batteryPercentage, RobotStatus status, Instant observedAt) {}
+
+    record NearbyRobot(String robotId, double distance) {}
+}
@@ -0,0 +1,26 @@
+package com.paklog.robotics.fleet.management.application.port.out;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+
+import java.time.Instant;
+
+/**
+ * Telemetry Apply Listener
+ * Notified by the ingestion workers after telemetry was applied to a robot.
+ * Callbacks run on ingestion worker threads and must not block.
+ */
+public interface TelemetryApplyListener {
+
+    /**
+     * Called after a coalesced sample was applied, while the robot is still locked
+     * @param robot Robot that was updated
+     * @param observedAt Time the batch was observed
+     */
+    void onTelemetryApplied(Robot robot, Instant observedAt);
+
+    /**
+     * Called once a worker finished applying a batch
+     */
+    default void onBatchApplied() {
+    }
+}
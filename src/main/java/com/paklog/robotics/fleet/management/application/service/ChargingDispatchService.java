@@ -0,0 +1,448 @@
+package com.paklog.robotics.fleet.management.application.service;
+
+import com.paklog.robotics.fleet.management.application.port.out.TelemetryApplyListener;
+import com.paklog.robotics.fleet.management.domain.aggregate.ChargingStation;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.repository.ChargingStationRepository;
+import com.paklog.robotics.fleet.management.domain.repository.RobotRepository;
+import com.paklog.robotics.fleet.management.domain.service.ChargeRateModel;
+import com.paklog.robotics.fleet.management.domain.service.ChargingScheduler;
+import com.paklog.robotics.fleet.management.domain.time.DomainClock;
+import com.paklog.robotics.fleet.management.domain.valueobject.ChargingPlan;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotStatus;
+import com.paklog.robotics.fleet.management.infrastructure.config.ChargingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Charging Dispatch Service
+ * Sends robots that asked to charge to the station that gets them onto a charger
+ * soonest, and walks them through queueing, charging and release.
+ *
+ * Requests and telemetry signals are queued and handled on one dispatcher thread,
+ * so callers on event and ingestion threads never block on station locks. Each
+ * tick emergencies are placed first, then the rest by lowest battery; every
+ * placement reserves a slot at the chosen station so the next quote sees it.
+ * Robots busy with a task are retried until the task ends unless their battery
+ * is critical. A robot within the arrival radius joins the station queue, and
+ * one reporting its charge target is released, handing its charger to the next
+ * robot. Robots can also be released early, wherever they are in that sequence,
+ * at the charge they have. Assignments live in memory only, so robots restored
+ * as CHARGING after a restart are taken over again by {@link #resumeRestored()}.
+ */
+@Service
+public class ChargingDispatchService implements TelemetryApplyListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ChargingDispatchService.class);
+    private static final int FULL_CHARGE = 100;
+
+    private final RobotRepository robotRepository;
+    private final ChargingStationRepository chargingStationRepository;
+    private final ChargingProperties properties;
+    private final ChargingScheduler scheduler;
+    private final Queue<ChargingRequest> requests = new ConcurrentLinkedQueue<>();
+    private final Queue<String> signals = new ConcurrentLinkedQueue<>();
+    private final Queue<String> earlyReleases = new ConcurrentLinkedQueue<>();
+    private final Map<String, Assignment> assignments = new ConcurrentHashMap<>();
+    // Dispatcher thread only: robots waiting to be placed
+    private final Map<String, ChargingRequest> pending = new LinkedHashMap<>();
+    private final Counter routineDispatches;
+    private final Counter emergencyDispatches;
+    private final Counter earlyReleased;
+    private final Timer predictedWait;
+    private ScheduledExecutorService dispatcher;
+
+    public ChargingDispatchService(RobotRepository robotRepository,
+                                   ChargingStationRepository chargingStationRepository,
+                                   ChargingProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.robotRepository = robotRepository;
+        this.chargingStationRepository = chargingStationRepository;
+        this.properties = properties;
+        this.scheduler = new ChargingScheduler(ChargeRateModel.linear(properties.chargeRatePerMinute()),
+            properties.travelSpeed());
+        this.routineDispatches = Counter.builder("robotics.charging.dispatched")
+            .tag("emergency", "false").register(meterRegistry);
+        this.emergencyDispatches = Counter.builder("robotics.charging.dispatched")
+            .tag("emergency", "true").register(meterRegistry);
+        this.earlyReleased = Counter.builder("robotics.charging.released.early")
+            .description("Robots taken off charging before reaching their charge target")
+            .register(meterRegistry);
+        this.predictedWait = Timer.builder("robotics.charging.predicted.wait")
+            .description("Queue wait predicted for robots when they were sent to a station")
+            .register(meterRegistry);
+        Gauge.builder("robotics.charging.assigned", assignments, Map::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        long tickNanos = properties.tick().toNanos();
+        dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "charging-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleWithFixedDelay(() -> tick(DomainClock.now()), tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+        }
+    }
+
+    /**
+     * Ask for a robot to be sent charging to full on the next tick
+     * @param emergency Whether the robot should pre-empt the regular queue
+     */
+    public void requestCharging(String robotId, boolean emergency) {
+        requestCharging(robotId, emergency, FULL_CHARGE);
+    }
+
+    /**
+     * Ask for a robot to be sent charging on the next tick
+     * @param emergency Whether the robot should pre-empt the regular queue
+     * @param targetPercentage Level at which the robot is released; the higher target wins
+     *                         when a robot is asked for more than once
+     */
+    public void requestCharging(String robotId, boolean emergency, int targetPercentage) {
+        requests.add(new ChargingRequest(robotId, emergency, targetPercentage));
+    }
+
+    /**
+     * Take a robot off charging on the next tick with the charge it has, whether
+     * it is still waiting to be placed, on its way, queued or on a charger
+     */
+    public void releaseEarly(String robotId) {
+        earlyReleases.add(robotId);
+    }
+
+    /**
+     * Station the robot was sent to, if it is on its way or at a charger
+     */
+    public Optional<ChargingPlan> getAssignment(String robotId) {
+        Assignment assignment = assignments.get(robotId);
+        return assignment == null ? Optional.empty() : Optional.of(assignment.plan);
+    }
+
+    /**
+     * Take over robots that are CHARGING without an assignment, as after a warm start.
+     * A robot a station still holds resumes there, on its charger or on its way, and
+     * charges to full; one no station holds is taken off charging and asked for again.
+     * @return Number of robots taken over
+     */
+    public int resumeRestored() {
+        int resumed = 0;
+        for (Robot robot : robotRepository.findAll()) {
+            String robotId = robot.getRobotId().getValue();
+            if (robot.getStatus() != RobotStatus.CHARGING || assignments.containsKey(robotId)) {
+                continue;
+            }
+            boolean emergency = robot.getBatteryLevel().needsEmergencyCharging();
+            Optional<ChargingStation> station = chargingStationRepository.findByRobotId(robotId);
+            if (station.isPresent()) {
+                boolean charging;
+                synchronized (station.get()) {
+                    charging = station.get().isRobotCharging(robotId);
+                }
+                Duration travel = scheduler.travelTime(robot.getPosition(), station.get().getLocation());
+                ChargingPlan plan = new ChargingPlan(station.get().getStationId(), station.get().getLocation(),
+                    travel, Duration.ZERO, DomainClock.now().plus(travel), emergency);
+                Assignment assignment = new Assignment(plan, FULL_CHARGE);
+                assignment.arrived = charging;
+                assignments.put(robotId, assignment);
+            } else {
+                synchronized (robot) {
+                    if (robot.getStatus() == RobotStatus.CHARGING) {
+                        robot.completeCharging(robot.getBatteryLevel().getPercentage());
+                    }
+                }
+                requestCharging(robotId, emergency);
+            }
+            resumed++;
+        }
+        return resumed;
+    }
+
+    @Override
+    public void onTelemetryApplied(Robot robot, Instant observedAt) {
+        Assignment assignment = assignments.get(robot.getRobotId().getValue());
+        if (assignment == null) {
+            return;
+        }
+        boolean due = assignment.arrived
+            ? robot.getBatteryLevel().getPercentage() >= assignment.target
+            : robot.getPosition().distanceTo(assignment.plan.location()) <= properties.arrivalRadius();
+        if (due && assignment.signalled.compareAndSet(false, true)) {
+            signals.add(robot.getRobotId().getValue());
+        }
+    }
+
+    int tick(Instant now) {
+        try {
+            handleSignals();
+            handleEarlyReleases();
+            refreshLateReservations(now);
+            return dispatchPending(now);
+        } catch (RuntimeException e) {
+            log.warn("Charging dispatch tick failed", e);
+            return 0;
+        }
+    }
+
+    private void handleSignals() {
+        for (String robotId = signals.poll(); robotId != null; robotId = signals.poll()) {
+            Assignment assignment = assignments.get(robotId);
+            Optional<Robot> robot = robotRepository.findById(robotId);
+            if (assignment == null || robot.isEmpty()) {
+                continue;
+            }
+            assignment.signalled.set(false);
+            if (assignment.arrived) {
+                release(robot.get(), assignment);
+            } else {
+                arrive(robotId, assignment);
+            }
+        }
+    }
+
+    private void handleEarlyReleases() {
+        for (String robotId = earlyReleases.poll(); robotId != null; robotId = earlyReleases.poll()) {
+            pending.remove(robotId);
+            Assignment assignment = assignments.get(robotId);
+            Optional<Robot> robot = robotRepository.findById(robotId);
+            if (assignment == null || robot.isEmpty()) {
+                continue;
+            }
+            synchronized (robot.get()) {
+                if (robot.get().getStatus() == RobotStatus.CHARGING) {
+                    robot.get().completeCharging(robot.get().getBatteryLevel().getPercentage());
+                }
+            }
+            leaveStation(robotId, assignment);
+            earlyReleased.increment();
+        }
+    }
+
+    private void arrive(String robotId, Assignment assignment) {
+        Optional<ChargingStation> found = chargingStationRepository.findById(assignment.plan.stationId());
+        if (found.isEmpty()) {
+            assignments.remove(robotId);
+            return;
+        }
+        ChargingStation station = found.get();
+        synchronized (station) {
+            if (!station.isRobotCharging(robotId) && station.getQueuePosition(robotId) < 0) {
+                station.addToQueue(robotId, assignment.plan.emergency());
+            }
+            if (station.isAvailable() && !station.isRobotCharging(robotId)) {
+                station.startCharging(robotId);
+            }
+        }
+        assignment.arrived = true;
+    }
+
+    private void release(Robot robot, Assignment assignment) {
+        String robotId = robot.getRobotId().getValue();
+        synchronized (robot) {
+            if (robot.getStatus() == RobotStatus.CHARGING) {
+                robot.completeCharging();
+            }
+        }
+        leaveStation(robotId, assignment);
+    }
+
+    private void leaveStation(String robotId, Assignment assignment) {
+        assignments.remove(robotId);
+        chargingStationRepository.findById(assignment.plan.stationId()).ifPresent(station -> {
+            synchronized (station) {
+                station.evict(robotId);
+            }
+        });
+    }
+
+    /**
+     * Drop robots that stopped charging elsewhere and push back the reservation of robots running late
+     */
+    private void refreshLateReservations(Instant now) {
+        for (Map.Entry<String, Assignment> entry : assignments.entrySet()) {
+            String robotId = entry.getKey();
+            Assignment assignment = entry.getValue();
+            Optional<Robot> robot = robotRepository.findById(robotId);
+            if (robot.isEmpty() || robot.get().getStatus() != RobotStatus.CHARGING) {
+                leaveStation(robotId, assignment);
+                continue;
+            }
+            if (assignment.arrived || !now.isAfter(assignment.expectedArrival)) {
+                continue;
+            }
+            chargingStationRepository.findById(assignment.plan.stationId()).ifPresent(station -> {
+                Instant arrival = now.plus(scheduler.travelTime(robot.get().getPosition(), station.getLocation()));
+                synchronized (station) {
+                    station.reserve(robotId, arrival, assignment.plan.emergency());
+                }
+                assignment.expectedArrival = arrival;
+            });
+        }
+    }
+
+    private int dispatchPending(Instant now) {
+        for (ChargingRequest request = requests.poll(); request != null; request = requests.poll()) {
+            pending.merge(request.robotId(), request, ChargingRequest::merge);
+        }
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        List<Robot> candidates = new ArrayList<>(pending.size());
+        for (Iterator<String> robotIds = pending.keySet().iterator(); robotIds.hasNext(); ) {
+            Optional<Robot> robot = robotRepository.findById(robotIds.next());
+            if (robot.isPresent()) {
+                candidates.add(robot.get());
+            } else {
+                robotIds.remove();
+            }
+        }
+        candidates.sort(Comparator
+            .comparing((Robot robot) -> !pending.get(robot.getRobotId().getValue()).emergency())
+            .thenComparingInt(robot -> robot.getBatteryLevel().getPercentage()));
+
+        int dispatched = 0;
+        for (Robot robot : candidates) {
+            String robotId = robot.getRobotId().getValue();
+            ChargingRequest request = pending.get(robotId);
+            boolean emergency = request.emergency();
+            synchronized (robot) {
+                if (assignments.containsKey(robotId) || robot.getStatus() == RobotStatus.CHARGING
+                        || robot.getStatus() == RobotStatus.OFFLINE) {
+                    pending.remove(robotId);
+                    continue;
+                }
+                if (robot.getCurrentTaskId() != null && !robot.getBatteryLevel().needsEmergencyCharging()) {
+                    continue; // charge once the task is done
+                }
+                Optional<ChargingPlan> plan = dispatch(robot, emergency, request.targetPercentage(), now);
+                if (plan.isPresent()) {
+                    pending.remove(robotId);
+                    (emergency ? emergencyDispatches : routineDispatches).increment();
+                    predictedWait.record(plan.get().expectedWait());
+                    dispatched++;
+                    log.debug("Robot {} sent to {}, expected wait {}", robotId, plan.get().stationId(),
+                        plan.get().expectedWait());
+                }
+            }
+        }
+        return dispatched;
+    }
+
+    /**
+     * Quote stations under their locks, reserve the best and send the robot there.
+     *
+     * Travel time alone is a lower bound on a station's quote, so stations are
+     * walked nearest first and the walk stops at the first one further away than
+     * the best quote so far. The nearest station with a free charger and the
+     * station with the shortest wait are quoted up front to tighten the bound.
+     */
+    private Optional<ChargingPlan> dispatch(Robot robot, boolean emergency, int target, Instant now) {
+        String robotId = robot.getRobotId().getValue();
+        RobotPosition from = robot.getPosition();
+        List<ChargingStation> seeds = new ArrayList<>(2);
+        chargingStationRepository.findNearestAvailable(from).ifPresent(seeds::add);
+        chargingStationRepository.findShortestWait().ifPresent(seeds::add);
+
+        ChargingStation bestStation = null;
+        ChargingPlan best = null;
+        for (ChargingStation station : seeds) {
+            ChargingPlan quote = quote(station, robotId, from, emergency, now);
+            if (best == null || quote.timeToCharger().compareTo(best.timeToCharger()) < 0) {
+                best = quote;
+                bestStation = station;
+            }
+        }
+        for (ChargingStation station : chargingStationRepository.findAllByDistance(from)) {
+            if (best != null
+                    && scheduler.travelTime(from, station.getLocation()).compareTo(best.timeToCharger()) >= 0) {
+                break;
+            }
+            ChargingPlan quote = quote(station, robotId, from, emergency, now);
+            if (best == null || quote.timeToCharger().compareTo(best.timeToCharger()) < 0) {
+                best = quote;
+                bestStation = station;
+            }
+        }
+        if (best == null) {
+            return Optional.empty();
+        }
+
+        synchronized (bestStation) {
+            bestStation.reserve(robotId, best.expectedArrival(), emergency);
+        }
+        robot.sendToCharging(best.stationId(), target);
+        assignments.put(robotId, new Assignment(best, target));
+        return Optional.of(best);
+    }
+
+    private ChargingPlan quote(ChargingStation station, String robotId, RobotPosition from, boolean emergency,
+                               Instant now) {
+        synchronized (station) {
+            return scheduler.quote(station, robotId, from, emergency, this::batteryOf, now);
+        }
+    }
+
+    private double batteryOf(String robotId) {
+        return robotRepository.findById(robotId)
+            .map(robot -> (double) robot.getBatteryLevel().getPercentage())
+            .orElse(0.0);
+    }
+
+    private record ChargingRequest(String robotId, boolean emergency, int targetPercentage) {
+
+        ChargingRequest merge(ChargingRequest other) {
+            return new ChargingRequest(robotId, emergency || other.emergency,
+                Math.max(targetPercentage, other.targetPercentage));
+        }
+    }
+
+    /**
+     * Station a robot was sent to and how far it got
+     */
+    private static final class Assignment {
+        private final ChargingPlan plan;
+        private final int target;
+        private final AtomicBoolean signalled = new AtomicBoolean();
+        private volatile Instant expectedArrival;
+        private volatile boolean arrived;
+
+        private Assignment(ChargingPlan plan, int target) {
+            this.plan = plan;
+            this.target = target;
+            this.expectedArrival = plan.expectedArrival();
+        }
+    }
+}
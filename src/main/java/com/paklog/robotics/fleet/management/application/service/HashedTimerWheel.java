@@ -0,0 +1,153 @@
+package com.paklog.robotics.fleet.management.application.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Hashed Timer Wheel
+ * Tracks one deadline per key. Scheduling, rescheduling and cancelling are O(1):
+ * each key owns a reusable entry that is unlinked from its bucket and linked
+ * into the bucket of the new deadline. Advancing the wheel only visits the
+ * buckets of elapsed ticks, so cost per tick is proportional to the keys
+ * hashed into that bucket rather than to the total number of keys.
+ *
+ * Deadlines are rounded up to the next tick, so expiry may fire up to one
+ * tick late but never early.
+ */
+public class HashedTimerWheel<K> {
+
+    private final long tickNanos;
+    private final int mask;
+    private final long startNanos;
+    private final Entry<K>[] buckets;
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimerWheel(long tickNanos, int wheelSize, long startNanos) {
+        if (tickNanos <= 0) {
+            throw new IllegalArgumentException("Tick duration must be positive");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a positive power of two");
+        }
+        this.tickNanos = tickNanos;
+        this.mask = wheelSize - 1;
+        this.startNanos = startNanos;
+        this.buckets = new Entry[wheelSize];
+    }
+
+    /**
+     * Set or move the deadline of a key
+     */
+    public synchronized void schedule(K key, long deadlineNanos) {
+        Entry<K> entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry<>(key);
+            entries.put(key, entry);
+        } else {
+            unlink(entry);
+        }
+
+        long elapsed = Math.max(0, deadlineNanos - startNanos);
+        long deadlineTick = Math.max(currentTick, (elapsed + tickNanos - 1) / tickNanos);
+        entry.deadlineTick = deadlineTick;
+        link(entry, (int) (deadlineTick & mask));
+    }
+
+    /**
+     * Remove the deadline of a key
+     * @return true if the key was scheduled
+     */
+    public synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    /**
+     * Advance the wheel to the given time and report every key whose deadline passed.
+     * Callbacks run after the wheel lock is released.
+     * @return Number of expired keys
+     */
+    public int advance(long nowNanos, Consumer<K> onExpired) {
+        List<K> expired = collectExpired(nowNanos);
+        expired.forEach(onExpired);
+        return expired.size();
+    }
+
+    /**
+     * Number of keys currently scheduled
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized List<K> collectExpired(long nowNanos) {
+        List<K> expired = new ArrayList<>();
+        long targetTick = Math.max(0, nowNanos - startNanos) / tickNanos;
+
+        // A full revolution visits every bucket; skip the rest of a long stall
+        long firstTick = Math.max(currentTick, targetTick - mask);
+        for (long tick = firstTick; tick <= targetTick; tick++) {
+            Entry<K> entry = buckets[(int) (tick & mask)];
+            while (entry != null) {
+                Entry<K> next = entry.next;
+                if (entry.deadlineTick <= targetTick) {
+                    unlink(entry);
+                    entries.remove(entry.key);
+                    expired.add(entry.key);
+                }
+                entry = next;
+            }
+        }
+        currentTick = Math.max(currentTick, targetTick + 1);
+        return expired;
+    }
+
+    private void link(Entry<K> entry, int bucket) {
+        Entry<K> head = buckets[bucket];
+        entry.bucket = bucket;
+        entry.prev = null;
+        entry.next = head;
+        if (head != null) {
+            head.prev = entry;
+        }
+        buckets[bucket] = entry;
+    }
+
+    private void unlink(Entry<K> entry) {
+        if (entry.bucket < 0) {
+            return;
+        }
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            buckets[entry.bucket] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+        entry.bucket = -1;
+    }
+
+    private static final class Entry<K> {
+        private final K key;
+        private long deadlineTick;
+        private int bucket = -1;
+        private Entry<K> prev;
+        private Entry<K> next;
+
+        private Entry(K key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.paklog.robotics.fleet.management.application.service;
+
+import com.paklog.robotics.fleet.management.application.port.out.TelemetryApplyListener;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.event.RobotLifecycleSink;
+import com.paklog.robotics.fleet.management.domain.repository.ChargingStationRepository;
+import com.paklog.robotics.fleet.management.domain.repository.RobotRepository;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotStatus;
+import com.paklog.robotics.fleet.management.infrastructure.config.WatchdogProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heartbeat Watchdog
+ * Marks robots OFFLINE when they stop sending heartbeats.
+ *
+ * Every heartbeat moves the robot's deadline in a hashed timer wheel in O(1),
+ * so detection cost does not grow with fleet size. A robot is watched from the
+ * moment it is registered, so one that never reports still goes offline, and is
+ * no longer watched once deleted. On expiry the robot releases its task (emitting
+ * RobotTaskFailedEvent), its open tasks are requeued or failed and it is evicted
+ * from any charging station. A robot that reports again after going offline is
+ * brought back online.
+ */
+@Service
+public class HeartbeatWatchdog implements TelemetryApplyListener, RobotLifecycleSink {
+
+    private static final Logger log = LoggerFactory.getLogger(HeartbeatWatchdog.class);
+
+    private final RobotRepository robotRepository;
+    private final ChargingStationRepository chargingStationRepository;
+    private final TaskDispatchService taskDispatchService;
+    private final WatchdogProperties properties;
+    private final HashedTimerWheel<String> wheel;
+    private final long timeoutNanos;
+    private final Counter robotsWentOffline;
+    private final Counter robotsCameOnline;
+    private ScheduledExecutorService ticker;
+
+    public HeartbeatWatchdog(RobotRepository robotRepository,
+                             ChargingStationRepository chargingStationRepository,
+                             TaskDispatchService taskDispatchService,
+                             WatchdogProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.robotRepository = robotRepository;
+        this.chargingStationRepository = chargingStationRepository;
+        this.taskDispatchService = taskDispatchService;
+        this.properties = properties;
+        this.timeoutNanos = properties.heartbeatTimeout().toNanos();
+        this.wheel = new HashedTimerWheel<>(properties.tick().toNanos(), properties.wheelSize(), System.nanoTime());
+        this.robotsWentOffline = Counter.builder("robotics.watchdog.transitions")
+            .tag("to", "offline").register(meterRegistry);
+        this.robotsCameOnline = Counter.builder("robotics.watchdog.transitions")
+            .tag("to", "online").register(meterRegistry);
+        Gauge.builder("robotics.watchdog.watched", wheel, HashedTimerWheel::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        // Robots known at startup get one timeout to check in
+        long now = System.nanoTime();
+        for (Robot robot : robotRepository.findAll()) {
+            heartbeat(robot.getRobotId().getValue(), now);
+        }
+
+        long tickNanos = properties.tick().toNanos();
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "heartbeat-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> tick(System.nanoTime()), tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /**
+     * Record a heartbeat, pushing the robot's offline deadline forward
+     */
+    public void heartbeat(String robotId) {
+        heartbeat(robotId, System.nanoTime());
+    }
+
+    void heartbeat(String robotId, long nowNanos) {
+        wheel.schedule(robotId, nowNanos + timeoutNanos);
+    }
+
+    /**
+     * Stop watching a robot that left the fleet
+     */
+    public void forget(String robotId) {
+        wheel.cancel(robotId);
+    }
+
+    @Override
+    public void added(Robot robot) {
+        // A new robot gets one timeout to send its first report
+        heartbeat(robot.getRobotId().getValue());
+    }
+
+    @Override
+    public void removed(Robot robot) {
+        forget(robot.getRobotId().getValue());
+    }
+
+    @Override
+    public void onTelemetryApplied(Robot robot, Instant observedAt) {
+        if (robot.getStatus() == RobotStatus.OFFLINE) {
+            robot.markOnline();
+            robotsCameOnline.increment();
+        }
+        heartbeat(robot.getRobotId().getValue());
+    }
+
+    int tick(long nowNanos) {
+        try {
+            return wheel.advance(nowNanos, this::expire);
+        } catch (RuntimeException e) {
+            log.warn("Heartbeat watchdog tick failed", e);
+            return 0;
+        }
+    }
+
+    private void expire(String robotId) {
+        robotRepository.findById(robotId).ifPresent(robot -> {
+            synchronized (robot) {
+                if (robot.getStatus() == RobotStatus.OFFLINE) {
+                    return;
+                }
+                robot.markOffline();
+            }
+            robotsWentOffline.increment();
+            log.info("Robot {} missed heartbeats for {}, marked offline", robotId, properties.heartbeatTimeout());
+            taskDispatchService.releaseTasks(robotId, "Robot went offline");
+
+            chargingStationRepository.findByRobotId(robotId).ifPresent(station -> {
+                synchronized (station) {
+                    station.evict(robotId);
+                }
+            });
+        });
+    }
+}
@@ -0,0 +1,230 @@
+package com.paklog.robotics.fleet.management.application.service;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.repository.ChargingStationRepository;
+import com.paklog.robotics.fleet.management.domain.repository.RobotRepository;
+import com.paklog.robotics.fleet.management.domain.repository.RobotTaskRepository;
+import com.paklog.robotics.fleet.management.domain.service.OpportunityChargingPolicy;
+import com.paklog.robotics.fleet.management.domain.service.OpportunityChargingPolicy.Demand;
+import com.paklog.robotics.fleet.management.domain.service.OpportunityChargingPolicy.FleetDemand;
+import com.paklog.robotics.fleet.management.domain.time.DomainClock;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotStatus;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskStatus;
+import com.paklog.robotics.fleet.management.infrastructure.config.OpportunityChargingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opportunity Charging Service
+ * Tops up idle robots while demand is low and recalls them when it spikes, so
+ * the fleet does not reach the low battery threshold and the chargers all at
+ * once during a peak.
+ *
+ * Every tick the smoothed task arrival rate, the pending task count and the
+ * robots working or idle are handed to the {@link OpportunityChargingPolicy}.
+ * In a trough the idle robots with the least charge are sent through the
+ * {@link ChargingDispatchService} to the free charger slots with a partial
+ * target. At a peak the robots topping up with the most charge are released
+ * early. Robots sent charging for low battery are never recalled.
+ */
+@Service
+public class OpportunityChargingService {
+
+    private static final Logger log = LoggerFactory.getLogger(OpportunityChargingService.class);
+
+    private final RobotRepository robotRepository;
+    private final RobotTaskRepository taskRepository;
+    private final ChargingStationRepository chargingStationRepository;
+    private final ChargingDispatchService chargingDispatchService;
+    private final OpportunityChargingProperties properties;
+    private final OpportunityChargingPolicy policy;
+    // Robots this service sent charging, with when they were sent
+    private final Map<String, Instant> toppingUp = new ConcurrentHashMap<>();
+    private final Counter sent;
+    private final Counter recalled;
+    private volatile double arrivalsPerMinute;
+    private volatile double load;
+    private Instant lastTick;
+    private long lastCreated;
+    private ScheduledExecutorService ticker;
+
+    public OpportunityChargingService(RobotRepository robotRepository,
+                                      RobotTaskRepository taskRepository,
+                                      ChargingStationRepository chargingStationRepository,
+                                      ChargingDispatchService chargingDispatchService,
+                                      OpportunityChargingProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.robotRepository = robotRepository;
+        this.taskRepository = taskRepository;
+        this.chargingStationRepository = chargingStationRepository;
+        this.chargingDispatchService = chargingDispatchService;
+        this.properties = properties;
+        this.policy = new OpportunityChargingPolicy(properties.troughLoad(), properties.peakLoad(),
+            properties.meanTaskTime().toMillis() / 60_000.0, properties.maxStartLevel(),
+            properties.targetLevel(), properties.minReleaseLevel());
+        this.sent = Counter.builder("robotics.charging.opportunity.sent")
+            .description("Idle robots sent to top up during a demand trough")
+            .register(meterRegistry);
+        this.recalled = Counter.builder("robotics.charging.opportunity.recalled")
+            .description("Robots taken off a top-up charge by a demand peak")
+            .register(meterRegistry);
+        Gauge.builder("robotics.charging.opportunity.topping.up", toppingUp, Map::size).register(meterRegistry);
+        Gauge.builder("robotics.charging.opportunity.load", this, service -> service.load)
+            .description("Robots the work needs per robot in service")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        long tickNanos = properties.tick().toNanos();
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "opportunity-charging");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(() -> tick(DomainClock.now()), tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /**
+     * Check if the robot was sent to top up and can be recalled
+     */
+    public boolean isToppingUp(String robotId) {
+        return toppingUp.containsKey(robotId);
+    }
+
+    Demand tick(Instant now) {
+        try {
+            return assess(now);
+        } catch (RuntimeException e) {
+            log.warn("Opportunity charging tick failed", e);
+            return Demand.STEADY;
+        }
+    }
+
+    private Demand assess(Instant now) {
+        List<RobotTask> pendingTasks = taskRepository.findByStatus(TaskStatus.PENDING);
+        updateArrivalRate(now);
+
+        int executing = 0;
+        List<Robot> idle = new ArrayList<>();
+        List<Robot> charging = new ArrayList<>();
+        for (Robot robot : robotRepository.findAll()) {
+            String robotId = robot.getRobotId().getValue();
+            RobotStatus status = robot.getStatus();
+            if (status == RobotStatus.EXECUTING) {
+                executing++;
+            } else if (robot.isAvailable()) {
+                idle.add(robot);
+            } else if (status == RobotStatus.CHARGING && toppingUp.containsKey(robotId)) {
+                charging.add(robot);
+            }
+            Instant sentAt = toppingUp.get(robotId);
+            // The dispatcher needs a moment to place a robot; after that it should be charging
+            if (sentAt != null && status != RobotStatus.CHARGING && sentAt.plus(properties.tick()).isBefore(now)) {
+                toppingUp.remove(robotId);
+            }
+        }
+
+        FleetDemand demand = new FleetDemand(arrivalsPerMinute, pendingTasks.size(), executing, idle.size(),
+            charging.size());
+        load = policy.load(demand);
+        Demand level = policy.assess(demand);
+        if (level == Demand.TROUGH) {
+            sendToTopUp(idle, policy.robotsToSend(demand, chargingStationRepository.countSpareSlots()), now);
+        } else if (level == Demand.PEAK) {
+            recall(charging, policy.robotsToRelease(demand));
+        }
+        return level;
+    }
+
+    private void updateArrivalRate(Instant now) {
+        // Counted at creation, so tasks assigned before the tick still count
+        long created = taskRepository.countCreated();
+        if (lastTick == null) {
+            // Tasks saved before the first tick, such as those restored at startup, are not arrivals
+            lastTick = now;
+            lastCreated = created;
+            return;
+        }
+        double minutes = Duration.between(lastTick, now).toMillis() / 60_000.0;
+        if (minutes <= 0) {
+            return;
+        }
+        long arrived = created - lastCreated;
+        lastCreated = created;
+        double halfLifeMinutes = properties.arrivalHalfLife().toMillis() / 60_000.0;
+        double weight = 1.0 - Math.pow(0.5, minutes / halfLifeMinutes);
+        arrivalsPerMinute += weight * (arrived / minutes - arrivalsPerMinute);
+        lastTick = now;
+    }
+
+    private void sendToTopUp(List<Robot> idle, int count, Instant now) {
+        if (count == 0) {
+            return;
+        }
+        idle.stream()
+            .filter(robot -> policy.shouldTopUp(robot.getBatteryLevel().getPercentage()))
+            .filter(robot -> !toppingUp.containsKey(robot.getRobotId().getValue()))
+            .sorted(Comparator.comparingInt(robot -> robot.getBatteryLevel().getPercentage()))
+            .limit(count)
+            .forEach(robot -> {
+                String robotId = robot.getRobotId().getValue();
+                toppingUp.put(robotId, now);
+                chargingDispatchService.requestCharging(robotId, false, policy.getTargetLevel());
+                sent.increment();
+                log.debug("Robot {} sent to top up at {}%", robotId, robot.getBatteryLevel().getPercentage());
+            });
+    }
+
+    private void recall(List<Robot> charging, int count) {
+        if (count == 0) {
+            return;
+        }
+        charging.stream()
+            .filter(robot -> policy.canRelease(robot.getBatteryLevel().getPercentage()))
+            .sorted(Comparator.comparingInt((Robot robot) -> robot.getBatteryLevel().getPercentage()).reversed())
+            .limit(count)
+            .forEach(robot -> {
+                String robotId = robot.getRobotId().getValue();
+                toppingUp.remove(robotId);
+                chargingDispatchService.releaseEarly(robotId);
+                recalled.increment();
+                log.debug("Robot {} recalled from top-up at {}%", robotId, robot.getBatteryLevel().getPercentage());
+            });
+    }
+
+    /**
+     * Smoothed task arrival rate as of the last tick
+     */
+    public double getArrivalsPerMinute() {
+        return arrivalsPerMinute;
+    }
+}
@@ -0,0 +1,40 @@
+package com.paklog.robotics.fleet.management.application.service;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.repository.RobotRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Robot Health Service
+ * Applies health reports and treats each one as a heartbeat
+ */
+@Service
+public class RobotHealthService {
+
+    private final RobotRepository robotRepository;
+    private final HeartbeatWatchdog heartbeatWatchdog;
+
+    public RobotHealthService(RobotRepository robotRepository, HeartbeatWatchdog heartbeatWatchdog) {
+        this.robotRepository = robotRepository;
+        this.heartbeatWatchdog = heartbeatWatchdog;
+    }
+
+    /**
+     * Record health metrics and run the robot's health check
+     * @return Robot after the check, or empty if the robot is unknown
+     */
+    public Optional<Robot> reportHealth(String robotId, Map<String, Object> metrics) {
+        return robotRepository.findById(robotId).map(robot -> {
+            synchronized (robot) {
+                robot.markOnline();
+                robot.updateHealthMetrics(metrics);
+                robot.performHealthCheck();
+            }
+            heartbeatWatchdog.heartbeat(robotId);
+            return robot;
+        });
+    }
+}
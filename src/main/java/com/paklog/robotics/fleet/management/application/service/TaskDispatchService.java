@@ -0,0 +1,290 @@
+package com.paklog.robotics.fleet.management.application.service;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.repository.RobotRepository;
+import com.paklog.robotics.fleet.management.domain.repository.RobotTaskRepository;
+import com.paklog.robotics.fleet.management.domain.service.DeadlineScheduler;
+import com.paklog.robotics.fleet.management.domain.service.DeadlineScheduler.ScheduledTask;
+import com.paklog.robotics.fleet.management.domain.service.PathPlanningService;
+import com.paklog.robotics.fleet.management.domain.service.TaskAssignmentService;
+import com.paklog.robotics.fleet.management.domain.time.DomainClock;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskStatus;
+import com.paklog.robotics.fleet.management.infrastructure.config.TaskSchedulingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task Dispatch Service
+ * Assigns pending tasks to idle robots in the order the {@link DeadlineScheduler}
+ * gives, least slack first by default.
+ *
+ * Every tick the pending tasks are scheduled and offered one by one to the
+ * {@link TaskAssignmentService}, which picks the closest idle robot that can
+ * take each. A task no idle robot can take is passed over, not waited on, so a
+ * task needing a lifter does not hold up pickers. The drive from origin to
+ * destination is planned once per task and reused until the task leaves
+ * PENDING. Dated tasks whose slack falls below the at-risk threshold are
+ * counted on every tick, so operations see them before the due time passes.
+ *
+ * Tasks held by a robot that goes offline or drops its task are released:
+ * one not yet started goes back to PENDING for the next tick, one under way
+ * is failed, as its load may still be on the robot.
+ */
+@Service
+public class TaskDispatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskDispatchService.class);
+
+    private final RobotTaskRepository taskRepository;
+    private final RobotRepository robotRepository;
+    private final TaskAssignmentService assignmentService;
+    private final PathPlanningService pathPlanningService;
+    private final TaskSchedulingProperties properties;
+    private final DeadlineScheduler scheduler;
+    // Dispatcher thread only: planned origin-to-destination drive of each pending task
+    private final Map<String, Double> travelSeconds = new HashMap<>();
+    private final Counter dispatched;
+    private final Counter requeued;
+    private final Counter failed;
+    private volatile int atRisk;
+    private volatile int overdue;
+    private ScheduledExecutorService dispatcher;
+
+    public TaskDispatchService(RobotTaskRepository taskRepository,
+                               RobotRepository robotRepository,
+                               TaskAssignmentService assignmentService,
+                               PathPlanningService pathPlanningService,
+                               TaskSchedulingProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.robotRepository = robotRepository;
+        this.assignmentService = assignmentService;
+        this.pathPlanningService = pathPlanningService;
+        this.properties = properties;
+        this.scheduler = new DeadlineScheduler(properties.mode(), properties.undatedAllowance(),
+            properties.handlingTime(), this::travelSeconds);
+        this.dispatched = Counter.builder("robotics.tasks.dispatched")
+            .description("Pending tasks assigned to an idle robot")
+            .tag("mode", properties.mode().name())
+            .register(meterRegistry);
+        this.requeued = Counter.builder("robotics.tasks.released")
+            .description("Tasks taken back from a robot that dropped them")
+            .tag("outcome", "requeued")
+            .register(meterRegistry);
+        this.failed = Counter.builder("robotics.tasks.released")
+            .description("Tasks taken back from a robot that dropped them")
+            .tag("outcome", "failed")
+            .register(meterRegistry);
+        Gauge.builder("robotics.tasks.at.risk", this, service -> service.atRisk)
+            .description("Pending tasks with a due time and less slack than the at-risk threshold")
+            .register(meterRegistry);
+        Gauge.builder("robotics.tasks.overdue", this, service -> service.overdue)
+            .description("Pending tasks already past their due time")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        long tickNanos = properties.tick().toNanos();
+        dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-dispatch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleWithFixedDelay(() -> tick(DomainClock.now()), tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+        }
+    }
+
+    /**
+     * Dated pending tasks with less slack than the at-risk threshold as of the last tick
+     */
+    public int getAtRiskCount() {
+        return atRisk;
+    }
+
+    /**
+     * Dated pending tasks past their due time as of the last tick
+     */
+    public int getOverdueCount() {
+        return overdue;
+    }
+
+    /**
+     * Take back the open tasks of a robot that can no longer carry them out.
+     * Tasks that finished or moved to another robot in the meantime are left alone.
+     * @param robotId Robot that went offline or dropped its task
+     * @param reason Failure reason recorded on tasks already under way
+     */
+    public void releaseTasks(String robotId, String reason) {
+        for (RobotTask task : taskRepository.findOpenByRobotId(robotId)) {
+            release(task, robotId, reason);
+        }
+    }
+
+    /**
+     * Take back one task a robot dropped, if the robot still holds it.
+     * A task finished, requeued or handed to another robot since is left alone,
+     * as are the robot's other tasks.
+     * @param robotId Robot that dropped the task
+     * @param taskId Task the robot dropped
+     * @param reason Failure reason recorded if the task was under way
+     */
+    public void releaseTask(String robotId, String taskId, String reason) {
+        taskRepository.findById(taskId)
+            .filter(task -> robotId.equals(task.getRobotId()))
+            .ifPresent(task -> release(task, robotId, reason));
+    }
+
+    private void release(RobotTask task, String robotId, String reason) {
+        try {
+            if (task.getStatus() == TaskStatus.ASSIGNED) {
+                task.requeue();
+                requeued.increment();
+                log.info("Task {} requeued: robot {} released it ({})", task.getTaskId(), robotId, reason);
+            } else if (task.getStatus() == TaskStatus.IN_PROGRESS) {
+                task.fail(reason);
+                failed.increment();
+                log.warn("Task {} failed: robot {} released it ({})", task.getTaskId(), robotId, reason);
+            }
+        } catch (IllegalStateException e) {
+            // Finished concurrently; nothing left to release
+            log.debug("Task {} already moved on: {}", task.getTaskId(), e.getMessage());
+        }
+    }
+
+    int tick(Instant now) {
+        try {
+            return dispatch(now);
+        } catch (RuntimeException e) {
+            log.warn("Task dispatch tick failed", e);
+            return 0;
+        }
+    }
+
+    private int dispatch(Instant now) {
+        List<RobotTask> pending = taskRepository.findByStatus(TaskStatus.PENDING);
+        forgetFinished(pending);
+        List<ScheduledTask> schedule = scheduler.schedule(pending, now);
+        countAtRisk(schedule, now);
+
+        // Bucketed once per tick so each task only looks at robots it could use
+        Map<RobotCapability, Set<Robot>> idleByCapability = new EnumMap<>(RobotCapability.class);
+        int idle = 0;
+        for (Robot robot : robotRepository.findAll()) {
+            if (robot.isAvailable()) {
+                for (RobotCapability capability : robot.getCapabilities()) {
+                    idleByCapability.computeIfAbsent(capability, key -> new LinkedHashSet<>()).add(robot);
+                }
+                idle++;
+            }
+        }
+        int assigned = 0;
+        for (ScheduledTask scheduled : schedule) {
+            if (idle == 0) {
+                break;
+            }
+            RobotTask task = scheduled.task();
+            Set<Robot> candidates = idleByCapability.get(task.getRequiredCapability());
+            if (candidates == null || candidates.isEmpty()) {
+                continue;
+            }
+            Optional<Robot> robot = assignmentService.findOptimalRobot(task, candidates);
+            if (robot.isEmpty()) {
+                continue;
+            }
+            for (RobotCapability capability : robot.get().getCapabilities()) {
+                idleByCapability.get(capability).remove(robot.get());
+            }
+            idle--;
+            if (!tryAssign(robot.get(), task)) {
+                continue;
+            }
+            travelSeconds.remove(task.getTaskId());
+            assigned++;
+            log.debug("Task {} assigned to robot {} with {}s slack", task.getTaskId(),
+                robot.get().getRobotId().getValue(), Math.round(scheduled.slackSeconds()));
+        }
+        dispatched.increment(assigned);
+        return assigned;
+    }
+
+    private boolean tryAssign(Robot robot, RobotTask task) {
+        synchronized (robot) {
+            // The robot or task may have changed since it was read; both are retried next tick
+            if (!robot.isAvailable()) {
+                return false;
+            }
+            try {
+                assignmentService.assign(robot, task);
+                return true;
+            } catch (IllegalStateException e) {
+                log.debug("Could not assign task {} to robot {}: {}", task.getTaskId(),
+                    robot.getRobotId().getValue(), e.getMessage());
+                return false;
+            }
+        }
+    }
+
+    private void countAtRisk(List<ScheduledTask> schedule, Instant now) {
+        int risky = 0;
+        int late = 0;
+        for (ScheduledTask scheduled : schedule) {
+            if (scheduled.isAtRisk(properties.atRiskSlack())) {
+                risky++;
+            }
+            if (scheduled.isOverdue(now)) {
+                late++;
+            }
+        }
+        atRisk = risky;
+        overdue = late;
+    }
+
+    private void forgetFinished(List<RobotTask> pending) {
+        // Entries of cancelled tasks may linger until they outnumber the pending tasks
+        if (travelSeconds.size() <= pending.size()) {
+            return;
+        }
+        Set<String> pendingIds = new HashSet<>(pending.size() * 2);
+        for (RobotTask task : pending) {
+            pendingIds.add(task.getTaskId());
+        }
+        travelSeconds.keySet().retainAll(pendingIds);
+    }
+
+    private double travelSeconds(RobotTask task) {
+        return travelSeconds.computeIfAbsent(task.getTaskId(), taskId -> pathPlanningService
+            .calculatePath(task.getOrigin(), task.getDestination(), Set.of(), List.of())
+            .getEstimatedTimeSeconds());
+    }
+}
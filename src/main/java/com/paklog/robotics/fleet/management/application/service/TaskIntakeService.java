@@ -0,0 +1,83 @@
+package com.paklog.robotics.fleet.management.application.service;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.repository.RobotTaskRepository;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskStatus;
+import com.paklog.robotics.fleet.management.infrastructure.config.TaskIntakeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Task Intake Service
+ * Stores tasks created by upstream services and tells intake when to hold off.
+ *
+ * Tasks are saved only if their id is new, so a redelivered or republished
+ * event never creates a second task. Intake is saturated once the pending
+ * tasks reach the bound and may resume when they drain to the resume level;
+ * the gap keeps a busy consumer from pausing and resuming on every batch.
+ */
+@Service
+public class TaskIntakeService {
+
+    private final RobotTaskRepository taskRepository;
+    private final TaskIntakeProperties properties;
+    private final Counter created;
+    private final Counter duplicates;
+
+    public TaskIntakeService(RobotTaskRepository taskRepository,
+                             TaskIntakeProperties properties,
+                             MeterRegistry meterRegistry) {
+        if (properties.resumePending() > properties.maxPending()) {
+            throw new IllegalArgumentException("Resume level cannot exceed the pending bound");
+        }
+        this.taskRepository = taskRepository;
+        this.properties = properties;
+        this.created = Counter.builder("robotics.tasks.intake.created")
+            .description("Tasks created from upstream events")
+            .register(meterRegistry);
+        this.duplicates = Counter.builder("robotics.tasks.intake.duplicates")
+            .description("Upstream events skipped because their task already exists")
+            .register(meterRegistry);
+        Gauge.builder("robotics.tasks.pending", this, TaskIntakeService::getPendingCount)
+            .description("Tasks waiting for a robot")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Save new tasks, skipping any whose id is already known
+     * @return Number of tasks created
+     */
+    public int ingest(List<RobotTask> tasks) {
+        int saved = 0;
+        for (RobotTask task : tasks) {
+            if (taskRepository.saveIfAbsent(task)) {
+                saved++;
+            }
+        }
+        created.increment(saved);
+        duplicates.increment(tasks.size() - saved);
+        return saved;
+    }
+
+    /**
+     * Check if pending tasks reached the bound and intake should stop
+     */
+    public boolean isSaturated() {
+        return getPendingCount() >= properties.maxPending();
+    }
+
+    /**
+     * Check if pending tasks drained far enough for intake to continue
+     */
+    public boolean canResume() {
+        return getPendingCount() <= properties.resumePending();
+    }
+
+    public int getPendingCount() {
+        return taskRepository.countByStatus(TaskStatus.PENDING);
+    }
+}
@@ -0,0 +1,349 @@
+package com.paklog.robotics.fleet.management.application.service;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.event.FinishedTaskSink;
+import com.paklog.robotics.fleet.management.domain.time.DomainClock;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskStatus;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskType;
+import com.paklog.robotics.fleet.management.infrastructure.config.TaskTimingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+
+/**
+ * Task Timing Analytics
+ * Streams the phase times of completed tasks into HDR histograms and answers
+ * percentile queries over a rolling window without keeping the tasks.
+ *
+ * Each completed task records its wait, travel, execution and total time in
+ * milliseconds under its task type, required capability and zone, the square
+ * floor cell holding its origin. Recording goes to a Recorder per key and
+ * phase, which never blocks the thread finishing the task. Every interval the
+ * recorders are swapped and each closed interval is kept as a compressed
+ * histogram in a ring of slots covering the retention. A query adds up the
+ * slots in its window for the keys it matches; histograms add exactly, so the
+ * encoded windows of several replicas merge into the fleet-wide distribution
+ * with the same precision. The interval being recorded shows up once it closes.
+ */
+@Service
+public class TaskTimingAnalytics implements FinishedTaskSink {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskTimingAnalytics.class);
+
+    /**
+     * Stretch of a task's life
+     */
+    public enum Phase {
+        WAIT,       // Created until assigned
+        TRAVEL,     // Assigned until started at the origin
+        EXECUTION,  // Started until completed
+        TOTAL       // Created until completed
+    }
+
+    /**
+     * Breakdown the histograms are kept by
+     *
+     * @param taskType Type of the task
+     * @param capability Capability the task required
+     * @param zone Floor cell of the task origin, column-row in zone-size steps
+     */
+    public record TimingKey(TaskType taskType, RobotCapability capability, String zone) {}
+
+    /**
+     * Histogram of one phase of one key over a window, in HdrHistogram's compressed encoding
+     */
+    public record EncodedHistogram(TimingKey key, Phase phase, byte[] histogram) {}
+
+    private static final Phase[] PHASES = Phase.values();
+    private static final TaskType[] TASK_TYPES = TaskType.values();
+    private static final double[] GAUGE_QUANTILES = {0.5, 0.9, 0.99};
+
+    private final TaskTimingProperties properties;
+    private final long intervalNanos;
+    private final int slotCount;
+    private final int gaugeSlots;
+    private final Map<TimingKey, Series[]> series = new ConcurrentHashMap<>();
+    private final Counter recorded;
+    // [phase][task type][quantile] in seconds over the Prometheus window; NaN without data
+    private volatile double[][][] published;
+    private volatile Instant closedAt;
+    private long closedIntervals;
+    private ScheduledExecutorService rotator;
+
+    public TaskTimingAnalytics(TaskTimingProperties properties, MeterRegistry meterRegistry) {
+        if (!properties.interval().isPositive()) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        long retentionNanos = properties.retention().toNanos();
+        this.intervalNanos = properties.interval().toNanos();
+        if (retentionNanos < intervalNanos || retentionNanos % intervalNanos != 0) {
+            throw new IllegalArgumentException("Retention must be a whole number of intervals");
+        }
+        if (properties.zoneSize() <= 0) {
+            throw new IllegalArgumentException("Zone size must be positive");
+        }
+        if (properties.significantDigits() < 0 || properties.significantDigits() > 5) {
+            throw new IllegalArgumentException("Significant digits must be between 0 and 5");
+        }
+        this.properties = properties;
+        this.slotCount = (int) (retentionNanos / intervalNanos);
+        this.gaugeSlots = windowSlots(properties.prometheusWindow());
+        this.published = emptyQuantiles();
+        this.recorded = Counter.builder("robotics.tasks.timing.recorded")
+            .description("Completed tasks recorded into the timing histograms")
+            .register(meterRegistry);
+        for (Phase phase : PHASES) {
+            for (TaskType taskType : TASK_TYPES) {
+                for (int q = 0; q < GAUGE_QUANTILES.length; q++) {
+                    int p = phase.ordinal();
+                    int t = taskType.ordinal();
+                    int quantile = q;
+                    Gauge.builder("robotics.tasks.timing", this, analytics -> analytics.published[p][t][quantile])
+                        .description("Task phase time percentile over the Prometheus window")
+                        .baseUnit("seconds")
+                        .tag("phase", phase.name().toLowerCase())
+                        .tag("type", taskType.name().toLowerCase())
+                        .tag("quantile", Double.toString(GAUGE_QUANTILES[q]))
+                        .register(meterRegistry);
+                }
+            }
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        rotator = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-timing");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Fixed rate so every slot covers the same stretch of time
+        rotator.scheduleAtFixedRate(() -> tick(DomainClock.now()), intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (rotator != null) {
+            rotator.shutdownNow();
+        }
+    }
+
+    @Override
+    public void finished(RobotTask task) {
+        if (!properties.enabled() || task.getStatus() != TaskStatus.COMPLETED) {
+            return;
+        }
+        TimingKey key = new TimingKey(task.getTaskType(), task.getRequiredCapability(), zoneOf(task.getOrigin()));
+        Series[] phases = series.computeIfAbsent(key, ignored -> newSeries());
+        phases[Phase.WAIT.ordinal()].record(task.getWaitTime());
+        phases[Phase.TRAVEL.ordinal()].record(task.getTravelTime());
+        phases[Phase.EXECUTION.ordinal()].record(task.getExecutionTime());
+        phases[Phase.TOTAL.ordinal()].record(task.getTotalTime());
+        recorded.increment();
+    }
+
+    /**
+     * Zone a position falls in
+     */
+    public String zoneOf(RobotPosition position) {
+        // Floored, so cells left of or below the origin stay apart from cell 0
+        return (long) Math.floor(position.getX() / properties.zoneSize()) + "-"
+            + (long) Math.floor(position.getY() / properties.zoneSize());
+    }
+
+    /**
+     * Phase times in milliseconds over the window for the keys matching every given filter
+     * @param taskType Task type, or null for any
+     * @param capability Required capability, or null for any
+     * @param zone Zone, or null for any
+     * @param window Closed intervals to cover, rounded up to whole intervals
+     * @throws IllegalArgumentException if the window is not positive or exceeds the retention
+     */
+    public synchronized Histogram histogram(Phase phase, TaskType taskType, RobotCapability capability, String zone,
+                                            Duration window) {
+        int slots = windowSlots(window);
+        Histogram merged = new Histogram(properties.significantDigits());
+        for (Map.Entry<TimingKey, Series[]> entry : series.entrySet()) {
+            TimingKey key = entry.getKey();
+            if ((taskType == null || taskType == key.taskType())
+                && (capability == null || capability == key.capability())
+                && (zone == null || zone.equals(key.zone()))) {
+                entry.getValue()[phase.ordinal()].addTo(merged, closedIntervals, slots);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * Every key and phase with data in the window, encoded for merging elsewhere
+     * @throws IllegalArgumentException if the window is not positive or exceeds the retention
+     */
+    public synchronized List<EncodedHistogram> export(Duration window) {
+        int slots = windowSlots(window);
+        List<EncodedHistogram> histograms = new ArrayList<>();
+        for (Map.Entry<TimingKey, Series[]> entry : series.entrySet()) {
+            for (Phase phase : PHASES) {
+                Histogram merged = new Histogram(properties.significantDigits());
+                entry.getValue()[phase.ordinal()].addTo(merged, closedIntervals, slots);
+                if (merged.getTotalCount() > 0) {
+                    histograms.add(new EncodedHistogram(entry.getKey(), phase, encode(merged)));
+                }
+            }
+        }
+        return histograms;
+    }
+
+    /**
+     * End of the last closed interval, or null before the first one closes
+     */
+    public Instant getClosedAt() {
+        return closedAt;
+    }
+
+    void tick(Instant now) {
+        try {
+            rotate(now);
+        } catch (RuntimeException e) {
+            log.warn("Task timing rotation failed", e);
+        }
+    }
+
+    private synchronized void rotate(Instant now) {
+        long interval = closedIntervals;
+        for (Series[] phases : series.values()) {
+            for (Series phase : phases) {
+                phase.close(interval);
+            }
+        }
+        closedIntervals = interval + 1;
+        closedAt = now;
+        publishQuantiles();
+    }
+
+    private void publishQuantiles() {
+        Histogram[][] merged = new Histogram[PHASES.length][TASK_TYPES.length];
+        for (Map.Entry<TimingKey, Series[]> entry : series.entrySet()) {
+            int t = entry.getKey().taskType().ordinal();
+            for (int p = 0; p < PHASES.length; p++) {
+                if (merged[p][t] == null) {
+                    merged[p][t] = new Histogram(properties.significantDigits());
+                }
+                entry.getValue()[p].addTo(merged[p][t], closedIntervals, gaugeSlots);
+            }
+        }
+        double[][][] quantiles = emptyQuantiles();
+        for (int p = 0; p < PHASES.length; p++) {
+            for (int t = 0; t < TASK_TYPES.length; t++) {
+                if (merged[p][t] != null && merged[p][t].getTotalCount() > 0) {
+                    for (int q = 0; q < GAUGE_QUANTILES.length; q++) {
+                        quantiles[p][t][q] = merged[p][t].getValueAtPercentile(GAUGE_QUANTILES[q] * 100) / 1000.0;
+                    }
+                }
+            }
+        }
+        published = quantiles;
+    }
+
+    private int windowSlots(Duration window) {
+        if (!window.isPositive() || window.compareTo(properties.retention()) > 0) {
+            throw new IllegalArgumentException("Window must be positive and within the retention");
+        }
+        return (int) Math.ceilDiv(window.toNanos(), intervalNanos);
+    }
+
+    private double[][][] emptyQuantiles() {
+        double[][][] quantiles = new double[PHASES.length][TASK_TYPES.length][GAUGE_QUANTILES.length];
+        for (double[][] phase : quantiles) {
+            for (double[] taskType : phase) {
+                Arrays.fill(taskType, Double.NaN);
+            }
+        }
+        return quantiles;
+    }
+
+    private Series[] newSeries() {
+        Series[] phases = new Series[PHASES.length];
+        for (int p = 0; p < phases.length; p++) {
+            phases[p] = new Series(properties.significantDigits(), slotCount);
+        }
+        return phases;
+    }
+
+    private static byte[] encode(Histogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Arrays.copyOf(buffer.array(), length);
+    }
+
+    /**
+     * One phase of one key: the open interval being recorded and the closed ones kept
+     */
+    private static final class Series {
+
+        private final Recorder recorder;
+        // Closed intervals by interval number modulo the slot count; null when nothing was recorded
+        private final byte[][] slots;
+        private final long[] slotIntervals;
+        private Histogram recycled;
+
+        Series(int significantDigits, int slotCount) {
+            this.recorder = new Recorder(significantDigits);
+            this.slots = new byte[slotCount][];
+            this.slotIntervals = new long[slotCount];
+            Arrays.fill(slotIntervals, -1);
+        }
+
+        void record(Duration time) {
+            recorder.recordValue(Math.max(0, time.toMillis()));
+        }
+
+        void close(long interval) {
+            recycled = recorder.getIntervalHistogram(recycled);
+            int slot = (int) (interval % slots.length);
+            slots[slot] = recycled.getTotalCount() == 0 ? null : encode(recycled);
+            slotIntervals[slot] = interval;
+        }
+
+        void addTo(Histogram target, long closedIntervals, int windowSlots) {
+            for (long interval = Math.max(0, closedIntervals - windowSlots); interval < closedIntervals; interval++) {
+                int slot = (int) (interval % slots.length);
+                if (slotIntervals[slot] == interval && slots[slot] != null) {
+                    target.add(decode(slots[slot]));
+                }
+            }
+        }
+
+        private static Histogram decode(byte[] encoded) {
+            try {
+                return Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(encoded), 0);
+            } catch (DataFormatException e) {
+                throw new IllegalStateException("Corrupt timing histogram", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.paklog.robotics.fleet.management.application.service;
+
+import com.paklog.robotics.fleet.management.application.port.out.TelemetryApplyListener;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.event.RobotLifecycleSink;
+import com.paklog.robotics.fleet.management.domain.repository.RobotRepository;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.infrastructure.config.TelemetryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Telemetry Ingestion Service
+ * Coalesces robot position and battery samples into per-robot mailboxes
+ * and applies them to the Robot aggregates in batches on worker threads.
+ *
+ * Each mailbox holds at most one pending sample per kind (latest wins), so
+ * memory is bounded by the number of robots no matter how fast samples arrive.
+ * Samples that waited longer than the configured max age are dropped as stale.
+ * A mailbox caches its robot, so it is dropped when the robot is deleted or
+ * replaced; samples still waiting in it are discarded.
+ */
+@Service
+public class TelemetryIngestionService implements RobotLifecycleSink {
+
+    private static final Logger log = LoggerFactory.getLogger(TelemetryIngestionService.class);
+
+    private final RobotRepository robotRepository;
+    private final TelemetryProperties properties;
+    private final List<TelemetryApplyListener> listeners;
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final BlockingQueue<Mailbox> readyQueue;
+    private final List<Thread> workers = new ArrayList<>();
+    private final long maxSampleAgeNanos;
+    private volatile boolean running;
+
+    private final Counter positionsIngested;
+    private final Counter batteryIngested;
+    private final Counter coalesced;
+    private final Counter droppedStale;
+    private final Counter droppedOverflow;
+    private final Counter droppedUnknownRobot;
+    private final Timer applyLatency;
+
+    public TelemetryIngestionService(RobotRepository robotRepository,
+                                     TelemetryProperties properties,
+                                     List<TelemetryApplyListener> listeners,
+                                     MeterRegistry meterRegistry) {
+        this.robotRepository = robotRepository;
+        this.properties = properties;
+        this.listeners = List.copyOf(listeners);
+        this.readyQueue = new ArrayBlockingQueue<>(properties.maxRobots());
+        this.maxSampleAgeNanos = properties.maxSampleAge().toNanos();
+
+        this.positionsIngested = Counter.builder("robotics.telemetry.samples.ingested")
+            .tag("kind", "position").register(meterRegistry);
+        this.batteryIngested = Counter.builder("robotics.telemetry.samples.ingested")
+            .tag("kind", "battery").register(meterRegistry);
+        this.coalesced = Counter.builder("robotics.telemetry.samples.coalesced")
+            .register(meterRegistry);
+        this.droppedStale = Counter.builder("robotics.telemetry.samples.dropped")
+            .tag("reason", "stale").register(meterRegistry);
+        this.droppedOverflow = Counter.builder("robotics.telemetry.samples.dropped")
+            .tag("reason", "overflow").register(meterRegistry);
+        this.droppedUnknownRobot = Counter.builder("robotics.telemetry.samples.dropped")
+            .tag("reason", "unknown_robot").register(meterRegistry);
+        this.applyLatency = Timer.builder("robotics.telemetry.apply.latency")
+            .description("Time from sample receipt until it is applied to the robot")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        Gauge.builder("robotics.telemetry.ready.queue", readyQueue, BlockingQueue::size)
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < properties.workers(); i++) {
+            Thread worker = new Thread(this::runWorker, "telemetry-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        workers.clear();
+    }
+
+    /**
+     * Submit a position sample, replacing any pending position for the robot
+     */
+    public void submitPosition(String robotId, double x, double y, double heading) {
+        Mailbox mailbox = mailboxFor(robotId);
+        if (mailbox == null) {
+            droppedUnknownRobot.increment();
+            return;
+        }
+
+        long now = System.nanoTime();
+        synchronized (mailbox) {
+            if (mailbox.hasPosition) {
+                coalesced.increment();
+            }
+            mailbox.x = x;
+            mailbox.y = y;
+            mailbox.heading = heading;
+            mailbox.positionReceivedNanos = now;
+            mailbox.hasPosition = true;
+        }
+        positionsIngested.increment();
+        schedule(mailbox);
+    }
+
+    /**
+     * Submit a battery sample, replacing any pending battery reading for the robot
+     */
+    public void submitBattery(String robotId, int percentage) {
+        Mailbox mailbox = mailboxFor(robotId);
+        if (mailbox == null) {
+            droppedUnknownRobot.increment();
+            return;
+        }
+
+        long now = System.nanoTime();
+        synchronized (mailbox) {
+            if (mailbox.hasBattery) {
+                coalesced.increment();
+            }
+            mailbox.battery = percentage;
+            mailbox.batteryReceivedNanos = now;
+            mailbox.hasBattery = true;
+        }
+        batteryIngested.increment();
+        schedule(mailbox);
+    }
+
+    /**
+     * Drop the mailbox of a robot that left the fleet
+     */
+    public void unregister(String robotId) {
+        mailboxes.remove(robotId);
+    }
+
+    @Override
+    public void removed(Robot robot) {
+        String robotId = robot.getRobotId().getValue();
+        Mailbox mailbox = mailboxes.get(robotId);
+        // A replacement may already have its own mailbox
+        if (mailbox != null && mailbox.robot == robot) {
+            mailboxes.remove(robotId, mailbox);
+        }
+    }
+
+    /**
+     * Number of robots with telemetry waiting to be applied
+     */
+    public int getPendingRobotCount() {
+        return readyQueue.size();
+    }
+
+    private Mailbox mailboxFor(String robotId) {
+        Mailbox mailbox = mailboxes.get(robotId);
+        if (mailbox != null) {
+            return mailbox;
+        }
+        return robotRepository.findById(robotId)
+            .map(robot -> mailboxes.computeIfAbsent(robotId, id -> new Mailbox(robot)))
+            .orElse(null);
+    }
+
+    private void schedule(Mailbox mailbox) {
+        if (mailbox.scheduled.compareAndSet(false, true) && !readyQueue.offer(mailbox)) {
+            // More robots than the configured bound - shed this robot's samples
+            synchronized (mailbox) {
+                mailbox.hasPosition = false;
+                mailbox.hasBattery = false;
+                mailbox.scheduled.set(false);
+            }
+            droppedOverflow.increment();
+        }
+    }
+
+    private void runWorker() {
+        List<Mailbox> batch = new ArrayList<>(properties.batchSize());
+        while (running) {
+            try {
+                Mailbox first = readyQueue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                readyQueue.drainTo(batch, properties.batchSize() - 1);
+                applyBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Failed to apply telemetry batch", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Drain up to maxMailboxes ready mailboxes on the calling thread
+     * @return Number of mailboxes drained
+     */
+    int drainReady(int maxMailboxes) {
+        List<Mailbox> batch = new ArrayList<>();
+        readyQueue.drainTo(batch, maxMailboxes);
+        applyBatch(batch);
+        return batch.size();
+    }
+
+    private void applyBatch(List<Mailbox> batch) {
+        // One wall-clock read per batch instead of several per sample
+        Instant observedAt = Instant.now();
+
+        for (Mailbox mailbox : batch) {
+            boolean applyPosition;
+            boolean applyBattery;
+            double x, y, heading;
+            int battery;
+            long positionReceived, batteryReceived;
+
+            synchronized (mailbox) {
+                applyPosition = mailbox.hasPosition;
+                applyBattery = mailbox.hasBattery;
+                x = mailbox.x;
+                y = mailbox.y;
+                heading = mailbox.heading;
+                battery = mailbox.battery;
+                positionReceived = mailbox.positionReceivedNanos;
+                batteryReceived = mailbox.batteryReceivedNanos;
+                mailbox.hasPosition = false;
+                mailbox.hasBattery = false;
+                mailbox.scheduled.set(false);
+            }
+
+            long now = System.nanoTime();
+            if (applyPosition && now - positionReceived > maxSampleAgeNanos) {
+                droppedStale.increment();
+                applyPosition = false;
+            }
+            if (applyBattery && now - batteryReceived > maxSampleAgeNanos) {
+                droppedStale.increment();
+                applyBattery = false;
+            }
+            if (!applyPosition && !applyBattery) {
+                continue;
+            }
+            if (mailboxes.get(mailbox.robot.getRobotId().getValue()) != mailbox) {
+                // Unregistered while queued; its robot left the fleet
+                droppedUnknownRobot.increment((applyPosition ? 1 : 0) + (applyBattery ? 1 : 0));
+                continue;
+            }
+
+            apply(mailbox.robot, applyPosition, x, y, heading, applyBattery, battery, observedAt);
+
+            long appliedAt = System.nanoTime();
+            if (applyPosition) {
+                applyLatency.record(appliedAt - positionReceived, TimeUnit.NANOSECONDS);
+            }
+            if (applyBattery) {
+                applyLatency.record(appliedAt - batteryReceived, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            for (TelemetryApplyListener listener : listeners) {
+                listener.onBatchApplied();
+            }
+        }
+    }
+
+    private void apply(Robot robot, boolean applyPosition, double x, double y, double heading,
+                       boolean applyBattery, int battery, Instant observedAt) {
+        try {
+            // Commands and telemetry may touch the same aggregate concurrently
+            synchronized (robot) {
+                if (applyPosition) {
+                    robot.updatePosition(RobotPosition.of(x, y, heading), observedAt);
+                }
+                if (applyBattery) {
+                    robot.updateBatteryLevel(battery, observedAt);
+                }
+                for (TelemetryApplyListener listener : listeners) {
+                    listener.onTelemetryApplied(robot, observedAt);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("Rejected telemetry for robot {}: {}", robot.getRobotId().getValue(), e.getMessage());
+        }
+    }
+
+    /**
+     * Latest-wins telemetry slot for a single robot
+     */
+    private static final class Mailbox {
+        private final Robot robot;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private boolean hasPosition;
+        private double x;
+        private double y;
+        private double heading;
+        private long positionReceivedNanos;
+
+        private boolean hasBattery;
+        private int battery;
+        private long batteryReceivedNanos;
+
+        private Mailbox(Robot robot) {
+            this.robot = robot;
+        }
+    }
+}
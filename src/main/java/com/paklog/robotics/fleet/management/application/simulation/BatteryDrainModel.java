@@ -0,0 +1,58 @@
+package com.paklog.robotics.fleet.management.application.simulation;
+
+import java.util.Random;
+
+/**
+ * Battery Drain Model
+ * Seeded starting levels, battery use per metre driven and per hour idle, and a
+ * constant charge rate.
+ * Each trip's drain is scaled by a random factor for load and floor conditions.
+ */
+public class BatteryDrainModel {
+
+    private static final double TRIP_VARIATION = 0.15;
+
+    private final Random random;
+    private final double drainPerMeter;
+    private final double drainPerIdleHour;
+    private final double chargePerMinute;
+    private final int chargeThreshold;
+
+    public BatteryDrainModel(SimulationConfig config, long seed) {
+        this.random = new Random(seed);
+        this.drainPerMeter = config.drainPerMeter();
+        this.drainPerIdleHour = config.drainPerIdleHour();
+        this.chargePerMinute = config.chargePerMinute();
+        this.chargeThreshold = config.chargeThreshold();
+    }
+
+    /**
+     * Battery level at the start of the shift, spread between the charge threshold and full
+     * so the fleet does not run down and queue at the chargers in one wave
+     */
+    public double startLevel() {
+        return chargeThreshold + random.nextDouble() * (100.0 - chargeThreshold);
+    }
+
+    /**
+     * Percentage points used driving the given distance
+     */
+    public double travel(double meters) {
+        double variation = Math.max(-2.0, Math.min(2.0, random.nextGaussian())) * TRIP_VARIATION;
+        return meters * drainPerMeter * (1.0 + variation);
+    }
+
+    /**
+     * Percentage points used standing by for the given time
+     */
+    public double idle(long millis) {
+        return millis / 3_600_000.0 * drainPerIdleHour;
+    }
+
+    /**
+     * Time to charge from the given level to full
+     */
+    public long chargeMillis(double percentage) {
+        return Math.round(Math.max(0.0, 100.0 - percentage) / chargePerMinute * 60_000.0);
+    }
+}
@@ -0,0 +1,476 @@
+package com.paklog.robotics.fleet.management.application.simulation;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.ChargingStation;
+import com.paklog.robotics.fleet.management.domain.aggregate.Fleet;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.event.DomainEventSink;
+import com.paklog.robotics.fleet.management.domain.service.ChargeRateModel;
+import com.paklog.robotics.fleet.management.domain.service.ChargingScheduler;
+import com.paklog.robotics.fleet.management.domain.service.GridPathPlanningService;
+import com.paklog.robotics.fleet.management.domain.service.PathPlanningService;
+import com.paklog.robotics.fleet.management.domain.state.FleetStateStore;
+import com.paklog.robotics.fleet.management.domain.state.RobotSlotRegistry;
+import com.paklog.robotics.fleet.management.domain.time.DomainClock;
+import com.paklog.robotics.fleet.management.domain.valueobject.BatteryLevel;
+import com.paklog.robotics.fleet.management.domain.valueobject.ChargingPlan;
+import com.paklog.robotics.fleet.management.domain.valueobject.PathPlan;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotId;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotStatus;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Fleet Simulator
+ * Deterministic discrete-event simulation of a warehouse shift that drives the
+ * real aggregates and path planner on a simulated clock.
+ *
+ * Tasks arrive from {@link TaskArrivalModel} and go to the nearest available
+ * robot with the capability, or wait in a per-capability backlog ordered by
+ * priority and age. Robots drive planned paths, drain their battery through
+ * {@link BatteryDrainModel} and, once at the charge threshold, head for a
+ * station picked by the configured charging policy: the nearest one, or the one
+ * the {@link ChargingScheduler} predicts gets them charging soonest, with a slot
+ * reserved ahead of arrival. Robots down to a critical battery pre-empt the
+ * station queue under the scheduler. Events due at the same
+ * instant run in the order they were scheduled, so a seed always produces the
+ * same report.
+ *
+ * Run a shift from the command line with
+ * {@code mvn -Psimulation compile exec:exec -Dsim.args="robots=200 hours=8"};
+ * the runner lives in the simulation profile's own source root.
+ */
+public class FleetSimulator {
+
+    private static final double ESTIMATED_SPEED = 1.5; // meters per second, for charger choice only
+    private static final long BATTERY_SEED_SALT = 0x5DEECE66DL;
+    private static final long LAYOUT_SEED_SALT = 0xB5297A4DL;
+
+    private static final int TASK_ARRIVAL = 0;
+    private static final int REACHED_ORIGIN = 1;
+    private static final int DELIVERED = 2;
+    private static final int REACHED_CHARGER = 3;
+    private static final int CHARGED = 4;
+    private static final int SAMPLE = 5;
+
+    private static final Comparator<RobotTask> BACKLOG_ORDER =
+        Comparator.comparingInt((RobotTask task) -> -task.getPriority().getLevel())
+            .thenComparing(RobotTask::getCreatedAt)
+            .thenComparing(RobotTask::getTaskId);
+
+    private final SimulationConfig config;
+    private final PathPlanningService pathPlanning;
+
+    public FleetSimulator(SimulationConfig config) {
+        this(config, new GridPathPlanningService());
+    }
+
+    public FleetSimulator(SimulationConfig config, PathPlanningService pathPlanning) {
+        this.config = config;
+        this.pathPlanning = pathPlanning;
+    }
+
+    /**
+     * Simulate the configured shift
+     */
+    public SimulationReport run() {
+        return new Run().execute();
+    }
+
+    /**
+     * Mutable state of one simulated shift
+     */
+    private final class Run {
+        private final SimulationClock clock = new SimulationClock(config.start());
+        private final PriorityQueue<Event> agenda = new PriorityQueue<>();
+        private final TaskArrivalModel arrivals = new TaskArrivalModel(config, config.seed());
+        private final BatteryDrainModel battery = new BatteryDrainModel(config, config.seed() ^ BATTERY_SEED_SALT);
+        private final Set<RobotPosition> obstacles = new LinkedHashSet<>(config.obstacles());
+        private final Map<RobotCapability, PriorityQueue<RobotTask>> backlog = new EnumMap<>(RobotCapability.class);
+        private final Map<String, Integer> robotIndex = new HashMap<>();
+        private final Map<String, Integer> stationIndex = new HashMap<>();
+        private final ChargingScheduler scheduler =
+            new ChargingScheduler(ChargeRateModel.linear(config.chargePerMinute()), ESTIMATED_SPEED);
+        private final int robotCount = config.robots();
+
+        private Fleet fleet;
+        private Robot[] robots;
+        private ChargingStation[] stations;
+        private final RobotTask[] currentTask = new RobotTask[robotCount];
+        private final double[] energy = new double[robotCount];
+        private final double[] pendingMeters = new double[robotCount];
+        private final long[] idleSince = new long[robotCount];
+        private final long[] queuedAt = new long[robotCount];
+        private final long[] chargeStartedAt = new long[robotCount];
+        private final long[] chargeTripStartedAt = new long[robotCount];
+        private final int[] stationOf = new int[robotCount];
+
+        private long sequence;
+        private long events;
+        private long domainEvents;
+        private final DomainEventSink eventCounter = (aggregateId, event) -> domainEvents++;
+        private long tasksCreated;
+        private long tasksCompleted;
+        private int backlogSize;
+        private final LongSamples taskWaits = new LongSamples();
+        private final LongSamples cycleTimes = new LongSamples();
+        private final LongSamples chargerWaits = new LongSamples();
+        private final LongSamples chargingTrips = new LongSamples();
+        private long chargingDowntimeMillis;
+        private long samples;
+        private double utilizationSum;
+        private double chargingSum;
+        private double backlogSum;
+        private int backlogMax;
+        private double chargerQueueSum;
+        private int chargerQueueMax;
+
+        SimulationReport execute() {
+            long wallStart = System.nanoTime();
+            long endMillis = config.start().plus(config.duration()).toEpochMilli();
+            try (DomainClock.Scope scope = DomainClock.use(clock)) {
+                setUp();
+                while (!agenda.isEmpty() && agenda.peek().at <= endMillis) {
+                    Event event = agenda.poll();
+                    clock.advanceTo(event.at);
+                    events++;
+                    handle(event);
+                }
+            }
+            // Trips still under way at the end of the shift count up to the end
+            for (int robot = 0; robot < robotCount; robot++) {
+                if (chargeTripStartedAt[robot] >= 0) {
+                    chargingDowntimeMillis += endMillis - chargeTripStartedAt[robot];
+                }
+            }
+            Duration wallTime = Duration.ofNanos(System.nanoTime() - wallStart);
+            double hours = config.duration().toMillis() / 3_600_000.0;
+            double sampleCount = Math.max(1, samples);
+            return new SimulationReport(config.duration(), robotCount, tasksCreated, tasksCompleted,
+                tasksCompleted / hours, utilizationSum / sampleCount, chargingSum / sampleCount,
+                taskWaits.distribution(), cycleTimes.distribution(), backlogSum / sampleCount, backlogMax,
+                chargerQueueSum / sampleCount, chargerQueueMax, chargerWaits.distribution(),
+                chargingTrips.distribution(), chargingDowntimeMillis / 3_600_000.0, events, domainEvents, wallTime);
+        }
+
+        private void setUp() {
+            RobotSlotRegistry slotRegistry = new RobotSlotRegistry(robotCount);
+            fleet = Fleet.create("SIM-FLEET");
+            fleet.attachStateStore(new FleetStateStore(slotRegistry, robotCount));
+            fleet.attachEventSink(eventCounter);
+
+            TaskArrivalModel placement = new TaskArrivalModel(config, config.seed() ^ LAYOUT_SEED_SALT);
+            List<RobotCapability> capabilities = config.capabilities();
+            robots = new Robot[robotCount];
+            for (int i = 0; i < robotCount; i++) {
+                Robot robot = Robot.register(RobotId.of(String.format("SIM-ROBOT-%04d", i + 1)), "SIM-AMR",
+                    placement.clearPoint(), Set.of(capabilities.get(i % capabilities.size())));
+                robot.attachEventSink(eventCounter);
+                fleet.addRobot(robot);
+                robots[i] = robot;
+                robotIndex.put(robot.getRobotId().getValue(), i);
+                energy[i] = battery.startLevel();
+                syncBattery(i);
+                idleSince[i] = clock.millis();
+                stationOf[i] = -1;
+                chargeStartedAt[i] = -1;
+                chargeTripStartedAt[i] = -1;
+            }
+
+            stations = new ChargingStation[config.chargingStations()];
+            for (int s = 0; s < stations.length; s++) {
+                double x = config.floorWidth() * (s + 0.5) / stations.length;
+                stations[s] = ChargingStation.create(String.format("SIM-CHARGER-%02d", s + 1),
+                    RobotPosition.of(x, config.floorDepth() - 2.0, 90.0), config.chargersPerStation());
+                stationIndex.put(stations[s].getStationId(), s);
+            }
+            for (RobotCapability capability : capabilities) {
+                backlog.put(capability, new PriorityQueue<>(BACKLOG_ORDER));
+            }
+
+            schedule(clock.millis() + arrivals.nextGapMillis(), TASK_ARRIVAL, -1);
+            schedule(clock.millis(), SAMPLE, -1);
+        }
+
+        private void handle(Event event) {
+            switch (event.kind) {
+                case TASK_ARRIVAL -> onTaskArrival();
+                case REACHED_ORIGIN -> onReachedOrigin(event.robot);
+                case DELIVERED -> onDelivered(event.robot);
+                case REACHED_CHARGER -> onReachedCharger(event.robot);
+                case CHARGED -> onCharged(event.robot);
+                case SAMPLE -> onSample();
+                default -> throw new IllegalStateException("Unknown event kind " + event.kind);
+            }
+        }
+
+        private void onTaskArrival() {
+            RobotTask task = arrivals.nextTask();
+            tasksCreated++;
+            Optional<Robot> nearest = fleet.findNearestAvailableRobot(task.getOrigin(), task.getRequiredCapability());
+            if (nearest.isPresent()) {
+                assign(robotIndex.get(nearest.get().getRobotId().getValue()), task);
+            } else {
+                backlog.get(task.getRequiredCapability()).add(task);
+                backlogSize++;
+            }
+            schedule(clock.millis() + arrivals.nextGapMillis(), TASK_ARRIVAL, -1);
+        }
+
+        private void assign(int robot, RobotTask task) {
+            settleIdle(robot);
+            idleSince[robot] = -1;
+            task.assign(robots[robot].getRobotId().getValue());
+            robots[robot].assignTask(task);
+            currentTask[robot] = task;
+            taskWaits.add(clock.millis() - task.getCreatedAt().toEpochMilli());
+            drive(robot, task.getOrigin(), REACHED_ORIGIN, 0L);
+        }
+
+        private void onReachedOrigin(int robot) {
+            RobotTask task = currentTask[robot];
+            arrive(robot, task.getOrigin());
+            robots[robot].startTask();
+            task.start();
+            long handling = config.pickTime().toMillis() + config.dropTime().toMillis();
+            drive(robot, task.getDestination(), DELIVERED, handling);
+        }
+
+        private void onDelivered(int robot) {
+            RobotTask task = currentTask[robot];
+            arrive(robot, task.getDestination());
+            task.complete();
+            robots[robot].completeTask();
+            currentTask[robot] = null;
+            tasksCompleted++;
+            cycleTimes.add(clock.millis() - task.getCreatedAt().toEpochMilli());
+            becomeIdle(robot);
+        }
+
+        private void becomeIdle(int robot) {
+            idleSince[robot] = clock.millis();
+            if (energy[robot] <= config.chargeThreshold()) {
+                goCharge(robot);
+                return;
+            }
+            RobotTask next = takeBacklog(robots[robot]);
+            if (next != null) {
+                assign(robot, next);
+            }
+        }
+
+        private RobotTask takeBacklog(Robot robot) {
+            PriorityQueue<RobotTask> best = null;
+            for (RobotCapability capability : config.capabilities()) {
+                PriorityQueue<RobotTask> queue = backlog.get(capability);
+                if (!queue.isEmpty() && robot.hasRequiredCapability(capability)
+                        && (best == null || BACKLOG_ORDER.compare(queue.peek(), best.peek()) < 0)) {
+                    best = queue;
+                }
+            }
+            if (best == null) {
+                return null;
+            }
+            backlogSize--;
+            return best.poll();
+        }
+
+        private void goCharge(int robot) {
+            settleIdle(robot);
+            idleSince[robot] = -1;
+            chargeTripStartedAt[robot] = clock.millis();
+            String robotId = robots[robot].getRobotId().getValue();
+            RobotPosition from = robots[robot].getPosition();
+            int station;
+            if (config.chargingPolicy() == SimulationConfig.ChargingPolicy.SCHEDULED) {
+                boolean emergency = energy[robot] <= BatteryLevel.CRITICAL_THRESHOLD;
+                ChargingPlan plan = scheduler.plan(robotId, from, emergency, Arrays.asList(stations),
+                    this::batteryOf, clock.instant()).orElseThrow();
+                station = stationIndex.get(plan.stationId());
+                stations[station].reserve(robotId, plan.expectedArrival(), emergency);
+            } else {
+                station = nearestStation(from);
+            }
+            robots[robot].sendToCharging(stations[station].getStationId());
+            stationOf[robot] = station;
+            drive(robot, stations[station].getLocation(), REACHED_CHARGER, 0L);
+        }
+
+        private int nearestStation(RobotPosition from) {
+            int nearest = 0;
+            for (int s = 1; s < stations.length; s++) {
+                if (from.distanceTo(stations[s].getLocation()) < from.distanceTo(stations[nearest].getLocation())) {
+                    nearest = s;
+                }
+            }
+            return nearest;
+        }
+
+        /**
+         * Battery level of a robot as the scheduler sees it, counting charge taken on so far
+         */
+        private double batteryOf(String robotId) {
+            int robot = robotIndex.get(robotId);
+            if (chargeStartedAt[robot] < 0) {
+                return energy[robot];
+            }
+            double charged = (clock.millis() - chargeStartedAt[robot]) / 60_000.0 * config.chargePerMinute();
+            return Math.min(100.0, energy[robot] + charged);
+        }
+
+        private void onReachedCharger(int robot) {
+            ChargingStation station = stations[stationOf[robot]];
+            arrive(robot, station.getLocation());
+            String robotId = robots[robot].getRobotId().getValue();
+            station.addToQueue(robotId);
+            queuedAt[robot] = clock.millis();
+            if (station.isAvailable()) {
+                station.startCharging(robotId);
+                startCharge(robot);
+            }
+        }
+
+        private void startCharge(int robot) {
+            chargerWaits.add(clock.millis() - queuedAt[robot]);
+            chargeStartedAt[robot] = clock.millis();
+            schedule(clock.millis() + battery.chargeMillis(energy[robot]), CHARGED, robot);
+        }
+
+        private void onCharged(int robot) {
+            ChargingStation station = stations[stationOf[robot]];
+            List<String> queued = station.getQueuedRobots();
+            String next = queued.isEmpty() ? null : queued.get(0);
+            // Releasing hands the charger to the head of the queue
+            station.releaseRobot(robots[robot].getRobotId().getValue());
+            if (next != null && station.isRobotCharging(next)) {
+                startCharge(robotIndex.get(next));
+            }
+            stationOf[robot] = -1;
+            chargeStartedAt[robot] = -1;
+            chargingTrips.add(clock.millis() - chargeTripStartedAt[robot]);
+            chargingDowntimeMillis += clock.millis() - chargeTripStartedAt[robot];
+            chargeTripStartedAt[robot] = -1;
+            energy[robot] = 100.0;
+            robots[robot].completeCharging();
+            becomeIdle(robot);
+        }
+
+        private void onSample() {
+            fleet.recalculateMetrics();
+            utilizationSum += fleet.getUtilizationRate();
+            chargingSum += (double) fleet.getRobotsByStatus(RobotStatus.CHARGING).size() / robotCount;
+            int chargerQueue = 0;
+            for (ChargingStation station : stations) {
+                chargerQueue += station.getQueueLength();
+            }
+            chargerQueueSum += chargerQueue;
+            chargerQueueMax = Math.max(chargerQueueMax, chargerQueue);
+            backlogSum += backlogSize;
+            backlogMax = Math.max(backlogMax, backlogSize);
+            samples++;
+
+            // Robots left standing by drain slowly too
+            for (int robot = 0; robot < robotCount; robot++) {
+                if (idleSince[robot] >= 0) {
+                    settleIdle(robot);
+                    if (energy[robot] <= config.chargeThreshold()) {
+                        goCharge(robot);
+                    }
+                }
+            }
+            schedule(clock.millis() + config.sampleInterval().toMillis(), SAMPLE, -1);
+        }
+
+        /**
+         * Plan a leg, remember its distance for the battery and schedule the arrival
+         */
+        private void drive(int robot, RobotPosition destination, int arrivalKind, long extraMillis) {
+            PathPlan path = pathPlanning.calculatePath(robots[robot].getPosition(), destination, obstacles,
+                config.trafficZones());
+            pendingMeters[robot] = path.getTotalDistance();
+            long travelMillis = Math.round(path.getEstimatedTimeSeconds() * 1000.0);
+            schedule(clock.millis() + travelMillis + extraMillis, arrivalKind, robot);
+        }
+
+        private void arrive(int robot, RobotPosition position) {
+            robots[robot].updatePosition(position);
+            energy[robot] -= battery.travel(pendingMeters[robot]);
+            pendingMeters[robot] = 0.0;
+            syncBattery(robot);
+        }
+
+        private void settleIdle(int robot) {
+            if (idleSince[robot] < 0) {
+                return;
+            }
+            energy[robot] -= battery.idle(clock.millis() - idleSince[robot]);
+            idleSince[robot] = clock.millis();
+            syncBattery(robot);
+        }
+
+        private void syncBattery(int robot) {
+            int percentage = (int) Math.max(0.0, Math.min(100.0, Math.floor(energy[robot])));
+            if (percentage != robots[robot].getBatteryLevel().getPercentage()) {
+                robots[robot].updateBatteryLevel(percentage);
+            }
+        }
+
+        private void schedule(long at, int kind, int robot) {
+            agenda.add(new Event(at, sequence++, kind, robot));
+        }
+    }
+
+    /**
+     * Something due to happen at a simulated instant
+     */
+    private static final class Event implements Comparable<Event> {
+        private final long at;
+        private final long sequence;
+        private final int kind;
+        private final int robot;
+
+        private Event(long at, long sequence, int kind, int robot) {
+            this.at = at;
+            this.sequence = sequence;
+            this.kind = kind;
+            this.robot = robot;
+        }
+
+        @Override
+        public int compareTo(Event other) {
+            int byTime = Long.compare(at, other.at);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * Growable array of durations in milliseconds
+     */
+    private static final class LongSamples {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        SimulationReport.Distribution distribution() {
+            return SimulationReport.Distribution.ofMillis(values, size);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.paklog.robotics.fleet.management.application.simulation;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Simulation Clock
+ * Clock that only moves when the simulator advances it to the next event.
+ */
+public class SimulationClock extends Clock {
+
+    private long millis;
+
+    public SimulationClock(Instant start) {
+        this.millis = start.toEpochMilli();
+    }
+
+    /**
+     * Move the clock forward to the given time
+     */
+    public void advanceTo(long epochMillis) {
+        if (epochMillis < millis) {
+            throw new IllegalArgumentException("Simulation time cannot go backwards");
+        }
+        this.millis = epochMillis;
+    }
+
+    @Override
+    public long millis() {
+        return millis;
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        throw new UnsupportedOperationException("Simulation time is always UTC");
+    }
+}
@@ -0,0 +1,137 @@
+package com.paklog.robotics.fleet.management.application.simulation;
+
+import com.paklog.robotics.fleet.management.domain.valueobject.BatteryLevel;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.TrafficZone;
+import com.paklog.robotics.fleet.management.domain.valueobject.TrafficZoneType;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Simulation Config
+ * Floor layout, fleet size, workload and battery parameters of one simulated shift.
+ * Battery figures are percentage points; speeds and distances are metres.
+ */
+public record SimulationConfig(
+    long seed,
+    Instant start,
+    Duration duration,
+    int robots,
+    List<RobotCapability> capabilities,
+    double floorWidth,
+    double floorDepth,
+    List<RobotPosition> obstacles,
+    List<TrafficZone> trafficZones,
+    int chargingStations,
+    int chargersPerStation,
+    double tasksPerHour,
+    Duration pickTime,
+    Duration dropTime,
+    double drainPerMeter,
+    double drainPerIdleHour,
+    double chargePerMinute,
+    int chargeThreshold,
+    ChargingPolicy chargingPolicy,
+    Duration sampleInterval
+) {
+
+    /**
+     * How robots pick a charging station
+     */
+    public enum ChargingPolicy {
+        /** Drive to the closest station, whatever its queue */
+        NEAREST,
+        /** Least travel plus predicted wait, reserving a slot ahead of arrival */
+        SCHEDULED
+    }
+
+    public SimulationConfig {
+        if (robots <= 0 || chargingStations <= 0 || chargersPerStation <= 0) {
+            throw new IllegalArgumentException("Robots, stations and chargers must be positive");
+        }
+        if (capabilities.isEmpty() || tasksPerHour <= 0 || chargePerMinute <= 0 || chargingPolicy == null) {
+            throw new IllegalArgumentException("Capabilities, task rate, charge rate and charging policy are required");
+        }
+        if (chargeThreshold <= BatteryLevel.LOW_THRESHOLD) {
+            throw new IllegalArgumentException("Robots at low battery cannot take tasks; charge threshold must be above "
+                + BatteryLevel.LOW_THRESHOLD);
+        }
+        capabilities = List.copyOf(capabilities);
+        obstacles = List.copyOf(obstacles);
+        trafficZones = List.copyOf(trafficZones);
+    }
+
+    /**
+     * A 120 x 80 m floor of rack rows split by a cross aisle, a slow dock strip
+     * along the front and the chargers along the back wall, worked by 100 robots
+     */
+    public static SimulationConfig defaults() {
+        List<RobotPosition> racks = new ArrayList<>();
+        for (int row = 0; row < 6; row++) {
+            double y = 15.0 + row * 10.0;
+            for (int x = 20; x <= 100; x++) {
+                if (x < 56 || x > 64) {
+                    racks.add(RobotPosition.of(x, y, 0.0));
+                }
+            }
+        }
+        List<TrafficZone> zones = List.of(
+            TrafficZone.of("DOCK", 0.0, 0.0, 120.0, 6.0, 20, 0.6, TrafficZoneType.STAGING_AREA),
+            TrafficZone.of("CHARGERS", 0.0, 74.0, 120.0, 80.0, 30, 0.8, TrafficZoneType.CHARGING_AREA));
+        return new SimulationConfig(
+            42L,
+            Instant.parse("2026-01-05T06:00:00Z"),
+            Duration.ofHours(8),
+            100,
+            List.of(RobotCapability.PICKER, RobotCapability.TRANSPORTER, RobotCapability.SORTER),
+            120.0,
+            80.0,
+            racks,
+            zones,
+            5,
+            5,
+            2_400.0,
+            Duration.ofSeconds(10),
+            Duration.ofSeconds(5),
+            0.01,
+            2.0,
+            2.5,
+            35,
+            ChargingPolicy.SCHEDULED,
+            Duration.ofSeconds(10));
+    }
+
+    public SimulationConfig withSeed(long seed) {
+        return new SimulationConfig(seed, start, duration, robots, capabilities, floorWidth, floorDepth, obstacles,
+            trafficZones, chargingStations, chargersPerStation, tasksPerHour, pickTime, dropTime, drainPerMeter,
+            drainPerIdleHour, chargePerMinute, chargeThreshold, chargingPolicy, sampleInterval);
+    }
+
+    public SimulationConfig withDuration(Duration duration) {
+        return new SimulationConfig(seed, start, duration, robots, capabilities, floorWidth, floorDepth, obstacles,
+            trafficZones, chargingStations, chargersPerStation, tasksPerHour, pickTime, dropTime, drainPerMeter,
+            drainPerIdleHour, chargePerMinute, chargeThreshold, chargingPolicy, sampleInterval);
+    }
+
+    public SimulationConfig withFleet(int robots, int chargingStations, int chargersPerStation) {
+        return new SimulationConfig(seed, start, duration, robots, capabilities, floorWidth, floorDepth, obstacles,
+            trafficZones, chargingStations, chargersPerStation, tasksPerHour, pickTime, dropTime, drainPerMeter,
+            drainPerIdleHour, chargePerMinute, chargeThreshold, chargingPolicy, sampleInterval);
+    }
+
+    public SimulationConfig withTasksPerHour(double tasksPerHour) {
+        return new SimulationConfig(seed, start, duration, robots, capabilities, floorWidth, floorDepth, obstacles,
+            trafficZones, chargingStations, chargersPerStation, tasksPerHour, pickTime, dropTime, drainPerMeter,
+            drainPerIdleHour, chargePerMinute, chargeThreshold, chargingPolicy, sampleInterval);
+    }
+
+    public SimulationConfig withChargingPolicy(ChargingPolicy chargingPolicy) {
+        return new SimulationConfig(seed, start, duration, robots, capabilities, floorWidth, floorDepth, obstacles,
+            trafficZones, chargingStations, chargersPerStation, tasksPerHour, pickTime, dropTime, drainPerMeter,
+            drainPerIdleHour, chargePerMinute, chargeThreshold, chargingPolicy, sampleInterval);
+    }
+}
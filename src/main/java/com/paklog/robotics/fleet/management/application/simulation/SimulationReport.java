@@ -0,0 +1,94 @@
+package com.paklog.robotics.fleet.management.application.simulation;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Simulation Report
+ * Outcome of one simulated shift. Everything except the wall time and speedup
+ * is a function of the config and seed alone.
+ */
+public record SimulationReport(
+    Duration simulated,
+    int robots,
+    long tasksCreated,
+    long tasksCompleted,
+    double throughputPerHour,
+    double utilization,
+    double chargingShare,
+    Distribution taskWaitSeconds,
+    Distribution cycleSeconds,
+    double meanBacklog,
+    int maxBacklog,
+    double meanChargerQueue,
+    int maxChargerQueue,
+    Distribution chargerWaitSeconds,
+    Distribution chargingTripSeconds,
+    double chargingDowntimeHours,
+    long events,
+    long domainEvents,
+    Duration wallTime
+) {
+
+    /**
+     * How many times faster than real time the shift was simulated
+     */
+    public double speedup() {
+        return wallTime.isZero() ? Double.POSITIVE_INFINITY : (double) simulated.toNanos() / wallTime.toNanos();
+    }
+
+    /**
+     * Human readable summary, one metric per line
+     */
+    public String format() {
+        return String.format("""
+                Simulated %s with %d robots in %d ms (%.0fx real time)
+                  tasks          %d created, %d completed, %.1f per hour
+                  utilization    %.1f%% executing, %.1f%% charging
+                  task wait      %s
+                  cycle time     %s
+                  backlog        mean %.1f, max %d tasks
+                  charger queue  mean %.2f, max %d robots
+                  charger wait   %s
+                  charging trip  %s
+                  downtime       %.1f robot-hours charging or on the way
+                  events         %d simulation, %d domain
+                """,
+            simulated, robots, wallTime.toMillis(), speedup(),
+            tasksCreated, tasksCompleted, throughputPerHour,
+            utilization * 100.0, chargingShare * 100.0,
+            taskWaitSeconds, cycleSeconds,
+            meanBacklog, maxBacklog,
+            meanChargerQueue, maxChargerQueue,
+            chargerWaitSeconds,
+            chargingTripSeconds,
+            chargingDowntimeHours,
+            events, domainEvents);
+    }
+
+    /**
+     * Percentiles of a set of durations, in seconds
+     */
+    public record Distribution(long count, double p50, double p95, double max) {
+
+        static Distribution ofMillis(long[] millis, int count) {
+            if (count == 0) {
+                return new Distribution(0, 0.0, 0.0, 0.0);
+            }
+            long[] sorted = Arrays.copyOf(millis, count);
+            Arrays.sort(sorted);
+            return new Distribution(count, percentile(sorted, 0.50), percentile(sorted, 0.95),
+                sorted[count - 1] / 1000.0);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("p50 %.1f s, p95 %.1f s, max %.1f s (n=%d)", p50, p95, max, count);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.paklog.robotics.fleet.management.application.simulation;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskPriority;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Task Arrival Model
+ * Seeded Poisson arrivals of tasks between random clear points on the floor.
+ * Priorities are mostly NORMAL with a tail of HIGH and URGENT work.
+ */
+public class TaskArrivalModel {
+
+    private static final double[] PRIORITY_SHARES = {0.20, 0.60, 0.15, 0.05};
+    private static final double OBSTACLE_GAP = 1.5;
+
+    private final Random random;
+    private final double meanGapMillis;
+    private final SimulationConfig config;
+    private long sequence;
+
+    public TaskArrivalModel(SimulationConfig config, long seed) {
+        this.random = new Random(seed);
+        this.meanGapMillis = 3_600_000.0 / config.tasksPerHour();
+        this.config = config;
+    }
+
+    /**
+     * Time until the next task arrives, exponentially distributed
+     */
+    public long nextGapMillis() {
+        return Math.max(1L, Math.round(-Math.log(1.0 - random.nextDouble()) * meanGapMillis));
+    }
+
+    /**
+     * Create the next task, stamped with the current domain time
+     */
+    public RobotTask nextTask() {
+        List<RobotCapability> capabilities = config.capabilities();
+        RobotCapability capability = capabilities.get(random.nextInt(capabilities.size()));
+        RobotPosition origin = clearPoint();
+        RobotPosition destination = clearPoint();
+        return RobotTask.create(String.format("SIM-TASK-%07d", ++sequence), taskTypeFor(capability),
+            nextPriority(), origin, destination, capability, Map.of());
+    }
+
+    /**
+     * A random point at least a robot's width away from every obstacle
+     */
+    public RobotPosition clearPoint() {
+        while (true) {
+            double x = 1.0 + random.nextDouble() * (config.floorWidth() - 2.0);
+            double y = 1.0 + random.nextDouble() * (config.floorDepth() - 2.0);
+            RobotPosition candidate = RobotPosition.of(x, y, random.nextInt(360));
+            boolean clear = true;
+            for (RobotPosition obstacle : config.obstacles()) {
+                if (obstacle.isTooCloseTo(candidate, OBSTACLE_GAP)) {
+                    clear = false;
+                    break;
+                }
+            }
+            if (clear) {
+                return candidate;
+            }
+        }
+    }
+
+    private TaskPriority nextPriority() {
+        double draw = random.nextDouble();
+        TaskPriority[] priorities = TaskPriority.values();
+        for (int i = 0; i < priorities.length - 1; i++) {
+            draw -= PRIORITY_SHARES[i];
+            if (draw < 0.0) {
+                return priorities[i];
+            }
+        }
+        return priorities[priorities.length - 1];
+    }
+
+    private static TaskType taskTypeFor(RobotCapability capability) {
+        return switch (capability) {
+            case PICKER -> TaskType.PICK;
+            case TRANSPORTER, LIFTER -> TaskType.TRANSPORT;
+            case SORTER -> TaskType.SORT;
+            default -> TaskType.MOVE;
+        };
+    }
+}
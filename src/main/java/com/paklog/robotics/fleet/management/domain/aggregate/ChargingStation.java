@@ -1,13 +1,21 @@
 package com.paklog.robotics.fleet.management.domain.aggregate;
 
+import com.paklog.robotics.fleet.management.domain.entity.ChargingQueue;
+import com.paklog.robotics.fleet.management.domain.state.ChargingStationIndex;
+import com.paklog.robotics.fleet.management.domain.time.DomainClock;
 import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * ChargingStation Aggregate
- * Manages charging station capacity and robot queue
+ * Manages charging station capacity and robot queue.
+ * Robots queued for emergency charging are served before the regular queue, and
+ * slots can be reserved for robots still on their way. Reservations and the
+ * emergency flag are not persisted; restored robots rejoin the regular queue.
  */
 public class ChargingStation {
 
@@ -15,15 +23,20 @@ public class ChargingStation {
     private RobotPosition location;
     private int capacity;
     private int availableSlots;
-    private Queue<String> queuedRobots;
+    private ChargingQueue queuedRobots;
+    private ChargingQueue emergencyRobots;
+    private Map<String, Reservation> reservations; // robotId -> expected arrival
     private Map<String, Instant> chargingRobots; // robotId -> charging started time
     private Instant createdAt;
     private Instant updatedAt;
+    private ChargingStationIndex index;
 
     private static final int DEFAULT_CHARGING_TIME_MINUTES = 30;
 
     private ChargingStation() {
-        this.queuedRobots = new LinkedList<>();
+        this.queuedRobots = new ChargingQueue();
+        this.emergencyRobots = new ChargingQueue();
+        this.reservations = new HashMap<>();
         this.chargingRobots = new HashMap<>();
     }
 
@@ -40,21 +53,78 @@ public class ChargingStation {
         station.location = location;
         station.capacity = capacity;
         station.availableSlots = capacity;
-        station.createdAt = Instant.now();
-        station.updatedAt = Instant.now();
+        station.createdAt = DomainClock.now();
+        station.updatedAt = DomainClock.now();
         return station;
     }
 
     /**
-     * Add robot to charging queue
+     * Rebuild a station from persisted state
+     */
+    public static ChargingStation restore(String stationId, RobotPosition location, int capacity,
+                                          List<String> queuedRobots, Map<String, Instant> chargingRobots,
+                                          Instant createdAt, Instant updatedAt) {
+        ChargingStation station = new ChargingStation();
+        station.stationId = stationId;
+        station.location = location;
+        station.capacity = capacity;
+        queuedRobots.forEach(station.queuedRobots::offer);
+        station.chargingRobots.putAll(chargingRobots);
+        station.availableSlots = capacity - chargingRobots.size();
+        station.createdAt = createdAt;
+        station.updatedAt = updatedAt;
+        return station;
+    }
+
+    /**
+     * Add robot to charging queue, taking up its reservation if it holds one
      */
     public void addToQueue(String robotId) {
-        if (chargingRobots.containsKey(robotId) || queuedRobots.contains(robotId)) {
+        Reservation reservation = reservations.get(robotId);
+        addToQueue(robotId, reservation != null && reservation.emergency());
+    }
+
+    /**
+     * Add robot to charging queue
+     * @param emergency Queue ahead of every robot not charging in an emergency
+     */
+    public void addToQueue(String robotId, boolean emergency) {
+        if (chargingRobots.containsKey(robotId) || isQueued(robotId)) {
+            throw new IllegalStateException("Robot is already in queue or charging");
+        }
+
+        (emergency ? emergencyRobots : queuedRobots).offer(robotId);
+        reservations.remove(robotId);
+        this.updatedAt = DomainClock.now();
+        syncIndex();
+    }
+
+    /**
+     * Hold a place for a robot that is on its way, replacing any earlier reservation
+     * @param expectedArrival When the robot should reach the station
+     * @param emergency Whether the robot will queue for emergency charging
+     */
+    public void reserve(String robotId, Instant expectedArrival, boolean emergency) {
+        if (chargingRobots.containsKey(robotId) || isQueued(robotId)) {
             throw new IllegalStateException("Robot is already in queue or charging");
         }
 
-        queuedRobots.offer(robotId);
-        this.updatedAt = Instant.now();
+        reservations.put(robotId, new Reservation(expectedArrival, emergency));
+        this.updatedAt = DomainClock.now();
+        syncIndex();
+    }
+
+    /**
+     * Drop the reservation of a robot that will not come
+     * @return true if the robot held a reservation
+     */
+    public boolean cancelReservation(String robotId) {
+        if (reservations.remove(robotId) == null) {
+            return false;
+        }
+        this.updatedAt = DomainClock.now();
+        syncIndex();
+        return true;
     }
 
     /**
@@ -65,14 +135,17 @@ public class ChargingStation {
             throw new IllegalStateException("No available charging slots");
         }
 
-        if (!queuedRobots.contains(robotId) && !chargingRobots.containsKey(robotId)) {
+        if (!isQueued(robotId) && !chargingRobots.containsKey(robotId)) {
             throw new IllegalStateException("Robot is not in queue");
         }
 
-        queuedRobots.remove(robotId);
-        chargingRobots.put(robotId, Instant.now());
+        if (!emergencyRobots.remove(robotId)) {
+            queuedRobots.remove(robotId);
+        }
+        chargingRobots.put(robotId, DomainClock.now());
         availableSlots--;
-        this.updatedAt = Instant.now();
+        this.updatedAt = DomainClock.now();
+        syncIndex();
     }
 
     /**
@@ -85,15 +158,53 @@ public class ChargingStation {
 
         chargingRobots.remove(robotId);
         availableSlots++;
-        this.updatedAt = Instant.now();
+        this.updatedAt = DomainClock.now();
 
-        // Start charging next robot in queue if available
-        if (!queuedRobots.isEmpty() && availableSlots > 0) {
-            String nextRobotId = queuedRobots.peek();
+        // Start charging next robot in queue if available, emergencies first
+        String nextRobotId = emergencyRobots.isEmpty() ? queuedRobots.peek() : emergencyRobots.peek();
+        if (nextRobotId != null && availableSlots > 0) {
             startCharging(nextRobotId);
+        } else {
+            syncIndex();
         }
     }
 
+    /**
+     * Remove a robot from the station whether it is charging, queued or expected
+     * @return true if the robot was at this station
+     */
+    public boolean evict(String robotId) {
+        if (chargingRobots.containsKey(robotId)) {
+            releaseRobot(robotId);
+            return true;
+        }
+        if (emergencyRobots.remove(robotId) || queuedRobots.remove(robotId)
+                || reservations.remove(robotId) != null) {
+            this.updatedAt = DomainClock.now();
+            syncIndex();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Check if a robot is charging, queued or holds a reservation at this station
+     */
+    public boolean holds(String robotId) {
+        return chargingRobots.containsKey(robotId) || isQueued(robotId) || reservations.containsKey(robotId);
+    }
+
+    private boolean isQueued(String robotId) {
+        return emergencyRobots.contains(robotId) || queuedRobots.contains(robotId);
+    }
+
+    /**
+     * Check if a robot holds a reservation at this station
+     */
+    public boolean isReserved(String robotId) {
+        return reservations.containsKey(robotId);
+    }
+
     /**
      * Check if station has available slots
      */
@@ -109,9 +220,12 @@ public class ChargingStation {
             return 0; // Currently charging
         }
 
-        List<String> queueList = new ArrayList<>(queuedRobots);
-        int position = queueList.indexOf(robotId);
-        return position >= 0 ? position + 1 : -1;
+        int emergencyPosition = emergencyRobots.position(robotId);
+        if (emergencyPosition > 0) {
+            return emergencyPosition;
+        }
+        int position = queuedRobots.position(robotId);
+        return position < 0 ? -1 : emergencyRobots.size() + position;
     }
 
     /**
@@ -125,7 +239,7 @@ public class ChargingStation {
      * Get queue length
      */
     public int getQueueLength() {
-        return queuedRobots.size();
+        return emergencyRobots.size() + queuedRobots.size();
     }
 
     /**
@@ -141,6 +255,63 @@ public class ChargingStation {
         return (position - 1) * (DEFAULT_CHARGING_TIME_MINUTES / capacity);
     }
 
+    /**
+     * Predict how long a robot arriving at the given time would wait for a charger.
+     *
+     * Replays the station forward: charging robots free their slot once charged,
+     * then robots take the earliest free slot in service order - the emergency
+     * queue, reservations due by the arrival, then the regular queue. A robot
+     * arriving in an emergency only waits behind charging robots and other
+     * emergencies.
+     *
+     * @param robotId Robot asking, left out if it already holds a reservation here
+     * @param arrival When the robot would reach the station
+     * @param emergency Whether the robot would queue for emergency charging
+     * @param timeToFull Remaining charging time of each robot at the station
+     */
+    public Duration estimateWaitTime(String robotId, Instant arrival, boolean emergency,
+                                     Function<String, Duration> timeToFull) {
+        Instant now = DomainClock.now();
+        PriorityQueue<Instant> freeAt = new PriorityQueue<>(capacity);
+        for (String chargingRobotId : chargingRobots.keySet()) {
+            freeAt.add(now.plus(timeToFull.apply(chargingRobotId)));
+        }
+        while (freeAt.size() < capacity) {
+            freeAt.add(now);
+        }
+
+        for (String queuedRobotId : emergencyRobots) {
+            occupy(freeAt, now, timeToFull.apply(queuedRobotId));
+        }
+        List<Map.Entry<String, Reservation>> due = new ArrayList<>();
+        for (Map.Entry<String, Reservation> entry : reservations.entrySet()) {
+            Reservation reservation = entry.getValue();
+            if (!entry.getKey().equals(robotId) && !reservation.expectedArrival().isAfter(arrival)
+                    && (reservation.emergency() || !emergency)) {
+                due.add(entry);
+            }
+        }
+        due.sort(Comparator.comparing((Map.Entry<String, Reservation> entry) -> !entry.getValue().emergency())
+            .thenComparing(entry -> entry.getValue().expectedArrival()));
+        for (Map.Entry<String, Reservation> entry : due) {
+            occupy(freeAt, entry.getValue().expectedArrival(), timeToFull.apply(entry.getKey()));
+        }
+        if (!emergency) {
+            for (String queuedRobotId : queuedRobots) {
+                occupy(freeAt, now, timeToFull.apply(queuedRobotId));
+            }
+        }
+
+        Instant firstFree = freeAt.peek();
+        return firstFree.isAfter(arrival) ? Duration.between(arrival, firstFree) : Duration.ZERO;
+    }
+
+    private static void occupy(PriorityQueue<Instant> freeAt, Instant ready, Duration chargingTime) {
+        Instant free = freeAt.poll();
+        Instant start = free.isAfter(ready) ? free : ready;
+        freeAt.add(start.plus(chargingTime));
+    }
+
     /**
      * Get robots currently charging
      */
@@ -148,6 +319,31 @@ public class ChargingStation {
         return new HashSet<>(chargingRobots.keySet());
     }
 
+    /**
+     * Get robots waiting for a slot, in queue order
+     */
+    public List<String> getQueuedRobots() {
+        List<String> robotIds = emergencyRobots.toList();
+        robotIds.addAll(queuedRobots.toList());
+        return robotIds;
+    }
+
+    /**
+     * Get expected arrival time of each robot holding a reservation
+     */
+    public Map<String, Instant> getReservations() {
+        Map<String, Instant> arrivals = new HashMap<>();
+        reservations.forEach((robotId, reservation) -> arrivals.put(robotId, reservation.expectedArrival()));
+        return arrivals;
+    }
+
+    /**
+     * Get charging start time of each robot currently charging
+     */
+    public Map<String, Instant> getChargingStartTimes() {
+        return new HashMap<>(chargingRobots);
+    }
+
     /**
      * Check if robot is charging
      */
@@ -164,7 +360,42 @@ public class ChargingStation {
             return 0;
         }
 
-        long seconds = Instant.now().getEpochSecond() - startTime.getEpochSecond();
+        long seconds = DomainClock.now().getEpochSecond() - startTime.getEpochSecond();
         return seconds / 60;
     }
+
+    /**
+     * Register the station in the index and keep its free chargers and queue in sync from now on
+     */
+    public void attachIndex(ChargingStationIndex stationIndex) {
+        if (stationIndex == index) {
+            return;
+        }
+        stationIndex.register(stationId, location.getX(), location.getY());
+        this.index = stationIndex;
+        syncIndex();
+    }
+
+    /**
+     * Stop updating the index, leaving the station's entry to whichever copy replaced it
+     */
+    public void detachIndex() {
+        this.index = null;
+    }
+
+    private void syncIndex() {
+        if (index != null) {
+            index.update(stationId, availableSlots, getQueueLength() + reservations.size());
+        }
+    }
+
+    // Getters
+    public String getStationId() { return stationId; }
+    public RobotPosition getLocation() { return location; }
+    public int getCapacity() { return capacity; }
+    public int getAvailableSlots() { return availableSlots; }
+    public Instant getCreatedAt() { return createdAt; }
+    public Instant getUpdatedAt() { return updatedAt; }
+
+    private record Reservation(Instant expectedArrival, boolean emergency) {}
 }
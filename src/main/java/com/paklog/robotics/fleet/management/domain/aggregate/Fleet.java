@@ -1,6 +1,9 @@
 package com.paklog.robotics.fleet.management.domain.aggregate;
 
+import com.paklog.robotics.fleet.management.domain.event.DomainEventSink;
 import com.paklog.robotics.fleet.management.domain.event.FleetRebalancedEvent;
+import com.paklog.robotics.fleet.management.domain.state.FleetStateStore;
+import com.paklog.robotics.fleet.management.domain.time.DomainClock;
 import com.paklog.robotics.fleet.management.domain.valueobject.*;
 
 import java.time.Instant;
@@ -25,7 +28,13 @@ public class Fleet {
     private static final double TARGET_UTILIZATION = 0.85;
     private static final int REBALANCE_THRESHOLD = 20; // 20% imbalance
 
-    private final List<Object> domainEvents = new ArrayList<>();
+    // Domain events go straight to the sink once attached, and are buffered until then
+    private List<Object> domainEvents;
+    private DomainEventSink eventSink;
+
+    // When attached, scans run over the columnar store restricted to these slots
+    private FleetStateStore stateStore;
+    private final BitSet memberSlots = new BitSet();
 
     private Fleet() {
         this.robots = new HashMap<>();
@@ -37,8 +46,26 @@ public class Fleet {
     public static Fleet create(String fleetId) {
         Fleet fleet = new Fleet();
         fleet.fleetId = fleetId;
-        fleet.createdAt = Instant.now();
-        fleet.updatedAt = Instant.now();
+        Instant now = DomainClock.now();
+        fleet.createdAt = now;
+        fleet.updatedAt = now;
+        return fleet;
+    }
+
+    /**
+     * Rebuild a fleet from persisted state around already restored robots
+     */
+    public static Fleet restore(String fleetId, Collection<Robot> members, Instant lastRebalanceAt,
+                                Instant createdAt, Instant updatedAt) {
+        Fleet fleet = new Fleet();
+        fleet.fleetId = fleetId;
+        for (Robot robot : members) {
+            fleet.robots.put(robot.getRobotId().getValue(), robot);
+        }
+        fleet.recalculateMetrics();
+        fleet.lastRebalanceAt = lastRebalanceAt;
+        fleet.createdAt = createdAt;
+        fleet.updatedAt = updatedAt;
         return fleet;
     }
 
@@ -47,6 +74,10 @@ public class Fleet {
      */
     public void addRobot(Robot robot) {
         robots.put(robot.getRobotId().getValue(), robot);
+        if (stateStore != null) {
+            robot.attachStateStore(stateStore);
+            memberSlots.set(robot.getStateSlot());
+        }
         recalculateMetrics();
     }
 
@@ -54,7 +85,10 @@ public class Fleet {
      * Remove robot from fleet
      */
     public void removeRobot(String robotId) {
-        robots.remove(robotId);
+        Robot removed = robots.remove(robotId);
+        if (removed != null && removed.getStateSlot() != FleetStateStore.NO_SLOT) {
+            memberSlots.clear(removed.getStateSlot());
+        }
         recalculateMetrics();
     }
 
@@ -72,6 +106,13 @@ public class Fleet {
      * Find nearest available robot to target position
      */
     public Optional<Robot> findNearestAvailableRobot(RobotPosition target, RobotCapability capability) {
+        if (stateStore != null) {
+            long required = FleetStateStore.AVAILABLE_BIT | FleetStateStore.capabilityBit(capability);
+            int slot = stateStore.findNearest(target.getX(), target.getY(), required, memberSlots);
+            return slot == FleetStateStore.NO_SLOT
+                ? Optional.empty()
+                : Optional.ofNullable(robots.get(stateStore.robotIdAt(slot)));
+        }
         return getAvailableRobots(capability).stream()
             .min(Comparator.comparingDouble(robot -> robot.distanceTo(target)));
     }
@@ -88,18 +129,25 @@ public class Fleet {
             return;
         }
 
-        long idleCount = robots.values().stream()
-            .filter(robot -> robot.getStatus() == RobotStatus.IDLE)
-            .count();
-
-        long executingCount = robots.values().stream()
-            .filter(robot -> robot.getStatus() == RobotStatus.EXECUTING)
-            .count();
+        long idleCount;
+        long executingCount;
+        if (stateStore != null) {
+            int[] byStatus = stateStore.countByStatus(memberSlots);
+            idleCount = byStatus[RobotStatus.IDLE.ordinal()];
+            executingCount = byStatus[RobotStatus.EXECUTING.ordinal()];
+        } else {
+            idleCount = robots.values().stream()
+                .filter(robot -> robot.getStatus() == RobotStatus.IDLE)
+                .count();
+            executingCount = robots.values().stream()
+                .filter(robot -> robot.getStatus() == RobotStatus.EXECUTING)
+                .count();
+        }
 
         this.idleRobotCount = (int) idleCount;
         this.activeTaskCount = (int) executingCount;
         this.utilizationRate = (double) executingCount / totalRobots;
-        this.updatedAt = Instant.now();
+        this.updatedAt = DomainClock.now();
     }
 
     /**
@@ -137,14 +185,15 @@ public class Fleet {
             return;
         }
 
-        this.lastRebalanceAt = Instant.now();
-        this.updatedAt = Instant.now();
+        Instant now = DomainClock.now();
+        this.lastRebalanceAt = now;
+        this.updatedAt = now;
 
         addDomainEvent(new FleetRebalancedEvent(
             fleetId,
             robots.size(),
             utilizationRate,
-            Instant.now()
+            now
         ));
     }
 
@@ -183,13 +232,47 @@ public class Fleet {
         return Math.abs(utilizationRate - TARGET_UTILIZATION) < 0.15; // Within 15%
     }
 
+    /**
+     * Answer fleet-wide scans from the columnar state store
+     */
+    public void attachStateStore(FleetStateStore store) {
+        this.stateStore = store;
+        memberSlots.clear();
+        for (Robot robot : robots.values()) {
+            robot.attachStateStore(store);
+            memberSlots.set(robot.getStateSlot());
+        }
+    }
+
     private void addDomainEvent(Object event) {
-        this.domainEvents.add(event);
+        if (eventSink != null) {
+            eventSink.publish(fleetId, event);
+            return;
+        }
+        if (domainEvents == null) {
+            domainEvents = new ArrayList<>();
+        }
+        domainEvents.add(event);
+    }
+
+    /**
+     * Publish future events directly to the sink, flushing any buffered ones first
+     */
+    public void attachEventSink(DomainEventSink sink) {
+        this.eventSink = sink;
+        List<Object> pending = domainEvents;
+        domainEvents = null;
+        if (pending != null && sink != null) {
+            pending.forEach(event -> sink.publish(fleetId, event));
+        }
     }
 
     public List<Object> getDomainEvents() {
-        List<Object> events = new ArrayList<>(domainEvents);
-        domainEvents.clear();
+        if (domainEvents == null || domainEvents.isEmpty()) {
+            return List.of();
+        }
+        List<Object> events = domainEvents;
+        domainEvents = null;
         return events;
     }
 
@@ -1,6 +1,11 @@
 package com.paklog.robotics.fleet.management.domain.aggregate;
 
+import com.paklog.robotics.fleet.management.domain.entity.BatteryDrainEstimator;
+import com.paklog.robotics.fleet.management.domain.entity.RobotHealthMetrics;
+import com.paklog.robotics.fleet.management.domain.entity.ThresholdAlarm;
 import com.paklog.robotics.fleet.management.domain.event.*;
+import com.paklog.robotics.fleet.management.domain.state.FleetStateStore;
+import com.paklog.robotics.fleet.management.domain.time.DomainClock;
 import com.paklog.robotics.fleet.management.domain.valueobject.*;
 
 import java.time.Instant;
@@ -18,18 +23,40 @@ public class Robot {
     private RobotPosition position;
     private BatteryLevel batteryLevel;
     private String currentTaskId;
+    private int chargeTarget = FULL_CHARGE;
     private Set<RobotCapability> capabilities;
-    private Map<String, Object> healthMetrics;
+    private RobotHealthMetrics healthMetrics;
+    private BatteryDrainEstimator drainEstimator;
     private Instant lastHeartbeat;
     private Instant createdAt;
     private Instant updatedAt;
 
-    // Domain events
-    private final List<Object> domainEvents = new ArrayList<>();
+    // Domain events go straight to the sink once attached, and are buffered until then
+    private List<Object> domainEvents;
+    private DomainEventSink eventSink;
+
+    // Columnar copy of this robot's queryable state, written through on every change
+    private FleetStateStore stateStore;
+    private int stateSlot = FleetStateStore.NO_SLOT;
+    private long capabilityBits;
+
+    // Readings are extrapolated this far ahead when checking maintenance limits
+    private static final double MAINTENANCE_HORIZON_SECONDS = 300.0;
+    private static final int MIN_TREND_SAMPLES = 8;
+    private static final int BATTERY_EMERGENCY_LEVEL = 2;
+    private static final int FULL_CHARGE = 100;
+
+    // Battery and maintenance events fire on threshold crossings, not on every sample
+    private final ThresholdAlarm batteryAlarm = ThresholdAlarm.falling(
+        new double[] {BatteryLevel.LOW_THRESHOLD, BatteryLevel.CRITICAL_THRESHOLD},
+        new double[] {BatteryLevel.LOW_THRESHOLD + BatteryLevel.HYSTERESIS_BAND,
+                      BatteryLevel.CRITICAL_THRESHOLD + BatteryLevel.HYSTERESIS_BAND});
+    private final ThresholdAlarm maintenanceAlarm = ThresholdAlarm.condition();
 
     // Private constructor for DDD
     private Robot() {
-        this.healthMetrics = new HashMap<>();
+        this.healthMetrics = new RobotHealthMetrics();
+        this.drainEstimator = new BatteryDrainEstimator();
         this.capabilities = new HashSet<>();
     }
 
@@ -45,49 +72,91 @@ public class Robot {
         robot.capabilities = new HashSet<>(capabilities);
         robot.status = RobotStatus.IDLE;
         robot.batteryLevel = BatteryLevel.of(100); // Start with full battery
-        robot.createdAt = Instant.now();
-        robot.updatedAt = Instant.now();
-        robot.lastHeartbeat = Instant.now();
+        Instant now = DomainClock.now();
+        robot.createdAt = now;
+        robot.updatedAt = now;
+        robot.lastHeartbeat = now;
+        robot.drainEstimator.observePosition(initialPosition.getX(), initialPosition.getY());
+        robot.drainEstimator.observeBattery(100);
 
         robot.addDomainEvent(new RobotRegisteredEvent(
             robotId.getValue(),
             model,
             initialPosition,
             capabilities,
-            Instant.now()
+            now
         ));
 
         return robot;
     }
 
+    /**
+     * Rebuild a robot from persisted state without emitting events.
+     * Health readings and the learned battery drain are not persisted and start empty.
+     * The charge target is not persisted either, so a robot restored while charging
+     * charges to full once charging dispatch takes it over.
+     */
+    public static Robot restore(RobotId robotId, String model, RobotStatus status, RobotPosition position,
+                                BatteryLevel batteryLevel, String currentTaskId, Set<RobotCapability> capabilities,
+                                Instant lastHeartbeat, Instant createdAt, Instant updatedAt) {
+        Robot robot = new Robot();
+        robot.robotId = robotId;
+        robot.model = model;
+        robot.status = status;
+        robot.position = position;
+        robot.batteryLevel = batteryLevel;
+        robot.currentTaskId = currentTaskId;
+        robot.capabilities = new HashSet<>(capabilities);
+        robot.lastHeartbeat = lastHeartbeat;
+        robot.createdAt = createdAt;
+        robot.updatedAt = updatedAt;
+        // Prime the alarm so a robot restored at low battery does not report it again
+        robot.batteryAlarm.observe(batteryLevel.getPercentage());
+        robot.drainEstimator.observePosition(position.getX(), position.getY());
+        robot.drainEstimator.observeBattery(batteryLevel.getPercentage());
+        return robot;
+    }
+
     /**
      * Assign a task to this robot
      */
     public void assignTask(RobotTask task) {
-        validateCanAcceptTask(task);
+        assignTask(task, null);
+    }
+
+    /**
+     * Assign a task to this robot, checking it can still reach a charger afterwards
+     * @param returnTo Charger the robot would drive to after the task, or null to ignore the return trip
+     */
+    public void assignTask(RobotTask task, RobotPosition returnTo) {
+        validateCanAcceptTask(task, returnTo);
 
         this.currentTaskId = task.getTaskId();
         this.status = RobotStatus.EXECUTING;
-        this.updatedAt = Instant.now();
+        drainEstimator.startTask(task.getTaskType());
+        Instant now = DomainClock.now();
+        this.updatedAt = now;
+        syncState();
 
         addDomainEvent(new RobotTaskAssignedEvent(
             robotId.getValue(),
             task.getTaskId(),
             task.getTaskType(),
             task.getPriority(),
-            Instant.now()
+            now
         ));
     }
 
-    private void validateCanAcceptTask(RobotTask task) {
+    private void validateCanAcceptTask(RobotTask task, RobotPosition returnTo) {
         if (status != RobotStatus.IDLE) {
             throw new IllegalStateException("Robot is not idle, current status: " + status);
         }
 
-        if (!batteryLevel.isSufficientForTask()) {
+        double predictedDrain = predictTaskDrain(task, returnTo);
+        if (!batteryLevel.isSufficientFor(predictedDrain)) {
             throw new IllegalStateException(
-                String.format("Insufficient battery level (%d%%) for task assignment",
-                    batteryLevel.getPercentage())
+                String.format("Insufficient battery level (%d%%) for task needing %.1f%%",
+                    batteryLevel.getPercentage(), predictedDrain)
             );
         }
 
@@ -110,13 +179,14 @@ public class Robot {
             throw new IllegalStateException("No task assigned to robot");
         }
 
-        this.updatedAt = Instant.now();
+        Instant now = DomainClock.now();
+        this.updatedAt = now;
 
         addDomainEvent(new RobotTaskStartedEvent(
             robotId.getValue(),
             currentTaskId,
             position,
-            Instant.now()
+            now
         ));
     }
 
@@ -131,13 +201,16 @@ public class Robot {
         String completedTaskId = this.currentTaskId;
         this.currentTaskId = null;
         this.status = RobotStatus.IDLE;
-        this.updatedAt = Instant.now();
+        drainEstimator.completeTask();
+        Instant now = DomainClock.now();
+        this.updatedAt = now;
+        syncState();
 
         addDomainEvent(new RobotTaskCompletedEvent(
             robotId.getValue(),
             completedTaskId,
             position,
-            Instant.now()
+            now
         ));
     }
 
@@ -152,36 +225,38 @@ public class Robot {
         String failedTaskId = this.currentTaskId;
         this.currentTaskId = null;
         this.status = RobotStatus.ERROR;
-        this.updatedAt = Instant.now();
+        drainEstimator.abandonTask();
+        Instant now = DomainClock.now();
+        this.updatedAt = now;
+        syncState();
 
         addDomainEvent(new RobotTaskFailedEvent(
             robotId.getValue(),
             failedTaskId,
             reason,
-            Instant.now()
+            now
         ));
     }
 
     /**
-     * Check battery level and trigger low battery event if needed
+     * Check battery level and trigger low battery event when it crosses
+     * into the low or emergency band
      */
     public void checkBatteryLevel() {
-        if (batteryLevel.needsEmergencyCharging()) {
-            addDomainEvent(new BatteryLowEvent(
-                robotId.getValue(),
-                batteryLevel.getPercentage(),
-                true, // emergency
-                position,
-                Instant.now()
-            ));
-        } else if (batteryLevel.needsCharging()) {
+        checkBatteryLevel(DomainClock.now());
+    }
+
+    private void checkBatteryLevel(Instant now) {
+        if (batteryAlarm.observe(batteryLevel.getPercentage())) {
             addDomainEvent(new BatteryLowEvent(
                 robotId.getValue(),
                 batteryLevel.getPercentage(),
-                false, // not emergency
+                batteryAlarm.getLevel() == BATTERY_EMERGENCY_LEVEL,
                 position,
-                Instant.now()
+                now
             ));
+        } else if (batteryAlarm.isActive()) {
+            reportSuppressed(BatteryLowEvent.class);
         }
     }
 
@@ -189,6 +264,26 @@ public class Robot {
      * Send robot to charging station
      */
     public void sendToCharging() {
+        sendToCharging(null);
+    }
+
+    /**
+     * Send robot to the given charging station
+     * @param stationId Station the robot should drive to, or null if not yet chosen
+     */
+    public void sendToCharging(String stationId) {
+        sendToCharging(stationId, FULL_CHARGE);
+    }
+
+    /**
+     * Send robot to the given charging station to charge up to a target level
+     * @param stationId Station the robot should drive to, or null if not yet chosen
+     * @param targetPercentage Level at which charging is complete
+     */
+    public void sendToCharging(String stationId, int targetPercentage) {
+        if (targetPercentage <= 0 || targetPercentage > FULL_CHARGE) {
+            throw new IllegalArgumentException("Charge target must be between 1 and 100");
+        }
         if (status == RobotStatus.CHARGING) {
             throw new IllegalStateException("Robot is already charging");
         }
@@ -203,80 +298,149 @@ public class Robot {
         }
 
         this.status = RobotStatus.CHARGING;
-        this.updatedAt = Instant.now();
+        this.chargeTarget = targetPercentage;
+        Instant now = DomainClock.now();
+        this.updatedAt = now;
+        syncState();
 
         addDomainEvent(new ChargingStartedEvent(
             robotId.getValue(),
+            stationId,
             batteryLevel.getPercentage(),
+            targetPercentage,
             position,
-            Instant.now()
+            now
         ));
     }
 
     /**
-     * Complete charging process
+     * Complete charging process at the charge target
      */
     public void completeCharging() {
+        completeCharging(Math.max(chargeTarget, batteryLevel.getPercentage()));
+    }
+
+    /**
+     * Stop charging at the given level, which may be short of the target when released early
+     * @param percentage Battery level when the robot left the charger
+     */
+    public void completeCharging(int percentage) {
         if (status != RobotStatus.CHARGING) {
             throw new IllegalStateException("Robot is not in charging status");
         }
 
-        this.batteryLevel = BatteryLevel.of(100);
+        if (percentage != batteryLevel.getPercentage()) {
+            this.batteryLevel = BatteryLevel.of(percentage);
+            drainEstimator.observeBattery(percentage);
+        }
         this.status = RobotStatus.IDLE;
-        this.updatedAt = Instant.now();
+        this.chargeTarget = FULL_CHARGE;
+        Instant now = DomainClock.now();
+        this.updatedAt = now;
+        syncState();
+        checkBatteryLevel(now);
 
         addDomainEvent(new ChargingCompletedEvent(
             robotId.getValue(),
-            100,
-            Instant.now()
+            percentage,
+            now
         ));
     }
 
+    /**
+     * Check if the robot is charging and has reached its charge target
+     */
+    public boolean hasReachedChargeTarget() {
+        return status == RobotStatus.CHARGING && batteryLevel.getPercentage() >= chargeTarget;
+    }
+
     /**
      * Update robot position
      */
     public void updatePosition(RobotPosition newPosition) {
+        updatePosition(newPosition, DomainClock.now());
+    }
+
+    /**
+     * Update robot position from a telemetry sample observed at the given time
+     */
+    public void updatePosition(RobotPosition newPosition, Instant observedAt) {
         if (newPosition == null) {
             throw new IllegalArgumentException("Position cannot be null");
         }
 
         this.position = newPosition;
-        this.updatedAt = Instant.now();
-        this.lastHeartbeat = Instant.now();
+        this.updatedAt = observedAt;
+        this.lastHeartbeat = observedAt;
+        drainEstimator.observePosition(newPosition.getX(), newPosition.getY());
+        syncState();
     }
 
     /**
      * Update battery level
      */
     public void updateBatteryLevel(int percentage) {
-        this.batteryLevel = BatteryLevel.of(percentage);
-        this.updatedAt = Instant.now();
-        checkBatteryLevel();
+        updateBatteryLevel(percentage, DomainClock.now());
+    }
+
+    /**
+     * Update battery level from a telemetry sample observed at the given time
+     */
+    public void updateBatteryLevel(int percentage, Instant observedAt) {
+        if (batteryLevel == null || batteryLevel.getPercentage() != percentage) {
+            this.batteryLevel = BatteryLevel.of(percentage);
+            drainEstimator.observeBattery(percentage);
+        }
+        this.updatedAt = observedAt;
+        syncState();
+        checkBatteryLevel(observedAt);
     }
 
     /**
      * Perform health check
      */
     public void performHealthCheck() {
-        this.lastHeartbeat = Instant.now();
+        Instant now = DomainClock.now();
+        this.lastHeartbeat = now;
 
         // Check if robot needs maintenance based on health metrics
-        if (needsMaintenance()) {
+        boolean maintenanceNeeded = needsMaintenance();
+        if (maintenanceNeeded) {
             this.status = RobotStatus.MAINTENANCE;
+        }
+        syncState();
+        if (maintenanceAlarm.observe(maintenanceNeeded)) {
             addDomainEvent(new RobotMaintenanceRequiredEvent(
                 robotId.getValue(),
-                healthMetrics,
-                Instant.now()
+                healthMetrics.toMap(),
+                now
             ));
+        } else if (maintenanceAlarm.isActive()) {
+            reportSuppressed(RobotMaintenanceRequiredEvent.class);
         }
     }
 
     /**
-     * Update health metrics
+     * Update health metrics from a reported key/value map.
+     * Keys that are not a tracked HealthMetric, and non-numeric values, are ignored.
      */
     public void updateHealthMetrics(Map<String, Object> metrics) {
-        this.healthMetrics.putAll(metrics);
-        this.updatedAt = Instant.now();
+        Instant now = DomainClock.now();
+        for (Map.Entry<String, Object> entry : metrics.entrySet()) {
+            HealthMetric metric = HealthMetric.fromKey(entry.getKey());
+            if (metric != null && entry.getValue() instanceof Number value) {
+                healthMetrics.record(metric, value.doubleValue(), now.toEpochMilli());
+            }
+        }
+        this.updatedAt = now;
+    }
+
+    /**
+     * Record a single health reading observed at the given time
+     */
+    public void recordHealthMetric(HealthMetric metric, double value, Instant observedAt) {
+        healthMetrics.record(metric, value, observedAt.toEpochMilli());
+        this.updatedAt = observedAt;
     }
 
     /**
@@ -287,14 +451,38 @@ public class Robot {
     }
 
     /**
-     * Check if robot is available for task assignment
+     * Check if robot is available for task assignment.
+     * Whether its charge covers a particular task is decided by {@link #hasEnergyFor}.
      */
     public boolean isAvailable() {
         return status == RobotStatus.IDLE &&
-               batteryLevel.isSufficientForTask() &&
+               !batteryLevel.needsCharging() &&
                isHealthy();
     }
 
+    /**
+     * Predicted battery use for a task: driving to its origin, the task itself,
+     * and the return trip to a charger
+     * @param returnTo Charger the robot would drive to afterwards, or null to leave out the return trip
+     * @return Percentage points of charge
+     */
+    public double predictTaskDrain(RobotTask task, RobotPosition returnTo) {
+        double taskMeters = position.distanceTo(task.getOrigin()) + task.getOrigin().distanceTo(task.getDestination());
+        double drain = drainEstimator.predictTask(task.getTaskType(), taskMeters);
+        if (returnTo != null) {
+            drain += drainEstimator.predictTravel(task.getDestination().distanceTo(returnTo));
+        }
+        return drain;
+    }
+
+    /**
+     * Check if the robot can finish a task and reach a charger before its battery runs low
+     * @param returnTo Charger the robot would drive to afterwards, or null to leave out the return trip
+     */
+    public boolean hasEnergyFor(RobotTask task, RobotPosition returnTo) {
+        return batteryLevel.isSufficientFor(predictTaskDrain(task, returnTo));
+    }
+
     /**
      * Check if robot is healthy
      */
@@ -308,29 +496,59 @@ public class Robot {
      * Check if robot needs maintenance
      */
     private boolean needsMaintenance() {
-        // Simple heuristic - can be enhanced with ML models
-        Integer errorCount = (Integer) healthMetrics.getOrDefault("errorCount", 0);
-        Double temperature = (Double) healthMetrics.getOrDefault("temperature", 0.0);
-
-        return errorCount > 10 || temperature > 80.0;
+        // A limit is breached by the latest reading, or by a sustained trend heading past it
+        for (HealthMetric metric : HealthMetric.values()) {
+            if (!metric.hasMaintenanceLimit() || healthMetrics.count(metric) == 0) {
+                continue;
+            }
+            double limit = metric.getMaintenanceLimit();
+            if (healthMetrics.latest(metric) > limit) {
+                return true;
+            }
+            if (healthMetrics.count(metric) >= MIN_TREND_SAMPLES
+                    && healthMetrics.projected(metric, MAINTENANCE_HORIZON_SECONDS) > limit) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
-     * Mark robot as offline
+     * Mark robot as offline, releasing any task it was executing
      */
     public void markOffline() {
+        Instant now = DomainClock.now();
+        if (currentTaskId != null) {
+            String releasedTaskId = this.currentTaskId;
+            this.currentTaskId = null;
+            drainEstimator.abandonTask();
+            addDomainEvent(new RobotTaskFailedEvent(
+                robotId.getValue(),
+                releasedTaskId,
+                "Robot went offline",
+                now
+            ));
+        }
+
         this.status = RobotStatus.OFFLINE;
-        this.updatedAt = Instant.now();
+        this.updatedAt = now;
+        syncState();
     }
 
     /**
-     * Mark robot as online
+     * Mark robot as online. Charging requests and reservations are dropped
+     * while a robot is offline, so the battery alarm is rearmed and a robot
+     * that is still low raises a fresh BatteryLowEvent.
      */
     public void markOnline() {
         if (status == RobotStatus.OFFLINE) {
+            Instant now = DomainClock.now();
             this.status = RobotStatus.IDLE;
-            this.updatedAt = Instant.now();
-            this.lastHeartbeat = Instant.now();
+            this.updatedAt = now;
+            this.lastHeartbeat = now;
+            syncState();
+            batteryAlarm.reset();
+            checkBatteryLevel(now);
         }
     }
 
@@ -345,15 +563,80 @@ public class Robot {
      * Add domain event
      */
     private void addDomainEvent(Object event) {
-        this.domainEvents.add(event);
+        if (eventSink != null) {
+            eventSink.publish(robotId.getValue(), event);
+            return;
+        }
+        if (domainEvents == null) {
+            domainEvents = new ArrayList<>();
+        }
+        domainEvents.add(event);
     }
 
     /**
-     * Get and clear domain events
+     * Tell the sink an event was withheld because its alarm was already active
+     */
+    private void reportSuppressed(Class<?> eventType) {
+        if (eventSink != null) {
+            eventSink.suppressed(robotId.getValue(), eventType);
+        }
+    }
+
+    /**
+     * Claim a slot in the fleet state store and keep it in sync from now on
+     */
+    public void attachStateStore(FleetStateStore store) {
+        if (store == stateStore) {
+            return;
+        }
+        this.stateSlot = store.register(robotId.getValue());
+        this.stateStore = store;
+        this.capabilityBits = FleetStateStore.capabilityMask(capabilities);
+        syncState();
+    }
+
+    /**
+     * Give up the state store slot when the robot leaves the fleet
+     */
+    public void detachStateStore() {
+        if (stateStore != null) {
+            stateStore.release(robotId.getValue());
+            stateStore = null;
+            stateSlot = FleetStateStore.NO_SLOT;
+        }
+    }
+
+    private void syncState() {
+        if (stateStore == null) {
+            return;
+        }
+        long heartbeatNanos = lastHeartbeat == null ? 0L
+            : lastHeartbeat.getEpochSecond() * 1_000_000_000L + lastHeartbeat.getNano();
+        stateStore.write(stateSlot, position.getX(), position.getY(), position.getHeading(),
+            status, batteryLevel.getPercentage(), capabilityBits, heartbeatNanos);
+    }
+
+    /**
+     * Publish future events directly to the sink, flushing any buffered ones first
+     */
+    public void attachEventSink(DomainEventSink sink) {
+        this.eventSink = sink;
+        List<Object> pending = domainEvents;
+        domainEvents = null;
+        if (pending != null && sink != null) {
+            pending.forEach(event -> sink.publish(robotId.getValue(), event));
+        }
+    }
+
+    /**
+     * Get and clear buffered domain events
      */
     public List<Object> getDomainEvents() {
-        List<Object> events = new ArrayList<>(domainEvents);
-        domainEvents.clear();
+        if (domainEvents == null || domainEvents.isEmpty()) {
+            return List.of();
+        }
+        List<Object> events = domainEvents;
+        domainEvents = null;
         return events;
     }
 
@@ -361,7 +644,7 @@ public class Robot {
      * Clear domain events
      */
     public void clearDomainEvents() {
-        domainEvents.clear();
+        domainEvents = null;
     }
 
 
@@ -372,8 +655,13 @@ public class Robot {
     public RobotPosition getPosition() { return position; }
     public BatteryLevel getBatteryLevel() { return batteryLevel; }
     public String getCurrentTaskId() { return currentTaskId; }
+    public int getChargeTarget() { return chargeTarget; }
     public Set<RobotCapability> getCapabilities() { return capabilities; }
-    public Map<String, Object> getHealthMetrics() { return healthMetrics; }
+    public RobotHealthMetrics getHealthMetrics() { return healthMetrics; }
+    public BatteryDrainEstimator getDrainEstimator() { return drainEstimator; }
+    public ThresholdAlarm getBatteryAlarm() { return batteryAlarm; }
+    public ThresholdAlarm getMaintenanceAlarm() { return maintenanceAlarm; }
+    public int getStateSlot() { return stateSlot; }
     public Instant getLastHeartbeat() { return lastHeartbeat; }
     public Instant getCreatedAt() { return createdAt; }
     public Instant getUpdatedAt() { return updatedAt; }
@@ -381,13 +669,17 @@ public class Robot {
     // Setters
     public void setRobotId(RobotId robotId) { this.robotId = robotId; }
     public void setModel(String model) { this.model = model; }
-    public void setStatus(RobotStatus status) { this.status = status; }
-    public void setPosition(RobotPosition position) { this.position = position; }
-    public void setBatteryLevel(BatteryLevel batteryLevel) { this.batteryLevel = batteryLevel; }
+    public void setStatus(RobotStatus status) { this.status = status; syncState(); }
+    public void setPosition(RobotPosition position) { this.position = position; syncState(); }
+    public void setBatteryLevel(BatteryLevel batteryLevel) { this.batteryLevel = batteryLevel; syncState(); }
     public void setCurrentTaskId(String currentTaskId) { this.currentTaskId = currentTaskId; }
-    public void setCapabilities(Set<RobotCapability> capabilities) { this.capabilities = capabilities; }
-    public void setHealthMetrics(Map<String, Object> healthMetrics) { this.healthMetrics = healthMetrics; }
-    public void setLastHeartbeat(Instant lastHeartbeat) { this.lastHeartbeat = lastHeartbeat; }
+    public void setCapabilities(Set<RobotCapability> capabilities) {
+        this.capabilities = capabilities;
+        this.capabilityBits = FleetStateStore.capabilityMask(capabilities);
+        syncState();
+    }
+    public void setHealthMetrics(RobotHealthMetrics healthMetrics) { this.healthMetrics = healthMetrics; }
+    public void setLastHeartbeat(Instant lastHeartbeat) { this.lastHeartbeat = lastHeartbeat; syncState(); }
     public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
     public void setUpdatedAt(Instant updatedAt) { this.updatedAt = updatedAt; }
 }
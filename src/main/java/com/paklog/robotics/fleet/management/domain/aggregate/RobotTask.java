@@ -1,7 +1,10 @@
 package com.paklog.robotics.fleet.management.domain.aggregate;
 
+import com.paklog.robotics.fleet.management.domain.state.RobotTaskIndex;
+import com.paklog.robotics.fleet.management.domain.time.DomainClock;
 import com.paklog.robotics.fleet.management.domain.valueobject.*;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Map;
 
@@ -25,6 +28,9 @@ public class RobotTask {
     private Instant startedAt;
     private Instant completedAt;
     private String failureReason;
+    private Instant dueAt;
+    private boolean payloadDropped;
+    private RobotTaskIndex index;
 
     // Private constructor for DDD
     private RobotTask() {
@@ -37,6 +43,17 @@ public class RobotTask {
                                   RobotPosition origin, RobotPosition destination,
                                   RobotCapability requiredCapability,
                                   Map<String, Object> payload) {
+        return create(taskId, taskType, priority, origin, destination, requiredCapability, payload, null);
+    }
+
+    /**
+     * Factory method to create a new task that must be finished by a due time
+     * @param dueAt When the task must be completed, such as a carrier cutoff, or null for no deadline
+     */
+    public static RobotTask create(String taskId, TaskType taskType, TaskPriority priority,
+                                  RobotPosition origin, RobotPosition destination,
+                                  RobotCapability requiredCapability,
+                                  Map<String, Object> payload, Instant dueAt) {
         RobotTask task = new RobotTask();
         task.taskId = taskId;
         task.taskType = taskType;
@@ -46,7 +63,36 @@ public class RobotTask {
         task.requiredCapability = requiredCapability;
         task.payload = payload;
         task.status = TaskStatus.PENDING;
-        task.createdAt = Instant.now();
+        task.createdAt = DomainClock.now();
+        task.dueAt = dueAt;
+        return task;
+    }
+
+    /**
+     * Rebuild a task from persisted state
+     */
+    public static RobotTask restore(String taskId, String robotId, TaskType taskType, TaskPriority priority,
+                                    RobotPosition origin, RobotPosition destination,
+                                    RobotCapability requiredCapability, Map<String, Object> payload,
+                                    TaskStatus status, Instant createdAt, Instant assignedAt,
+                                    Instant startedAt, Instant completedAt, String failureReason,
+                                    Instant dueAt) {
+        RobotTask task = new RobotTask();
+        task.taskId = taskId;
+        task.robotId = robotId;
+        task.taskType = taskType;
+        task.priority = priority;
+        task.origin = origin;
+        task.destination = destination;
+        task.requiredCapability = requiredCapability;
+        task.payload = payload;
+        task.status = status;
+        task.createdAt = createdAt;
+        task.assignedAt = assignedAt;
+        task.startedAt = startedAt;
+        task.completedAt = completedAt;
+        task.failureReason = failureReason;
+        task.dueAt = dueAt;
         return task;
     }
 
@@ -58,9 +104,26 @@ public class RobotTask {
             throw new IllegalStateException("Task is not in PENDING status");
         }
 
+        String previousRobotId = this.robotId;
         this.robotId = robotId;
         this.status = TaskStatus.ASSIGNED;
-        this.assignedAt = Instant.now();
+        this.assignedAt = DomainClock.now();
+        reindex(TaskStatus.PENDING, previousRobotId);
+    }
+
+    /**
+     * Return an assigned task to the queue, as when its robot is lost before starting it
+     */
+    public void requeue() {
+        if (status != TaskStatus.ASSIGNED) {
+            throw new IllegalStateException("Task is not in ASSIGNED status");
+        }
+
+        String previousRobotId = this.robotId;
+        this.robotId = null;
+        this.status = TaskStatus.PENDING;
+        this.assignedAt = null;
+        reindex(TaskStatus.ASSIGNED, previousRobotId);
     }
 
     /**
@@ -72,7 +135,8 @@ public class RobotTask {
         }
 
         this.status = TaskStatus.IN_PROGRESS;
-        this.startedAt = Instant.now();
+        this.startedAt = DomainClock.now();
+        reindex(TaskStatus.ASSIGNED, robotId);
     }
 
     /**
@@ -84,7 +148,8 @@ public class RobotTask {
         }
 
         this.status = TaskStatus.COMPLETED;
-        this.completedAt = Instant.now();
+        this.completedAt = DomainClock.now();
+        reindex(TaskStatus.IN_PROGRESS, robotId);
     }
 
     /**
@@ -95,9 +160,11 @@ public class RobotTask {
             throw new IllegalStateException("Cannot fail a completed or cancelled task");
         }
 
+        TaskStatus previous = status;
         this.status = TaskStatus.FAILED;
         this.failureReason = reason;
-        this.completedAt = Instant.now();
+        this.completedAt = DomainClock.now();
+        reindex(previous, robotId);
     }
 
     /**
@@ -108,28 +175,93 @@ public class RobotTask {
             throw new IllegalStateException("Cannot cancel a completed or failed task");
         }
 
+        TaskStatus previous = status;
         this.status = TaskStatus.CANCELLED;
-        this.completedAt = Instant.now();
+        this.completedAt = DomainClock.now();
+        reindex(previous, robotId);
     }
 
     /**
-     * Calculate task duration in seconds
+     * Copy of this task without its payload, not attached to any index
      */
-    public long getDurationSeconds() {
-        if (startedAt == null || completedAt == null) {
-            return 0;
+    public RobotTask withoutPayload() {
+        RobotTask copy = restore(taskId, robotId, taskType, priority, origin, destination, requiredCapability,
+            Map.of(), status, createdAt, assignedAt, startedAt, completedAt, failureReason, dueAt);
+        copy.payloadDropped = true;
+        return copy;
+    }
+
+    /**
+     * Whether this is a copy whose payload was dropped, so the empty payload says nothing about the task
+     */
+    public boolean isPayloadDropped() {
+        return payloadDropped;
+    }
+
+    /**
+     * Report every transition from now on to the index
+     */
+    public void attachIndex(RobotTaskIndex taskIndex) {
+        this.index = taskIndex;
+    }
+
+    private void reindex(TaskStatus previousStatus, String previousRobotId) {
+        if (index != null) {
+            index.transitioned(this, previousStatus, previousRobotId);
         }
-        return completedAt.getEpochSecond() - startedAt.getEpochSecond();
     }
 
     /**
-     * Calculate wait time before assignment in seconds
+     * Calculate task duration in whole seconds
+     */
+    public long getDurationSeconds() {
+        return getExecutionTime().toSeconds();
+    }
+
+    /**
+     * Calculate wait time before assignment in whole seconds
      */
     public long getWaitTimeSeconds() {
-        if (assignedAt == null) {
-            return Instant.now().getEpochSecond() - createdAt.getEpochSecond();
-        }
-        return assignedAt.getEpochSecond() - createdAt.getEpochSecond();
+        return getWaitTime().toSeconds();
+    }
+
+    /**
+     * Time from creation until assignment, or until now while pending
+     */
+    public Duration getWaitTime() {
+        return Duration.between(createdAt, assignedAt != null ? assignedAt : DomainClock.now());
+    }
+
+    /**
+     * Time from assignment until the robot started the task at its origin; zero until started
+     */
+    public Duration getTravelTime() {
+        return between(assignedAt, startedAt);
+    }
+
+    /**
+     * Time from start until completion; zero until finished
+     */
+    public Duration getExecutionTime() {
+        return between(startedAt, completedAt);
+    }
+
+    /**
+     * Time from creation until the task finished; zero until finished
+     */
+    public Duration getTotalTime() {
+        return between(createdAt, completedAt);
+    }
+
+    private static Duration between(Instant from, Instant to) {
+        return from == null || to == null ? Duration.ZERO : Duration.between(from, to);
+    }
+
+    /**
+     * Check if task has a due time
+     */
+    public boolean hasDeadline() {
+        return dueAt != null;
     }
 
     /**
@@ -204,4 +336,8 @@ public class RobotTask {
     public String getFailureReason() {
         return failureReason;
     }
+
+    public Instant getDueAt() {
+        return dueAt;
+    }
 }
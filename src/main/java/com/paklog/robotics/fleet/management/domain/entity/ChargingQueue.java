@@ -0,0 +1,208 @@
+package com.paklog.robotics.fleet.management.domain.entity;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Charging Queue
+ * FIFO queue of robot ids with O(1) dequeue, amortized O(log n) enqueue, and
+ * O(log n) removal by id and queue position.
+ *
+ * Robots sit in a doubly linked list indexed by a hash map. Each enqueue takes
+ * the next ticket number, so tickets rise in queue order, and a Fenwick tree
+ * counts the tickets: a robot's position is the count up to its ticket. Enqueue
+ * and removal by id update the tree in O(log n). Dequeue leaves the tree alone
+ * and only counts the robots taken from the front; their tickets are below every
+ * queued one, so positions subtract that count. When tickets run out they are
+ * renumbered in queue order into a tree twice the queue's size; that O(n)
+ * rebuild is paid for by the enqueues since the last one.
+ */
+public class ChargingQueue implements Iterable<String> {
+
+    private static final int MIN_TICKETS = 16;
+
+    private final Map<String, Node> nodes = new HashMap<>();
+    private Node head;
+    private Node tail;
+    private int[] tree = new int[MIN_TICKETS + 1];
+    private int nextTicket = 1;
+    // Dequeued from the front but still counted in the tree
+    private int dequeued;
+
+    /**
+     * Add a robot at the back of the queue
+     * @return false if the robot is already queued
+     */
+    public boolean offer(String robotId) {
+        if (nodes.containsKey(robotId)) {
+            return false;
+        }
+        if (nextTicket == tree.length) {
+            renumber();
+        }
+        Node node = new Node(robotId, nextTicket++);
+        nodes.put(robotId, node);
+        node.prev = tail;
+        if (tail == null) {
+            head = node;
+        } else {
+            tail.next = node;
+        }
+        tail = node;
+        update(node.ticket, 1);
+        return true;
+    }
+
+    /**
+     * Robot at the front of the queue, or null if empty
+     */
+    public String peek() {
+        return head == null ? null : head.robotId;
+    }
+
+    /**
+     * Remove and return the robot at the front of the queue, or null if empty
+     */
+    public String poll() {
+        if (head == null) {
+            return null;
+        }
+        Node node = head;
+        nodes.remove(node.robotId);
+        unlink(node);
+        dequeued++;
+        return node.robotId;
+    }
+
+    /**
+     * Remove a robot wherever it is in the queue
+     * @return true if the robot was queued
+     */
+    public boolean remove(String robotId) {
+        Node node = nodes.remove(robotId);
+        if (node == null) {
+            return false;
+        }
+        unlink(node);
+        update(node.ticket, -1);
+        return true;
+    }
+
+    private void unlink(Node node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+    }
+
+    public boolean contains(String robotId) {
+        return nodes.containsKey(robotId);
+    }
+
+    /**
+     * One-based position of a robot in the queue
+     * @return Position, or -1 if the robot is not queued
+     */
+    public int position(String robotId) {
+        Node node = nodes.get(robotId);
+        return node == null ? -1 : prefixSum(node.ticket) - dequeued;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    /**
+     * Queued robots from front to back
+     */
+    public List<String> toList() {
+        List<String> robotIds = new ArrayList<>(nodes.size());
+        for (Node node = head; node != null; node = node.next) {
+            robotIds.add(node.robotId);
+        }
+        return robotIds;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return new Iterator<>() {
+            private Node next = head;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public String next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                String robotId = next.robotId;
+                next = next.next;
+                return robotId;
+            }
+        };
+    }
+
+    /**
+     * Give the queued robots tickets 1..n in queue order and rebuild the tree in O(n)
+     */
+    private void renumber() {
+        int size = nodes.size();
+        tree = new int[Math.max(MIN_TICKETS, size * 2) + 1];
+        int ticket = 1;
+        for (Node node = head; node != null; node = node.next) {
+            node.ticket = ticket;
+            tree[ticket++] = 1;
+        }
+        for (int i = 1; i < tree.length; i++) {
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+        nextTicket = size + 1;
+        dequeued = 0;
+    }
+
+    private void update(int ticket, int delta) {
+        for (int i = ticket; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private int prefixSum(int ticket) {
+        int sum = 0;
+        for (int i = ticket; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private static final class Node {
+        private final String robotId;
+        private int ticket;
+        private Node prev;
+        private Node next;
+
+        private Node(String robotId, int ticket) {
+            this.robotId = robotId;
+            this.ticket = ticket;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.paklog.robotics.fleet.management.domain.entity;
+
+import com.paklog.robotics.fleet.management.domain.valueobject.HealthMetric;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Robot Health Metrics
+ * Per-robot time series of health readings kept in primitive ring buffers.
+ *
+ * Each metric keeps its last {@link #WINDOW} samples. Storage is two flat arrays
+ * of {@code HealthMetric.values().length * WINDOW} doubles and longs, so with the
+ * four tracked metrics a robot holds 4 x 32 x 16 bytes = 2 KiB of samples plus
+ * about 100 bytes of array headers and cursors, independent of reporting rate.
+ *
+ * Aggregates are computed over the window on demand; a 32-sample scan is
+ * cheaper than maintaining running sums that drift.
+ */
+public class RobotHealthMetrics {
+
+    public static final int WINDOW = 32;
+
+    private static final int METRIC_COUNT = HealthMetric.values().length;
+
+    private final double[] values = new double[METRIC_COUNT * WINDOW];
+    private final long[] timestampsMillis = new long[METRIC_COUNT * WINDOW];
+    private final int[] nextIndex = new int[METRIC_COUNT];
+    private final int[] sampleCount = new int[METRIC_COUNT];
+
+    /**
+     * Record a sample, overwriting the oldest one once the window is full
+     */
+    public void record(HealthMetric metric, double value, long timestampMillis) {
+        int m = metric.ordinal();
+        int index = nextIndex[m];
+        values[m * WINDOW + index] = value;
+        timestampsMillis[m * WINDOW + index] = timestampMillis;
+        nextIndex[m] = (index + 1) % WINDOW;
+        if (sampleCount[m] < WINDOW) {
+            sampleCount[m]++;
+        }
+    }
+
+    /**
+     * Number of samples currently held for a metric
+     */
+    public int count(HealthMetric metric) {
+        return sampleCount[metric.ordinal()];
+    }
+
+    /**
+     * Most recent value, or NaN if nothing was recorded
+     */
+    public double latest(HealthMetric metric) {
+        int m = metric.ordinal();
+        if (sampleCount[m] == 0) {
+            return Double.NaN;
+        }
+        return values[m * WINDOW + (nextIndex[m] + WINDOW - 1) % WINDOW];
+    }
+
+    /**
+     * Mean over the window, or NaN if nothing was recorded
+     */
+    public double mean(HealthMetric metric) {
+        int m = metric.ordinal();
+        int n = sampleCount[m];
+        if (n == 0) {
+            return Double.NaN;
+        }
+        double sum = 0.0;
+        for (int i = 0; i < n; i++) {
+            sum += values[m * WINDOW + i];
+        }
+        return sum / n;
+    }
+
+    /**
+     * Maximum over the window, or NaN if nothing was recorded
+     */
+    public double max(HealthMetric metric) {
+        int m = metric.ordinal();
+        int n = sampleCount[m];
+        if (n == 0) {
+            return Double.NaN;
+        }
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            max = Math.max(max, values[m * WINDOW + i]);
+        }
+        return max;
+    }
+
+    /**
+     * Least-squares slope over the window in units per second,
+     * or NaN with fewer than two samples or no time spread
+     */
+    public double slopePerSecond(HealthMetric metric) {
+        int m = metric.ordinal();
+        int n = sampleCount[m];
+        if (n < 2) {
+            return Double.NaN;
+        }
+
+        // Times relative to the oldest sample keep the sums well conditioned
+        int oldest = n < WINDOW ? 0 : nextIndex[m];
+        long origin = timestampsMillis[m * WINDOW + oldest];
+        double sumT = 0.0, sumV = 0.0, sumTT = 0.0, sumTV = 0.0;
+        for (int i = 0; i < n; i++) {
+            double t = (timestampsMillis[m * WINDOW + i] - origin) / 1000.0;
+            double v = values[m * WINDOW + i];
+            sumT += t;
+            sumV += v;
+            sumTT += t * t;
+            sumTV += t * v;
+        }
+        double denominator = n * sumTT - sumT * sumT;
+        if (denominator == 0.0) {
+            return Double.NaN;
+        }
+        return (n * sumTV - sumT * sumV) / denominator;
+    }
+
+    /**
+     * Extrapolate the latest value along the window trend
+     * @return Projected value, or NaN if there is no trend yet
+     */
+    public double projected(HealthMetric metric, double horizonSeconds) {
+        double slope = slopePerSecond(metric);
+        return Double.isNaN(slope) ? Double.NaN : latest(metric) + slope * horizonSeconds;
+    }
+
+    /**
+     * Latest value of every recorded metric keyed by its reporting key
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> latest = new LinkedHashMap<>();
+        for (HealthMetric metric : HealthMetric.values()) {
+            if (count(metric) > 0) {
+                latest.put(metric.getKey(), latest(metric));
+            }
+        }
+        return latest;
+    }
+}
@@ -0,0 +1,123 @@
+package com.paklog.robotics.fleet.management.domain.entity;
+
+/**
+ * Threshold Alarm
+ * Edge-triggered alarm with hysteresis over a stream of readings.
+ *
+ * Severity levels are raised when a reading crosses their raise threshold and
+ * only lowered again once the reading recovers past the matching clear threshold,
+ * so a value hovering at a limit does not flap. {@link #observe(double)} returns
+ * true only on escalation; readings that keep an alarm active without escalating
+ * are counted as suppressed.
+ */
+public class ThresholdAlarm {
+
+    private final double sign;
+    private final double[] raiseAt;
+    private final double[] clearAt;
+    private int level;
+    private long suppressedCount;
+
+    private ThresholdAlarm(double sign, double[] raiseAt, double[] clearAt) {
+        if (raiseAt.length == 0 || raiseAt.length != clearAt.length) {
+            throw new IllegalArgumentException("Each severity level needs a raise and a clear threshold");
+        }
+        for (int i = 0; i < raiseAt.length; i++) {
+            if (sign * clearAt[i] > sign * raiseAt[i]) {
+                throw new IllegalArgumentException("Clear threshold must lie on the safe side of its raise threshold");
+            }
+            if (i > 0 && sign * raiseAt[i] <= sign * raiseAt[i - 1]) {
+                throw new IllegalArgumentException("Raise thresholds must grow more severe with each level");
+            }
+        }
+        this.sign = sign;
+        this.raiseAt = scaled(sign, raiseAt);
+        this.clearAt = scaled(sign, clearAt);
+    }
+
+    /**
+     * Alarm for readings that get worse as they rise, e.g. temperature
+     */
+    public static ThresholdAlarm rising(double[] raiseAt, double[] clearAt) {
+        return new ThresholdAlarm(1.0, raiseAt, clearAt);
+    }
+
+    /**
+     * Alarm for readings that get worse as they fall, e.g. battery charge
+     */
+    public static ThresholdAlarm falling(double[] raiseAt, double[] clearAt) {
+        return new ThresholdAlarm(-1.0, raiseAt, clearAt);
+    }
+
+    /**
+     * Single-level alarm for a condition that is either active or not
+     */
+    public static ThresholdAlarm condition() {
+        return rising(new double[] {1.0}, new double[] {0.0});
+    }
+
+    /**
+     * Feed a reading
+     * @return true if the alarm escalated to a higher level
+     */
+    public boolean observe(double value) {
+        double reading = sign * value;
+        int target = level;
+        while (target < raiseAt.length && reading >= raiseAt[target]) {
+            target++;
+        }
+        if (target == level) {
+            while (target > 0 && reading <= clearAt[target - 1]) {
+                target--;
+            }
+        }
+
+        boolean escalated = target > level;
+        level = target;
+        if (!escalated && level > 0) {
+            suppressedCount++;
+        }
+        return escalated;
+    }
+
+    /**
+     * Feed the state of a {@link #condition()} alarm
+     * @return true if the condition just became active
+     */
+    public boolean observe(boolean active) {
+        return observe(active ? 1.0 : 0.0);
+    }
+
+    /**
+     * Current severity, 0 when clear
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    public boolean isActive() {
+        return level > 0;
+    }
+
+    /**
+     * Readings that found the alarm already active and were not reported
+     */
+    public long getSuppressedCount() {
+        return suppressedCount;
+    }
+
+    /**
+     * Clear the alarm without waiting for a recovering reading
+     */
+    public void reset() {
+        level = 0;
+    }
+
+    private static double[] scaled(double sign, double[] thresholds) {
+        double[] scaled = new double[thresholds.length];
+        for (int i = 0; i < thresholds.length; i++) {
+            scaled[i] = sign * thresholds[i];
+        }
+        return scaled;
+    }
+}
@@ -4,7 +4,7 @@ import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
 
 import java.time.Instant;
 
-public class BatteryLowEvent {
+public class BatteryLowEvent implements DomainEvent {
     private String robotId;
     private int batteryPercentage;
     private boolean emergency;
@@ -2,7 +2,7 @@ package com.paklog.robotics.fleet.management.domain.event;
 
 import java.time.Instant;
 
-public class ChargingCompletedEvent {
+public class ChargingCompletedEvent implements DomainEvent {
     private String robotId;
     private int finalBatteryLevel;
     private Instant occurredAt;
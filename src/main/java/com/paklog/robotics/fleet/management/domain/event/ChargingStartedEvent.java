@@ -4,21 +4,28 @@ import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
 
 import java.time.Instant;
 
-public class ChargingStartedEvent {
+public class ChargingStartedEvent implements DomainEvent {
     private String robotId;
+    private String stationId;
     private int currentBatteryLevel;
+    private int targetBatteryLevel;
     private RobotPosition position;
     private Instant occurredAt;
 
-    public ChargingStartedEvent(String robotId, int currentBatteryLevel, RobotPosition position, Instant occurredAt) {
+    public ChargingStartedEvent(String robotId, String stationId, int currentBatteryLevel, int targetBatteryLevel,
+                                RobotPosition position, Instant occurredAt) {
         this.robotId = robotId;
+        this.stationId = stationId;
         this.currentBatteryLevel = currentBatteryLevel;
+        this.targetBatteryLevel = targetBatteryLevel;
         this.position = position;
         this.occurredAt = occurredAt;
     }
 
     public String getRobotId() { return robotId; }
+    public String getStationId() { return stationId; }
     public int getCurrentBatteryLevel() { return currentBatteryLevel; }
+    public int getTargetBatteryLevel() { return targetBatteryLevel; }
     public RobotPosition getPosition() { return position; }
     public Instant getOccurredAt() { return occurredAt; }
 }
@@ -0,0 +1,16 @@
+package com.paklog.robotics.fleet.management.domain.event;
+
+import java.time.Instant;
+
+/**
+ * Domain Event
+ * Common view of the events aggregates raise, for consumers that handle
+ * every event type alike.
+ */
+public interface DomainEvent {
+
+    /**
+     * When the change happened in the domain, as opposed to when it was published
+     */
+    Instant getOccurredAt();
+}
@@ -0,0 +1,25 @@
+package com.paklog.robotics.fleet.management.domain.event;
+
+/**
+ * Domain Event Sink Port
+ * Receives domain events directly from aggregates as they are raised.
+ * Events of one aggregate must be delivered to consumers in publish order.
+ */
+@FunctionalInterface
+public interface DomainEventSink {
+
+    /**
+     * Publish an event raised by an aggregate
+     * @param aggregateId Identifier of the aggregate raising the event
+     * @param event The domain event
+     */
+    void publish(String aggregateId, Object event);
+
+    /**
+     * Note that an event was withheld because it would have repeated an active alarm
+     * @param aggregateId Identifier of the aggregate that suppressed the event
+     * @param eventType Type of the suppressed event
+     */
+    default void suppressed(String aggregateId, Class<?> eventType) {
+    }
+}
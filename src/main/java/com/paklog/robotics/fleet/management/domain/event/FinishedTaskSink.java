@@ -0,0 +1,18 @@
+package com.paklog.robotics.fleet.management.domain.event;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+
+/**
+ * Finished Task Sink Port
+ * Receives each task as it completes, fails or is cancelled, for statistics
+ * that outlive the task records. Called on the thread finishing the task.
+ */
+@FunctionalInterface
+public interface FinishedTaskSink {
+
+    /**
+     * Take note of a task that just reached a terminal status
+     * @param task The finished task
+     */
+    void finished(RobotTask task);
+}
@@ -2,7 +2,7 @@ package com.paklog.robotics.fleet.management.domain.event;
 
 import java.time.Instant;
 
-public class FleetRebalancedEvent {
+public class FleetRebalancedEvent implements DomainEvent {
     private String fleetId;
     private int robotCount;
     private double utilizationRate;
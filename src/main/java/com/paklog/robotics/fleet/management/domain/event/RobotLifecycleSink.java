@@ -0,0 +1,26 @@
+package com.paklog.robotics.fleet.management.domain.event;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+
+/**
+ * Robot Lifecycle Sink Port
+ * Told when a robot joins or leaves the robot repository, so components keeping
+ * per-robot state can start or stop tracking it. Called on the thread saving or
+ * deleting the robot.
+ */
+public interface RobotLifecycleSink {
+
+    /**
+     * A robot was saved under an id not held before, or replaced the robot held under it
+     * @param robot The robot now held
+     */
+    default void added(Robot robot) {
+    }
+
+    /**
+     * A robot was deleted, or replaced by another instance under the same id
+     * @param robot The robot no longer held
+     */
+    default void removed(Robot robot) {
+    }
+}
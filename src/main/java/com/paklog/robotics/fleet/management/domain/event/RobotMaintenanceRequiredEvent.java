@@ -3,7 +3,7 @@ package com.paklog.robotics.fleet.management.domain.event;
 import java.time.Instant;
 import java.util.Map;
 
-public class RobotMaintenanceRequiredEvent {
+public class RobotMaintenanceRequiredEvent implements DomainEvent {
     private String robotId;
     private Map<String, Object> healthMetrics;
     private Instant occurredAt;
@@ -6,7 +6,7 @@ import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
 import java.time.Instant;
 import java.util.Set;
 
-public class RobotRegisteredEvent {
+public class RobotRegisteredEvent implements DomainEvent {
     private String robotId;
     private String model;
     private RobotPosition initialPosition;
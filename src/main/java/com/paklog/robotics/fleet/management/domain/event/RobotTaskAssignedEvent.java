@@ -5,7 +5,7 @@ import com.paklog.robotics.fleet.management.domain.valueobject.TaskType;
 
 import java.time.Instant;
 
-public class RobotTaskAssignedEvent {
+public class RobotTaskAssignedEvent implements DomainEvent {
     private String robotId;
     private String taskId;
     private TaskType taskType;
@@ -4,7 +4,7 @@ import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
 
 import java.time.Instant;
 
-public class RobotTaskCompletedEvent {
+public class RobotTaskCompletedEvent implements DomainEvent {
     private String robotId;
     private String taskId;
     private RobotPosition position;
@@ -2,7 +2,7 @@ package com.paklog.robotics.fleet.management.domain.event;
 
 import java.time.Instant;
 
-public class RobotTaskFailedEvent {
+public class RobotTaskFailedEvent implements DomainEvent {
     private String robotId;
     private String taskId;
     private String reason;
@@ -0,0 +1,73 @@
+package com.paklog.robotics.fleet.management.domain.repository;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.ChargingStation;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Charging Station Repository Port
+ */
+public interface ChargingStationRepository {
+
+    /**
+     * Find station by its identifier
+     * @param stationId Station identifier
+     * @return Station if known
+     */
+    Optional<ChargingStation> findById(String stationId);
+
+    /**
+     * Find the station a robot is charging or queued at
+     * @param robotId Robot identifier
+     * @return Station holding the robot, if any
+     */
+    Optional<ChargingStation> findByRobotId(String robotId);
+
+    /**
+     * Find the station closest to a position
+     * @param position Position to search from
+     * @return Nearest station, if there are any
+     */
+    Optional<ChargingStation> findNearest(RobotPosition position);
+
+    /**
+     * Find the station closest to a position that has a free charger
+     * @param position Position to search from
+     * @return Nearest station with capacity, if any
+     */
+    Optional<ChargingStation> findNearestAvailable(RobotPosition position);
+
+    /**
+     * Find the station with the most free chargers, then the fewest robots waiting
+     * @return Station with the shortest wait, if there are any
+     */
+    Optional<ChargingStation> findShortestWait();
+
+    /**
+     * Get stations from nearest to furthest, located lazily so callers can stop early
+     * @param position Position to search from
+     * @return Stations in order of distance
+     */
+    Iterable<ChargingStation> findAllByDistance(RobotPosition position);
+
+    /**
+     * Count free chargers not already claimed by a queued or expected robot
+     * @return Spare chargers across all stations
+     */
+    int countSpareSlots();
+
+    /**
+     * Get all stations
+     * @return List of stations
+     */
+    List<ChargingStation> findAll();
+
+    /**
+     * Save charging station
+     * @param station Station to save
+     * @return Saved station
+     */
+    ChargingStation save(ChargingStation station);
+}
@@ -0,0 +1,32 @@
+package com.paklog.robotics.fleet.management.domain.repository;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.Fleet;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fleet Repository Port
+ */
+public interface FleetRepository {
+
+    /**
+     * Find fleet by its identifier
+     * @param fleetId Fleet identifier
+     * @return Fleet if known
+     */
+    Optional<Fleet> findById(String fleetId);
+
+    /**
+     * Get all fleets
+     * @return List of fleets
+     */
+    List<Fleet> findAll();
+
+    /**
+     * Save fleet aggregate
+     * @param fleet Fleet to save
+     * @return Saved fleet
+     */
+    Fleet save(Fleet fleet);
+}
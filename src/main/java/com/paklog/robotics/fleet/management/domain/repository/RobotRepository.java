@@ -0,0 +1,39 @@
+package com.paklog.robotics.fleet.management.domain.repository;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Robot Repository Port
+ * Provides access to registered robot aggregates
+ */
+public interface RobotRepository {
+
+    /**
+     * Find robot by its identifier
+     * @param robotId Robot identifier
+     * @return Robot if registered
+     */
+    Optional<Robot> findById(String robotId);
+
+    /**
+     * Get all registered robots
+     * @return List of robots
+     */
+    List<Robot> findAll();
+
+    /**
+     * Save robot aggregate
+     * @param robot Robot to save
+     * @return Saved robot
+     */
+    Robot save(Robot robot);
+
+    /**
+     * Remove robot from the repository
+     * @param robotId Robot identifier
+     */
+    void deleteById(String robotId);
+}
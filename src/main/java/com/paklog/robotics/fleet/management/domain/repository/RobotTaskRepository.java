@@ -0,0 +1,95 @@
+package com.paklog.robotics.fleet.management.domain.repository;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskPriority;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Robot Task Repository Port
+ * Provides access to task aggregates
+ */
+public interface RobotTaskRepository {
+
+    /**
+     * Find task by its identifier
+     * @param taskId Task identifier
+     * @return Task if known
+     */
+    Optional<RobotTask> findById(String taskId);
+
+    /**
+     * Find tasks in a given status
+     * @param status Task status
+     * @return Matching tasks
+     */
+    List<RobotTask> findByStatus(TaskStatus status);
+
+    /**
+     * Find tasks matching a status, priority and required capability
+     * @param status Task status, or null for any
+     * @param priority Task priority, or null for any
+     * @param capability Required capability, or null for any
+     * @return Matching tasks, oldest first within each status, priority and capability
+     */
+    List<RobotTask> findByStatusAndPriorityAndCapability(TaskStatus status, TaskPriority priority,
+                                                         RobotCapability capability);
+
+    /**
+     * Find the unfinished tasks assigned to a robot
+     * @param robotId Robot identifier
+     * @return Assigned and in-progress tasks of the robot
+     */
+    List<RobotTask> findOpenByRobotId(String robotId);
+
+    /**
+     * Count tasks in a given status
+     * @param status Task status
+     * @return Number of tasks
+     */
+    int countByStatus(TaskStatus status);
+
+    /**
+     * Count tasks saved under an id the repository did not hold, since startup
+     * @return Number of tasks created, including tasks restored at startup
+     */
+    long countCreated();
+
+    /**
+     * Get all tasks
+     * @return List of tasks
+     */
+    List<RobotTask> findAll();
+
+    /**
+     * Get all tasks for reading only, as periodic persistence does; finished tasks
+     * may be shared payload-less copies that must not be modified
+     * @return List of tasks
+     */
+    default List<RobotTask> findAllReadOnly() {
+        return findAll();
+    }
+
+    /**
+     * Save task aggregate
+     * @param task Task to save
+     * @return Saved task
+     */
+    RobotTask save(RobotTask task);
+
+    /**
+     * Save a task unless one with the same id is already known
+     * @param task Task to save
+     * @return true if the task was saved, false if its id was taken
+     */
+    boolean saveIfAbsent(RobotTask task);
+
+    /**
+     * Remove task from the repository
+     * @param taskId Task identifier
+     */
+    void deleteById(String taskId);
+}
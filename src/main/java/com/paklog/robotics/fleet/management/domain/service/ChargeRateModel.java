@@ -0,0 +1,38 @@
+package com.paklog.robotics.fleet.management.domain.service;
+
+import java.time.Duration;
+
+/**
+ * Charge Rate Model
+ * Predicts how long a charger needs to bring a battery from one level to another.
+ */
+@FunctionalInterface
+public interface ChargeRateModel {
+
+    /**
+     * Time to charge between two battery levels
+     * @param fromPercentage Level when charging starts
+     * @param toPercentage Level when charging stops
+     * @return Charging time, zero if the battery is already at the target
+     */
+    Duration timeToCharge(double fromPercentage, double toPercentage);
+
+    /**
+     * Time to charge from the given level to full
+     */
+    default Duration timeToFull(double fromPercentage) {
+        return timeToCharge(fromPercentage, 100.0);
+    }
+
+    /**
+     * Constant charge rate over the whole battery range
+     * @param percentPerMinute Percentage points gained per minute on a charger
+     */
+    static ChargeRateModel linear(double percentPerMinute) {
+        if (percentPerMinute <= 0) {
+            throw new IllegalArgumentException("Charge rate must be positive");
+        }
+        return (fromPercentage, toPercentage) -> Duration.ofMillis(
+            Math.round(Math.max(0.0, toPercentage - fromPercentage) / percentPerMinute * 60_000.0));
+    }
+}
@@ -0,0 +1,80 @@
+package com.paklog.robotics.fleet.management.domain.service;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.ChargingStation;
+import com.paklog.robotics.fleet.management.domain.valueobject.ChargingPlan;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Charging Scheduler
+ * Chooses the charging station that gets a robot onto a charger soonest.
+ *
+ * Each station is quoted the straight-line travel time at the nominal speed plus
+ * the station's predicted wait for a robot arriving then, where every robot
+ * already charging, queued or holding a reservation is charged to full at the
+ * rate of the {@link ChargeRateModel}. The caller reserves a slot at the chosen
+ * station so later quotes see the robot coming.
+ */
+public class ChargingScheduler {
+
+    private final ChargeRateModel chargeRate;
+    private final double travelSpeed;
+
+    /**
+     * @param chargeRate Charging time between battery levels
+     * @param travelSpeed Nominal robot speed in metres per second
+     */
+    public ChargingScheduler(ChargeRateModel chargeRate, double travelSpeed) {
+        if (travelSpeed <= 0) {
+            throw new IllegalArgumentException("Travel speed must be positive");
+        }
+        this.chargeRate = chargeRate;
+        this.travelSpeed = travelSpeed;
+    }
+
+    /**
+     * Station with the least travel time plus predicted wait
+     * @param robotId Robot to send charging
+     * @param from Current position of the robot
+     * @param emergency Whether the robot will pre-empt the regular queue
+     * @param stations Candidate stations
+     * @param batteryOf Current battery level of any robot at a station
+     * @param now Time the robot sets off
+     * @return Best plan, or empty if there are no stations
+     */
+    public Optional<ChargingPlan> plan(String robotId, RobotPosition from, boolean emergency,
+                                       Iterable<ChargingStation> stations, ToDoubleFunction<String> batteryOf,
+                                       Instant now) {
+        ChargingPlan best = null;
+        for (ChargingStation station : stations) {
+            ChargingPlan quote = quote(station, robotId, from, emergency, batteryOf, now);
+            if (best == null || quote.timeToCharger().compareTo(best.timeToCharger()) < 0) {
+                best = quote;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * Travel time and predicted wait for a robot heading to one station
+     */
+    public ChargingPlan quote(ChargingStation station, String robotId, RobotPosition from, boolean emergency,
+                              ToDoubleFunction<String> batteryOf, Instant now) {
+        Duration travelTime = travelTime(from, station.getLocation());
+        Instant arrival = now.plus(travelTime);
+        Duration wait = station.estimateWaitTime(robotId, arrival, emergency,
+            other -> chargeRate.timeToFull(batteryOf.applyAsDouble(other)));
+        return new ChargingPlan(station.getStationId(), station.getLocation(), travelTime, wait, arrival, emergency);
+    }
+
+    /**
+     * Straight-line driving time between two positions
+     */
+    public Duration travelTime(RobotPosition from, RobotPosition to) {
+        return Duration.ofMillis(Math.round(from.distanceTo(to) / travelSpeed * 1000.0));
+    }
+}
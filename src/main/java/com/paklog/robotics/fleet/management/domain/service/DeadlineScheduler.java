@@ -0,0 +1,113 @@
+package com.paklog.robotics.fleet.management.domain.service;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Deadline Scheduler
+ * Decides the order in which pending tasks are offered to robots.
+ *
+ * Slack is the time until a task is due less the time it takes to carry out:
+ * the planned drive from origin to destination plus a fixed handling time. In
+ * EDF mode tasks go least slack first, so a transport for a truck leaving in
+ * ten minutes beats an urgent one due in an hour. Tasks without a due time are
+ * treated as due at creation plus the undated allowance, so they age into the
+ * schedule rather than starving behind a steady stream of dated work. Equal
+ * slack falls back to priority, then age. In PRIORITY mode tasks go highest
+ * priority first, then oldest first, and due times only feed the slack figures.
+ */
+public class DeadlineScheduler {
+
+    /**
+     * Order in which pending tasks are offered
+     */
+    public enum Mode {
+        PRIORITY,
+        EDF
+    }
+
+    /**
+     * Pending task with its slack when scheduled
+     *
+     * @param task Task to assign
+     * @param slackSeconds Seconds to spare if work on the task started now; negative if it will be late
+     */
+    public record ScheduledTask(RobotTask task, double slackSeconds) {
+
+        /**
+         * Check if a dated task has less slack than the threshold
+         */
+        public boolean isAtRisk(Duration threshold) {
+            return task.hasDeadline() && slackSeconds < threshold.toMillis() / 1000.0;
+        }
+
+        /**
+         * Check if a dated task is already past its due time
+         */
+        public boolean isOverdue(Instant now) {
+            return task.hasDeadline() && task.getDueAt().isBefore(now);
+        }
+    }
+
+    private static final Comparator<ScheduledTask> BY_PRIORITY = Comparator
+        .comparingInt((ScheduledTask scheduled) -> scheduled.task().getPriority().getLevel()).reversed()
+        .thenComparing(scheduled -> scheduled.task().getCreatedAt());
+
+    private static final Comparator<ScheduledTask> BY_SLACK = Comparator
+        .comparingDouble(ScheduledTask::slackSeconds)
+        .thenComparing(BY_PRIORITY);
+
+    private final Mode mode;
+    private final Duration undatedAllowance;
+    private final double handlingSeconds;
+    private final ToDoubleFunction<RobotTask> travelSeconds;
+
+    /**
+     * @param mode Scheduling order
+     * @param undatedAllowance Time after creation by which a task without a due time should be done
+     * @param handlingTime Time spent at origin and destination on top of the drive between them
+     * @param travelSeconds Planned drive from a task's origin to its destination in seconds
+     */
+    public DeadlineScheduler(Mode mode, Duration undatedAllowance, Duration handlingTime,
+                             ToDoubleFunction<RobotTask> travelSeconds) {
+        if (undatedAllowance.isNegative() || handlingTime.isNegative()) {
+            throw new IllegalArgumentException("Allowance and handling time cannot be negative");
+        }
+        this.mode = mode;
+        this.undatedAllowance = undatedAllowance;
+        this.handlingSeconds = handlingTime.toMillis() / 1000.0;
+        this.travelSeconds = travelSeconds;
+    }
+
+    /**
+     * Pending tasks in the order they should be offered to robots
+     */
+    public List<ScheduledTask> schedule(Collection<RobotTask> tasks, Instant now) {
+        List<ScheduledTask> scheduled = new ArrayList<>(tasks.size());
+        for (RobotTask task : tasks) {
+            scheduled.add(new ScheduledTask(task, slackSeconds(task, now)));
+        }
+        scheduled.sort(mode == Mode.EDF ? BY_SLACK : BY_PRIORITY);
+        return scheduled;
+    }
+
+    /**
+     * Seconds to spare if work on the task started now
+     */
+    public double slackSeconds(RobotTask task, Instant now) {
+        Instant due = task.hasDeadline() ? task.getDueAt() : task.getCreatedAt().plus(undatedAllowance);
+        double untilDue = Duration.between(now, due).toMillis() / 1000.0;
+        return untilDue - travelSeconds.applyAsDouble(task) - handlingSeconds;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+}
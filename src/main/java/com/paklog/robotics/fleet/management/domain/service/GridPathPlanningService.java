@@ -0,0 +1,486 @@
+package com.paklog.robotics.fleet.management.domain.service;
+
+import com.paklog.robotics.fleet.management.domain.valueobject.PathPlan;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.TrafficZone;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Grid Path Planning Service
+ * Plans routes that keep a clearance from blocked positions and are costed by
+ * travel time, so slow traffic zones are avoided when a faster way round exists.
+ *
+ * A straight segment is used when it is clear and crosses no zone slower than
+ * the nominal speed. Otherwise A* runs over a grid window around start and
+ * goal, widened until a path is found or the window reaches the floor edges or
+ * its cell budget. A window too large for the budget is searched at a coarser
+ * resolution.
+ * Blocked positions within the clearance of the start are ignored so a robot
+ * can always pull away from a neighbour it is parked next to.
+ */
+public class GridPathPlanningService implements PathPlanningService {
+
+    private static final double DEFAULT_CELL_SIZE = 1.0;
+    private static final double DEFAULT_NOMINAL_SPEED = 1.5; // meters per second
+    private static final double DEFAULT_CLEARANCE = 1.0;
+    private static final double FLOOR_SIZE = 10_000.0;
+    private static final int WINDOW_MARGIN_CELLS = 16;
+    private static final int MAX_WINDOW_CELLS = 1_000_000;
+    private static final int[] STEP_COLUMNS = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] STEP_ROWS = {0, 0, 1, -1, 1, -1, 1, -1};
+
+    private final double cellSize;
+    private final double nominalSpeed;
+    private final double clearance;
+
+    public GridPathPlanningService() {
+        this(DEFAULT_CELL_SIZE, DEFAULT_NOMINAL_SPEED, DEFAULT_CLEARANCE);
+    }
+
+    public GridPathPlanningService(double cellSize, double nominalSpeed, double clearance) {
+        if (cellSize <= 0 || nominalSpeed <= 0 || clearance < 0) {
+            throw new IllegalArgumentException("Cell size and speed must be positive and clearance non-negative");
+        }
+        this.cellSize = cellSize;
+        this.nominalSpeed = nominalSpeed;
+        this.clearance = clearance;
+    }
+
+    @Override
+    public PathPlan calculatePath(RobotPosition start, RobotPosition goal, Set<RobotPosition> blockedZones,
+                                  List<TrafficZone> trafficZones) {
+        List<RobotPosition> obstacles = new ArrayList<>();
+        if (blockedZones != null) {
+            for (RobotPosition blocked : blockedZones) {
+                if (!blocked.isTooCloseTo(start, clearance)) {
+                    obstacles.add(blocked);
+                }
+            }
+        }
+        List<TrafficZone> slowZones = new ArrayList<>();
+        if (trafficZones != null) {
+            for (TrafficZone zone : trafficZones) {
+                if (zone.getSpeedLimit() < nominalSpeed) {
+                    slowZones.add(zone);
+                }
+            }
+        }
+
+        if (isClear(start, goal, obstacles) && slowZones.stream().noneMatch(zone -> crosses(zone, start, goal))) {
+            return toPlan(List.of(start, goal), slowZones);
+        }
+        Grid grid = Grid.around(start, goal, WINDOW_MARGIN_CELLS * cellSize, cellSize);
+        for (int margin = WINDOW_MARGIN_CELLS * 2; ; margin *= 2) {
+            List<RobotPosition> route = search(grid, start, goal, obstacles, slowZones);
+            if (route != null) {
+                return toPlan(route, slowZones);
+            }
+            Grid wider = Grid.around(start, goal, margin * cellSize, cellSize);
+            if (grid.coversFloor || wider.coarsened) {
+                throw new IllegalStateException("No path from " + start + " to " + goal);
+            }
+            grid = wider;
+        }
+    }
+
+    @Override
+    public boolean validatePath(PathPlan path, Set<RobotPosition> blockedZones) {
+        if (path == null || path.getWaypointCount() == 0) {
+            return false;
+        }
+        if (blockedZones == null || blockedZones.isEmpty()) {
+            return true;
+        }
+        List<RobotPosition> waypoints = path.waypoints();
+        List<RobotPosition> obstacles = List.copyOf(blockedZones);
+        if (waypoints.size() == 1) {
+            return isClear(waypoints.get(0), waypoints.get(0), obstacles);
+        }
+        for (int i = 1; i < waypoints.size(); i++) {
+            if (!isClear(waypoints.get(i - 1), waypoints.get(i), obstacles)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public PathPlan recalculatePath(PathPlan currentPath, RobotPosition currentPosition,
+                                    Set<RobotPosition> positionsToAvoid) {
+        if (currentPath == null || currentPath.getWaypointCount() == 0) {
+            throw new IllegalArgumentException("Current path has no destination");
+        }
+        RobotPosition goal = currentPath.waypoints().get(currentPath.getWaypointCount() - 1);
+        return calculatePath(currentPosition, goal, positionsToAvoid, List.of());
+    }
+
+    /**
+     * A* over the grid window, moving in eight directions
+     * @return waypoints from start to goal, or null if the goal is unreachable inside the window
+     */
+    private List<RobotPosition> search(Grid grid, RobotPosition start, RobotPosition goal,
+                                       List<RobotPosition> obstacles, List<TrafficZone> slowZones) {
+        int cells = grid.columns * grid.rows;
+        boolean[] blocked = grid.blockedCells(obstacles, clearance);
+        double[] secondsPerMeter = grid.secondsPerMeter(slowZones, nominalSpeed);
+
+        int startCell = grid.cellOf(start);
+        int goalCell = grid.cellOf(goal);
+        blocked[startCell] = false;
+        if (blocked[goalCell]) {
+            return null;
+        }
+
+        double[] cost = new double[cells];
+        Arrays.fill(cost, Double.POSITIVE_INFINITY);
+        int[] parent = new int[cells];
+        boolean[] closed = new boolean[cells];
+        CellHeap open = new CellHeap();
+        double goalX = grid.centreX(goalCell);
+        double goalY = grid.centreY(goalCell);
+
+        cost[startCell] = 0.0;
+        parent[startCell] = -1;
+        open.push(startCell, 0.0);
+        while (!open.isEmpty()) {
+            int cell = open.pop();
+            if (closed[cell]) {
+                continue;
+            }
+            if (cell == goalCell) {
+                return toRoute(grid, parent, goalCell, start, goal);
+            }
+            closed[cell] = true;
+            int column = cell % grid.columns;
+            int row = cell / grid.columns;
+            for (int step = 0; step < STEP_COLUMNS.length; step++) {
+                int nextColumn = column + STEP_COLUMNS[step];
+                int nextRow = row + STEP_ROWS[step];
+                if (nextColumn < 0 || nextRow < 0 || nextColumn >= grid.columns || nextRow >= grid.rows) {
+                    continue;
+                }
+                int next = nextRow * grid.columns + nextColumn;
+                if (blocked[next] || closed[next]) {
+                    continue;
+                }
+                if (step >= 4 && (blocked[row * grid.columns + nextColumn]
+                        || blocked[nextRow * grid.columns + column])) {
+                    continue; // no cutting corners past an obstacle
+                }
+                double meters = step >= 4 ? grid.cellSize * Math.sqrt(2.0) : grid.cellSize;
+                double nextCost = cost[cell] + meters * (secondsPerMeter[cell] + secondsPerMeter[next]) / 2.0;
+                if (nextCost < cost[next]) {
+                    cost[next] = nextCost;
+                    parent[next] = cell;
+                    double remainingX = Math.abs(goalX - grid.columnCentre(nextColumn));
+                    double remainingY = Math.abs(goalY - grid.rowCentre(nextRow));
+                    // Octile distance: the shortest obstacle-free route on an eight-connected grid
+                    double remaining = Math.max(remainingX, remainingY)
+                        + (Math.sqrt(2.0) - 1.0) * Math.min(remainingX, remainingY);
+                    open.push(next, nextCost + remaining / nominalSpeed);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Walk back from the goal, keeping only the cells where the direction changes
+     */
+    private static List<RobotPosition> toRoute(Grid grid, int[] parent, int goalCell,
+                                               RobotPosition start, RobotPosition goal) {
+        List<Integer> cells = new ArrayList<>();
+        for (int cell = goalCell; cell != -1; cell = parent[cell]) {
+            cells.add(cell);
+        }
+        List<RobotPosition> route = new ArrayList<>();
+        route.add(start);
+        for (int i = cells.size() - 2; i >= 1; i--) {
+            int previous = cells.get(i + 1);
+            int cell = cells.get(i);
+            int next = cells.get(i - 1);
+            boolean turns = cell % grid.columns - previous % grid.columns != next % grid.columns - cell % grid.columns
+                || cell / grid.columns - previous / grid.columns != next / grid.columns - cell / grid.columns;
+            if (turns) {
+                double x = grid.centreX(cell);
+                double y = grid.centreY(cell);
+                route.add(RobotPosition.of(x, y,
+                    headingBetween(x, y, grid.centreX(next), grid.centreY(next))));
+            }
+        }
+        route.add(goal);
+        return route;
+    }
+
+    private PathPlan toPlan(List<RobotPosition> route, List<TrafficZone> slowZones) {
+        double distance = 0.0;
+        double seconds = 0.0;
+        for (int i = 1; i < route.size(); i++) {
+            RobotPosition from = route.get(i - 1);
+            RobotPosition to = route.get(i);
+            distance += from.distanceTo(to);
+            seconds += travelSeconds(from, to, slowZones);
+        }
+        return PathPlan.of(route, distance, seconds);
+    }
+
+    /**
+     * Time to drive a straight segment, slowing down inside zones with a lower limit
+     */
+    private double travelSeconds(RobotPosition from, RobotPosition to, List<TrafficZone> slowZones) {
+        double length = from.distanceTo(to);
+        if (slowZones.isEmpty() || slowZones.stream().noneMatch(zone -> crosses(zone, from, to))) {
+            return length / nominalSpeed;
+        }
+        int steps = Math.max(1, (int) Math.ceil(length / (cellSize / 2.0)));
+        double stepLength = length / steps;
+        double seconds = 0.0;
+        for (int i = 0; i < steps; i++) {
+            double t = (i + 0.5) / steps;
+            double x = from.getX() + (to.getX() - from.getX()) * t;
+            double y = from.getY() + (to.getY() - from.getY()) * t;
+            seconds += stepLength / speedAt(x, y, slowZones, nominalSpeed);
+        }
+        return seconds;
+    }
+
+    private boolean isClear(RobotPosition from, RobotPosition to, List<RobotPosition> obstacles) {
+        for (RobotPosition obstacle : obstacles) {
+            if (distanceToSegment(obstacle.getX(), obstacle.getY(), from, to) < clearance) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static double distanceToSegment(double x, double y, RobotPosition from, RobotPosition to) {
+        double dx = to.getX() - from.getX();
+        double dy = to.getY() - from.getY();
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared == 0.0 ? 0.0
+            : Math.max(0.0, Math.min(1.0, ((x - from.getX()) * dx + (y - from.getY()) * dy) / lengthSquared));
+        double offsetX = x - (from.getX() + t * dx);
+        double offsetY = y - (from.getY() + t * dy);
+        return Math.sqrt(offsetX * offsetX + offsetY * offsetY);
+    }
+
+    /**
+     * Whether a segment passes through a zone, by clipping it to the zone rectangle
+     */
+    private static boolean crosses(TrafficZone zone, RobotPosition from, RobotPosition to) {
+        double dx = to.getX() - from.getX();
+        double dy = to.getY() - from.getY();
+        double[] p = {-dx, dx, -dy, dy};
+        double[] q = {from.getX() - zone.getMinX(), zone.getMaxX() - from.getX(),
+            from.getY() - zone.getMinY(), zone.getMaxY() - from.getY()};
+        double enter = 0.0;
+        double exit = 1.0;
+        for (int i = 0; i < 4; i++) {
+            if (p[i] == 0.0) {
+                if (q[i] < 0.0) {
+                    return false;
+                }
+            } else {
+                double t = q[i] / p[i];
+                if (p[i] < 0.0) {
+                    enter = Math.max(enter, t);
+                } else {
+                    exit = Math.min(exit, t);
+                }
+            }
+        }
+        return enter <= exit;
+    }
+
+    private static double speedAt(double x, double y, List<TrafficZone> slowZones, double nominalSpeed) {
+        double speed = nominalSpeed;
+        for (TrafficZone zone : slowZones) {
+            if (x >= zone.getMinX() && x <= zone.getMaxX() && y >= zone.getMinY() && y <= zone.getMaxY()) {
+                speed = Math.min(speed, zone.getSpeedLimit());
+            }
+        }
+        return speed;
+    }
+
+    private static double headingBetween(double fromX, double fromY, double toX, double toY) {
+        double degrees = Math.toDegrees(Math.atan2(toY - fromY, toX - fromX));
+        return degrees < 0.0 ? degrees + 360.0 : degrees;
+    }
+
+    /**
+     * Rectangular window of square cells on the floor
+     */
+    private static final class Grid {
+        private final double cellSize;
+        private final double originX;
+        private final double originY;
+        private final int columns;
+        private final int rows;
+        private final boolean coversFloor;
+        private final boolean coarsened;
+
+        private Grid(double cellSize, double originX, double originY, int columns, int rows, boolean coversFloor,
+                     boolean coarsened) {
+            this.cellSize = cellSize;
+            this.originX = originX;
+            this.originY = originY;
+            this.columns = columns;
+            this.rows = rows;
+            this.coversFloor = coversFloor;
+            this.coarsened = coarsened;
+        }
+
+        /**
+         * Window around both ends, coarsened if it would exceed the cell budget
+         */
+        static Grid around(RobotPosition start, RobotPosition goal, double margin, double cellSize) {
+            double minX = Math.max(0.0, Math.min(start.getX(), goal.getX()) - margin);
+            double minY = Math.max(0.0, Math.min(start.getY(), goal.getY()) - margin);
+            double maxX = Math.min(FLOOR_SIZE, Math.max(start.getX(), goal.getX()) + margin);
+            double maxY = Math.min(FLOOR_SIZE, Math.max(start.getY(), goal.getY()) + margin);
+            double size = cellSize;
+            while ((Math.floor(maxX / size) - Math.floor(minX / size) + 1)
+                    * (Math.floor(maxY / size) - Math.floor(minY / size) + 1) > MAX_WINDOW_CELLS) {
+                size *= 2.0;
+            }
+            double originX = Math.floor(minX / size) * size;
+            double originY = Math.floor(minY / size) * size;
+            int columns = (int) (Math.floor(maxX / size) - Math.floor(minX / size)) + 1;
+            int rows = (int) (Math.floor(maxY / size) - Math.floor(minY / size)) + 1;
+            boolean coversFloor = minX == 0.0 && minY == 0.0 && maxX == FLOOR_SIZE && maxY == FLOOR_SIZE;
+            return new Grid(size, originX, originY, columns, rows, coversFloor, size > cellSize);
+        }
+
+
+        int cellOf(RobotPosition position) {
+            int column = Math.min(columns - 1, (int) ((position.getX() - originX) / cellSize));
+            int row = Math.min(rows - 1, (int) ((position.getY() - originY) / cellSize));
+            return row * columns + column;
+        }
+
+        double centreX(int cell) {
+            return columnCentre(cell % columns);
+        }
+
+        double centreY(int cell) {
+            return rowCentre(cell / columns);
+        }
+
+        double columnCentre(int column) {
+            return Math.min(FLOOR_SIZE, originX + (column + 0.5) * cellSize);
+        }
+
+        double rowCentre(int row) {
+            return Math.min(FLOOR_SIZE, originY + (row + 0.5) * cellSize);
+        }
+
+        /**
+         * Cells whose centre lies within the clearance of a blocked position. Once
+         * coarsened, any cell the clearance reaches is blocked so thin walls stay closed.
+         */
+        boolean[] blockedCells(List<RobotPosition> obstacles, double clearance) {
+            boolean[] blocked = new boolean[columns * rows];
+            double reach = coarsened ? clearance + cellSize * Math.sqrt(0.5) : clearance;
+            double reachSquared = reach * reach;
+            for (RobotPosition obstacle : obstacles) {
+                int fromColumn = Math.max(0, (int) Math.floor((obstacle.getX() - reach - originX) / cellSize));
+                int toColumn = Math.min(columns - 1, (int) Math.floor((obstacle.getX() + reach - originX) / cellSize));
+                int fromRow = Math.max(0, (int) Math.floor((obstacle.getY() - reach - originY) / cellSize));
+                int toRow = Math.min(rows - 1, (int) Math.floor((obstacle.getY() + reach - originY) / cellSize));
+                for (int row = fromRow; row <= toRow; row++) {
+                    for (int column = fromColumn; column <= toColumn; column++) {
+                        double dx = columnCentre(column) - obstacle.getX();
+                        double dy = rowCentre(row) - obstacle.getY();
+                        if (dx * dx + dy * dy < reachSquared) {
+                            blocked[row * columns + column] = true;
+                        }
+                    }
+                }
+            }
+            return blocked;
+        }
+
+        double[] secondsPerMeter(List<TrafficZone> slowZones, double nominalSpeed) {
+            double[] secondsPerMeter = new double[columns * rows];
+            Arrays.fill(secondsPerMeter, 1.0 / nominalSpeed);
+            for (TrafficZone zone : slowZones) {
+                int fromColumn = Math.max(0, (int) Math.floor((zone.getMinX() - originX) / cellSize));
+                int toColumn = Math.min(columns - 1, (int) Math.floor((zone.getMaxX() - originX) / cellSize));
+                int fromRow = Math.max(0, (int) Math.floor((zone.getMinY() - originY) / cellSize));
+                int toRow = Math.min(rows - 1, (int) Math.floor((zone.getMaxY() - originY) / cellSize));
+                for (int row = fromRow; row <= toRow; row++) {
+                    for (int column = fromColumn; column <= toColumn; column++) {
+                        int cell = row * columns + column;
+                        double x = columnCentre(column);
+                        double y = rowCentre(row);
+                        if (x >= zone.getMinX() && x <= zone.getMaxX() && y >= zone.getMinY() && y <= zone.getMaxY()) {
+                            secondsPerMeter[cell] = Math.max(secondsPerMeter[cell], 1.0 / zone.getSpeedLimit());
+                        }
+                    }
+                }
+            }
+            return secondsPerMeter;
+        }
+    }
+
+    /**
+     * Binary min-heap of cells keyed by estimated total cost; stale entries are skipped on pop
+     */
+    private static final class CellHeap {
+        private int[] cells = new int[256];
+        private double[] keys = new double[256];
+        private int size;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(int cell, double key) {
+            if (size == cells.length) {
+                cells = Arrays.copyOf(cells, size * 2);
+                keys = Arrays.copyOf(keys, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int up = (i - 1) >>> 1;
+                if (keys[up] <= key) {
+                    break;
+                }
+                cells[i] = cells[up];
+                keys[i] = keys[up];
+                i = up;
+            }
+            cells[i] = cell;
+            keys[i] = key;
+        }
+
+        int pop() {
+            int top = cells[0];
+            int lastCell = cells[--size];
+            double lastKey = keys[size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (keys[child] >= lastKey) {
+                    break;
+                }
+                cells[i] = cells[child];
+                keys[i] = keys[child];
+                i = child;
+            }
+            cells[i] = lastCell;
+            keys[i] = lastKey;
+            return top;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.paklog.robotics.fleet.management.domain.service;
+
+import com.paklog.robotics.fleet.management.domain.valueobject.BatteryLevel;
+
+/**
+ * Opportunity Charging Policy
+ * Decides when idle robots should top up ahead of need and when robots topping
+ * up should go back to work.
+ *
+ * Demand is the number of robots the work needs: the larger of the robots
+ * executing now and the arrival rate times the mean task time, plus the tasks
+ * waiting for a robot. Load is demand over the robots in service (idle or
+ * executing). In a trough, idle robots beyond what keeps the load at the trough
+ * level may charge to the partial target. At a peak, robots topping up are
+ * recalled until the waiting tasks are covered or the load is back to the peak
+ * level. Between the two levels nothing changes, so the fleet does not flap
+ * between charging and working.
+ */
+public class OpportunityChargingPolicy {
+
+    /**
+     * Demand level of the fleet
+     */
+    public enum Demand {
+        TROUGH,
+        STEADY,
+        PEAK
+    }
+
+    /**
+     * What the fleet is doing and how much work is coming
+     *
+     * @param arrivalsPerMinute Smoothed rate at which tasks are created
+     * @param pendingTasks Tasks waiting for a robot
+     * @param executingRobots Robots working on a task
+     * @param idleRobots Robots idle with enough charge to work
+     * @param toppingUpRobots Robots sent to top up that can be recalled
+     */
+    public record FleetDemand(
+        double arrivalsPerMinute,
+        int pendingTasks,
+        int executingRobots,
+        int idleRobots,
+        int toppingUpRobots
+    ) {}
+
+    private final double troughLoad;
+    private final double peakLoad;
+    private final double meanTaskMinutes;
+    private final int maxStartLevel;
+    private final int targetLevel;
+    private final int minReleaseLevel;
+
+    /**
+     * @param troughLoad Load at or below which idle robots may top up
+     * @param peakLoad Load at or above which robots topping up are recalled
+     * @param meanTaskMinutes Average time a robot spends on one task
+     * @param maxStartLevel Robots at or above this level are not worth topping up
+     * @param targetLevel Level topping up charges to
+     * @param minReleaseLevel Robots below this level keep charging through a peak
+     */
+    public OpportunityChargingPolicy(double troughLoad, double peakLoad, double meanTaskMinutes,
+                                     int maxStartLevel, int targetLevel, int minReleaseLevel) {
+        if (troughLoad <= 0 || peakLoad <= troughLoad) {
+            throw new IllegalArgumentException("Peak load must be above a positive trough load");
+        }
+        if (meanTaskMinutes <= 0) {
+            throw new IllegalArgumentException("Mean task time must be positive");
+        }
+        if (maxStartLevel <= BatteryLevel.LOW_THRESHOLD || targetLevel <= maxStartLevel || targetLevel > 100) {
+            throw new IllegalArgumentException("Levels must satisfy low threshold < start level < target <= 100");
+        }
+        if (minReleaseLevel <= BatteryLevel.LOW_THRESHOLD || minReleaseLevel > targetLevel) {
+            throw new IllegalArgumentException("Release level must lie between the low threshold and the target");
+        }
+        this.troughLoad = troughLoad;
+        this.peakLoad = peakLoad;
+        this.meanTaskMinutes = meanTaskMinutes;
+        this.maxStartLevel = maxStartLevel;
+        this.targetLevel = targetLevel;
+        this.minReleaseLevel = minReleaseLevel;
+    }
+
+    /**
+     * Robots the work needs right now
+     */
+    public double requiredRobots(FleetDemand demand) {
+        return Math.max(demand.executingRobots(), demand.arrivalsPerMinute() * meanTaskMinutes)
+            + demand.pendingTasks();
+    }
+
+    /**
+     * Required robots per robot in service; infinite with work but nobody to do it
+     */
+    public double load(FleetDemand demand) {
+        double required = requiredRobots(demand);
+        int inService = demand.executingRobots() + demand.idleRobots();
+        if (inService == 0) {
+            return required > 0 ? Double.POSITIVE_INFINITY : 0.0;
+        }
+        return required / inService;
+    }
+
+    public Demand assess(FleetDemand demand) {
+        double load = load(demand);
+        if (load <= troughLoad) {
+            return Demand.TROUGH;
+        }
+        return load >= peakLoad ? Demand.PEAK : Demand.STEADY;
+    }
+
+    /**
+     * How many idle robots may start topping up
+     * @param freeChargers Charger slots nobody is using, waiting for or driving to
+     */
+    public int robotsToSend(FleetDemand demand, int freeChargers) {
+        if (assess(demand) != Demand.TROUGH) {
+            return 0;
+        }
+        int keep = (int) Math.ceil(requiredRobots(demand) / troughLoad);
+        int spare = demand.executingRobots() + demand.idleRobots() - keep;
+        return Math.max(0, Math.min(Math.min(spare, demand.idleRobots()), freeChargers));
+    }
+
+    /**
+     * How many robots topping up should go back to work
+     */
+    public int robotsToRelease(FleetDemand demand) {
+        if (assess(demand) != Demand.PEAK) {
+            return 0;
+        }
+        int uncovered = demand.pendingTasks() - demand.idleRobots();
+        int shortfall = (int) Math.ceil(requiredRobots(demand) / peakLoad)
+            - demand.executingRobots() - demand.idleRobots();
+        return Math.max(0, Math.min(Math.max(uncovered, shortfall), demand.toppingUpRobots()));
+    }
+
+    /**
+     * Check if an idle robot at the given level is worth topping up
+     */
+    public boolean shouldTopUp(int batteryPercentage) {
+        return batteryPercentage > BatteryLevel.LOW_THRESHOLD && batteryPercentage < maxStartLevel;
+    }
+
+    /**
+     * Check if a robot topping up has enough charge to be recalled
+     */
+    public boolean canRelease(int batteryPercentage) {
+        return batteryPercentage >= minReleaseLevel;
+    }
+
+    public int getTargetLevel() {
+        return targetLevel;
+    }
+}
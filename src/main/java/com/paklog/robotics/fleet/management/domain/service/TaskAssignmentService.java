@@ -0,0 +1,93 @@
+package com.paklog.robotics.fleet.management.domain.service;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotStatus;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Task Assignment Service
+ * Picks the robot for a task and hands the task over.
+ *
+ * A robot qualifies when it is idle, healthy, has the required capability and
+ * its learned drain model predicts that the task plus the drive from the task's
+ * destination to the nearest charger leaves it above the low battery threshold.
+ * Of the qualifying robots the one closest to the task origin wins.
+ */
+public class TaskAssignmentService {
+
+    private final Function<RobotPosition, Optional<RobotPosition>> nearestCharger;
+
+    /**
+     * Assignment without charger locations; the return trip is left out of the energy check
+     */
+    public TaskAssignmentService() {
+        this(position -> Optional.empty());
+    }
+
+    /**
+     * @param nearestCharger Location of the charger closest to a position, if any
+     */
+    public TaskAssignmentService(Function<RobotPosition, Optional<RobotPosition>> nearestCharger) {
+        this.nearestCharger = nearestCharger;
+    }
+
+    /**
+     * Closest robot to the task origin that can take the task
+     */
+    public Optional<Robot> findOptimalRobot(RobotTask task, Collection<Robot> robots) {
+        RobotPosition returnTo = returnPoint(task);
+        Robot best = null;
+        double bestDistance = Double.MAX_VALUE;
+        for (Robot robot : robots) {
+            if (!canAccept(robot, task, returnTo)) {
+                continue;
+            }
+            double distance = robot.distanceTo(task.getOrigin());
+            if (distance < bestDistance) {
+                best = robot;
+                bestDistance = distance;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * Check if a robot can take a task and still reach a charger afterwards
+     */
+    public boolean canRobotAcceptTask(Robot robot, RobotTask task) {
+        return canAccept(robot, task, returnPoint(task));
+    }
+
+    /**
+     * Assign a task to a robot, checking the same conditions as {@link #canRobotAcceptTask}.
+     * The task is claimed first and handed back to the queue if the robot refuses it,
+     * so a failed assignment leaves both as they were.
+     * @throws IllegalStateException if the task is no longer pending or the robot cannot take it
+     */
+    public void assign(Robot robot, RobotTask task) {
+        RobotPosition returnTo = returnPoint(task);
+        task.assign(robot.getRobotId().getValue());
+        try {
+            robot.assignTask(task, returnTo);
+        } catch (IllegalStateException e) {
+            task.requeue();
+            throw e;
+        }
+    }
+
+    private boolean canAccept(Robot robot, RobotTask task, RobotPosition returnTo) {
+        return robot.getStatus() == RobotStatus.IDLE
+            && robot.isHealthy()
+            && robot.hasRequiredCapability(task.getRequiredCapability())
+            && robot.hasEnergyFor(task, returnTo);
+    }
+
+    private RobotPosition returnPoint(RobotTask task) {
+        return nearestCharger.apply(task.getDestination()).orElse(null);
+    }
+}
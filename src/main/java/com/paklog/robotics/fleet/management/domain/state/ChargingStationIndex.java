@@ -0,0 +1,466 @@
+package com.paklog.robotics.fleet.management.domain.state;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Charging Station Index
+ * Finds charging stations by distance and by spare capacity without scanning
+ * every station.
+ *
+ * Station locations sit in a uniform grid of square cells. Nearest-first
+ * searches walk rings of cells outward from the query cell and stop once the
+ * closest unvisited ring is further away than the best station found, so a
+ * lookup touches the cells around the query rather than the whole floor. A
+ * second grid holds only the stations with a free charger, so "nearest station
+ * with capacity" does not wade through busy ones.
+ *
+ * Stations are also kept in an indexed binary heap ordered by free chargers,
+ * most first, then by robots queued or on their way, fewest first. The head is
+ * the station with the shortest wait; stations report their counts through
+ * {@link #update} whenever a robot queues, starts or stops charging, so each
+ * change costs O(log n).
+ *
+ * Cells are a dense array over the area the stations cover, so a probe is an
+ * array read. Updates and capacity queries are serialized on the index. The
+ * grid of all stations is copied and republished when a station is registered
+ * or removed, which is rare, and is read without the lock, so distance walks
+ * can take station locks while they run.
+ */
+public class ChargingStationIndex {
+
+    public static final double DEFAULT_CELL_SIZE = 20.0;
+
+    private static final Comparator<Entry> BY_WAIT = Comparator
+        .comparingInt((Entry entry) -> -entry.freeSlots)
+        .thenComparingInt(entry -> entry.waiting);
+
+    private final double cellSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile Grid all = Grid.EMPTY;
+    private Grid available = Grid.EMPTY;
+    private Entry[] heap = new Entry[16];
+    private int heapSize;
+    private int spareSlots;
+
+    public ChargingStationIndex() {
+        this(DEFAULT_CELL_SIZE);
+    }
+
+    /**
+     * @param cellSize Side of a grid cell in metres; about the spacing of stations works best
+     */
+    public ChargingStationIndex(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.cellSize = cellSize;
+    }
+
+    /**
+     * Add a station, or move it if it was registered at another location
+     */
+    public synchronized void register(String stationId, double x, double y) {
+        Entry previous = entries.get(stationId);
+        if (previous != null) {
+            if (previous.x == x && previous.y == y) {
+                return;
+            }
+            remove(stationId);
+        }
+        Entry entry = new Entry(stationId, x, y, cellOf(x), cellOf(y));
+        Grid grown = all.covering(entry.cx, entry.cy);
+        grown.add(entry);
+        if (grown.width != all.width || grown.height != all.height) {
+            available = available.resized(grown);
+        }
+        all = grown;
+        entries.put(stationId, entry);
+        heapAdd(entry);
+    }
+
+    /**
+     * Remove a station from every index
+     */
+    public synchronized void remove(String stationId) {
+        Entry entry = entries.remove(stationId);
+        if (entry == null) {
+            return;
+        }
+        Grid shrunk = all.copy();
+        shrunk.remove(entry);
+        all = shrunk;
+        if (entry.freeSlots > 0) {
+            available.remove(entry);
+        }
+        spareSlots -= entry.spareSlots();
+        heapRemove(entry);
+    }
+
+    /**
+     * Record the charger and queue counts of a registered station
+     * @param freeSlots Chargers nobody is using
+     * @param waiting Robots queued or holding a reservation
+     */
+    public synchronized void update(String stationId, int freeSlots, int waiting) {
+        Entry entry = entries.get(stationId);
+        if (entry == null || (entry.freeSlots == freeSlots && entry.waiting == waiting)) {
+            return;
+        }
+        if (entry.freeSlots > 0 && freeSlots <= 0) {
+            available.remove(entry);
+        } else if (entry.freeSlots <= 0 && freeSlots > 0) {
+            available.add(entry);
+        }
+        spareSlots -= entry.spareSlots();
+        entry.freeSlots = freeSlots;
+        entry.waiting = waiting;
+        spareSlots += entry.spareSlots();
+        heapFix(entry);
+    }
+
+    /**
+     * Closest station to a point
+     */
+    public Optional<String> nearest(double x, double y) {
+        return Optional.ofNullable(new RingWalk(all, x, y, false).nearest());
+    }
+
+    /**
+     * Closest station to a point with a free charger
+     */
+    public synchronized Optional<String> nearestAvailable(double x, double y) {
+        return Optional.ofNullable(new RingWalk(available, x, y, false).nearest());
+    }
+
+    /**
+     * Station with the most free chargers, then the fewest robots waiting
+     */
+    public synchronized Optional<String> shortestWait() {
+        return heapSize == 0 ? Optional.empty() : Optional.of(heap[0].stationId);
+    }
+
+    /**
+     * Stations from nearest to furthest, found lazily as the walk proceeds
+     */
+    public Iterator<String> byDistance(double x, double y) {
+        return new RingWalk(all, x, y, true);
+    }
+
+    /**
+     * Free chargers across all stations not already claimed by a queued or expected robot
+     */
+    public synchronized int getSpareSlots() {
+        return spareSlots;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private int cellOf(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    // Indexed binary heap
+
+    private void heapAdd(Entry entry) {
+        if (heapSize == heap.length) {
+            heap = Arrays.copyOf(heap, heapSize * 2);
+        }
+        entry.heapIndex = heapSize;
+        heap[heapSize++] = entry;
+        siftUp(entry.heapIndex);
+    }
+
+    private void heapRemove(Entry entry) {
+        int index = entry.heapIndex;
+        Entry last = heap[--heapSize];
+        heap[heapSize] = null;
+        entry.heapIndex = -1;
+        if (index < heapSize) {
+            place(last, index);
+            heapFix(last);
+        }
+    }
+
+    private void heapFix(Entry entry) {
+        siftUp(entry.heapIndex);
+        siftDown(entry.heapIndex);
+    }
+
+    private void siftUp(int index) {
+        Entry entry = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (BY_WAIT.compare(entry, heap[parent]) >= 0) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(entry, index);
+    }
+
+    private void siftDown(int index) {
+        Entry entry = heap[index];
+        int half = heapSize >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            int right = child + 1;
+            if (right < heapSize && BY_WAIT.compare(heap[right], heap[child]) < 0) {
+                child = right;
+            }
+            if (BY_WAIT.compare(entry, heap[child]) <= 0) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(entry, index);
+    }
+
+    private void place(Entry entry, int index) {
+        heap[index] = entry;
+        entry.heapIndex = index;
+    }
+
+    /**
+     * Stations bucketed by cell over a rectangle of cells. Cells are replaced
+     * rather than changed, so copies of a grid can share them.
+     */
+    private static final class Grid {
+
+        private static final Grid EMPTY = new Grid(0, 0, 0, 0);
+
+        private final int minCx;
+        private final int minCy;
+        private final int width;
+        private final int height;
+        private final Entry[][] cells;
+
+        private Grid(int minCx, int minCy, int width, int height) {
+            this.minCx = minCx;
+            this.minCy = minCy;
+            this.width = width;
+            this.height = height;
+            this.cells = new Entry[width * height][];
+        }
+
+        /**
+         * Copy of this grid grown to include a cell
+         */
+        Grid covering(int cx, int cy) {
+            if (width == 0) {
+                return new Grid(cx, cy, 1, 1);
+            }
+            int fromX = Math.min(minCx, cx);
+            int fromY = Math.min(minCy, cy);
+            int toX = Math.max(minCx + width - 1, cx);
+            int toY = Math.max(minCy + height - 1, cy);
+            Grid grown = new Grid(fromX, fromY, toX - fromX + 1, toY - fromY + 1);
+            copyInto(grown);
+            return grown;
+        }
+
+        /**
+         * Copy of this grid over the rectangle of another
+         */
+        Grid resized(Grid shape) {
+            Grid resized = new Grid(shape.minCx, shape.minCy, shape.width, shape.height);
+            copyInto(resized);
+            return resized;
+        }
+
+        Grid copy() {
+            return resized(this);
+        }
+
+        private void copyInto(Grid target) {
+            for (int row = 0; row < height; row++) {
+                for (int column = 0; column < width; column++) {
+                    Entry[] cell = cells[row * width + column];
+                    if (cell != null) {
+                        target.cells[target.slot(minCx + column, minCy + row)] = cell;
+                    }
+                }
+            }
+        }
+
+        void add(Entry entry) {
+            int slot = slot(entry.cx, entry.cy);
+            Entry[] cell = cells[slot];
+            if (cell == null) {
+                cells[slot] = new Entry[] {entry};
+            } else {
+                Entry[] grown = Arrays.copyOf(cell, cell.length + 1);
+                grown[cell.length] = entry;
+                cells[slot] = grown;
+            }
+        }
+
+        void remove(Entry entry) {
+            int slot = slot(entry.cx, entry.cy);
+            Entry[] cell = cells[slot];
+            if (cell == null) {
+                return;
+            }
+            Entry[] kept = Arrays.stream(cell).filter(other -> other != entry).toArray(Entry[]::new);
+            cells[slot] = kept.length == 0 ? null : kept;
+        }
+
+        Entry[] cell(int cx, int cy) {
+            int column = cx - minCx;
+            int row = cy - minCy;
+            if (column < 0 || row < 0 || column >= width || row >= height) {
+                return null;
+            }
+            return cells[row * width + column];
+        }
+
+        private int slot(int cx, int cy) {
+            return (cy - minCy) * width + (cx - minCx);
+        }
+    }
+
+    /**
+     * Walk over the rings of cells around a point, from the point's cell
+     * outward. Walking in order, a station is returned once no unvisited ring can
+     * hold a closer one; {@link #nearest} only keeps the best station and stops
+     * at the first ring further away than it.
+     */
+    private final class RingWalk implements Iterator<String> {
+
+        private final Grid grid;
+        private final double x;
+        private final double y;
+        private final int cx;
+        private final int cy;
+        private final int lastRing;
+        private final PriorityQueue<Candidate> found;
+        private int ring;
+        private Entry best;
+        private double bestDistance = Double.MAX_VALUE;
+
+        private RingWalk(Grid grid, double x, double y, boolean ordered) {
+            this.grid = grid;
+            this.x = x;
+            this.y = y;
+            this.cx = cellOf(x);
+            this.cy = cellOf(y);
+            this.found = ordered ? new PriorityQueue<>(Comparator.comparingDouble(Candidate::distance)) : null;
+            if (grid.width == 0) {
+                this.ring = 1;
+                this.lastRing = 0;
+                return;
+            }
+            int maxCx = grid.minCx + grid.width - 1;
+            int maxCy = grid.minCy + grid.height - 1;
+            // Skip the rings between the point and the grid
+            this.ring = Math.max(0, Math.max(Math.max(grid.minCx - cx, cx - maxCx), Math.max(grid.minCy - cy, cy - maxCy)));
+            this.lastRing = Math.max(Math.max(cx - grid.minCx, maxCx - cx), Math.max(cy - grid.minCy, maxCy - cy));
+        }
+
+        String nearest() {
+            while (ring <= lastRing && (best == null || bestDistance > ringDistance(ring))) {
+                scanRing(ring++);
+            }
+            return best == null ? null : best.stationId;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (ring <= lastRing && (found.isEmpty() || found.peek().distance() > ringDistance(ring))) {
+                scanRing(ring++);
+            }
+            return !found.isEmpty();
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return found.poll().stationId();
+        }
+
+        /**
+         * Distance from the point to the nearest cell of a ring
+         */
+        private double ringDistance(int r) {
+            if (r == 0) {
+                return 0.0;
+            }
+            double left = x - (cx - r + 1) * cellSize;
+            double right = (cx + r) * cellSize - x;
+            double bottom = y - (cy - r + 1) * cellSize;
+            double top = (cy + r) * cellSize - y;
+            return Math.min(Math.min(left, right), Math.min(bottom, top));
+        }
+
+        private void scanRing(int r) {
+            if (r == 0) {
+                scanCell(grid.cell(cx, cy));
+                return;
+            }
+            int fromX = Math.max(cx - r, grid.minCx);
+            int toX = Math.min(cx + r, grid.minCx + grid.width - 1);
+            for (int gx = fromX; gx <= toX; gx++) {
+                scanCell(grid.cell(gx, cy - r));
+                scanCell(grid.cell(gx, cy + r));
+            }
+            int fromY = Math.max(cy - r + 1, grid.minCy);
+            int toY = Math.min(cy + r - 1, grid.minCy + grid.height - 1);
+            for (int gy = fromY; gy <= toY; gy++) {
+                scanCell(grid.cell(cx - r, gy));
+                scanCell(grid.cell(cx + r, gy));
+            }
+        }
+
+        private void scanCell(Entry[] cell) {
+            if (cell == null) {
+                return;
+            }
+            for (Entry entry : cell) {
+                double distance = Math.hypot(entry.x - x, entry.y - y);
+                if (found != null) {
+                    found.add(new Candidate(entry.stationId, distance));
+                } else if (distance < bestDistance) {
+                    best = entry;
+                    bestDistance = distance;
+                }
+            }
+        }
+    }
+
+    private record Candidate(String stationId, double distance) {}
+
+    private static final class Entry {
+        private final String stationId;
+        private final double x;
+        private final double y;
+        private final int cx;
+        private final int cy;
+        private int freeSlots;
+        private int waiting;
+        private int heapIndex = -1;
+
+        private Entry(String stationId, double x, double y, int cx, int cy) {
+            this.stationId = stationId;
+            this.x = x;
+            this.y = y;
+            this.cx = cx;
+            this.cy = cy;
+        }
+
+        private int spareSlots() {
+            return Math.max(0, freeSlots - waiting);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.paklog.robotics.fleet.management.domain.state;
+
+import com.paklog.robotics.fleet.management.domain.valueobject.BatteryLevel;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotStatus;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Set;
+
+/**
+ * Fleet State Store
+ * Columnar copy of the fields fleet-wide queries read, one primitive array per
+ * field indexed by the robot's slot from {@link RobotSlotRegistry}.
+ *
+ * Robot aggregates write through on every state change. Scans then walk a few
+ * contiguous arrays instead of chasing Robot, RobotPosition and BatteryLevel
+ * references across the heap. Writers hold the robot's lock; scans take no lock
+ * and may observe a robot halfway through an update, which is acceptable for
+ * nearest-robot, utilization and heatmap queries.
+ *
+ * Capacity is fixed so the arrays never move under concurrent writers.
+ * Distance scans run on the Vector API when jdk.incubator.vector is enabled
+ * and fall back to scalar loops otherwise.
+ */
+public class FleetStateStore {
+
+    public static final int NO_SLOT = RobotSlotRegistry.NO_SLOT;
+
+    /**
+     * Set in the capability mask while the robot can accept a task
+     */
+    public static final long AVAILABLE_BIT = 1L << 63;
+
+    /**
+     * Set in the capability mask of every occupied slot
+     */
+    public static final long OCCUPIED_BIT = 1L << 62;
+
+    private static final byte EMPTY = -1;
+    private static final RobotStatus[] STATUSES = RobotStatus.values();
+
+    private final RobotSlotRegistry slotRegistry;
+    private final int capacity;
+    private final ProximityKernel kernel;
+
+    private final double[] x;
+    private final double[] y;
+    private final double[] heading;
+    private final byte[] status;
+    private final byte[] battery;
+    private final long[] capabilityMask;
+    private final long[] lastHeartbeatNanos;
+
+    public FleetStateStore(RobotSlotRegistry slotRegistry, int capacity) {
+        this(slotRegistry, capacity, ProximityKernel.best());
+    }
+
+    FleetStateStore(RobotSlotRegistry slotRegistry, int capacity, ProximityKernel kernel) {
+        this.slotRegistry = slotRegistry;
+        this.capacity = capacity;
+        this.kernel = kernel;
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+        this.heading = new double[capacity];
+        this.status = new byte[capacity];
+        this.battery = new byte[capacity];
+        this.capabilityMask = new long[capacity];
+        this.lastHeartbeatNanos = new long[capacity];
+        Arrays.fill(status, EMPTY);
+    }
+
+    /**
+     * Claim the slot of a robot
+     * @return The robot's slot
+     * @throws IllegalStateException if the store is full
+     */
+    public int register(String robotId) {
+        int slot = slotRegistry.assign(robotId);
+        if (slot >= capacity) {
+            slotRegistry.release(robotId);
+            throw new IllegalStateException("Fleet state store is full (" + capacity + " robots)");
+        }
+        return slot;
+    }
+
+    /**
+     * Free the slot of a robot that left the fleet
+     */
+    public void release(String robotId) {
+        int slot = slotRegistry.slotOf(robotId);
+        if (slot != NO_SLOT && slot < capacity) {
+            status[slot] = EMPTY;
+            capabilityMask[slot] = 0L;
+        }
+        slotRegistry.release(robotId);
+    }
+
+    /**
+     * Write the full state of a robot
+     * @param capabilityBits Mask from {@link #capabilityMask(Set)}
+     */
+    public void write(int slot, double posX, double posY, double posHeading, RobotStatus robotStatus,
+                      int batteryPercentage, long capabilityBits, long heartbeatEpochNanos) {
+        x[slot] = posX;
+        y[slot] = posY;
+        heading[slot] = posHeading;
+        battery[slot] = (byte) batteryPercentage;
+        lastHeartbeatNanos[slot] = heartbeatEpochNanos;
+
+        long mask = capabilityBits | OCCUPIED_BIT;
+        if (robotStatus == RobotStatus.IDLE && batteryPercentage > BatteryLevel.LOW_THRESHOLD) {
+            mask |= AVAILABLE_BIT;
+        }
+        capabilityMask[slot] = mask;
+        // Status last, so scans skip a newly claimed slot until its columns are filled
+        status[slot] = (byte) robotStatus.ordinal();
+    }
+
+    public static long capabilityBit(RobotCapability capability) {
+        return 1L << capability.ordinal();
+    }
+
+    public static long capabilityMask(Set<RobotCapability> capabilities) {
+        long mask = 0L;
+        for (RobotCapability capability : capabilities) {
+            mask |= capabilityBit(capability);
+        }
+        return mask;
+    }
+
+    /**
+     * Nearest robot whose capability mask contains every bit of requiredMask
+     * @param members Slots to consider, or null for the whole store
+     * @return Slot of the nearest match, or NO_SLOT
+     */
+    public int findNearest(double targetX, double targetY, long requiredMask, BitSet members) {
+        return kernel.nearest(x, y, capabilityMask, members == null ? null : members.toLongArray(), scanLimit(),
+            targetX, targetY, requiredMask | OCCUPIED_BIT);
+    }
+
+    /**
+     * Report every pair of robots closer than the safety margin, the columnar
+     * counterpart of {@link com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition#isTooCloseTo}
+     * @return Number of pairs reported
+     */
+    public int forEachTooClosePair(double safetyMargin, SlotPairConsumer consumer) {
+        int limit = scanLimit();
+        double marginSquared = safetyMargin * safetyMargin;
+        int[] neighbours = new int[limit];
+        int pairs = 0;
+        for (int slot = 0; slot < limit; slot++) {
+            if ((capabilityMask[slot] & OCCUPIED_BIT) == 0L) {
+                continue;
+            }
+            int found = kernel.withinRadius(x, y, capabilityMask, slot + 1, limit,
+                x[slot], y[slot], marginSquared, OCCUPIED_BIT, neighbours);
+            for (int i = 0; i < found; i++) {
+                consumer.accept(slot, neighbours[i]);
+            }
+            pairs += found;
+        }
+        return pairs;
+    }
+
+    /**
+     * Receives pairs of slots, first slot lower than the second
+     */
+    @FunctionalInterface
+    public interface SlotPairConsumer {
+        void accept(int first, int second);
+    }
+
+    /**
+     * Number of robots in each status, indexed by RobotStatus ordinal
+     * @param members Slots to consider, or null for the whole store
+     */
+    public int[] countByStatus(BitSet members) {
+        int[] counts = new int[STATUSES.length];
+        int limit = scanLimit();
+        for (int slot = 0; slot < limit; slot++) {
+            byte s = status[slot];
+            if (s != EMPTY && (members == null || members.get(slot))) {
+                counts[s]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Share of robots executing a task, or 0 for an empty fleet
+     * @param members Slots to consider, or null for the whole store
+     */
+    public double utilization(BitSet members) {
+        int[] counts = countByStatus(members);
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        return total == 0 ? 0.0 : (double) counts[RobotStatus.EXECUTING.ordinal()] / total;
+    }
+
+    /**
+     * Robot counts on a grid of square cells, row-major starting at the origin.
+     * Robots outside the grid are not counted.
+     */
+    public int[] heatmap(double originX, double originY, double cellSize, int columns, int rows) {
+        int[] cells = new int[columns * rows];
+        double inverseCell = 1.0 / cellSize;
+        int limit = scanLimit();
+        for (int slot = 0; slot < limit; slot++) {
+            if (status[slot] == EMPTY) {
+                continue;
+            }
+            int column = (int) Math.floor((x[slot] - originX) * inverseCell);
+            int row = (int) Math.floor((y[slot] - originY) * inverseCell);
+            if (column >= 0 && column < columns && row >= 0 && row < rows) {
+                cells[row * columns + column]++;
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Bounding box of all tracked robots as {minX, minY, maxX, maxY}, or null if empty
+     */
+    public double[] bounds() {
+        double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        int limit = scanLimit();
+        for (int slot = 0; slot < limit; slot++) {
+            if (status[slot] == EMPTY) {
+                continue;
+            }
+            minX = Math.min(minX, x[slot]);
+            minY = Math.min(minY, y[slot]);
+            maxX = Math.max(maxX, x[slot]);
+            maxY = Math.max(maxY, y[slot]);
+        }
+        return minX == Double.POSITIVE_INFINITY ? null : new double[] {minX, minY, maxX, maxY};
+    }
+
+    public String robotIdAt(int slot) {
+        return slotRegistry.robotIdAt(slot);
+    }
+
+    public int slotOf(String robotId) {
+        return slotRegistry.slotOf(robotId);
+    }
+
+    public boolean isOccupied(int slot) {
+        return slot >= 0 && slot < capacity && status[slot] != EMPTY;
+    }
+
+    public RobotStatus statusAt(int slot) {
+        return isOccupied(slot) ? STATUSES[status[slot]] : null;
+    }
+
+    public double xAt(int slot) { return x[slot]; }
+    public double yAt(int slot) { return y[slot]; }
+    public double headingAt(int slot) { return heading[slot]; }
+    public int batteryAt(int slot) { return battery[slot]; }
+    public long capabilityMaskAt(int slot) { return capabilityMask[slot]; }
+    public long lastHeartbeatNanosAt(int slot) { return lastHeartbeatNanos[slot]; }
+    public int getCapacity() { return capacity; }
+
+    private int scanLimit() {
+        return Math.min(slotRegistry.getSlotCount(), capacity);
+    }
+}
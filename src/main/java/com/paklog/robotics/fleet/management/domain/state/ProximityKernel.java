@@ -0,0 +1,46 @@
+package com.paklog.robotics.fleet.management.domain.state;
+
+/**
+ * Proximity Kernel
+ * Distance scans over the position and mask columns of the fleet state store.
+ * A slot is eligible when its mask contains every bit of the required mask.
+ */
+interface ProximityKernel {
+
+    /**
+     * Nearest eligible slot, ties going to the lowest slot
+     * @param memberWords Optional slot filter in {@link java.util.BitSet#toLongArray()} layout
+     * @return Slot of the nearest match, or {@link RobotSlotRegistry#NO_SLOT}
+     */
+    int nearest(double[] x, double[] y, long[] masks, long[] memberWords, int limit,
+                double targetX, double targetY, long requiredMask);
+
+    /**
+     * Collect eligible slots in [from, limit) strictly closer than the radius to a point
+     * @param out Receives the matching slots in ascending order, needs room for limit - from entries
+     * @return Number of slots written to out
+     */
+    int withinRadius(double[] x, double[] y, long[] masks, int from, int limit,
+                     double centerX, double centerY, double radiusSquared, long requiredMask, int[] out);
+
+    /**
+     * Vector API kernel when the jdk.incubator.vector module is enabled, scalar otherwise
+     */
+    static ProximityKernel best() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                // Loaded reflectively so the scalar path never links against the incubator module
+                return (ProximityKernel) Class.forName(ProximityKernel.class.getPackageName() + ".VectorProximityKernel")
+                    .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                return new ScalarProximityKernel();
+            }
+        }
+        return new ScalarProximityKernel();
+    }
+
+    static long memberBits(long[] memberWords, int slot) {
+        int word = slot >>> 6;
+        return word < memberWords.length ? memberWords[word] >>> (slot & 63) : 0L;
+    }
+}
@@ -0,0 +1,87 @@
+package com.paklog.robotics.fleet.management.domain.state;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Robot Slot Registry
+ * Maps robot identifiers to dense integer slots so that hot paths
+ * (binary telemetry frames, columnar state) can address robots by index.
+ * Released slots are reused before new ones are allocated.
+ */
+public class RobotSlotRegistry {
+
+    public static final int NO_SLOT = -1;
+
+    private final Map<String, Integer> slotsByRobotId = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private volatile String[] robotIdsBySlot;
+    private int nextSlot;
+
+    public RobotSlotRegistry() {
+        this(256);
+    }
+
+    public RobotSlotRegistry(int initialCapacity) {
+        this.robotIdsBySlot = new String[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * Assign a slot to a robot, returning the existing one if already assigned
+     */
+    public synchronized int assign(String robotId) {
+        Integer existing = slotsByRobotId.get(robotId);
+        if (existing != null) {
+            return existing;
+        }
+
+        int slot = freeSlots.isEmpty() ? nextSlot++ : freeSlots.poll();
+        String[] ids = robotIdsBySlot;
+        if (slot >= ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(slot + 1, ids.length * 2));
+        }
+        ids[slot] = robotId;
+        robotIdsBySlot = ids;
+        slotsByRobotId.put(robotId, slot);
+        return slot;
+    }
+
+    /**
+     * Release the slot held by a robot
+     */
+    public synchronized void release(String robotId) {
+        Integer slot = slotsByRobotId.remove(robotId);
+        if (slot != null) {
+            String[] ids = robotIdsBySlot;
+            ids[slot] = null;
+            robotIdsBySlot = ids;
+            freeSlots.push(slot);
+        }
+    }
+
+    /**
+     * Get slot of a robot, or NO_SLOT if not assigned
+     */
+    public synchronized int slotOf(String robotId) {
+        Integer slot = slotsByRobotId.get(robotId);
+        return slot != null ? slot : NO_SLOT;
+    }
+
+    /**
+     * Get robot occupying a slot, or null if the slot is free
+     */
+    public String robotIdAt(int slot) {
+        String[] ids = robotIdsBySlot;
+        return slot >= 0 && slot < ids.length ? ids[slot] : null;
+    }
+
+    /**
+     * Number of slots ever allocated (highest slot + 1)
+     */
+    public synchronized int getSlotCount() {
+        return nextSlot;
+    }
+}
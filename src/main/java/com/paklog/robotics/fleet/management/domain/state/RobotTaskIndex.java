@@ -0,0 +1,373 @@
+package com.paklog.robotics.fleet.management.domain.state;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.event.FinishedTaskSink;
+import com.paklog.robotics.fleet.management.domain.time.DomainClock;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskPriority;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Robot Task Index
+ * Holds tasks by id with secondary indexes for the queries dispatch makes,
+ * such as pending urgent tasks needing a lifter or the tasks a robot holds.
+ *
+ * Open tasks sit in one bucket per status, priority and required capability.
+ * A bucket is an insertion-ordered set, so a query walks only the buckets it
+ * matches, each oldest task first, and any mix of the three keys is answered
+ * without scanning unrelated tasks. Open tasks are also indexed by robot and
+ * counted by status. Tasks attached to the index report every transition, and
+ * the task leaves its old bucket and joins its new one under the index lock, so
+ * a query never sees a task in two buckets or in none. All of this is O(1) per
+ * transition regardless of how many tasks are open.
+ *
+ * Tasks reaching COMPLETED, FAILED or CANCELLED leave the buckets for an
+ * archive of copies without payload, kept in archival order and dropped once
+ * older than the archive TTL. Archived tasks are still found by id and by
+ * status, as fresh detached copies; {@link #findAllReadOnly} hands out the
+ * archived copies themselves so periodic readers allocate nothing per task.
+ * Open tasks reaching one of those statuses are also handed to the finished
+ * task sink, under the index lock.
+ */
+public class RobotTaskIndex {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final int PRIORITY_SLOTS = TaskPriority.values().length + 1;
+    private static final int CAPABILITY_SLOTS = RobotCapability.values().length + 1;
+
+    private final Duration archiveTtl;
+    private final FinishedTaskSink finishedSink;
+    private final Map<String, RobotTask> open = new HashMap<>();
+    // [status][priority][capability]; the last slot of a dimension holds tasks without a value
+    private final Set<RobotTask>[][][] buckets;
+    private final Map<String, Set<RobotTask>> byRobot = new HashMap<>();
+    private final int[] openCounts = new int[STATUSES.length];
+    private final LinkedHashMap<String, ArchivedTask> archive = new LinkedHashMap<>();
+    private long created;
+
+    /**
+     * @param archiveTtl How long finished tasks stay queryable
+     */
+    public RobotTaskIndex(Duration archiveTtl) {
+        this(archiveTtl, task -> {});
+    }
+
+    /**
+     * @param archiveTtl How long finished tasks stay queryable
+     * @param finishedSink Told about each open task as it finishes; must not block
+     */
+    @SuppressWarnings("unchecked")
+    public RobotTaskIndex(Duration archiveTtl, FinishedTaskSink finishedSink) {
+        if (archiveTtl.isNegative()) {
+            throw new IllegalArgumentException("Archive TTL cannot be negative");
+        }
+        this.archiveTtl = archiveTtl;
+        this.finishedSink = finishedSink;
+        this.buckets = new Set[STATUSES.length][PRIORITY_SLOTS][CAPABILITY_SLOTS];
+    }
+
+    /**
+     * Index a task, replacing any other task with the same id
+     */
+    public synchronized void add(RobotTask task) {
+        String taskId = task.getTaskId();
+        RobotTask current = open.get(taskId);
+        if (current == task) {
+            return;
+        }
+        if (current != null) {
+            unlink(current, current.getStatus(), current.getRobotId());
+            open.remove(taskId);
+        }
+        if (archive.remove(taskId) == null && current == null) {
+            created++;
+        }
+        if (task.isTerminal()) {
+            archive(task);
+        } else {
+            open.put(taskId, task);
+            link(task);
+        }
+    }
+
+    /**
+     * Index a task unless a task with the same id is open or archived
+     * @return true if the task was added
+     */
+    public synchronized boolean addIfAbsent(RobotTask task) {
+        String taskId = task.getTaskId();
+        if (open.containsKey(taskId)) {
+            return false;
+        }
+        expire(DomainClock.now());
+        if (archive.containsKey(taskId)) {
+            return false;
+        }
+        created++;
+        if (task.isTerminal()) {
+            archive(task);
+        } else {
+            open.put(taskId, task);
+            link(task);
+        }
+        return true;
+    }
+
+    /**
+     * Move a task between indexes after a transition
+     * @param previousStatus Status before the transition
+     * @param previousRobotId Robot holding the task before the transition
+     */
+    public synchronized void transitioned(RobotTask task, TaskStatus previousStatus, String previousRobotId) {
+        String taskId = task.getTaskId();
+        if (open.get(taskId) == task) {
+            unlink(task, previousStatus, previousRobotId);
+            if (task.isTerminal()) {
+                open.remove(taskId);
+                archive(task);
+                finishedSink.finished(task);
+            } else {
+                link(task);
+            }
+        } else if (archive.containsKey(taskId) && task.isTerminal()) {
+            // Failing or cancelling a finished task again only updates its record
+            archive.put(taskId, ArchivedTask.of(task, archive.get(taskId).archivedAt()));
+        }
+    }
+
+    /**
+     * Remove a task wherever it is
+     * @return true if the task was indexed
+     */
+    public synchronized boolean remove(String taskId) {
+        RobotTask task = open.remove(taskId);
+        if (task != null) {
+            unlink(task, task.getStatus(), task.getRobotId());
+            return true;
+        }
+        return archive.remove(taskId) != null;
+    }
+
+    /**
+     * Task by id; archived tasks come back as detached copies without payload
+     */
+    public synchronized Optional<RobotTask> find(String taskId) {
+        RobotTask task = open.get(taskId);
+        if (task != null) {
+            return Optional.of(task);
+        }
+        expire(DomainClock.now());
+        ArchivedTask archived = archive.get(taskId);
+        return archived == null ? Optional.empty() : Optional.of(archived.restore());
+    }
+
+    /**
+     * Tasks matching every key given, oldest first within each status, priority and capability
+     * @param status Required status, or null for any
+     * @param priority Required priority, or null for any
+     * @param capability Required capability, or null for any
+     */
+    public synchronized List<RobotTask> find(TaskStatus status, TaskPriority priority, RobotCapability capability) {
+        List<RobotTask> tasks = new ArrayList<>();
+        for (TaskStatus s : STATUSES) {
+            if (status != null && s != status) {
+                continue;
+            }
+            if (isTerminal(s)) {
+                findArchived(s, priority, capability, tasks);
+                continue;
+            }
+            Set<RobotTask>[][] byPriority = buckets[s.ordinal()];
+            for (int p = 0; p < PRIORITY_SLOTS; p++) {
+                if (priority != null && p != priority.ordinal()) {
+                    continue;
+                }
+                for (int c = 0; c < CAPABILITY_SLOTS; c++) {
+                    if (capability != null && c != capability.ordinal()) {
+                        continue;
+                    }
+                    Set<RobotTask> bucket = byPriority[p][c];
+                    if (bucket != null) {
+                        tasks.addAll(bucket);
+                    }
+                }
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Open tasks held by a robot
+     */
+    public synchronized List<RobotTask> findOpenByRobot(String robotId) {
+        Set<RobotTask> tasks = byRobot.get(robotId);
+        return tasks == null ? List.of() : new ArrayList<>(tasks);
+    }
+
+    /**
+     * Every task, open ones first
+     */
+    public synchronized List<RobotTask> findAll() {
+        expire(DomainClock.now());
+        List<RobotTask> tasks = new ArrayList<>(open.size() + archive.size());
+        tasks.addAll(open.values());
+        archive.values().forEach(archived -> tasks.add(archived.restore()));
+        return tasks;
+    }
+
+    /**
+     * Every task, open ones first, with archived tasks shared rather than copied; callers must not modify them
+     */
+    public synchronized List<RobotTask> findAllReadOnly() {
+        expire(DomainClock.now());
+        List<RobotTask> tasks = new ArrayList<>(open.size() + archive.size());
+        tasks.addAll(open.values());
+        archive.values().forEach(archived -> tasks.add(archived.task()));
+        return tasks;
+    }
+
+    /**
+     * Number of tasks in a status; terminal counts include only unexpired archived tasks
+     */
+    public synchronized int count(TaskStatus status) {
+        if (!isTerminal(status)) {
+            return openCounts[status.ordinal()];
+        }
+        expire(DomainClock.now());
+        int count = 0;
+        for (ArchivedTask archived : archive.values()) {
+            if (archived.status() == status) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Drop archived tasks older than the TTL
+     * @return Number of tasks dropped
+     */
+    public synchronized int expire(Instant now) {
+        Instant cutoff = now.minus(archiveTtl);
+        int expired = 0;
+        for (Iterator<ArchivedTask> it = archive.values().iterator(); it.hasNext(); ) {
+            if (it.next().archivedAt().isAfter(cutoff)) {
+                break;
+            }
+            it.remove();
+            expired++;
+        }
+        return expired;
+    }
+
+    /**
+     * Number of tasks added under an id the index did not hold, since it was created
+     */
+    public synchronized long createdCount() {
+        return created;
+    }
+
+    public synchronized int openSize() {
+        return open.size();
+    }
+
+    public synchronized int archivedSize() {
+        return archive.size();
+    }
+
+    private void link(RobotTask task) {
+        TaskStatus status = task.getStatus();
+        Set<RobotTask>[] byCapability = buckets[status.ordinal()][prioritySlot(task.getPriority())];
+        int c = capabilitySlot(task.getRequiredCapability());
+        if (byCapability[c] == null) {
+            byCapability[c] = new LinkedHashSet<>();
+        }
+        byCapability[c].add(task);
+        openCounts[status.ordinal()]++;
+        if (task.getRobotId() != null) {
+            byRobot.computeIfAbsent(task.getRobotId(), robotId -> new LinkedHashSet<>(4)).add(task);
+        }
+    }
+
+    private void unlink(RobotTask task, TaskStatus status, String robotId) {
+        Set<RobotTask> bucket = buckets[status.ordinal()][prioritySlot(task.getPriority())]
+            [capabilitySlot(task.getRequiredCapability())];
+        if (bucket != null && bucket.remove(task)) {
+            openCounts[status.ordinal()]--;
+        }
+        if (robotId != null) {
+            Set<RobotTask> held = byRobot.get(robotId);
+            if (held != null && held.remove(task) && held.isEmpty()) {
+                byRobot.remove(robotId);
+            }
+        }
+    }
+
+    private void archive(RobotTask task) {
+        Instant now = DomainClock.now();
+        archive.put(task.getTaskId(), ArchivedTask.of(task, now));
+        expire(now);
+    }
+
+    private void findArchived(TaskStatus status, TaskPriority priority, RobotCapability capability,
+                              List<RobotTask> tasks) {
+        expire(DomainClock.now());
+        for (ArchivedTask archived : archive.values()) {
+            if (archived.status() == status
+                    && (priority == null || archived.priority() == priority)
+                    && (capability == null || archived.capability() == capability)) {
+                tasks.add(archived.restore());
+            }
+        }
+    }
+
+    private static boolean isTerminal(TaskStatus status) {
+        return status == TaskStatus.COMPLETED || status == TaskStatus.FAILED || status == TaskStatus.CANCELLED;
+    }
+
+    private static int prioritySlot(TaskPriority priority) {
+        return priority == null ? PRIORITY_SLOTS - 1 : priority.ordinal();
+    }
+
+    private static int capabilitySlot(RobotCapability capability) {
+        return capability == null ? CAPABILITY_SLOTS - 1 : capability.ordinal();
+    }
+
+    /**
+     * Finished task without its payload
+     */
+    private record ArchivedTask(RobotTask task, Instant archivedAt) {
+
+        static ArchivedTask of(RobotTask task, Instant archivedAt) {
+            return new ArchivedTask(task.withoutPayload(), archivedAt);
+        }
+
+        TaskStatus status() {
+            return task.getStatus();
+        }
+
+        TaskPriority priority() {
+            return task.getPriority();
+        }
+
+        RobotCapability capability() {
+            return task.getRequiredCapability();
+        }
+
+        RobotTask restore() {
+            return task.withoutPayload();
+        }
+    }
+}
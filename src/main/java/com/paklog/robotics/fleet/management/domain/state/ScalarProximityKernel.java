@@ -0,0 +1,47 @@
+package com.paklog.robotics.fleet.management.domain.state;
+
+/**
+ * Scalar proximity kernel, the fallback when the Vector API is not enabled
+ */
+final class ScalarProximityKernel implements ProximityKernel {
+
+    @Override
+    public int nearest(double[] x, double[] y, long[] masks, long[] memberWords, int limit,
+                       double targetX, double targetY, long requiredMask) {
+        int best = RobotSlotRegistry.NO_SLOT;
+        double bestDistanceSquared = Double.POSITIVE_INFINITY;
+        for (int slot = 0; slot < limit; slot++) {
+            if ((masks[slot] & requiredMask) != requiredMask) {
+                continue;
+            }
+            if (memberWords != null && (ProximityKernel.memberBits(memberWords, slot) & 1L) == 0L) {
+                continue;
+            }
+            double dx = x[slot] - targetX;
+            double dy = y[slot] - targetY;
+            double distanceSquared = dx * dx + dy * dy;
+            if (distanceSquared < bestDistanceSquared) {
+                bestDistanceSquared = distanceSquared;
+                best = slot;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public int withinRadius(double[] x, double[] y, long[] masks, int from, int limit,
+                            double centerX, double centerY, double radiusSquared, long requiredMask, int[] out) {
+        int count = 0;
+        for (int slot = from; slot < limit; slot++) {
+            if ((masks[slot] & requiredMask) != requiredMask) {
+                continue;
+            }
+            double dx = x[slot] - centerX;
+            double dy = y[slot] - centerY;
+            if (dx * dx + dy * dy < radiusSquared) {
+                out[count++] = slot;
+            }
+        }
+        return count;
+    }
+}
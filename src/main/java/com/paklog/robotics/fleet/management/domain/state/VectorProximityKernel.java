@@ -0,0 +1,110 @@
+package com.paklog.robotics.fleet.management.domain.state;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API proximity kernel
+ * Computes squared distances for a full vector of slots at a time and keeps a
+ * per-lane running minimum, blending in only lanes whose masks are eligible.
+ * Lanes are reduced once at the end and the remainder is handled scalar.
+ *
+ * Requires --add-modules jdk.incubator.vector; load it through {@link ProximityKernel#best()}.
+ */
+final class VectorProximityKernel implements ProximityKernel {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    // Same lane count as DOUBLES: both element types are 64 bits wide
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final int LANES = DOUBLES.length();
+
+    @Override
+    public int nearest(double[] x, double[] y, long[] masks, long[] memberWords, int limit,
+                       double targetX, double targetY, long requiredMask) {
+        int upperBound = DOUBLES.loopBound(limit);
+        LongVector required = LongVector.broadcast(LONGS, requiredMask);
+        LongVector laneIndex = LongVector.zero(LONGS).addIndex(1);
+        DoubleVector best = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+        LongVector bestSlot = LongVector.broadcast(LONGS, RobotSlotRegistry.NO_SLOT);
+
+        for (int i = 0; i < upperBound; i += LANES) {
+            VectorMask<Long> eligible = LongVector.fromArray(LONGS, masks, i).and(required).eq(required);
+            if (memberWords != null) {
+                eligible = eligible.and(VectorMask.fromLong(LONGS, ProximityKernel.memberBits(memberWords, i)));
+            }
+            if (!eligible.anyTrue()) {
+                continue;
+            }
+            DoubleVector dx = DoubleVector.fromArray(DOUBLES, x, i).sub(targetX);
+            DoubleVector dy = DoubleVector.fromArray(DOUBLES, y, i).sub(targetY);
+            DoubleVector distanceSquared = dx.fma(dx, dy.mul(dy));
+            VectorMask<Double> closer = distanceSquared.lt(best).and(eligible.cast(DOUBLES));
+            best = best.blend(distanceSquared, closer);
+            bestSlot = bestSlot.blend(laneIndex.add(i), closer.cast(LONGS));
+        }
+
+        int bestIndex = RobotSlotRegistry.NO_SLOT;
+        double bestDistanceSquared = Double.POSITIVE_INFINITY;
+        for (int lane = 0; lane < LANES; lane++) {
+            double distanceSquared = best.lane(lane);
+            int slot = (int) bestSlot.lane(lane);
+            if (distanceSquared < bestDistanceSquared
+                    || (distanceSquared == bestDistanceSquared && slot != RobotSlotRegistry.NO_SLOT && slot < bestIndex)) {
+                bestDistanceSquared = distanceSquared;
+                bestIndex = slot;
+            }
+        }
+
+        for (int slot = upperBound; slot < limit; slot++) {
+            if ((masks[slot] & requiredMask) != requiredMask) {
+                continue;
+            }
+            if (memberWords != null && (ProximityKernel.memberBits(memberWords, slot) & 1L) == 0L) {
+                continue;
+            }
+            double dx = x[slot] - targetX;
+            double dy = y[slot] - targetY;
+            double distanceSquared = dx * dx + dy * dy;
+            if (distanceSquared < bestDistanceSquared) {
+                bestDistanceSquared = distanceSquared;
+                bestIndex = slot;
+            }
+        }
+        return bestIndex;
+    }
+
+    @Override
+    public int withinRadius(double[] x, double[] y, long[] masks, int from, int limit,
+                            double centerX, double centerY, double radiusSquared, long requiredMask, int[] out) {
+        LongVector required = LongVector.broadcast(LONGS, requiredMask);
+        int count = 0;
+        int i = from;
+        for (; i + LANES <= limit; i += LANES) {
+            VectorMask<Long> eligible = LongVector.fromArray(LONGS, masks, i).and(required).eq(required);
+            if (!eligible.anyTrue()) {
+                continue;
+            }
+            DoubleVector dx = DoubleVector.fromArray(DOUBLES, x, i).sub(centerX);
+            DoubleVector dy = DoubleVector.fromArray(DOUBLES, y, i).sub(centerY);
+            VectorMask<Double> inside = dx.fma(dx, dy.mul(dy)).lt(radiusSquared).and(eligible.cast(DOUBLES));
+            long bits = inside.toLong();
+            while (bits != 0L) {
+                out[count++] = i + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        for (; i < limit; i++) {
+            if ((masks[i] & requiredMask) != requiredMask) {
+                continue;
+            }
+            double dx = x[i] - centerX;
+            double dy = y[i] - centerY;
+            if (dx * dx + dy * dy < radiusSquared) {
+                out[count++] = i;
+            }
+        }
+        return count;
+    }
+}
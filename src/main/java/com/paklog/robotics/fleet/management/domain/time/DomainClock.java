@@ -0,0 +1,52 @@
+package com.paklog.robotics.fleet.management.domain.time;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * Domain Clock
+ * Source of the current time for aggregates that stamp their own changes.
+ *
+ * Defaults to the system clock. A simulation installs its own clock for the
+ * thread it runs on, so simulated and live aggregates can share a JVM without
+ * seeing each other's time.
+ */
+public final class DomainClock {
+
+    private static final ThreadLocal<Clock> OVERRIDE = new ThreadLocal<>();
+
+    private DomainClock() {
+    }
+
+    /**
+     * Current time on this thread
+     */
+    public static Instant now() {
+        Clock clock = OVERRIDE.get();
+        return clock != null ? clock.instant() : Instant.now();
+    }
+
+    /**
+     * Use a clock on the calling thread until the returned scope is closed
+     */
+    public static Scope use(Clock clock) {
+        Clock previous = OVERRIDE.get();
+        OVERRIDE.set(clock);
+        return () -> {
+            if (previous != null) {
+                OVERRIDE.set(previous);
+            } else {
+                OVERRIDE.remove();
+            }
+        };
+    }
+
+    /**
+     * Restores the previous clock when closed
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
@@ -16,6 +16,8 @@ public class BatteryLevel implements Serializable {
     public static final int LOW_THRESHOLD = 20;
     public static final int CHARGING_BUFFER = 5;
     public static final int TASK_ASSIGNMENT_THRESHOLD = 30;
+    // Charge must recover this far above a threshold before its alarm clears
+    public static final int HYSTERESIS_BAND = 5;
 
     private BatteryLevel(int percentage) {
         if (percentage < 0 || percentage > 100) {
@@ -66,6 +68,14 @@ public class BatteryLevel implements Serializable {
         return percentage > TASK_ASSIGNMENT_THRESHOLD;
     }
 
+    /**
+     * Check if the battery can spend the given charge and stay above the low threshold
+     * @param predictedDrain Percentage points the work is expected to use
+     */
+    public boolean isSufficientFor(double predictedDrain) {
+        return percentage - predictedDrain > LOW_THRESHOLD;
+    }
+
     public boolean needsCharging() {
         return percentage <= LOW_THRESHOLD;
     }
@@ -0,0 +1,26 @@
+package com.paklog.robotics.fleet.management.domain.valueobject;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Charging Plan Value Object
+ * Station chosen for a robot with its predicted travel and queue wait
+ */
+public record ChargingPlan(
+    String stationId,
+    RobotPosition location,
+    Duration travelTime,
+    Duration expectedWait,
+    Instant expectedArrival,
+    boolean emergency
+) implements Serializable {
+
+    /**
+     * Time until the robot is expected to be on a charger
+     */
+    public Duration timeToCharger() {
+        return travelTime.plus(expectedWait);
+    }
+}
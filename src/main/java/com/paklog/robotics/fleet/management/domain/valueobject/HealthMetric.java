@@ -0,0 +1,47 @@
+package com.paklog.robotics.fleet.management.domain.valueobject;
+
+/**
+ * Health Metric Enumeration
+ * Fixed set of robot health readings tracked as time series.
+ * Metrics with a maintenance limit trigger maintenance when the latest
+ * reading, or its short-term trend, crosses the limit.
+ */
+public enum HealthMetric {
+    ERROR_COUNT("errorCount", 10.0),            // Cumulative controller errors
+    TEMPERATURE("temperature", 80.0),           // Drive temperature in °C
+    MOTOR_CURRENT("motorCurrent", Double.NaN),  // Drive current in A
+    VIBRATION("vibration", Double.NaN);         // Chassis vibration RMS in mm/s
+
+    private final String key;
+    private final double maintenanceLimit;
+
+    HealthMetric(String key, double maintenanceLimit) {
+        this.key = key;
+        this.maintenanceLimit = maintenanceLimit;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public double getMaintenanceLimit() {
+        return maintenanceLimit;
+    }
+
+    public boolean hasMaintenanceLimit() {
+        return !Double.isNaN(maintenanceLimit);
+    }
+
+    /**
+     * Resolve a metric from its reporting key
+     * @return Metric or null if the key is not tracked
+     */
+    public static HealthMetric fromKey(String key) {
+        for (HealthMetric metric : values()) {
+            if (metric.key.equals(key)) {
+                return metric;
+            }
+        }
+        return null;
+    }
+}
@@ -73,6 +73,38 @@ public class TrafficZone implements Serializable {
         return (maxX - minX) * (maxY - minY);
     }
 
+    public String getZoneId() {
+        return zoneId;
+    }
+
+    public double getMinX() {
+        return minX;
+    }
+
+    public double getMinY() {
+        return minY;
+    }
+
+    public double getMaxX() {
+        return maxX;
+    }
+
+    public double getMaxY() {
+        return maxY;
+    }
+
+    public int getMaxRobotsAllowed() {
+        return maxRobotsAllowed;
+    }
+
+    public double getSpeedLimit() {
+        return speedLimit;
+    }
+
+    public TrafficZoneType getType() {
+        return type;
+    }
+
     @Override
     public String toString() {
         return String.format("Zone(%s, %s, capacity=%d, limit=%.1fm/s)",
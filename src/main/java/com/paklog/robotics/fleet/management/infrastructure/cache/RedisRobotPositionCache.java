@@ -0,0 +1,339 @@
+package com.paklog.robotics.fleet.management.infrastructure.cache;
+
+import com.paklog.robotics.fleet.management.application.port.out.RobotPositionCache;
+import com.paklog.robotics.fleet.management.application.port.out.TelemetryApplyListener;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.event.RobotLifecycleSink;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotStatus;
+import com.paklog.robotics.fleet.management.infrastructure.config.PositionCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisGeoCommands.DistanceUnit;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoSearchCommandArgs;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.domain.geo.GeoReference;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis Robot Position Cache
+ * Publishes the latest robot positions to Redis for other services and keeps a
+ * near-cache so lookups inside this service never leave the process.
+ *
+ * Telemetry only updates the near-cache entry and marks the robot dirty. A flusher
+ * thread writes every dirty robot once per interval in a single pipeline: one
+ * multi-member GEOADD into the geo set plus one HSET per robot hash. A robot that
+ * reports many times within an interval is written once with its latest state.
+ *
+ * Redis GEO stores longitude and latitude, so floor coordinates in metres are
+ * mapped onto degrees near the equator using Redis' own earth radius; GEOSEARCH
+ * radii and distances in metres then match floor distances. The geohash index
+ * is accurate to a few decimetres; exact coordinates are in the robot hash.
+ *
+ * Robots removed from the repository are evicted locally and in Redis. Eviction
+ * and flushes take the same lock, so a flush already under way cannot write an
+ * evicted robot back.
+ */
+@Component
+public class RedisRobotPositionCache implements RobotPositionCache, TelemetryApplyListener, RobotLifecycleSink {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisRobotPositionCache.class);
+
+    // Earth radius used by Redis' haversine, in metres
+    private static final double EARTH_RADIUS = 6372797.560856;
+    static final double METERS_PER_DEGREE = EARTH_RADIUS * Math.PI / 180.0;
+
+    private static final byte[] FIELD_X = bytes("x");
+    private static final byte[] FIELD_Y = bytes("y");
+    private static final byte[] FIELD_HEADING = bytes("heading");
+    private static final byte[] FIELD_BATTERY = bytes("battery");
+    private static final byte[] FIELD_STATUS = bytes("status");
+    private static final byte[] FIELD_OBSERVED_AT = bytes("observedAt");
+
+    private final StringRedisTemplate redisTemplate;
+    private final PositionCacheProperties properties;
+    private final byte[] geoKey;
+    private final Map<String, Entry> nearCache = new ConcurrentHashMap<>();
+    private final Queue<String> dirty = new ConcurrentLinkedQueue<>();
+    private final Queue<String> pendingEvictions = new ConcurrentLinkedQueue<>();
+    private final Counter robotsWritten;
+    private final Counter flushFailures;
+    private volatile boolean failing;
+    private ScheduledExecutorService flusher;
+
+    public RedisRobotPositionCache(StringRedisTemplate redisTemplate,
+                                   PositionCacheProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.geoKey = properties.geoKey().getBytes(StandardCharsets.UTF_8);
+        this.robotsWritten = Counter.builder("robotics.position.cache.written")
+            .description("Robot positions written to Redis after coalescing")
+            .register(meterRegistry);
+        this.flushFailures = Counter.builder("robotics.position.cache.flush.failures").register(meterRegistry);
+        Gauge.builder("robotics.position.cache.size", nearCache, Map::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        long intervalNanos = properties.flushInterval().toNanos();
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "position-cache-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushAll, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        flushAll();
+    }
+
+    @Override
+    public void onTelemetryApplied(Robot robot, Instant observedAt) {
+        String robotId = robot.getRobotId().getValue();
+        Entry entry = nearCache.get(robotId);
+        if (entry == null) {
+            entry = nearCache.computeIfAbsent(robotId, id -> new Entry());
+        }
+        RobotPosition position = robot.getPosition();
+        boolean enqueue;
+        synchronized (entry) {
+            entry.x = position.getX();
+            entry.y = position.getY();
+            entry.heading = position.getHeading();
+            entry.battery = robot.getBatteryLevel().getPercentage();
+            entry.status = robot.getStatus();
+            entry.observedAtMillis = observedAt.toEpochMilli();
+            enqueue = !entry.dirty;
+            entry.dirty = true;
+        }
+        if (enqueue) {
+            dirty.offer(robotId);
+        }
+    }
+
+    @Override
+    public Optional<CachedPosition> findPosition(String robotId) {
+        Entry entry = nearCache.get(robotId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        synchronized (entry) {
+            return Optional.of(new CachedPosition(RobotPosition.of(entry.x, entry.y, entry.heading),
+                entry.battery, entry.status, Instant.ofEpochMilli(entry.observedAtMillis)));
+        }
+    }
+
+    @Override
+    public List<NearbyRobot> findWithinRadius(double x, double y, double radius, int limit) {
+        GeoResults<GeoLocation<String>> results = redisTemplate.opsForGeo().search(
+            properties.geoKey(),
+            GeoReference.fromCoordinate(new Point(toLongitude(x), toLatitude(y))),
+            new Distance(radius, DistanceUnit.METERS),
+            GeoSearchCommandArgs.newGeoSearchArgs().includeDistance().sortAscending().limit(limit));
+        if (results == null) {
+            return List.of();
+        }
+        List<NearbyRobot> nearby = new ArrayList<>(results.getContent().size());
+        for (GeoResult<GeoLocation<String>> result : results) {
+            nearby.add(new NearbyRobot(result.getContent().getName(), result.getDistance().getValue()));
+        }
+        return nearby;
+    }
+
+    @Override
+    public void removed(Robot robot) {
+        evict(robot.getRobotId().getValue());
+    }
+
+    /**
+     * Forget a robot that left the fleet, locally and in Redis.
+     * If Redis cannot be reached the flusher deletes the robot later.
+     */
+    public synchronized void evict(String robotId) {
+        nearCache.remove(robotId);
+        try {
+            delete(robotId);
+        } catch (DataAccessException e) {
+            pendingEvictions.offer(robotId);
+            log.debug("Could not evict robot {} from Redis, will retry: {}", robotId, e.getMessage());
+        }
+    }
+
+    /**
+     * Write every dirty robot, one pipeline per maxBatch robots
+     * @return Number of robots written
+     */
+    synchronized int flushAll() {
+        retryEvictions();
+        int total = 0;
+        int written;
+        do {
+            written = flush(properties.maxBatch());
+            total += written;
+        } while (written == properties.maxBatch());
+        return total;
+    }
+
+    private int flush(int maxBatch) {
+        Map<byte[], Point> points = new LinkedHashMap<>();
+        List<byte[]> hashKeys = new ArrayList<>();
+        List<Map<byte[], byte[]>> hashes = new ArrayList<>();
+        List<String> robotIds = new ArrayList<>();
+
+        String robotId;
+        while (robotIds.size() < maxBatch && (robotId = dirty.poll()) != null) {
+            Entry entry = nearCache.get(robotId);
+            if (entry == null) {
+                continue;
+            }
+            Map<byte[], byte[]> hash = new HashMap<>(8);
+            double x;
+            double y;
+            synchronized (entry) {
+                entry.dirty = false;
+                x = entry.x;
+                y = entry.y;
+                hash.put(FIELD_X, bytes(Double.toString(x)));
+                hash.put(FIELD_Y, bytes(Double.toString(y)));
+                hash.put(FIELD_HEADING, bytes(Double.toString(entry.heading)));
+                hash.put(FIELD_BATTERY, bytes(Integer.toString(entry.battery)));
+                hash.put(FIELD_STATUS, bytes(entry.status.name()));
+                hash.put(FIELD_OBSERVED_AT, bytes(Long.toString(entry.observedAtMillis)));
+            }
+            byte[] member = bytes(robotId);
+            points.put(member, new Point(toLongitude(x), toLatitude(y)));
+            hashKeys.add(bytes(properties.hashKeyPrefix() + robotId));
+            hashes.add(hash);
+            robotIds.add(robotId);
+        }
+        if (robotIds.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                write(connection, points, hashKeys, hashes);
+                return null;
+            });
+            robotsWritten.increment(robotIds.size());
+            if (failing) {
+                failing = false;
+                log.info("Position cache writes to Redis recovered");
+            }
+            return robotIds.size();
+        } catch (DataAccessException e) {
+            flushFailures.increment();
+            if (!failing) {
+                failing = true;
+                log.warn("Position cache write to Redis failed, retrying every {}: {}",
+                    properties.flushInterval(), e.getMessage());
+            }
+            requeue(robotIds);
+            return 0;
+        }
+    }
+
+    private void retryEvictions() {
+        String robotId;
+        while ((robotId = pendingEvictions.peek()) != null) {
+            // A robot registered again under the same id since is not deleted
+            if (!nearCache.containsKey(robotId)) {
+                try {
+                    delete(robotId);
+                } catch (DataAccessException e) {
+                    return;
+                }
+            }
+            pendingEvictions.poll();
+        }
+    }
+
+    private void delete(String robotId) {
+        redisTemplate.opsForZSet().remove(properties.geoKey(), robotId);
+        redisTemplate.delete(properties.hashKeyPrefix() + robotId);
+    }
+
+    private void write(RedisConnection connection, Map<byte[], Point> points,
+                       List<byte[]> hashKeys, List<Map<byte[], byte[]>> hashes) {
+        connection.geoCommands().geoAdd(geoKey, points);
+        for (int i = 0; i < hashKeys.size(); i++) {
+            connection.hashCommands().hMSet(hashKeys.get(i), hashes.get(i));
+        }
+    }
+
+    private void requeue(List<String> robotIds) {
+        for (String robotId : robotIds) {
+            Entry entry = nearCache.get(robotId);
+            if (entry == null) {
+                continue;
+            }
+            boolean enqueue;
+            synchronized (entry) {
+                enqueue = !entry.dirty;
+                entry.dirty = true;
+            }
+            if (enqueue) {
+                dirty.offer(robotId);
+            }
+        }
+    }
+
+    static double toLongitude(double x) {
+        return x / METERS_PER_DEGREE;
+    }
+
+    static double toLatitude(double y) {
+        return y / METERS_PER_DEGREE;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Latest state of one robot; dirty while it awaits a flush
+     */
+    private static final class Entry {
+        private double x;
+        private double y;
+        private double heading;
+        private int battery;
+        private RobotStatus status;
+        private long observedAtMillis;
+        private boolean dirty;
+    }
+}
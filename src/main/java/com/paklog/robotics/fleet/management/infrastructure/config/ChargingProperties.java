@@ -0,0 +1,22 @@
+package com.paklog.robotics.fleet.management.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Charging dispatch settings
+ *
+ * @param tick How often queued charging requests and arrivals are handled
+ * @param travelSpeed Nominal robot speed used to predict travel time, in metres per second
+ * @param chargeRatePerMinute Percentage points a charger adds per minute
+ * @param arrivalRadius Distance from a station at which a robot counts as arrived, in metres
+ */
+@ConfigurationProperties(prefix = "robotics.charging")
+public record ChargingProperties(
+    @DefaultValue("500ms") Duration tick,
+    @DefaultValue("1.5") double travelSpeed,
+    @DefaultValue("2.5") double chargeRatePerMinute,
+    @DefaultValue("2.0") double arrivalRadius
+) {}
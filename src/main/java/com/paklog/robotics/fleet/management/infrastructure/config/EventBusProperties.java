@@ -0,0 +1,22 @@
+package com.paklog.robotics.fleet.management.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Domain event bus settings
+ *
+ * @param shards Number of ring buffers, must be a power of two
+ * @param ringSize Slots per ring, must be a power of two
+ * @param batchSize Maximum events handed to a consumer per shard visit
+ * @param idleWait How long a consumer parks when every shard is empty
+ */
+@ConfigurationProperties(prefix = "robotics.events")
+public record EventBusProperties(
+    @DefaultValue("4") int shards,
+    @DefaultValue("4096") int ringSize,
+    @DefaultValue("256") int batchSize,
+    @DefaultValue("200us") Duration idleWait
+) {}
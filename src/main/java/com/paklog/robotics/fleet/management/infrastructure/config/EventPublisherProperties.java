@@ -0,0 +1,29 @@
+package com.paklog.robotics.fleet.management.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Kafka domain event publisher settings
+ *
+ * @param topic Topic receiving every fleet domain event
+ * @param source CloudEvents source attribute
+ * @param maxInFlight Sends awaiting acknowledgement before publishing blocks
+ * @param linger How long the producer waits to fill a batch
+ * @param batchSize Producer batch size per partition in bytes
+ * @param compression Producer compression codec
+ * @param maxBlock Upper bound on a send blocking for metadata or buffer space
+ */
+@ConfigurationProperties(prefix = "robotics.events.kafka")
+public record EventPublisherProperties(
+    @DefaultValue("robotics.fleet.events") String topic,
+    @DefaultValue("/robotics-fleet-management") URI source,
+    @DefaultValue("10000") int maxInFlight,
+    @DefaultValue("5ms") Duration linger,
+    @DefaultValue("65536") int batchSize,
+    @DefaultValue("lz4") String compression,
+    @DefaultValue("1s") Duration maxBlock
+) {}
@@ -0,0 +1,39 @@
+package com.paklog.robotics.fleet.management.infrastructure.config;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.ChargingStation;
+import com.paklog.robotics.fleet.management.domain.repository.ChargingStationRepository;
+import com.paklog.robotics.fleet.management.domain.service.GridPathPlanningService;
+import com.paklog.robotics.fleet.management.domain.service.PathPlanningService;
+import com.paklog.robotics.fleet.management.domain.service.TaskAssignmentService;
+import com.paklog.robotics.fleet.management.domain.state.FleetStateStore;
+import com.paklog.robotics.fleet.management.domain.state.RobotSlotRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Fleet state wiring
+ */
+@Configuration
+public class FleetConfig {
+
+    @Bean
+    public RobotSlotRegistry robotSlotRegistry(TelemetryProperties telemetryProperties) {
+        return new RobotSlotRegistry(telemetryProperties.maxRobots());
+    }
+
+    @Bean
+    public FleetStateStore fleetStateStore(RobotSlotRegistry robotSlotRegistry, TelemetryProperties telemetryProperties) {
+        return new FleetStateStore(robotSlotRegistry, telemetryProperties.maxRobots());
+    }
+
+    @Bean
+    public PathPlanningService pathPlanningService() {
+        return new GridPathPlanningService();
+    }
+
+    @Bean
+    public TaskAssignmentService taskAssignmentService(ChargingStationRepository chargingStationRepository) {
+        return new TaskAssignmentService(position -> chargingStationRepository.findNearest(position)
+            .map(ChargingStation::getLocation));
+    }
+}
@@ -0,0 +1,42 @@
+package com.paklog.robotics.fleet.management.infrastructure.config;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Map;
+
+/**
+ * Domain event producer wiring
+ * Starts from the spring.kafka producer settings and tunes them for
+ * small, frequent, ordered CloudEvents.
+ */
+@Configuration
+public class KafkaPublisherConfig {
+
+    @Bean(destroyMethod = "close")
+    public Producer<String, byte[]> domainEventProducer(KafkaProperties kafkaProperties,
+                                                        ObjectProvider<SslBundles> sslBundles,
+                                                        EventPublisherProperties properties) {
+        Map<String, Object> config = kafkaProperties.buildProducerProperties(sslBundles.getIfAvailable());
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        // Payload is already encoded; CloudEvents metadata travels in headers
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, (int) properties.linger().toMillis());
+        config.put(ProducerConfig.BATCH_SIZE_CONFIG, properties.batchSize());
+        config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, properties.compression());
+        config.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, properties.maxBlock().toMillis());
+        // Idempotence keeps per-key order across retries with up to five requests in flight
+        config.put(ProducerConfig.ACKS_CONFIG, "all");
+        config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        return new KafkaProducer<>(config);
+    }
+}
@@ -0,0 +1,32 @@
+package com.paklog.robotics.fleet.management.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Opportunity charging settings
+ *
+ * @param enabled Whether idle robots top up during demand troughs
+ * @param tick How often demand is assessed
+ * @param troughLoad Required robots per robot in service at or below which idle robots top up
+ * @param peakLoad Required robots per robot in service at or above which topping up robots are recalled
+ * @param meanTaskTime Average time a robot spends on one task
+ * @param arrivalHalfLife Half-life of the smoothed task arrival rate
+ * @param maxStartLevel Battery level from which a robot is not worth topping up
+ * @param targetLevel Battery level topping up charges to
+ * @param minReleaseLevel Battery level a robot needs before it can be recalled
+ */
+@ConfigurationProperties(prefix = "robotics.charging.opportunity")
+public record OpportunityChargingProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("5s") Duration tick,
+    @DefaultValue("0.5") double troughLoad,
+    @DefaultValue("0.9") double peakLoad,
+    @DefaultValue("3m") Duration meanTaskTime,
+    @DefaultValue("2m") Duration arrivalHalfLife,
+    @DefaultValue("70") int maxStartLevel,
+    @DefaultValue("90") int targetLevel,
+    @DefaultValue("40") int minReleaseLevel
+) {}
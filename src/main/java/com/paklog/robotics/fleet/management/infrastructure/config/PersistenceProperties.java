@@ -0,0 +1,18 @@
+package com.paklog.robotics.fleet.management.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * MongoDB write-behind settings
+ *
+ * @param flushInterval How long aggregate changes are collected before they are written
+ * @param batchSize Maximum write operations per bulkWrite call
+ */
+@ConfigurationProperties(prefix = "robotics.persistence")
+public record PersistenceProperties(
+    @DefaultValue("1s") Duration flushInterval,
+    @DefaultValue("500") int batchSize
+) {}
@@ -0,0 +1,22 @@
+package com.paklog.robotics.fleet.management.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Redis position cache settings
+ *
+ * @param geoKey Sorted set holding every robot's position as a GEO member
+ * @param hashKeyPrefix Prefix of the per-robot hash with position, battery and status
+ * @param flushInterval How long position updates are coalesced before one pipelined write
+ * @param maxBatch Maximum robots written per pipeline
+ */
+@ConfigurationProperties(prefix = "robotics.position-cache")
+public record PositionCacheProperties(
+    @DefaultValue("robotics:robots:geo") String geoKey,
+    @DefaultValue("robotics:robot:") String hashKeyPrefix,
+    @DefaultValue("100ms") Duration flushInterval,
+    @DefaultValue("2048") int maxBatch
+) {}
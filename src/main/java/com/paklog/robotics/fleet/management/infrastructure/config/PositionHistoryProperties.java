@@ -0,0 +1,24 @@
+package com.paklog.robotics.fleet.management.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Position history log settings
+ *
+ * @param directory Where segment files are kept
+ * @param segmentSize Size of one memory-mapped segment file
+ * @param blockInterval Time covered by one independently decodable block; the granularity of the time index
+ * @param retention Segments whose newest sample is older than this are deleted
+ */
+@ConfigurationProperties(prefix = "robotics.history")
+public record PositionHistoryProperties(
+    @DefaultValue("data/history") Path directory,
+    @DefaultValue("64MB") DataSize segmentSize,
+    @DefaultValue("10s") Duration blockInterval,
+    @DefaultValue("24h") Duration retention
+) {}
@@ -0,0 +1,21 @@
+package com.paklog.robotics.fleet.management.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Local snapshot and change log settings
+ *
+ * @param directory Where snapshots and logs are kept; should be a persistent volume
+ * @param logInterval How often changed aggregates are appended to the log
+ * @param snapshotInterval How often a full snapshot replaces the log
+ */
+@ConfigurationProperties(prefix = "robotics.snapshot")
+public record SnapshotProperties(
+    @DefaultValue("data/snapshot") Path directory,
+    @DefaultValue("100ms") Duration logInterval,
+    @DefaultValue("60s") Duration snapshotInterval
+) {}
@@ -0,0 +1,30 @@
+package com.paklog.robotics.fleet.management.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Kafka task intake settings
+ *
+ * @param enabled Whether the intake listeners start with the application
+ * @param pickTopic Topic carrying PickTaskCreatedEvent
+ * @param transportTopic Topic carrying TransportTaskCreatedEvent
+ * @param concurrency Consumers per topic
+ * @param maxPollRecords Largest batch handed to a listener
+ * @param maxPending Pending tasks at which intake pauses
+ * @param resumePending Pending tasks at or below which paused intake resumes
+ * @param checkInterval How often paused intake checks whether it can resume
+ */
+@ConfigurationProperties(prefix = "robotics.tasks.intake")
+public record TaskIntakeProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("pick.tasks.created") String pickTopic,
+    @DefaultValue("transport.tasks.created") String transportTopic,
+    @DefaultValue("2") int concurrency,
+    @DefaultValue("500") int maxPollRecords,
+    @DefaultValue("50000") int maxPending,
+    @DefaultValue("40000") int resumePending,
+    @DefaultValue("100ms") Duration checkInterval
+) {}
@@ -0,0 +1,27 @@
+package com.paklog.robotics.fleet.management.infrastructure.config;
+
+import com.paklog.robotics.fleet.management.domain.service.DeadlineScheduler;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Task dispatch settings
+ *
+ * @param enabled Whether pending tasks are assigned to idle robots automatically
+ * @param mode PRIORITY for highest priority first, EDF for least slack first
+ * @param tick How often pending tasks are offered to idle robots
+ * @param handlingTime Time at origin and destination added to the planned drive
+ * @param undatedAllowance Time after creation by which a task without a due time should be done
+ * @param atRiskSlack Dated tasks with less slack than this count as at risk
+ */
+@ConfigurationProperties(prefix = "robotics.tasks.scheduling")
+public record TaskSchedulingProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("EDF") DeadlineScheduler.Mode mode,
+    @DefaultValue("1s") Duration tick,
+    @DefaultValue("60s") Duration handlingTime,
+    @DefaultValue("30m") Duration undatedAllowance,
+    @DefaultValue("5m") Duration atRiskSlack
+) {}
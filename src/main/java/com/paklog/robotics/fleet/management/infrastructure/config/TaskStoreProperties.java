@@ -0,0 +1,16 @@
+package com.paklog.robotics.fleet.management.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * In-memory task store settings
+ *
+ * @param archiveTtl How long completed, failed and cancelled tasks stay queryable
+ */
+@ConfigurationProperties(prefix = "robotics.tasks")
+public record TaskStoreProperties(
+    @DefaultValue("1h") Duration archiveTtl
+) {}
@@ -0,0 +1,26 @@
+package com.paklog.robotics.fleet.management.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Task timing analytics settings
+ *
+ * @param enabled Whether finished tasks are recorded
+ * @param interval Length of one histogram slot; recorded times become visible when it closes
+ * @param retention How far back queries can look; a whole number of intervals
+ * @param zoneSize Side in metres of the square floor cells tasks are grouped by origin
+ * @param significantDigits Decimal digits of precision kept by the histograms, 0 to 5
+ * @param prometheusWindow Window of the percentiles published as gauges
+ */
+@ConfigurationProperties(prefix = "robotics.tasks.timing")
+public record TaskTimingProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("1m") Duration interval,
+    @DefaultValue("1h") Duration retention,
+    @DefaultValue("25.0") double zoneSize,
+    @DefaultValue("2") int significantDigits,
+    @DefaultValue("5m") Duration prometheusWindow
+) {}
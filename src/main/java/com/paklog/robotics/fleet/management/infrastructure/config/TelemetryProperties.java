@@ -0,0 +1,22 @@
+package com.paklog.robotics.fleet.management.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Telemetry ingestion settings
+ *
+ * @param workers Number of worker threads applying telemetry to robots
+ * @param batchSize Maximum number of robot mailboxes drained per batch
+ * @param maxRobots Upper bound on robots with pending telemetry
+ * @param maxSampleAge Samples older than this when drained are dropped as stale
+ */
+@ConfigurationProperties(prefix = "robotics.telemetry")
+public record TelemetryProperties(
+    @DefaultValue("2") int workers,
+    @DefaultValue("256") int batchSize,
+    @DefaultValue("1024") int maxRobots,
+    @DefaultValue("500ms") Duration maxSampleAge
+) {}
@@ -0,0 +1,20 @@
+package com.paklog.robotics.fleet.management.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Heartbeat watchdog settings
+ *
+ * @param heartbeatTimeout Robots silent for longer than this are marked offline
+ * @param tick Resolution of the timer wheel
+ * @param wheelSize Number of wheel buckets, must be a power of two
+ */
+@ConfigurationProperties(prefix = "robotics.watchdog")
+public record WatchdogProperties(
+    @DefaultValue("5s") Duration heartbeatTimeout,
+    @DefaultValue("100ms") Duration tick,
+    @DefaultValue("512") int wheelSize
+) {}
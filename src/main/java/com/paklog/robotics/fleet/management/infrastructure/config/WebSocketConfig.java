@@ -0,0 +1,31 @@
+package com.paklog.robotics.fleet.management.infrastructure.config;
+
+import com.paklog.robotics.fleet.management.infrastructure.websocket.EventStreamWebSocketHandler;
+import com.paklog.robotics.fleet.management.infrastructure.websocket.TelemetryWebSocketHandler;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+/**
+ * WebSocket endpoint registration
+ */
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final TelemetryWebSocketHandler telemetryWebSocketHandler;
+    private final EventStreamWebSocketHandler eventStreamWebSocketHandler;
+
+    public WebSocketConfig(TelemetryWebSocketHandler telemetryWebSocketHandler,
+                           EventStreamWebSocketHandler eventStreamWebSocketHandler) {
+        this.telemetryWebSocketHandler = telemetryWebSocketHandler;
+        this.eventStreamWebSocketHandler = eventStreamWebSocketHandler;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(telemetryWebSocketHandler, "/ws/telemetry");
+        registry.addHandler(eventStreamWebSocketHandler, "/ws/events");
+    }
+}
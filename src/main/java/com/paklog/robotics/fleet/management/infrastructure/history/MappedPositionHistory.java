@@ -0,0 +1,228 @@
+package com.paklog.robotics.fleet.management.infrastructure.history;
+
+import com.paklog.robotics.fleet.management.application.port.out.PositionHistory;
+import com.paklog.robotics.fleet.management.application.port.out.TelemetryApplyListener;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.infrastructure.config.PositionHistoryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Memory-Mapped Position History
+ * Records every applied position and battery sample into rolling segment files
+ * (see {@link PositionSegment}) and streams time windows back out.
+ *
+ * Samples are appended on the telemetry worker threads straight into the mapped
+ * file, so recording costs an encode and a memory copy, not a system call. When
+ * a segment is full the next one is created and segments past the retention
+ * are deleted. Files are not fsynced per block: the page cache survives a
+ * process crash, and a block torn by a host crash is read up to the tear.
+ *
+ * Readers decode closed blocks without locking and copy only the block that is
+ * still being written.
+ */
+@Component
+public class MappedPositionHistory implements PositionHistory, TelemetryApplyListener {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedPositionHistory.class);
+    private static final Pattern SEGMENT_NAME = Pattern.compile("positions-(\\d+)\\.seg");
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long blockIntervalMillis;
+    private final long retentionMillis;
+    private final List<PositionSegment> segments = new CopyOnWriteArrayList<>();
+    private PositionSegment active;
+    private volatile boolean failing;
+
+    private final Counter samplesRecorded;
+    private final Counter samplesDropped;
+
+    public MappedPositionHistory(PositionHistoryProperties properties, MeterRegistry meterRegistry) {
+        this.directory = properties.directory();
+        this.segmentSize = Math.toIntExact(properties.segmentSize().toBytes());
+        this.blockIntervalMillis = properties.blockInterval().toMillis();
+        this.retentionMillis = properties.retention().toMillis();
+        this.samplesRecorded = Counter.builder("robotics.history.samples")
+            .register(meterRegistry);
+        this.samplesDropped = Counter.builder("robotics.history.samples.dropped")
+            .register(meterRegistry);
+        Gauge.builder("robotics.history.bytes", this, MappedPositionHistory::usedBytes)
+            .description("Bytes of position history on disk, excluding unused segment space")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Index the existing segments and start a new one for writing
+     */
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> SEGMENT_NAME.matcher(path.getFileName().toString()).matches())
+                .sorted(Comparator.comparingLong(MappedPositionHistory::sequenceOf))
+                .toList();
+        }
+        long nextSequence = 1;
+        for (Path file : files) {
+            try {
+                segments.add(PositionSegment.open(file, sequenceOf(file)));
+            } catch (IOException e) {
+                log.warn("Skipping unreadable position segment {}: {}", file, e.getMessage());
+            }
+            nextSequence = sequenceOf(file) + 1;
+        }
+        deleteExpired(System.currentTimeMillis());
+        roll(nextSequence);
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (active != null) {
+            active.closeBlock();
+            active.force();
+            active = null;
+        }
+    }
+
+    @Override
+    public void onTelemetryApplied(Robot robot, Instant observedAt) {
+        RobotPosition position = robot.getPosition();
+        if (position == null) {
+            return;
+        }
+        record(robot.getRobotId().getValue(), observedAt.toEpochMilli(), position.getX(), position.getY(),
+            position.getHeading(), robot.getBatteryLevel().getPercentage());
+    }
+
+    /**
+     * Append one sample to the active segment
+     */
+    public synchronized void record(String robotId, long millis, double x, double y, double heading,
+                                    int batteryPercentage) {
+        if (active == null) {
+            samplesDropped.increment();
+            return;
+        }
+        int xMillimetres = (int) Math.round(x * 1000.0);
+        int yMillimetres = (int) Math.round(y * 1000.0);
+        int headingCentidegrees = Math.floorMod((int) Math.round(heading * 100.0), 36_000);
+        try {
+            if (!active.append(robotId, millis, xMillimetres, yMillimetres, headingCentidegrees, batteryPercentage)) {
+                active.closeBlock();
+                deleteExpired(millis);
+                roll(active.sequence() + 1);
+                active.append(robotId, millis, xMillimetres, yMillimetres, headingCentidegrees, batteryPercentage);
+            }
+            samplesRecorded.increment();
+            if (failing) {
+                failing = false;
+                log.info("Position history recording recovered");
+            }
+        } catch (IOException | RuntimeException e) {
+            samplesDropped.increment();
+            if (!failing) {
+                failing = true;
+                log.warn("Position history recording failed, dropping samples: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public long replay(Instant from, Instant to, String robotId, Consumer<PositionSample> consumer) {
+        long fromMillis = from.toEpochMilli();
+        long toMillis = to.toEpochMilli();
+
+        List<PositionSegment> visible;
+        PositionSegment writing;
+        int writingBlocks;
+        PositionSegment.OpenBlock openBlock;
+        synchronized (this) {
+            visible = List.copyOf(segments);
+            writing = active;
+            writingBlocks = active != null ? active.blockCount() : 0;
+            openBlock = active != null ? active.copyOpenBlock() : null;
+        }
+
+        long[] delivered = {0L};
+        PositionSegment.SampleVisitor visitor = (id, millis, x, y, heading, battery) -> {
+            if (millis < fromMillis || millis >= toMillis || (robotId != null && !robotId.equals(id))) {
+                return;
+            }
+            consumer.accept(new PositionSample(id, Instant.ofEpochMilli(millis), x / 1000.0, y / 1000.0,
+                heading / 100.0, battery));
+            delivered[0]++;
+        };
+        for (PositionSegment segment : visible) {
+            if (segment.lastMillis() < fromMillis || segment.firstMillis() >= toMillis) {
+                continue;
+            }
+            // Blocks the writer closed after the copy above are already in openBlock
+            int blockCount = segment == writing ? writingBlocks : segment.blockCount();
+            segment.visit(blockCount, fromMillis, toMillis, visitor);
+        }
+        if (openBlock != null && openBlock.endMillis() >= fromMillis && openBlock.startMillis() < toMillis) {
+            PositionSegment.decode(openBlock.records(), 0, openBlock.records().capacity(),
+                openBlock.startMillis(), visitor);
+        }
+        return delivered[0];
+    }
+
+    private void roll(long sequence) throws IOException {
+        Path path = directory.resolve(String.format("positions-%012d.seg", sequence));
+        active = PositionSegment.create(path, sequence, segmentSize, blockIntervalMillis);
+        segments.add(active);
+    }
+
+    private void deleteExpired(long nowMillis) {
+        List<PositionSegment> expired = new ArrayList<>();
+        for (PositionSegment segment : segments) {
+            if (segment != active && segment.lastMillis() < nowMillis - retentionMillis) {
+                expired.add(segment);
+            }
+        }
+        for (PositionSegment segment : expired) {
+            segments.remove(segment);
+            try {
+                // Readers still holding the mapping keep reading it after the unlink
+                Files.deleteIfExists(segment.path());
+            } catch (IOException e) {
+                log.warn("Could not delete expired position segment {}: {}", segment.path(), e.getMessage());
+            }
+        }
+    }
+
+    private double usedBytes() {
+        long used = 0L;
+        for (PositionSegment segment : segments) {
+            used += segment.usedBytes();
+        }
+        return used;
+    }
+
+    private static long sequenceOf(Path path) {
+        Matcher matcher = SEGMENT_NAME.matcher(path.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : 0L;
+    }
+}
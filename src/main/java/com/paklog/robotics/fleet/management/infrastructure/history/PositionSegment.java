@@ -0,0 +1,459 @@
+package com.paklog.robotics.fleet.management.infrastructure.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Position Segment
+ * One memory-mapped file of position samples, split into blocks.
+ *
+ * Layout: a 24 byte header (magic, version, first and last sample millis) followed
+ * by blocks of [int length][long start millis][long end millis][records]. Each
+ * block covers one block interval and restarts the delta state, so it decodes on
+ * its own and the per-block time range doubles as the time index.
+ *
+ * The first sample of a robot in a block is a KEY record carrying the robot id
+ * and absolute values; later ones are DELTA records referring to the robot by
+ * its index within the block. Time, millimetre coordinates, centidegree heading
+ * and battery are stored as (zigzag) varints of the change since the robot's
+ * previous sample, which for a robot moving at 1.5 m/s sampled at 10 Hz comes
+ * to about 9 bytes per sample.
+ *
+ * A block's length is written when it closes. A block left open by a crash is
+ * decoded up to the first zero or malformed record.
+ */
+final class PositionSegment {
+
+    static final int MAGIC = 0x52465048; // "RFPH"
+    static final int VERSION = 1;
+    static final int HEADER = 24;
+    static final int BLOCK_HEADER = 20;
+
+    private static final byte END = 0;
+    private static final byte KEY = 1;
+    private static final byte DELTA = 2;
+    private static final int MAX_FIXED_RECORD = 1 + 5 + 5 * 10 + 1;
+    private static final int FULL_TURN = 36_000;
+
+    private final Path path;
+    private final long sequence;
+    private final MappedByteBuffer buffer;
+    private final long blockIntervalMillis;
+    private final List<Block> blocks = new CopyOnWriteArrayList<>();
+    private volatile long firstMillis;
+    private volatile long lastMillis;
+
+    // Writer state, guarded by the owning history
+    private final byte[] scratch = new byte[256];
+    private final Map<String, Track> tracks = new HashMap<>();
+    private int position = HEADER;
+    private int blockOffset = -1;
+    private long blockStart;
+    private long blockEnd;
+
+    /**
+     * Time range and location of a closed block
+     */
+    record Block(int offset, int length, long startMillis, long endMillis) {}
+
+    /**
+     * Copy of the records of the block that is still being written
+     */
+    record OpenBlock(ByteBuffer records, long startMillis, long endMillis) {}
+
+    /**
+     * Receives decoded samples without allocating per sample
+     */
+    @FunctionalInterface
+    interface SampleVisitor {
+        void sample(String robotId, long millis, int xMillimetres, int yMillimetres, int headingCentidegrees,
+                    int battery);
+    }
+
+    private PositionSegment(Path path, long sequence, MappedByteBuffer buffer, long blockIntervalMillis) {
+        this.path = path;
+        this.sequence = sequence;
+        this.buffer = buffer;
+        this.blockIntervalMillis = blockIntervalMillis;
+    }
+
+    /**
+     * Create and map a new, zero-filled segment for writing
+     */
+    static PositionSegment create(Path path, long sequence, int size, long blockIntervalMillis) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            return new PositionSegment(path, sequence, buffer, blockIntervalMillis);
+        }
+    }
+
+    /**
+     * Map an existing segment read-only and rebuild its block index
+     * @throws IOException When the file is not a segment of this version
+     */
+    static PositionSegment open(Path path, long sequence) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.capacity() < HEADER || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a position segment: " + path);
+        }
+        PositionSegment segment = new PositionSegment(path, sequence, buffer, 0);
+        segment.indexBlocks();
+        return segment;
+    }
+
+    private void indexBlocks() {
+        int offset = HEADER;
+        while (offset + BLOCK_HEADER <= buffer.capacity()) {
+            int length = buffer.getInt(offset);
+            long start = buffer.getLong(offset + 4);
+            if (start == 0L) {
+                break;
+            }
+            if (length > 0) {
+                addBlock(new Block(offset, length, start, buffer.getLong(offset + 12)));
+                offset += BLOCK_HEADER + length;
+                continue;
+            }
+            // Left open by a crash: keep whatever decodes cleanly
+            long[] end = {start};
+            int recordsEnd = decode(buffer, offset + BLOCK_HEADER, buffer.capacity(), start,
+                (robotId, millis, x, y, heading, battery) -> end[0] = Math.max(end[0], millis));
+            if (recordsEnd > offset + BLOCK_HEADER) {
+                addBlock(new Block(offset, recordsEnd - offset - BLOCK_HEADER, start, end[0]));
+            }
+            break;
+        }
+    }
+
+    private void addBlock(Block block) {
+        if (blocks.isEmpty()) {
+            firstMillis = block.startMillis();
+        }
+        lastMillis = Math.max(lastMillis, block.endMillis());
+        blocks.add(block);
+    }
+
+    /**
+     * Append one sample, closing the current block first when its interval is over
+     * @return false when the segment is full and nothing was written
+     */
+    boolean append(String robotId, long millis, int xMillimetres, int yMillimetres, int headingCentidegrees,
+                   int battery) {
+        if (blockOffset >= 0 && millis >= blockStart + blockIntervalMillis) {
+            closeBlock();
+        }
+        boolean newBlock = blockOffset < 0;
+        long start = newBlock ? millis : blockStart;
+        Track track = newBlock ? null : tracks.get(robotId);
+
+        int length;
+        if (track == null) {
+            byte[] id = robotId.getBytes(StandardCharsets.UTF_8);
+            if (MAX_FIXED_RECORD + id.length > scratch.length) {
+                throw new IllegalArgumentException("Robot id too long for position history: " + robotId);
+            }
+            // Samples from another worker's batch may be a few millis older than the block
+            millis = Math.max(millis, start);
+            int p = 0;
+            scratch[p++] = KEY;
+            p = putVarint(scratch, p, id.length);
+            System.arraycopy(id, 0, scratch, p, id.length);
+            p += id.length;
+            p = putVarint(scratch, p, millis - start);
+            p = putVarint(scratch, p, zigzag(xMillimetres));
+            p = putVarint(scratch, p, zigzag(yMillimetres));
+            p = putVarint(scratch, p, headingCentidegrees);
+            scratch[p++] = (byte) battery;
+            length = p;
+        } else {
+            millis = Math.max(millis, track.millis);
+            int headingDelta = headingCentidegrees - track.heading;
+            if (headingDelta > FULL_TURN / 2) {
+                headingDelta -= FULL_TURN;
+            } else if (headingDelta < -FULL_TURN / 2) {
+                headingDelta += FULL_TURN;
+            }
+            int p = 0;
+            scratch[p++] = DELTA;
+            p = putVarint(scratch, p, track.index);
+            p = putVarint(scratch, p, millis - track.millis);
+            p = putVarint(scratch, p, zigzag(xMillimetres - track.x));
+            p = putVarint(scratch, p, zigzag(yMillimetres - track.y));
+            p = putVarint(scratch, p, zigzag(headingDelta));
+            p = putVarint(scratch, p, zigzag(battery - track.battery));
+            length = p;
+        }
+
+        if (position + (newBlock ? BLOCK_HEADER : 0) + length > buffer.capacity()) {
+            return false;
+        }
+        if (newBlock) {
+            openBlock(start);
+        }
+        buffer.put(position, scratch, 0, length);
+        position += length;
+
+        if (track == null) {
+            track = new Track(tracks.size());
+            tracks.put(robotId, track);
+        }
+        track.millis = millis;
+        track.x = xMillimetres;
+        track.y = yMillimetres;
+        track.heading = headingCentidegrees;
+        track.battery = battery;
+        blockEnd = Math.max(blockEnd, millis);
+        return true;
+    }
+
+    private void openBlock(long start) {
+        blockOffset = position;
+        blockStart = start;
+        blockEnd = start;
+        buffer.putLong(blockOffset + 4, start);
+        position += BLOCK_HEADER;
+    }
+
+    /**
+     * Write the length of the current block and publish it to readers
+     */
+    void closeBlock() {
+        if (blockOffset < 0) {
+            return;
+        }
+        int length = position - blockOffset - BLOCK_HEADER;
+        buffer.putLong(blockOffset + 12, blockEnd);
+        buffer.putInt(blockOffset, length);
+        if (blocks.isEmpty()) {
+            buffer.putLong(8, blockStart);
+        }
+        buffer.putLong(16, Math.max(lastMillis, blockEnd));
+        addBlock(new Block(blockOffset, length, blockStart, blockEnd));
+        blockOffset = -1;
+        tracks.clear();
+    }
+
+    /**
+     * Copy of the block being written, or null when there is none
+     */
+    OpenBlock copyOpenBlock() {
+        if (blockOffset < 0) {
+            return null;
+        }
+        int from = blockOffset + BLOCK_HEADER;
+        ByteBuffer records = ByteBuffer.allocate(position - from);
+        records.put(0, buffer, from, position - from);
+        return new OpenBlock(records, blockStart, blockEnd);
+    }
+
+    void force() {
+        if (buffer.isReadOnly()) {
+            return;
+        }
+        buffer.force();
+    }
+
+    /**
+     * Decode the first blockCount closed blocks that overlap [fromMillis, toMillis)
+     */
+    void visit(int blockCount, long fromMillis, long toMillis, SampleVisitor visitor) {
+        for (int i = firstBlockEndingAtOrAfter(blockCount, fromMillis); i < blockCount; i++) {
+            Block block = blocks.get(i);
+            if (block.startMillis() >= toMillis) {
+                break;
+            }
+            int from = block.offset() + BLOCK_HEADER;
+            decode(buffer, from, from + block.length(), block.startMillis(), visitor);
+        }
+    }
+
+    private int firstBlockEndingAtOrAfter(int blockCount, long millis) {
+        int low = 0;
+        int high = blockCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (blocks.get(mid).endMillis() < millis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Decode the records in [from, limit) of a block
+     * @return Offset just past the last record that decoded cleanly
+     */
+    static int decode(ByteBuffer source, int from, int limit, long blockStart, SampleVisitor visitor) {
+        Cursor in = new Cursor(source, from, limit);
+        List<Track> tracks = new ArrayList<>();
+        List<String> robotIds = new ArrayList<>();
+        int end = from;
+        try {
+            while (in.position < limit) {
+                byte type = in.readByte();
+                Track track;
+                if (type == KEY) {
+                    byte[] id = new byte[in.readLength()];
+                    in.readBytes(id);
+                    track = new Track(tracks.size());
+                    track.millis = blockStart + in.readVarint();
+                    track.x = unzigzag(in.readVarint());
+                    track.y = unzigzag(in.readVarint());
+                    track.heading = (int) in.readVarint();
+                    track.battery = in.readByte();
+                    tracks.add(track);
+                    robotIds.add(new String(id, StandardCharsets.UTF_8));
+                } else if (type == DELTA) {
+                    track = tracks.get((int) in.readVarint());
+                    track.millis += in.readVarint();
+                    track.x += unzigzag(in.readVarint());
+                    track.y += unzigzag(in.readVarint());
+                    track.heading = Math.floorMod(track.heading + unzigzag(in.readVarint()), FULL_TURN);
+                    track.battery += unzigzag(in.readVarint());
+                } else {
+                    // END, or garbage past the end of a block left open by a crash
+                    break;
+                }
+                end = in.position;
+                visitor.sample(robotIds.get(track.index), track.millis, track.x, track.y, track.heading,
+                    track.battery);
+            }
+        } catch (IndexOutOfBoundsException e) {
+            // Torn record at the end of a block left open by a crash
+        }
+        return end;
+    }
+
+    private static int putVarint(byte[] target, int p, long value) {
+        while ((value & ~0x7FL) != 0L) {
+            target[p++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        target[p++] = (byte) value;
+        return p;
+    }
+
+    private static long zigzag(int value) {
+        return Integer.toUnsignedLong((value << 1) ^ (value >> 31));
+    }
+
+    private static int unzigzag(long value) {
+        int v = (int) value;
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    int blockCount() {
+        return blocks.size();
+    }
+
+    long firstMillis() {
+        return firstMillis;
+    }
+
+    long lastMillis() {
+        return lastMillis;
+    }
+
+    /**
+     * Bytes in use, including headers
+     */
+    int usedBytes() {
+        if (!buffer.isReadOnly()) {
+            return position;
+        }
+        if (blocks.isEmpty()) {
+            return HEADER;
+        }
+        Block last = blocks.get(blocks.size() - 1);
+        return last.offset() + BLOCK_HEADER + last.length();
+    }
+
+    /**
+     * Last sample of one robot within the current block
+     */
+    private static final class Track {
+        private final int index;
+        private long millis;
+        private int x;
+        private int y;
+        private int heading;
+        private int battery;
+
+        private Track(int index) {
+            this.index = index;
+        }
+    }
+
+    private static final class Cursor {
+        private final ByteBuffer source;
+        private final int limit;
+        private int position;
+
+        private Cursor(ByteBuffer source, int position, int limit) {
+            this.source = source;
+            this.position = position;
+            this.limit = limit;
+        }
+
+        byte readByte() {
+            if (position >= limit) {
+                throw new IndexOutOfBoundsException(position);
+            }
+            return source.get(position++);
+        }
+
+        int readLength() {
+            long length = readVarint();
+            if (length > limit - position) {
+                throw new IndexOutOfBoundsException(position);
+            }
+            return (int) length;
+        }
+
+        void readBytes(byte[] target) {
+            if (position + target.length > limit) {
+                throw new IndexOutOfBoundsException(position);
+            }
+            source.get(position, target);
+            position += target.length;
+        }
+
+        long readVarint() {
+            long value = 0L;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IndexOutOfBoundsException("Malformed varint at " + position);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.paklog.robotics.fleet.management.infrastructure.messaging;
+
+import com.paklog.robotics.fleet.management.application.service.ChargingDispatchService;
+import com.paklog.robotics.fleet.management.domain.event.BatteryLowEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Charging Request Handler
+ * Turns each BatteryLowEvent into a charging request for the dispatch service.
+ * Only queues the request, so the consumer thread never waits on a robot or station.
+ * The dispatch service is resolved lazily: it needs the robot repository, which
+ * needs the event bus this handler is part of.
+ */
+@Component
+public class ChargingRequestHandler implements DomainEventHandler {
+
+    private final ChargingDispatchService chargingDispatchService;
+
+    public ChargingRequestHandler(@Lazy ChargingDispatchService chargingDispatchService) {
+        this.chargingDispatchService = chargingDispatchService;
+    }
+
+    @Override
+    public void onEvent(String aggregateId, Object event, long publishedNanos, boolean endOfBatch) {
+        if (event instanceof BatteryLowEvent batteryLow) {
+            chargingDispatchService.requestCharging(batteryLow.getRobotId(), batteryLow.isEmergency());
+        }
+    }
+}
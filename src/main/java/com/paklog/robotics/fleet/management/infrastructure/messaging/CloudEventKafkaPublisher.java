@@ -0,0 +1,113 @@
+package com.paklog.robotics.fleet.management.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paklog.robotics.fleet.management.domain.event.DomainEvent;
+import com.paklog.robotics.fleet.management.infrastructure.config.EventPublisherProperties;
+import io.cloudevents.CloudEvent;
+import io.cloudevents.core.builder.CloudEventBuilder;
+import io.cloudevents.kafka.KafkaMessageFactory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+
+/**
+ * CloudEvents Kafka Publisher
+ * Publishes domain events from the event bus to Kafka in CloudEvents binary mode:
+ * the metadata goes into ce_* headers and the record value is the bare JSON event,
+ * without serializer type headers or an envelope. The ce_time header is when the
+ * event occurred, not when it was sent, so it survives a backed-up bus or broker.
+ *
+ * Records are keyed by aggregate id, so events of one robot land on one partition
+ * in publish order. Sends are asynchronous with at most maxInFlight unacknowledged
+ * records; beyond that the bus consumer blocks, the ring fills and aggregates wait,
+ * which pushes broker slowness back to the producers instead of buffering it.
+ */
+@Component
+public class CloudEventKafkaPublisher implements DomainEventHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(CloudEventKafkaPublisher.class);
+    private static final String TYPE_PREFIX = "com.paklog.robotics.fleet.";
+
+    private final Producer<String, byte[]> producer;
+    private final ObjectMapper objectMapper;
+    private final EventPublisherProperties properties;
+    private final Semaphore inFlight;
+    private final Map<Class<?>, String> typeNames = new HashMap<>();
+    private final String idPrefix = UUID.randomUUID() + "-";
+    private long nextId;
+
+    private final Counter sent;
+    private final Counter failed;
+
+    public CloudEventKafkaPublisher(Producer<String, byte[]> domainEventProducer,
+                                    ObjectMapper objectMapper,
+                                    EventPublisherProperties properties,
+                                    MeterRegistry meterRegistry) {
+        this.producer = domainEventProducer;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.inFlight = new Semaphore(properties.maxInFlight());
+        this.sent = Counter.builder("robotics.events.kafka.sent").register(meterRegistry);
+        this.failed = Counter.builder("robotics.events.kafka.failed").register(meterRegistry);
+        Gauge.builder("robotics.events.kafka.in.flight", inFlight,
+            semaphore -> properties.maxInFlight() - semaphore.availablePermits()).register(meterRegistry);
+    }
+
+    @Override
+    public void onEvent(String aggregateId, Object event, long publishedNanos, boolean endOfBatch) throws Exception {
+        CloudEvent cloudEvent = CloudEventBuilder.v1()
+            .withId(idPrefix + nextId++)
+            .withSource(properties.source())
+            .withType(typeNames.computeIfAbsent(event.getClass(), type -> TYPE_PREFIX + type.getSimpleName()))
+            .withSubject(aggregateId)
+            .withTime(occurredAt(event))
+            .withDataContentType("application/json")
+            .withData(objectMapper.writeValueAsBytes(event))
+            .build();
+        ProducerRecord<String, byte[]> record =
+            KafkaMessageFactory.createWriter(properties.topic(), aggregateId).writeBinary(cloudEvent);
+
+        inFlight.acquire();
+        try {
+            producer.send(record, (metadata, exception) -> {
+                inFlight.release();
+                if (exception == null) {
+                    sent.increment();
+                } else {
+                    failed.increment();
+                    log.warn("Failed to publish {} for {}: {}", cloudEvent.getType(), aggregateId, exception.getMessage());
+                }
+            });
+        } catch (RuntimeException e) {
+            // send() threw before taking ownership of the permit
+            inFlight.release();
+            failed.increment();
+            throw e;
+        }
+    }
+
+    private static OffsetDateTime occurredAt(Object event) {
+        Instant occurredAt = event instanceof DomainEvent domainEvent ? domainEvent.getOccurredAt() : null;
+        return occurredAt != null ? occurredAt.atOffset(ZoneOffset.UTC) : OffsetDateTime.now(ZoneOffset.UTC);
+    }
+
+    /**
+     * Sends awaiting broker acknowledgement
+     */
+    public int getInFlightCount() {
+        return properties.maxInFlight() - inFlight.availablePermits();
+    }
+}
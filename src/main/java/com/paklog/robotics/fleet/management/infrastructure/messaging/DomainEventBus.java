@@ -0,0 +1,301 @@
+package com.paklog.robotics.fleet.management.infrastructure.messaging;
+
+import com.paklog.robotics.fleet.management.domain.event.DomainEventSink;
+import com.paklog.robotics.fleet.management.infrastructure.config.EventBusProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Domain Event Bus
+ * Sharded ring buffers that aggregates publish into directly.
+ *
+ * Every shard preallocates its slots, so publishing only writes three fields and
+ * a sequence number; no per-event wrapper or list copy is allocated. An aggregate
+ * always maps to the same shard, which keeps its events in order. Each handler
+ * gets its own consumer thread that sweeps the shards and receives whatever is
+ * available as one batch. Producers wait for the slowest handler when a ring is
+ * full, so a stalled consumer slows publishing instead of growing the heap. The
+ * last handler to pass a slot clears it, so delivered events are not kept
+ * reachable until the ring wraps around.
+ */
+@Component
+public class DomainEventBus implements DomainEventSink {
+
+    private static final Logger log = LoggerFactory.getLogger(DomainEventBus.class);
+
+    // Reading the clock costs more than the rest of a publish, so only every 64th event is timed
+    private static final long LATENCY_SAMPLE_MASK = 63;
+
+    private final Shard[] shards;
+    private final int shardMask;
+    private final List<DomainEventHandler> handlers;
+    private final int batchSize;
+    private final long idleWaitNanos;
+    private final List<Thread> consumers = new ArrayList<>();
+    private volatile boolean running;
+
+    private final Counter backpressureWaits;
+    private final Counter handlerFailures;
+    private final Counter droppedWhileStopped;
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Counter> suppressedByType = new ConcurrentHashMap<>();
+
+    public DomainEventBus(EventBusProperties properties,
+                          List<DomainEventHandler> handlers,
+                          MeterRegistry meterRegistry) {
+        if (properties.shards() <= 0 || Integer.bitCount(properties.shards()) != 1) {
+            throw new IllegalArgumentException("Shard count must be a positive power of two");
+        }
+        if (properties.ringSize() <= 0 || Integer.bitCount(properties.ringSize()) != 1) {
+            throw new IllegalArgumentException("Ring size must be a positive power of two");
+        }
+        this.handlers = List.copyOf(handlers);
+        this.meterRegistry = meterRegistry;
+        this.batchSize = properties.batchSize();
+        this.idleWaitNanos = properties.idleWait().toNanos();
+        this.shardMask = properties.shards() - 1;
+        this.shards = new Shard[properties.shards()];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard(properties.ringSize(), this.handlers.size());
+        }
+
+        FunctionCounter.builder("robotics.events.published", this, DomainEventBus::getPublishedCount)
+            .register(meterRegistry);
+        this.backpressureWaits = Counter.builder("robotics.events.backpressure.waits")
+            .description("Publishes that had to wait for a slow consumer")
+            .register(meterRegistry);
+        this.handlerFailures = Counter.builder("robotics.events.handler.failures").register(meterRegistry);
+        this.droppedWhileStopped = Counter.builder("robotics.events.dropped")
+            .description("Events dropped because the ring was full and consumers were stopped")
+            .register(meterRegistry);
+        Gauge.builder("robotics.events.backlog", this, DomainEventBus::getBacklog).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int h = 0; h < handlers.size(); h++) {
+            int handlerIndex = h;
+            Thread consumer = new Thread(() -> runConsumer(handlerIndex),
+                "domain-events-" + handlers.get(h).getClass().getSimpleName());
+            consumer.setDaemon(true);
+            consumer.start();
+            consumers.add(consumer);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        consumers.forEach(LockSupport::unpark);
+        consumers.clear();
+    }
+
+    @Override
+    public void publish(String aggregateId, Object event) {
+        int hash = aggregateId.hashCode();
+        Shard shard = shards[(hash ^ (hash >>> 16)) & shardMask];
+        shard.publish(aggregateId, event);
+    }
+
+    @Override
+    public void suppressed(String aggregateId, Class<?> eventType) {
+        suppressedByType.computeIfAbsent(eventType, type ->
+            Counter.builder("robotics.events.suppressed")
+                .description("Events withheld because they repeated an active alarm")
+                .tag("type", type.getSimpleName())
+                .register(meterRegistry)
+        ).increment();
+    }
+
+    /**
+     * Deliver everything currently published to the given handler on the calling thread
+     * @return Number of events delivered
+     */
+    int drain(int handlerIndex) {
+        int delivered = 0;
+        for (Shard shard : shards) {
+            delivered += shard.consume(handlerIndex, handlers.get(handlerIndex), Integer.MAX_VALUE);
+        }
+        return delivered;
+    }
+
+    /**
+     * Slots still holding an event, delivered or not
+     */
+    int retained() {
+        int retained = 0;
+        for (Shard shard : shards) {
+            for (Slot slot : shard.slots) {
+                if (slot.event != null) {
+                    retained++;
+                }
+            }
+        }
+        return retained;
+    }
+
+    /**
+     * Total events published since start
+     */
+    public long getPublishedCount() {
+        long count = 0;
+        for (Shard shard : shards) {
+            count += shard.claimed.get();
+        }
+        return count;
+    }
+
+    /**
+     * Events published but not yet seen by the slowest handler
+     */
+    public long getBacklog() {
+        long backlog = 0;
+        for (Shard shard : shards) {
+            backlog += shard.claimed.get() - shard.minConsumed();
+        }
+        return backlog;
+    }
+
+    private void runConsumer(int handlerIndex) {
+        DomainEventHandler handler = handlers.get(handlerIndex);
+        while (running) {
+            int delivered = 0;
+            for (Shard shard : shards) {
+                delivered += shard.consume(handlerIndex, handler, batchSize);
+            }
+            if (delivered == 0) {
+                LockSupport.parkNanos(idleWaitNanos);
+            }
+        }
+    }
+
+    /**
+     * One ring buffer with a multi-producer claim and one read cursor per handler
+     */
+    private final class Shard {
+        private final Slot[] slots;
+        private final int mask;
+        private final AtomicLong claimed = new AtomicLong();
+        private final AtomicLong[] consumed;
+        // Last observed slowest cursor; only refreshed when a claim would wrap past it
+        private volatile long gatingCache;
+
+        private Shard(int ringSize, int handlerCount) {
+            this.slots = new Slot[ringSize];
+            for (int i = 0; i < ringSize; i++) {
+                slots[i] = new Slot();
+            }
+            this.mask = ringSize - 1;
+            this.consumed = new AtomicLong[handlerCount];
+            for (int i = 0; i < handlerCount; i++) {
+                consumed[i] = new AtomicLong();
+            }
+        }
+
+        private boolean publish(String aggregateId, Object event) {
+            long sequence;
+            boolean waited = false;
+            while (true) {
+                sequence = claimed.get();
+                long wrapPoint = sequence - slots.length;
+                if (wrapPoint >= gatingCache && wrapPoint >= (gatingCache = minConsumed())) {
+                    if (!running) {
+                        // No consumer will free a slot; drop rather than block
+                        droppedWhileStopped.increment();
+                        return false;
+                    }
+                    if (!waited) {
+                        backpressureWaits.increment();
+                        waited = true;
+                    }
+                    LockSupport.parkNanos(1_000);
+                } else if (claimed.compareAndSet(sequence, sequence + 1)) {
+                    break;
+                }
+            }
+
+            Slot slot = slots[(int) (sequence & mask)];
+            if (consumed.length > 0) {
+                slot.aggregateId = aggregateId;
+                slot.event = event;
+                slot.readers = consumed.length;
+            }
+            slot.publishedNanos = (sequence & LATENCY_SAMPLE_MASK) == 0 ? System.nanoTime() : 0L;
+            // Volatile write makes the fields above visible to consumers
+            slot.sequence = sequence + 1;
+            return true;
+        }
+
+        private int consume(int handlerIndex, DomainEventHandler handler, int maxEvents) {
+            AtomicLong cursor = consumed[handlerIndex];
+            long next = cursor.get();
+            long available = next;
+            long limit = next + Math.min(maxEvents, slots.length);
+            while (available < limit && slots[(int) (available & mask)].sequence == available + 1) {
+                available++;
+            }
+            if (available == next) {
+                return 0;
+            }
+
+            for (long sequence = next; sequence < available; sequence++) {
+                Slot slot = slots[(int) (sequence & mask)];
+                try {
+                    handler.onEvent(slot.aggregateId, slot.event, slot.publishedNanos, sequence == available - 1);
+                } catch (Exception e) {
+                    handlerFailures.increment();
+                    log.warn("{} failed on {}", handler.getClass().getSimpleName(),
+                        slot.event.getClass().getSimpleName(), e);
+                }
+                if (Slot.READERS.decrementAndGet(slot) == 0) {
+                    slot.aggregateId = null;
+                    slot.event = null;
+                }
+            }
+            cursor.set(available);
+            return (int) (available - next);
+        }
+
+        private long minConsumed() {
+            if (consumed.length == 0) {
+                return claimed.get();
+            }
+            long min = Long.MAX_VALUE;
+            for (AtomicLong cursor : consumed) {
+                min = Math.min(min, cursor.get());
+            }
+            return min;
+        }
+    }
+
+    /**
+     * Preallocated ring slot; sequence is one past the sequence it holds once published
+     */
+    private static final class Slot {
+        private static final AtomicIntegerFieldUpdater<Slot> READERS =
+            AtomicIntegerFieldUpdater.newUpdater(Slot.class, "readers");
+
+        private volatile long sequence;
+        // Handlers yet to see the event; the one taking it to zero clears the slot
+        private volatile int readers;
+        private String aggregateId;
+        private Object event;
+        private long publishedNanos;
+    }
+}
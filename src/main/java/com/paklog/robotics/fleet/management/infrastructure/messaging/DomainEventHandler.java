@@ -0,0 +1,19 @@
+package com.paklog.robotics.fleet.management.infrastructure.messaging;
+
+/**
+ * Domain Event Handler
+ * Batched consumer of the domain event bus. Each handler runs on its own
+ * thread and sees the events of one aggregate in publish order.
+ */
+public interface DomainEventHandler {
+
+    /**
+     * Handle one event
+     * @param aggregateId Identifier of the aggregate that raised the event
+     * @param event The domain event
+     * @param publishedNanos System.nanoTime() at publish for sampled events, otherwise 0
+     * @param endOfBatch true for the last event currently available in the shard,
+     *                   so handlers can flush buffered work
+     */
+    void onEvent(String aggregateId, Object event, long publishedNanos, boolean endOfBatch) throws Exception;
+}
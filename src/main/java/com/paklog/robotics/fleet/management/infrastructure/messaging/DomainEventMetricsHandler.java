@@ -0,0 +1,43 @@
+package com.paklog.robotics.fleet.management.infrastructure.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain Event Metrics
+ * Counts events per type and records how long sampled events waited in the ring.
+ * Runs on a single consumer thread, so the counter cache needs no locking.
+ */
+@Component
+public class DomainEventMetricsHandler implements DomainEventHandler {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Counter> countersByType = new HashMap<>();
+    private final Timer deliveryLatency;
+
+    public DomainEventMetricsHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.deliveryLatency = Timer.builder("robotics.events.delivery.latency")
+            .description("Time from publish until the metrics consumer saw the event")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void onEvent(String aggregateId, Object event, long publishedNanos, boolean endOfBatch) {
+        countersByType.computeIfAbsent(event.getClass(), type ->
+            Counter.builder("robotics.events.consumed")
+                .tag("type", type.getSimpleName())
+                .register(meterRegistry)
+        ).increment();
+        if (publishedNanos != 0L) {
+            deliveryLatency.record(System.nanoTime() - publishedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.paklog.robotics.fleet.management.infrastructure.messaging;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskPriority;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskType;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Payload of PickTaskCreatedEvent and TransportTaskCreatedEvent
+ * The task type comes from the topic; priority and capability fall back to
+ * defaults when the upstream service leaves them out. The due time, such as a
+ * carrier cutoff, is optional.
+ */
+public record TaskCreatedMessage(
+    String taskId,
+    TaskPriority priority,
+    double originX,
+    double originY,
+    double destinationX,
+    double destinationY,
+    RobotCapability requiredCapability,
+    Map<String, Object> payload,
+    Instant dueAt
+) {
+
+    /**
+     * Create the pending task this message announces
+     * @throws IllegalArgumentException if the message has no task id or an invalid position
+     */
+    public RobotTask toTask(TaskType taskType, RobotCapability defaultCapability) {
+        if (taskId == null || taskId.isBlank()) {
+            throw new IllegalArgumentException("Task id is required");
+        }
+        return RobotTask.create(
+            taskId,
+            taskType,
+            priority != null ? priority : TaskPriority.NORMAL,
+            RobotPosition.of(originX, originY, 0.0),
+            RobotPosition.of(destinationX, destinationY, 0.0),
+            requiredCapability != null ? requiredCapability : defaultCapability,
+            payload != null ? payload : Map.of(),
+            dueAt
+        );
+    }
+}
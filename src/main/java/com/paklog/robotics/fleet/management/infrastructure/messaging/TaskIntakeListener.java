@@ -0,0 +1,178 @@
+package com.paklog.robotics.fleet.management.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.paklog.robotics.fleet.management.application.service.TaskIntakeService;
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskType;
+import com.paklog.robotics.fleet.management.infrastructure.config.TaskIntakeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task Intake Listener
+ * Consumes PickTaskCreatedEvent and TransportTaskCreatedEvent in batches and
+ * hands the decoded tasks to the {@link TaskIntakeService}.
+ *
+ * Each poll arrives as one batch of raw payloads, decoded with a single shared
+ * reader; records that cannot be decoded are counted and skipped so one bad
+ * message cannot stall a partition. When a batch leaves the pending tasks at
+ * the bound, both listeners pause their partitions until dispatch drains the
+ * backlog to the resume level, so a burst of wave releases waits in Kafka
+ * rather than on the heap.
+ */
+@Component
+public class TaskIntakeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskIntakeListener.class);
+
+    static final String PICK_LISTENER = "pick-task-intake";
+    static final String TRANSPORT_LISTENER = "transport-task-intake";
+    private static final List<String> LISTENERS = List.of(PICK_LISTENER, TRANSPORT_LISTENER);
+
+    private final TaskIntakeService intakeService;
+    private final KafkaListenerEndpointRegistry registry;
+    private final TaskIntakeProperties properties;
+    private final ObjectReader reader;
+    private final Counter received;
+    private final Counter rejected;
+    private final Counter pauses;
+    private volatile boolean paused;
+    private ScheduledExecutorService ticker;
+
+    public TaskIntakeListener(TaskIntakeService intakeService,
+                              KafkaListenerEndpointRegistry registry,
+                              TaskIntakeProperties properties,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+        this.intakeService = intakeService;
+        this.registry = registry;
+        this.properties = properties;
+        this.reader = objectMapper.readerFor(TaskCreatedMessage.class)
+            .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.received = Counter.builder("robotics.tasks.intake.received")
+            .description("Task creation events consumed")
+            .register(meterRegistry);
+        this.rejected = Counter.builder("robotics.tasks.intake.rejected")
+            .description("Task creation events that could not be decoded or were invalid")
+            .register(meterRegistry);
+        this.pauses = Counter.builder("robotics.tasks.intake.paused")
+            .description("Times intake paused because too many tasks were pending")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        long checkNanos = properties.checkInterval().toNanos();
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-intake-backpressure");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::tick, checkNanos, checkNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    @KafkaListener(id = PICK_LISTENER, topics = "${robotics.tasks.intake.pick-topic:pick.tasks.created}",
+        containerFactory = "taskIntakeContainerFactory", batch = "true",
+        autoStartup = "${robotics.tasks.intake.enabled:true}")
+    public void onPickTasks(List<ConsumerRecord<String, byte[]>> records) {
+        intake(records, TaskType.PICK, RobotCapability.PICKER);
+    }
+
+    @KafkaListener(id = TRANSPORT_LISTENER, topics = "${robotics.tasks.intake.transport-topic:transport.tasks.created}",
+        containerFactory = "taskIntakeContainerFactory", batch = "true",
+        autoStartup = "${robotics.tasks.intake.enabled:true}")
+    public void onTransportTasks(List<ConsumerRecord<String, byte[]>> records) {
+        intake(records, TaskType.TRANSPORT, RobotCapability.TRANSPORTER);
+    }
+
+    /**
+     * Check if intake is paused waiting for pending tasks to drain
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    void intake(List<ConsumerRecord<String, byte[]>> records, TaskType taskType, RobotCapability capability) {
+        received.increment(records.size());
+        List<RobotTask> tasks = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                TaskCreatedMessage message = reader.readValue(record.value());
+                tasks.add(message.toTask(taskType, capability));
+            } catch (IOException | IllegalArgumentException e) {
+                rejected.increment();
+                log.warn("Skipping task event at {}-{}@{}: {}", record.topic(), record.partition(),
+                    record.offset(), e.getMessage());
+            }
+        }
+        intakeService.ingest(tasks);
+        if (intakeService.isSaturated()) {
+            pause();
+        }
+    }
+
+    void tick() {
+        try {
+            if (paused && intakeService.canResume()) {
+                resume();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Task intake backpressure check failed", e);
+        }
+    }
+
+    private synchronized void pause() {
+        if (paused) {
+            return;
+        }
+        paused = true;
+        LISTENERS.forEach(id -> {
+            MessageListenerContainer container = registry.getListenerContainer(id);
+            if (container != null) {
+                container.pause();
+            }
+        });
+        pauses.increment();
+        log.info("Task intake paused with {} tasks pending", intakeService.getPendingCount());
+    }
+
+    private synchronized void resume() {
+        LISTENERS.forEach(id -> {
+            MessageListenerContainer container = registry.getListenerContainer(id);
+            if (container != null) {
+                container.resume();
+            }
+        });
+        paused = false;
+        log.info("Task intake resumed with {} tasks pending", intakeService.getPendingCount());
+    }
+}
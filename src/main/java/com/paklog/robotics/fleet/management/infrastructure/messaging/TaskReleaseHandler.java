@@ -0,0 +1,31 @@
+package com.paklog.robotics.fleet.management.infrastructure.messaging;
+
+import com.paklog.robotics.fleet.management.application.service.TaskDispatchService;
+import com.paklog.robotics.fleet.management.domain.event.RobotTaskFailedEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * Task Release Handler
+ * Hands the task a robot dropped, when it failed or went offline, back to the
+ * dispatch service, so it does not stay ASSIGNED to a robot that will never
+ * finish it. Only that task is released, and only while the robot still holds
+ * it; a task the robot picked up since is its own business. Resolved lazily for
+ * the same reason as {@link ChargingRequestHandler}.
+ */
+@Component
+public class TaskReleaseHandler implements DomainEventHandler {
+
+    private final TaskDispatchService taskDispatchService;
+
+    public TaskReleaseHandler(@Lazy TaskDispatchService taskDispatchService) {
+        this.taskDispatchService = taskDispatchService;
+    }
+
+    @Override
+    public void onEvent(String aggregateId, Object event, long publishedNanos, boolean endOfBatch) {
+        if (event instanceof RobotTaskFailedEvent taskFailed) {
+            taskDispatchService.releaseTask(taskFailed.getRobotId(), taskFailed.getTaskId(), taskFailed.getReason());
+        }
+    }
+}
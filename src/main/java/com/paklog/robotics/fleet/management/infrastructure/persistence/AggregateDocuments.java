@@ -0,0 +1,124 @@
+package com.paklog.robotics.fleet.management.infrastructure.persistence;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.ChargingStation;
+import com.paklog.robotics.fleet.management.domain.aggregate.Fleet;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import org.bson.Document;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aggregate Documents
+ * Maps aggregates to the MongoDB documents written by {@link MongoWriteBehindPersistence}.
+ * Each top-level field is the unit of a $set, so values that change together
+ * (a position, the health readings) live in one sub-document.
+ */
+final class AggregateDocuments {
+
+    static final String ROBOTS = "robots";
+    static final String TASKS = "robot_tasks";
+    static final String FLEETS = "fleets";
+    static final String CHARGING_STATIONS = "charging_stations";
+
+    private AggregateDocuments() {
+    }
+
+    static Object robotVersion(Robot robot) {
+        synchronized (robot) {
+            return Arrays.asList(robot.getUpdatedAt(), robot.getLastHeartbeat(), robot.getStatus());
+        }
+    }
+
+    static Document robot(Robot robot) {
+        synchronized (robot) {
+            return new Document()
+                .append("model", robot.getModel())
+                .append("status", robot.getStatus().name())
+                .append("position", position(robot.getPosition()))
+                .append("battery", robot.getBatteryLevel().getPercentage())
+                .append("currentTaskId", robot.getCurrentTaskId())
+                .append("capabilities", robot.getCapabilities().stream().map(RobotCapability::name).sorted().toList())
+                .append("healthMetrics", new Document(robot.getHealthMetrics().toMap()))
+                .append("lastHeartbeat", date(robot.getLastHeartbeat()))
+                .append("createdAt", date(robot.getCreatedAt()))
+                .append("updatedAt", date(robot.getUpdatedAt()));
+        }
+    }
+
+    static Object taskVersion(RobotTask task) {
+        return Arrays.asList(task.getStatus(), task.getRobotId());
+    }
+
+    static Document task(RobotTask task) {
+        Document document = new Document()
+            .append("robotId", task.getRobotId())
+            .append("taskType", task.getTaskType().name())
+            .append("priority", task.getPriority().name())
+            .append("priorityLevel", task.getPriority().getLevel())
+            .append("status", task.getStatus().name())
+            .append("requiredCapability", task.getRequiredCapability() == null ? null : task.getRequiredCapability().name())
+            .append("origin", position(task.getOrigin()))
+            .append("destination", position(task.getDestination()))
+            .append("failureReason", task.getFailureReason())
+            .append("createdAt", date(task.getCreatedAt()))
+            .append("assignedAt", date(task.getAssignedAt()))
+            .append("startedAt", date(task.getStartedAt()))
+            .append("completedAt", date(task.getCompletedAt()))
+            .append("dueAt", date(task.getDueAt()));
+        // Archived copies carry no payload; leaving the field out keeps the stored one
+        if (!task.isPayloadDropped()) {
+            document.append("payload", task.getPayload() == null ? null : new Document(task.getPayload()));
+        }
+        return document;
+    }
+
+    static Document fleet(Fleet fleet) {
+        return new Document()
+            .append("robotIds", fleet.getRobots().keySet().stream().sorted().toList())
+            .append("activeTaskCount", fleet.getActiveTaskCount())
+            .append("idleRobotCount", fleet.getIdleRobotCount())
+            .append("utilizationRate", fleet.getUtilizationRate())
+            .append("lastRebalanceAt", date(fleet.getLastRebalanceAt()))
+            .append("createdAt", date(fleet.getCreatedAt()))
+            .append("updatedAt", date(fleet.getUpdatedAt()));
+    }
+
+    static Document chargingStation(ChargingStation station) {
+        synchronized (station) {
+            Document charging = new Document();
+            for (Map.Entry<String, Instant> entry : new TreeMap<>(station.getChargingStartTimes()).entrySet()) {
+                charging.append(entry.getKey(), date(entry.getValue()));
+            }
+            List<String> queued = station.getQueuedRobots();
+            return new Document()
+                .append("location", position(station.getLocation()))
+                .append("capacity", station.getCapacity())
+                .append("availableSlots", station.getAvailableSlots())
+                .append("chargingRobots", charging)
+                .append("queuedRobots", queued)
+                .append("createdAt", date(station.getCreatedAt()))
+                .append("updatedAt", date(station.getUpdatedAt()));
+        }
+    }
+
+    private static Document position(RobotPosition position) {
+        if (position == null) {
+            return null;
+        }
+        return new Document("x", position.getX())
+            .append("y", position.getY())
+            .append("heading", position.getHeading());
+    }
+
+    private static Date date(Instant instant) {
+        return instant == null ? null : Date.from(instant);
+    }
+}
@@ -0,0 +1,100 @@
+package com.paklog.robotics.fleet.management.infrastructure.persistence;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.ChargingStation;
+import com.paklog.robotics.fleet.management.domain.repository.ChargingStationRepository;
+import com.paklog.robotics.fleet.management.domain.state.ChargingStationIndex;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory Charging Station Repository
+ * Saved stations keep a {@link ChargingStationIndex} up to date, which answers
+ * the distance and capacity lookups. Robots are rarely looked up by station,
+ * so those lookups scan all stations.
+ */
+@Repository
+public class InMemoryChargingStationRepository implements ChargingStationRepository {
+
+    private final Map<String, ChargingStation> stations = new ConcurrentHashMap<>();
+    private final ChargingStationIndex index = new ChargingStationIndex();
+
+    @Override
+    public Optional<ChargingStation> findById(String stationId) {
+        return Optional.ofNullable(stations.get(stationId));
+    }
+
+    @Override
+    public Optional<ChargingStation> findByRobotId(String robotId) {
+        return stations.values().stream()
+            .filter(station -> station.holds(robotId))
+            .findFirst();
+    }
+
+    @Override
+    public Optional<ChargingStation> findNearest(RobotPosition position) {
+        return index.nearest(position.getX(), position.getY()).map(stations::get);
+    }
+
+    @Override
+    public Optional<ChargingStation> findNearestAvailable(RobotPosition position) {
+        return index.nearestAvailable(position.getX(), position.getY()).map(stations::get);
+    }
+
+    @Override
+    public Optional<ChargingStation> findShortestWait() {
+        return index.shortestWait().map(stations::get);
+    }
+
+    @Override
+    public Iterable<ChargingStation> findAllByDistance(RobotPosition position) {
+        return () -> {
+            Iterator<String> stationIds = index.byDistance(position.getX(), position.getY());
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return stationIds.hasNext();
+                }
+
+                @Override
+                public ChargingStation next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return stations.get(stationIds.next());
+                }
+            };
+        };
+    }
+
+    @Override
+    public int countSpareSlots() {
+        return index.getSpareSlots();
+    }
+
+    @Override
+    public List<ChargingStation> findAll() {
+        return new ArrayList<>(stations.values());
+    }
+
+    @Override
+    public ChargingStation save(ChargingStation station) {
+        ChargingStation replaced = stations.put(station.getStationId(), station);
+        if (replaced != null && replaced != station) {
+            synchronized (replaced) {
+                replaced.detachIndex();
+            }
+        }
+        synchronized (station) {
+            station.attachIndex(index);
+        }
+        return station;
+    }
+}
@@ -0,0 +1,66 @@
+package com.paklog.robotics.fleet.management.infrastructure.persistence;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.Fleet;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.event.DomainEventSink;
+import com.paklog.robotics.fleet.management.domain.event.RobotLifecycleSink;
+import com.paklog.robotics.fleet.management.domain.repository.FleetRepository;
+import com.paklog.robotics.fleet.management.domain.state.FleetStateStore;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory Fleet Repository
+ * Saved fleets publish to the event sink and answer scans from the fleet state store.
+ * A robot leaving the robot repository is removed from every fleet, so a state
+ * slot reused by another robot is not mistaken for a member.
+ */
+@Repository
+public class InMemoryFleetRepository implements FleetRepository, RobotLifecycleSink {
+
+    private final Map<String, Fleet> fleets = new ConcurrentHashMap<>();
+    private final DomainEventSink eventSink;
+    private final FleetStateStore stateStore;
+
+    public InMemoryFleetRepository(DomainEventSink eventSink, FleetStateStore stateStore) {
+        this.eventSink = eventSink;
+        this.stateStore = stateStore;
+    }
+
+    @Override
+    public Optional<Fleet> findById(String fleetId) {
+        return Optional.ofNullable(fleets.get(fleetId));
+    }
+
+    @Override
+    public List<Fleet> findAll() {
+        return new ArrayList<>(fleets.values());
+    }
+
+    @Override
+    public Fleet save(Fleet fleet) {
+        if (eventSink != null) {
+            fleet.attachEventSink(eventSink);
+        }
+        if (stateStore != null) {
+            fleet.attachStateStore(stateStore);
+        }
+        fleets.put(fleet.getFleetId(), fleet);
+        return fleet;
+    }
+
+    @Override
+    public void removed(Robot robot) {
+        String robotId = robot.getRobotId().getValue();
+        for (Fleet fleet : fleets.values()) {
+            if (fleet.getRobots().get(robotId) == robot) {
+                fleet.removeRobot(robotId);
+            }
+        }
+    }
+}
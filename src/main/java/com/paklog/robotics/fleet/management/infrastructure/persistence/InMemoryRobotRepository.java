@@ -0,0 +1,100 @@
+package com.paklog.robotics.fleet.management.infrastructure.persistence;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.event.DomainEventSink;
+import com.paklog.robotics.fleet.management.domain.event.RobotLifecycleSink;
+import com.paklog.robotics.fleet.management.domain.repository.RobotRepository;
+import com.paklog.robotics.fleet.management.domain.state.FleetStateStore;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory Robot Repository
+ * Holds the live robot aggregates for this instance.
+ * Saved robots publish their domain events straight to the event sink
+ * and write their queryable state through to the fleet state store.
+ * Robots joining or leaving are reported to every lifecycle sink in the
+ * context, looked up on each call since most sinks depend on this repository.
+ */
+@Repository
+public class InMemoryRobotRepository implements RobotRepository {
+
+    private final Map<String, Robot> robots = new ConcurrentHashMap<>();
+    private final DomainEventSink eventSink;
+    private final FleetStateStore stateStore;
+    private final Iterable<RobotLifecycleSink> lifecycleSinks;
+
+    public InMemoryRobotRepository() {
+        this(null, null);
+    }
+
+    public InMemoryRobotRepository(DomainEventSink eventSink) {
+        this(eventSink, null);
+    }
+
+    public InMemoryRobotRepository(DomainEventSink eventSink, FleetStateStore stateStore) {
+        this(eventSink, stateStore, List.of());
+    }
+
+    public InMemoryRobotRepository(DomainEventSink eventSink, FleetStateStore stateStore,
+                                   Iterable<RobotLifecycleSink> lifecycleSinks) {
+        this.eventSink = eventSink;
+        this.stateStore = stateStore;
+        this.lifecycleSinks = lifecycleSinks;
+    }
+
+    @Autowired
+    public InMemoryRobotRepository(DomainEventSink eventSink, FleetStateStore stateStore,
+                                   ObjectProvider<RobotLifecycleSink> lifecycleSinks) {
+        this(eventSink, stateStore, (Iterable<RobotLifecycleSink>) lifecycleSinks);
+    }
+
+    @Override
+    public Optional<Robot> findById(String robotId) {
+        return Optional.ofNullable(robots.get(robotId));
+    }
+
+    @Override
+    public List<Robot> findAll() {
+        return new ArrayList<>(robots.values());
+    }
+
+    @Override
+    public Robot save(Robot robot) {
+        if (eventSink != null) {
+            robot.attachEventSink(eventSink);
+        }
+        if (stateStore != null) {
+            robot.attachStateStore(stateStore);
+        }
+        Robot previous = robots.put(robot.getRobotId().getValue(), robot);
+        if (previous != robot) {
+            for (RobotLifecycleSink sink : lifecycleSinks) {
+                if (previous != null) {
+                    sink.removed(previous);
+                }
+                sink.added(robot);
+            }
+        }
+        return robot;
+    }
+
+    @Override
+    public void deleteById(String robotId) {
+        Robot removed = robots.remove(robotId);
+        if (removed != null) {
+            // Sinks still see the robot's state slot, before it is free for reuse
+            for (RobotLifecycleSink sink : lifecycleSinks) {
+                sink.removed(removed);
+            }
+            removed.detachStateStore();
+        }
+    }
+}
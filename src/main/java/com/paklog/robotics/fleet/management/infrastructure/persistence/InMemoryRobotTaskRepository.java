@@ -0,0 +1,105 @@
+package com.paklog.robotics.fleet.management.infrastructure.persistence;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.event.FinishedTaskSink;
+import com.paklog.robotics.fleet.management.domain.repository.RobotTaskRepository;
+import com.paklog.robotics.fleet.management.domain.state.RobotTaskIndex;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskPriority;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskStatus;
+import com.paklog.robotics.fleet.management.infrastructure.config.TaskStoreProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-memory Robot Task Repository
+ * Saved tasks are held in a {@link RobotTaskIndex} and keep it up to date on
+ * every transition. Finished tasks move to its archive and expire after the
+ * archive TTL; they are returned as copies without payload. Tasks finishing
+ * are passed to the finished task sink, if the context has one.
+ */
+@Repository
+public class InMemoryRobotTaskRepository implements RobotTaskRepository {
+
+    private final RobotTaskIndex index;
+
+    public InMemoryRobotTaskRepository() {
+        this(new TaskStoreProperties(Duration.ofHours(1)), task -> {});
+    }
+
+    public InMemoryRobotTaskRepository(TaskStoreProperties properties, FinishedTaskSink finishedSink) {
+        this.index = new RobotTaskIndex(properties.archiveTtl(), finishedSink);
+    }
+
+    @Autowired
+    public InMemoryRobotTaskRepository(TaskStoreProperties properties, ObjectProvider<FinishedTaskSink> finishedSink) {
+        this(properties, finishedSink.getIfAvailable(() -> task -> {}));
+    }
+
+    @Override
+    public Optional<RobotTask> findById(String taskId) {
+        return index.find(taskId);
+    }
+
+    @Override
+    public List<RobotTask> findByStatus(TaskStatus status) {
+        return index.find(status, null, null);
+    }
+
+    @Override
+    public List<RobotTask> findByStatusAndPriorityAndCapability(TaskStatus status, TaskPriority priority,
+                                                                RobotCapability capability) {
+        return index.find(status, priority, capability);
+    }
+
+    @Override
+    public List<RobotTask> findOpenByRobotId(String robotId) {
+        return index.findOpenByRobot(robotId);
+    }
+
+    @Override
+    public int countByStatus(TaskStatus status) {
+        return index.count(status);
+    }
+
+    @Override
+    public long countCreated() {
+        return index.createdCount();
+    }
+
+    @Override
+    public List<RobotTask> findAll() {
+        return index.findAll();
+    }
+
+    @Override
+    public List<RobotTask> findAllReadOnly() {
+        return index.findAllReadOnly();
+    }
+
+    @Override
+    public RobotTask save(RobotTask task) {
+        task.attachIndex(index);
+        index.add(task);
+        return task;
+    }
+
+    @Override
+    public boolean saveIfAbsent(RobotTask task) {
+        if (!index.addIfAbsent(task)) {
+            return false;
+        }
+        task.attachIndex(index);
+        return true;
+    }
+
+    @Override
+    public void deleteById(String taskId) {
+        index.remove(taskId);
+    }
+}
@@ -0,0 +1,164 @@
+package com.paklog.robotics.fleet.management.infrastructure.persistence;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Indexes;
+import com.paklog.robotics.fleet.management.domain.aggregate.ChargingStation;
+import com.paklog.robotics.fleet.management.domain.aggregate.Fleet;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.repository.ChargingStationRepository;
+import com.paklog.robotics.fleet.management.domain.repository.FleetRepository;
+import com.paklog.robotics.fleet.management.domain.repository.RobotRepository;
+import com.paklog.robotics.fleet.management.domain.repository.RobotTaskRepository;
+import com.paklog.robotics.fleet.management.infrastructure.config.PersistenceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoDB Write-Behind Persistence
+ * Persists robots, tasks, fleets and charging stations from the in-memory
+ * repositories without putting MongoDB on the request or telemetry path.
+ *
+ * Once per flush interval every repository is compared with what was last written
+ * (see {@link WriteBehindCollection}) and the resulting $set-only upserts go out
+ * in unordered bulkWrite batches. Position updates arriving at 10 Hz collapse
+ * into one write per robot per interval. A failed batch is not recorded as
+ * written, so the next flush retries it with whatever the state is by then.
+ */
+@Component
+public class MongoWriteBehindPersistence {
+
+    private static final Logger log = LoggerFactory.getLogger(MongoWriteBehindPersistence.class);
+    private static final BulkWriteOptions UNORDERED = new BulkWriteOptions().ordered(false);
+
+    private final MongoTemplate mongoTemplate;
+    private final PersistenceProperties properties;
+    private final List<WriteBehindCollection<?>> collections;
+    private final Counter writes;
+    private final Counter flushFailures;
+    private volatile boolean failing;
+    private ScheduledExecutorService flusher;
+
+    public MongoWriteBehindPersistence(MongoTemplate mongoTemplate,
+                                       PersistenceProperties properties,
+                                       RobotRepository robotRepository,
+                                       RobotTaskRepository taskRepository,
+                                       FleetRepository fleetRepository,
+                                       ChargingStationRepository chargingStationRepository,
+                                       MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.properties = properties;
+        this.collections = List.of(
+            new WriteBehindCollection<Robot>(AggregateDocuments.ROBOTS, robotRepository::findAll,
+                robot -> robot.getRobotId().getValue(), AggregateDocuments::robotVersion,
+                AggregateDocuments::robot, true),
+            // Finished tasks may leave memory but stay in MongoDB as history
+            new WriteBehindCollection<RobotTask>(AggregateDocuments.TASKS, taskRepository::findAllReadOnly,
+                RobotTask::getTaskId, AggregateDocuments::taskVersion, AggregateDocuments::task, false),
+            new WriteBehindCollection<Fleet>(AggregateDocuments.FLEETS, fleetRepository::findAll,
+                Fleet::getFleetId, Fleet::getUpdatedAt, AggregateDocuments::fleet, true),
+            new WriteBehindCollection<ChargingStation>(AggregateDocuments.CHARGING_STATIONS,
+                chargingStationRepository::findAll, ChargingStation::getStationId, ChargingStation::getUpdatedAt,
+                AggregateDocuments::chargingStation, true));
+        this.writes = Counter.builder("robotics.persistence.writes")
+            .description("Upserts and deletes sent to MongoDB")
+            .register(meterRegistry);
+        this.flushFailures = Counter.builder("robotics.persistence.flush.failures").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            ensureIndexes();
+        } catch (MongoException | DataAccessException e) {
+            log.warn("Could not create MongoDB indexes, will retry on next start: {}", e.getMessage());
+        }
+
+        long intervalNanos = properties.flushInterval().toNanos();
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mongo-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher.awaitTermination(properties.flushInterval().toMillis() * 2, TimeUnit.MILLISECONDS);
+        }
+        flush();
+    }
+
+    /**
+     * Indexes for readers of the collections; this service answers its own queries from memory.
+     * Robots are looked up by status and capability, such as idle lifters, and tasks by status
+     * in priority order, oldest first, such as the pending backlog or finished task history.
+     */
+    void ensureIndexes() {
+        mongoTemplate.getCollection(AggregateDocuments.ROBOTS)
+            .createIndex(Indexes.ascending("status", "capabilities"));
+        mongoTemplate.getCollection(AggregateDocuments.TASKS)
+            .createIndex(Indexes.compoundIndex(Indexes.ascending("status"),
+                Indexes.descending("priorityLevel"), Indexes.ascending("createdAt")));
+    }
+
+    /**
+     * Write all pending changes
+     * @return Number of write operations sent
+     */
+    synchronized int flush() {
+        int sent = 0;
+        for (WriteBehindCollection<?> collection : collections) {
+            try {
+                sent += flush(collection);
+            } catch (RuntimeException e) {
+                flushFailures.increment();
+                if (!failing) {
+                    failing = true;
+                    log.warn("Writing {} to MongoDB failed, retrying every {}: {}",
+                        collection.name(), properties.flushInterval(), e.getMessage());
+                }
+                return sent;
+            }
+        }
+        if (failing) {
+            failing = false;
+            log.info("MongoDB writes recovered");
+        }
+        return sent;
+    }
+
+    private int flush(WriteBehindCollection<?> collection) {
+        WriteBehindCollection.Changes changes = collection.collect();
+        if (changes.models.isEmpty()) {
+            return 0;
+        }
+        MongoCollection<Document> target = mongoTemplate.getCollection(collection.name());
+        int batchSize = properties.batchSize();
+        for (int from = 0; from < changes.models.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, changes.models.size());
+            target.bulkWrite(changes.models.subList(from, to), UNORDERED);
+            changes.commit(from, to);
+            writes.increment(to - from);
+        }
+        return changes.models.size();
+    }
+}
@@ -0,0 +1,141 @@
+package com.paklog.robotics.fleet.management.infrastructure.persistence;
+
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Write-Behind Collection
+ * Tracks which fields of each aggregate changed since they were last written.
+ *
+ * A cheap version stamp (usually updatedAt) marks an aggregate dirty; only then
+ * is its document built and compared field by field with the last written one.
+ * The resulting change is a $set of the differing fields, so a robot that moved
+ * ten times since the previous flush costs one update of its position fields and
+ * its health metrics are not rewritten. Aggregates gone from the source are deleted
+ * unless the collection keeps history.
+ *
+ * Only the flusher thread calls into this class.
+ */
+final class WriteBehindCollection<T> {
+
+    private static final UpdateOptions UPSERT = new UpdateOptions().upsert(true);
+
+    private final String name;
+    private final Supplier<? extends Iterable<T>> source;
+    private final Function<T, String> idOf;
+    private final Function<T, Object> versionOf;
+    private final Function<T, Document> toDocument;
+    private final boolean deleteMissing;
+    private final Map<String, Written> written = new HashMap<>();
+
+    WriteBehindCollection(String name, Supplier<? extends Iterable<T>> source, Function<T, String> idOf,
+                          Function<T, Object> versionOf, Function<T, Document> toDocument, boolean deleteMissing) {
+        this.name = name;
+        this.source = source;
+        this.idOf = idOf;
+        this.versionOf = versionOf;
+        this.toDocument = toDocument;
+        this.deleteMissing = deleteMissing;
+    }
+
+    String name() {
+        return name;
+    }
+
+    /**
+     * Collect the writes needed to bring the collection up to date.
+     * Nothing is recorded as written until {@link Changes#commit} is called.
+     */
+    Changes collect() {
+        Changes changes = new Changes();
+        Set<String> present = new HashSet<>();
+        for (T aggregate : source.get()) {
+            String id = idOf.apply(aggregate);
+            present.add(id);
+            Object version = versionOf.apply(aggregate);
+            Written last = written.get(id);
+            if (last != null && Objects.equals(last.version, version)) {
+                continue;
+            }
+
+            Document document = toDocument.apply(aggregate);
+            Document changed = diff(last == null ? null : last.document, document);
+            if (changed.isEmpty()) {
+                last.version = version;
+                continue;
+            }
+            changes.models.add(new UpdateOneModel<>(Filters.eq("_id", id), new Document("$set", changed), UPSERT));
+            changes.commits.add(() -> written.put(id, new Written(version, document)));
+        }
+
+        Iterator<String> ids = written.keySet().iterator();
+        while (ids.hasNext()) {
+            String id = ids.next();
+            if (present.contains(id)) {
+                continue;
+            }
+            if (deleteMissing) {
+                changes.models.add(new DeleteOneModel<>(Filters.eq("_id", id)));
+                changes.commits.add(() -> written.remove(id));
+            } else {
+                ids.remove();
+            }
+        }
+        return changes;
+    }
+
+    private static Document diff(Document previous, Document current) {
+        if (previous == null) {
+            return current;
+        }
+        Document changed = new Document();
+        for (Map.Entry<String, Object> field : current.entrySet()) {
+            if (!Objects.equals(previous.get(field.getKey()), field.getValue())) {
+                changed.put(field.getKey(), field.getValue());
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Pending writes of one flush; commit entries line up with models
+     */
+    static final class Changes {
+        final List<WriteModel<Document>> models = new ArrayList<>();
+        final List<Runnable> commits = new ArrayList<>();
+
+        /**
+         * Record models [from, to) as written
+         */
+        void commit(int from, int to) {
+            for (int i = from; i < to; i++) {
+                commits.get(i).run();
+            }
+        }
+    }
+
+    private static final class Written {
+        private Object version;
+        private final Document document;
+
+        private Written(Object version, Document document) {
+            this.version = version;
+            this.document = document;
+        }
+    }
+}
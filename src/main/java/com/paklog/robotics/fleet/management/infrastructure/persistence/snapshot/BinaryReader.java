@@ -0,0 +1,71 @@
+package com.paklog.robotics.fleet.management.infrastructure.persistence.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Reads what {@link BinaryWriter} wrote, typically straight from a mapped file
+ */
+final class BinaryReader {
+
+    private final ByteBuffer buffer;
+    private byte[] scratch = new byte[64];
+
+    BinaryReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    byte readByte() {
+        return buffer.get();
+    }
+
+    int readInt() {
+        return buffer.getInt();
+    }
+
+    long readLong() {
+        return buffer.getLong();
+    }
+
+    double readDouble() {
+        return buffer.getDouble();
+    }
+
+    boolean readBoolean() {
+        return buffer.get() != 0;
+    }
+
+    String readString() {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    Instant readInstant() {
+        long seconds = buffer.getLong();
+        if (seconds == BinaryWriter.NULL_INSTANT) {
+            return null;
+        }
+        return Instant.ofEpochSecond(seconds, buffer.getInt());
+    }
+
+    <E extends Enum<E>> E readEnum(E[] values) {
+        byte ordinal = buffer.get();
+        return ordinal < 0 ? null : values[ordinal];
+    }
+
+    int position() {
+        return buffer.position();
+    }
+
+    int remaining() {
+        return buffer.remaining();
+    }
+}
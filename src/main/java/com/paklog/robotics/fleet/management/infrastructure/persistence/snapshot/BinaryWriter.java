@@ -0,0 +1,110 @@
+package com.paklog.robotics.fleet.management.infrastructure.persistence.snapshot;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Growable buffer for the snapshot and journal encodings.
+ * Nullable values carry their own marker so readers need no field flags.
+ */
+final class BinaryWriter {
+
+    static final long NULL_INSTANT = Long.MIN_VALUE;
+
+    private ByteBuffer buffer;
+
+    BinaryWriter(int initialCapacity) {
+        this.buffer = ByteBuffer.allocate(initialCapacity);
+    }
+
+    void writeByte(int value) {
+        ensure(1);
+        buffer.put((byte) value);
+    }
+
+    void writeInt(int value) {
+        ensure(4);
+        buffer.putInt(value);
+    }
+
+    void writeLong(long value) {
+        ensure(8);
+        buffer.putLong(value);
+    }
+
+    void writeDouble(double value) {
+        ensure(8);
+        buffer.putDouble(value);
+    }
+
+    void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Length-prefixed UTF-8, length -1 for null
+     */
+    void writeString(String value) {
+        if (value == null) {
+            writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeInt(bytes.length);
+        ensure(bytes.length);
+        buffer.put(bytes);
+    }
+
+    void writeInstant(Instant value) {
+        if (value == null) {
+            writeLong(NULL_INSTANT);
+            return;
+        }
+        writeLong(value.getEpochSecond());
+        writeInt(value.getNano());
+    }
+
+    /**
+     * Enum ordinal, -1 for null
+     */
+    void writeEnum(Enum<?> value) {
+        writeByte(value == null ? -1 : value.ordinal());
+    }
+
+    int position() {
+        return buffer.position();
+    }
+
+    void putInt(int index, int value) {
+        buffer.putInt(index, value);
+    }
+
+    /**
+     * View of bytes [from, position) without copying
+     */
+    ByteBuffer slice(int from) {
+        return buffer.slice(from, buffer.position() - from);
+    }
+
+    /**
+     * Everything written so far, ready to be drained to a channel
+     */
+    ByteBuffer written() {
+        return buffer.slice(0, buffer.position());
+    }
+
+    void clear() {
+        buffer.clear();
+    }
+
+    private void ensure(int bytes) {
+        if (buffer.remaining() < bytes) {
+            int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+            ByteBuffer grown = ByteBuffer.allocate(capacity);
+            buffer.flip();
+            grown.put(buffer);
+            buffer = grown;
+        }
+    }
+}
@@ -0,0 +1,534 @@
+package com.paklog.robotics.fleet.management.infrastructure.persistence.snapshot;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.ChargingStation;
+import com.paklog.robotics.fleet.management.domain.aggregate.Fleet;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.repository.ChargingStationRepository;
+import com.paklog.robotics.fleet.management.domain.repository.FleetRepository;
+import com.paklog.robotics.fleet.management.domain.repository.RobotRepository;
+import com.paklog.robotics.fleet.management.domain.repository.RobotTaskRepository;
+import com.paklog.robotics.fleet.management.infrastructure.config.SnapshotProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Fleet Journal
+ * Local snapshot plus change log of robots, charging stations, tasks and fleets,
+ * so a restarted pod resumes from disk instead of rebuilding from MongoDB.
+ *
+ * Every log interval the repositories are scanned for aggregates whose version
+ * stamp changed and the changed ones are appended to {@code fleet-<gen>.log} as
+ * CRC-checked records. Every snapshot interval the full state is written to
+ * {@code fleet-<gen+1>.snap} (temp file, fsync, atomic rename) and a fresh log
+ * is started; older files are then deleted. Both jobs run on one thread, so a
+ * snapshot never interleaves with an append. Version stamps are recorded only
+ * once the records or snapshot holding them are on disk; after a failed write
+ * the log is cut back and the same aggregates are written again next interval.
+ *
+ * Recovery maps the newest snapshot, decodes it in place and replays its log up
+ * to the first torn or corrupt record.
+ */
+@Component
+public class FleetJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(FleetJournal.class);
+
+    static final int SNAPSHOT_MAGIC = 0x52464D53; // "RFMS"
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final String LOG_SUFFIX = ".log";
+    private static final int RECORD_HEADER = 8; // length + crc
+
+    static final byte ROBOT_UPSERT = 1;
+    static final byte ROBOT_REMOVE = 2;
+    static final byte STATION_UPSERT = 3;
+    static final byte TASK_UPSERT = 5;
+    static final byte TASK_REMOVE = 6;
+    static final byte FLEET_UPSERT = 7;
+
+    private final RobotRepository robotRepository;
+    private final ChargingStationRepository stationRepository;
+    private final RobotTaskRepository taskRepository;
+    private final FleetRepository fleetRepository;
+    private final SnapshotProperties properties;
+    private final Path directory;
+
+    // Version stamps of what the current snapshot plus log already hold; journal thread only
+    private final Map<String, Object> robotVersions = new HashMap<>();
+    private final Map<String, Object> stationVersions = new HashMap<>();
+    private final Map<String, Object> taskVersions = new HashMap<>();
+    private final Map<String, Object> fleetVersions = new HashMap<>();
+
+    private final BinaryWriter logBuffer = new BinaryWriter(64 * 1024);
+    // Version updates of the records in logBuffer, applied once they are forced to disk
+    private final List<Runnable> pendingVersions = new ArrayList<>();
+    private final CRC32C crc = new CRC32C();
+    private long generation;
+    private FileChannel logChannel;
+    private long lastSnapshotNanos;
+    private ScheduledExecutorService journaler;
+
+    private final Counter recordsAppended;
+    private final Timer snapshotTimer;
+
+    public FleetJournal(RobotRepository robotRepository,
+                        ChargingStationRepository stationRepository,
+                        RobotTaskRepository taskRepository,
+                        FleetRepository fleetRepository,
+                        SnapshotProperties properties,
+                        MeterRegistry meterRegistry) {
+        this.robotRepository = robotRepository;
+        this.stationRepository = stationRepository;
+        this.taskRepository = taskRepository;
+        this.fleetRepository = fleetRepository;
+        this.properties = properties;
+        this.directory = properties.directory();
+        this.recordsAppended = Counter.builder("robotics.journal.records").register(meterRegistry);
+        this.snapshotTimer = Timer.builder("robotics.journal.snapshot.duration").register(meterRegistry);
+    }
+
+    /**
+     * Load the newest snapshot and its log into the repositories and open the
+     * log for appending. Must run before {@link #start()} and before traffic.
+     * @return Summary of what was restored
+     */
+    public synchronized RecoveryResult recover() throws IOException {
+        long started = System.nanoTime();
+        Files.createDirectories(directory);
+        generation = latestSnapshotGeneration();
+
+        Map<String, Robot> robots = new LinkedHashMap<>();
+        Map<String, ChargingStation> stations = new LinkedHashMap<>();
+        Map<String, RobotTask> tasks = new LinkedHashMap<>();
+        Map<String, SnapshotCodec.FleetRecord> fleets = new LinkedHashMap<>();
+        if (generation > 0) {
+            readSnapshot(snapshotPath(generation), robots, stations, tasks, fleets);
+        }
+        Path logPath = logPath(generation);
+        int replayed = 0;
+        long validLength = 0;
+        if (Files.exists(logPath)) {
+            long[] result = replayLog(logPath, robots, stations, tasks, fleets);
+            replayed = (int) result[0];
+            validLength = result[1];
+        }
+
+        robots.values().forEach(robotRepository::save);
+        stations.values().forEach(stationRepository::save);
+        tasks.values().forEach(taskRepository::save);
+        List<Fleet> restoredFleets = new ArrayList<>(fleets.size());
+        for (SnapshotCodec.FleetRecord record : fleets.values()) {
+            restoredFleets.add(fleetRepository.save(record.restore(robots::get)));
+        }
+        robots.values().forEach(robot -> robotVersions.put(robot.getRobotId().getValue(), robotVersion(robot)));
+        stations.values().forEach(station -> stationVersions.put(station.getStationId(), station.getUpdatedAt()));
+        tasks.values().forEach(task -> taskVersions.put(task.getTaskId(), taskVersion(task)));
+        restoredFleets.forEach(fleet -> fleetVersions.put(fleet.getFleetId(), fleet.getUpdatedAt()));
+
+        logChannel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        // Drop a torn tail left by a crash mid-append
+        logChannel.truncate(validLength);
+        logChannel.position(validLength);
+        lastSnapshotNanos = System.nanoTime();
+
+        return new RecoveryResult(generation, robots.size(), stations.size(), tasks.size(), fleets.size(),
+            replayed, System.nanoTime() - started);
+    }
+
+    /**
+     * Start appending changes and taking snapshots in the background
+     */
+    public synchronized void start() {
+        long intervalNanos = properties.logInterval().toNanos();
+        journaler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fleet-journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        journaler.scheduleWithFixedDelay(this::tick, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        if (journaler != null) {
+            journaler.shutdown();
+            journaler.awaitTermination(1, TimeUnit.SECONDS);
+        }
+        synchronized (this) {
+            if (logChannel != null) {
+                appendChanges();
+                logChannel.close();
+                logChannel = null;
+            }
+        }
+    }
+
+    private synchronized void tick() {
+        try {
+            if (System.nanoTime() - lastSnapshotNanos >= properties.snapshotInterval().toNanos()) {
+                snapshot();
+            } else {
+                appendChanges();
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Fleet journal update failed, retrying next interval", e);
+        }
+    }
+
+    /**
+     * Append every aggregate that changed since it was last journaled
+     * @return Number of records appended
+     */
+    synchronized int appendChanges() throws IOException {
+        logBuffer.clear();
+        pendingVersions.clear();
+        int records = 0;
+        records += appendChanged(robotRepository.findAll(), robot -> robot.getRobotId().getValue(),
+            FleetJournal::robotVersion, FleetJournal::writeRobotLocked, ROBOT_UPSERT, ROBOT_REMOVE, robotVersions);
+        records += appendChanged(stationRepository.findAll(), ChargingStation::getStationId,
+            ChargingStation::getUpdatedAt, FleetJournal::writeStationLocked, STATION_UPSERT, (byte) 0, stationVersions);
+        records += appendChanged(taskRepository.findAllReadOnly(), RobotTask::getTaskId,
+            FleetJournal::taskVersion, SnapshotCodec::writeTask, TASK_UPSERT, TASK_REMOVE, taskVersions);
+        records += appendChanged(fleetRepository.findAll(), Fleet::getFleetId,
+            Fleet::getUpdatedAt, SnapshotCodec::writeFleet, FLEET_UPSERT, (byte) 0, fleetVersions);
+        if (records > 0) {
+            long validLength = logChannel.position();
+            try {
+                ByteBuffer written = logBuffer.written();
+                while (written.hasRemaining()) {
+                    logChannel.write(written);
+                }
+                logChannel.force(false);
+            } catch (IOException e) {
+                // A partial record would hide everything appended after it from recovery
+                logChannel.truncate(validLength);
+                logChannel.position(validLength);
+                throw e;
+            }
+            recordsAppended.increment(records);
+        }
+        pendingVersions.forEach(Runnable::run);
+        pendingVersions.clear();
+        return records;
+    }
+
+    private <T> int appendChanged(List<T> aggregates, Function<T, String> idOf, Function<T, Object> versionOf,
+                                  BiConsumer<BinaryWriter, T> encoder, byte upsertType, byte removeType,
+                                  Map<String, Object> versions) {
+        int records = 0;
+        for (T aggregate : aggregates) {
+            String id = idOf.apply(aggregate);
+            Object version = versionOf.apply(aggregate);
+            if (version.equals(versions.get(id))) {
+                continue;
+            }
+            int start = beginRecord(upsertType);
+            encoder.accept(logBuffer, aggregate);
+            endRecord(start);
+            pendingVersions.add(() -> versions.put(id, version));
+            records++;
+        }
+
+        for (String removed : findStale(versions, aggregates, idOf)) {
+            if (removeType != 0) {
+                int start = beginRecord(removeType);
+                logBuffer.writeString(removed);
+                endRecord(start);
+                records++;
+            }
+            pendingVersions.add(() -> versions.remove(removed));
+        }
+        return records;
+    }
+
+    /**
+     * Ids that are journaled but no longer in the repository
+     */
+    private static <T> List<String> findStale(Map<String, Object> versions, List<T> aggregates,
+                                              Function<T, String> idOf) {
+        // Every present aggregate has an entry, so only a surplus means something disappeared
+        if (versions.size() <= aggregates.size()) {
+            return List.of();
+        }
+        Set<String> present = new HashSet<>(aggregates.size() * 2);
+        aggregates.forEach(aggregate -> present.add(idOf.apply(aggregate)));
+        List<String> removed = new ArrayList<>();
+        for (String id : versions.keySet()) {
+            if (!present.contains(id)) {
+                removed.add(id);
+            }
+        }
+        return removed;
+    }
+
+    private int beginRecord(byte type) {
+        int start = logBuffer.position();
+        logBuffer.writeInt(0);
+        logBuffer.writeInt(0);
+        logBuffer.writeByte(type);
+        return start;
+    }
+
+    private void endRecord(int start) {
+        int bodyStart = start + RECORD_HEADER;
+        ByteBuffer body = logBuffer.slice(bodyStart);
+        crc.reset();
+        crc.update(body);
+        logBuffer.putInt(start, logBuffer.position() - bodyStart);
+        logBuffer.putInt(start + 4, (int) crc.getValue());
+    }
+
+    /**
+     * Write a full snapshot as the next generation and start its log
+     */
+    synchronized void snapshot() throws IOException {
+        long started = System.nanoTime();
+        long next = generation + 1;
+        BinaryWriter out = new BinaryWriter(1 << 20);
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(SnapshotCodec.FORMAT_VERSION);
+        out.writeLong(next);
+
+        // Versions of exactly what the snapshot holds, taken over once it is on disk
+        Map<String, Object> snapshotRobotVersions = new HashMap<>();
+        Map<String, Object> snapshotStationVersions = new HashMap<>();
+        Map<String, Object> snapshotTaskVersions = new HashMap<>();
+        Map<String, Object> snapshotFleetVersions = new HashMap<>();
+        List<Robot> robots = robotRepository.findAll();
+        out.writeInt(robots.size());
+        for (Robot robot : robots) {
+            snapshotRobotVersions.put(robot.getRobotId().getValue(), robotVersion(robot));
+            writeRobotLocked(out, robot);
+        }
+        List<ChargingStation> stations = stationRepository.findAll();
+        out.writeInt(stations.size());
+        for (ChargingStation station : stations) {
+            snapshotStationVersions.put(station.getStationId(), station.getUpdatedAt());
+            writeStationLocked(out, station);
+        }
+        List<RobotTask> tasks = taskRepository.findAllReadOnly();
+        out.writeInt(tasks.size());
+        for (RobotTask task : tasks) {
+            snapshotTaskVersions.put(task.getTaskId(), taskVersion(task));
+            SnapshotCodec.writeTask(out, task);
+        }
+        List<Fleet> fleets = fleetRepository.findAll();
+        out.writeInt(fleets.size());
+        for (Fleet fleet : fleets) {
+            snapshotFleetVersions.put(fleet.getFleetId(), fleet.getUpdatedAt());
+            SnapshotCodec.writeFleet(out, fleet);
+        }
+        crc.reset();
+        crc.update(out.written());
+        out.writeInt((int) crc.getValue());
+
+        Path temp = directory.resolve("fleet-" + next + SNAPSHOT_SUFFIX + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer written = out.written();
+            while (written.hasRemaining()) {
+                channel.write(written);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, snapshotPath(next), StandardCopyOption.ATOMIC_MOVE);
+
+        FileChannel nextLog = FileChannel.open(logPath(next), StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        FileChannel previousLog = logChannel;
+        long previous = generation;
+        logChannel = nextLog;
+        generation = next;
+        lastSnapshotNanos = System.nanoTime();
+        // Aggregates removed since the last scan are simply absent from the snapshot
+        replace(robotVersions, snapshotRobotVersions);
+        replace(stationVersions, snapshotStationVersions);
+        replace(taskVersions, snapshotTaskVersions);
+        replace(fleetVersions, snapshotFleetVersions);
+        if (previousLog != null) {
+            previousLog.close();
+        }
+        Files.deleteIfExists(logPath(previous));
+        Files.deleteIfExists(snapshotPath(previous));
+        snapshotTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+
+    private void readSnapshot(Path path, Map<String, Robot> robots, Map<String, ChargingStation> stations,
+                              Map<String, RobotTask> tasks, Map<String, SnapshotCodec.FleetRecord> fleets) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int bodyLength = mapped.limit() - 4;
+            crc.reset();
+            crc.update(mapped.slice(0, bodyLength));
+            if ((int) crc.getValue() != mapped.getInt(bodyLength)) {
+                throw new IOException("Snapshot " + path + " is corrupt");
+            }
+
+            BinaryReader in = new BinaryReader(mapped.slice(0, bodyLength));
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SnapshotCodec.FORMAT_VERSION) {
+                throw new IOException("Snapshot " + path + " has an unsupported format");
+            }
+            in.readLong();
+            for (int i = in.readInt(); i > 0; i--) {
+                Robot robot = SnapshotCodec.readRobot(in);
+                robots.put(robot.getRobotId().getValue(), robot);
+            }
+            for (int i = in.readInt(); i > 0; i--) {
+                ChargingStation station = SnapshotCodec.readStation(in);
+                stations.put(station.getStationId(), station);
+            }
+            for (int i = in.readInt(); i > 0; i--) {
+                RobotTask task = SnapshotCodec.readTask(in);
+                tasks.put(task.getTaskId(), task);
+            }
+            for (int i = in.readInt(); i > 0; i--) {
+                SnapshotCodec.FleetRecord fleet = SnapshotCodec.readFleet(in);
+                fleets.put(fleet.fleetId(), fleet);
+            }
+        }
+    }
+
+    /**
+     * @return {records applied, length of the valid prefix}
+     */
+    private long[] replayLog(Path path, Map<String, Robot> robots, Map<String, ChargingStation> stations,
+                             Map<String, RobotTask> tasks, Map<String, SnapshotCodec.FleetRecord> fleets) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size == 0) {
+                return new long[] {0, 0};
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            long applied = 0;
+            int position = 0;
+            while (mapped.limit() - position >= RECORD_HEADER) {
+                int length = mapped.getInt(position);
+                int expectedCrc = mapped.getInt(position + 4);
+                int bodyStart = position + RECORD_HEADER;
+                if (length <= 0 || mapped.limit() - bodyStart < length) {
+                    break;
+                }
+                ByteBuffer body = mapped.slice(bodyStart, length);
+                crc.reset();
+                crc.update(body.duplicate());
+                if ((int) crc.getValue() != expectedCrc) {
+                    break;
+                }
+                apply(new BinaryReader(body), robots, stations, tasks, fleets);
+                applied++;
+                position = bodyStart + length;
+            }
+            if (position < size) {
+                log.warn("Ignoring {} bytes of torn or corrupt journal at the end of {}", size - position, path);
+            }
+            return new long[] {applied, position};
+        }
+    }
+
+    private static void apply(BinaryReader in, Map<String, Robot> robots, Map<String, ChargingStation> stations,
+                              Map<String, RobotTask> tasks, Map<String, SnapshotCodec.FleetRecord> fleets) {
+        byte type = in.readByte();
+        switch (type) {
+            case ROBOT_UPSERT -> {
+                Robot robot = SnapshotCodec.readRobot(in);
+                robots.put(robot.getRobotId().getValue(), robot);
+            }
+            case ROBOT_REMOVE -> robots.remove(in.readString());
+            case STATION_UPSERT -> {
+                ChargingStation station = SnapshotCodec.readStation(in);
+                stations.put(station.getStationId(), station);
+            }
+            case TASK_UPSERT -> {
+                RobotTask task = SnapshotCodec.readTask(in);
+                tasks.put(task.getTaskId(), task);
+            }
+            case TASK_REMOVE -> tasks.remove(in.readString());
+            case FLEET_UPSERT -> {
+                SnapshotCodec.FleetRecord fleet = SnapshotCodec.readFleet(in);
+                fleets.put(fleet.fleetId(), fleet);
+            }
+            default -> throw new IllegalStateException("Unknown journal record type " + type);
+        }
+    }
+
+    private long latestSnapshotGeneration() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                .filter(name -> name.startsWith("fleet-") && name.endsWith(SNAPSHOT_SUFFIX))
+                .mapToLong(name -> Long.parseLong(name.substring(6, name.length() - SNAPSHOT_SUFFIX.length())))
+                .max()
+                .orElse(0L);
+        }
+    }
+
+    private Path snapshotPath(long gen) {
+        return directory.resolve("fleet-" + gen + SNAPSHOT_SUFFIX);
+    }
+
+    private Path logPath(long gen) {
+        return directory.resolve("fleet-" + gen + LOG_SUFFIX);
+    }
+
+    private static Object robotVersion(Robot robot) {
+        synchronized (robot) {
+            return Arrays.asList(robot.getUpdatedAt(), robot.getLastHeartbeat(), robot.getStatus());
+        }
+    }
+
+    private static Object taskVersion(RobotTask task) {
+        // Reassignment within one interval keeps the status but changes the robot
+        return Arrays.asList(task.getStatus(), task.getRobotId());
+    }
+
+    private static void replace(Map<String, Object> versions, Map<String, Object> snapshotVersions) {
+        versions.clear();
+        versions.putAll(snapshotVersions);
+    }
+
+    private static void writeRobotLocked(BinaryWriter out, Robot robot) {
+        synchronized (robot) {
+            SnapshotCodec.writeRobot(out, robot);
+        }
+    }
+
+    private static void writeStationLocked(BinaryWriter out, ChargingStation station) {
+        synchronized (station) {
+            SnapshotCodec.writeStation(out, station);
+        }
+    }
+
+    /**
+     * What {@link #recover()} restored
+     */
+    public record RecoveryResult(long generation, int robots, int stations, int tasks, int fleets,
+                                 int replayedRecords, long durationNanos) {}
+}
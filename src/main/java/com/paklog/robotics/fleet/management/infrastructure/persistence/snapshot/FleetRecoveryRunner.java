@@ -0,0 +1,68 @@
+package com.paklog.robotics.fleet.management.infrastructure.persistence.snapshot;
+
+import com.paklog.robotics.fleet.management.application.service.ChargingDispatchService;
+import com.paklog.robotics.fleet.management.application.service.HeartbeatWatchdog;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.repository.RobotRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fleet Recovery Runner
+ * Restores the journaled fleet state before the service reports ready.
+ * Spring Boot only flips readiness to ACCEPTING_TRAFFIC once all runners have
+ * returned, so probes keep traffic away until recovery completed.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class FleetRecoveryRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(FleetRecoveryRunner.class);
+
+    private final FleetJournal journal;
+    private final RobotRepository robotRepository;
+    private final HeartbeatWatchdog heartbeatWatchdog;
+    private final ChargingDispatchService chargingDispatchService;
+    private final Timer recoveryTimer;
+
+    public FleetRecoveryRunner(FleetJournal journal,
+                               RobotRepository robotRepository,
+                               HeartbeatWatchdog heartbeatWatchdog,
+                               ChargingDispatchService chargingDispatchService,
+                               MeterRegistry meterRegistry) {
+        this.journal = journal;
+        this.robotRepository = robotRepository;
+        this.heartbeatWatchdog = heartbeatWatchdog;
+        this.chargingDispatchService = chargingDispatchService;
+        this.recoveryTimer = Timer.builder("robotics.journal.recovery.duration").register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        FleetJournal.RecoveryResult result = journal.recover();
+        recoveryTimer.record(result.durationNanos(), TimeUnit.NANOSECONDS);
+        log.info("Recovered {} robots, {} stations, {} tasks and {} fleets from generation {} (+{} log records) in {} ms",
+            result.robots(), result.stations(), result.tasks(), result.fleets(), result.generation(),
+            result.replayedRecords(), TimeUnit.NANOSECONDS.toMillis(result.durationNanos()));
+
+        // Restored robots get one timeout to check in, like robots known at startup
+        for (Robot robot : robotRepository.findAll()) {
+            heartbeatWatchdog.heartbeat(robot.getRobotId().getValue());
+        }
+        // Charging assignments are not journaled; robots restored as CHARGING are taken over again
+        int charging = chargingDispatchService.resumeRestored();
+        if (charging > 0) {
+            log.info("Resumed charging of {} restored robots", charging);
+        }
+        journal.start();
+    }
+}
@@ -0,0 +1,296 @@
+package com.paklog.robotics.fleet.management.infrastructure.persistence.snapshot;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.ChargingStation;
+import com.paklog.robotics.fleet.management.domain.aggregate.Fleet;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.valueobject.BatteryLevel;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotId;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotStatus;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskPriority;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskStatus;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskType;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Snapshot Codec
+ * Compact binary encoding of the aggregates shared by snapshots and the change log.
+ *
+ * Enums are stored by ordinal and capabilities as a bit mask, so a task takes
+ * about 150 bytes. Files carry a format version; bump {@link #FORMAT_VERSION}
+ * whenever an encoding or an enum order changes. Robot health readings are not
+ * encoded; they refill from telemetry within seconds. Task payload numbers come
+ * back as Long or Double.
+ */
+final class SnapshotCodec {
+
+    static final int FORMAT_VERSION = 2;
+
+    private static final RobotStatus[] ROBOT_STATUSES = RobotStatus.values();
+    private static final RobotCapability[] CAPABILITIES = RobotCapability.values();
+    private static final TaskType[] TASK_TYPES = TaskType.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final TaskStatus[] TASK_STATUSES = TaskStatus.values();
+
+    private static final byte VALUE_NULL = 0;
+    private static final byte VALUE_STRING = 1;
+    private static final byte VALUE_LONG = 2;
+    private static final byte VALUE_DOUBLE = 3;
+    private static final byte VALUE_BOOLEAN = 4;
+    private static final byte VALUE_MAP = 5;
+    private static final byte VALUE_LIST = 6;
+
+    private SnapshotCodec() {
+    }
+
+    /**
+     * Caller holds the robot's lock
+     */
+    static void writeRobot(BinaryWriter out, Robot robot) {
+        out.writeString(robot.getRobotId().getValue());
+        out.writeString(robot.getModel());
+        out.writeEnum(robot.getStatus());
+        writePosition(out, robot.getPosition());
+        out.writeByte(robot.getBatteryLevel().getPercentage());
+        out.writeString(robot.getCurrentTaskId());
+        long capabilities = 0L;
+        for (RobotCapability capability : robot.getCapabilities()) {
+            capabilities |= 1L << capability.ordinal();
+        }
+        out.writeLong(capabilities);
+        out.writeInstant(robot.getLastHeartbeat());
+        out.writeInstant(robot.getCreatedAt());
+        out.writeInstant(robot.getUpdatedAt());
+    }
+
+    static Robot readRobot(BinaryReader in) {
+        RobotId robotId = RobotId.of(in.readString());
+        String model = in.readString();
+        RobotStatus status = in.readEnum(ROBOT_STATUSES);
+        RobotPosition position = readPosition(in);
+        BatteryLevel battery = BatteryLevel.of(in.readByte());
+        String currentTaskId = in.readString();
+        long capabilityBits = in.readLong();
+        Set<RobotCapability> capabilities = EnumSet.noneOf(RobotCapability.class);
+        for (RobotCapability capability : CAPABILITIES) {
+            if ((capabilityBits & (1L << capability.ordinal())) != 0L) {
+                capabilities.add(capability);
+            }
+        }
+        return Robot.restore(robotId, model, status, position, battery, currentTaskId, capabilities,
+            in.readInstant(), in.readInstant(), in.readInstant());
+    }
+
+    static void writeTask(BinaryWriter out, RobotTask task) {
+        out.writeString(task.getTaskId());
+        out.writeString(task.getRobotId());
+        out.writeEnum(task.getTaskType());
+        out.writeEnum(task.getPriority());
+        writePosition(out, task.getOrigin());
+        writePosition(out, task.getDestination());
+        out.writeEnum(task.getRequiredCapability());
+        writeValue(out, task.getPayload());
+        out.writeEnum(task.getStatus());
+        out.writeInstant(task.getCreatedAt());
+        out.writeInstant(task.getAssignedAt());
+        out.writeInstant(task.getStartedAt());
+        out.writeInstant(task.getCompletedAt());
+        out.writeString(task.getFailureReason());
+        out.writeInstant(task.getDueAt());
+    }
+
+    @SuppressWarnings("unchecked")
+    static RobotTask readTask(BinaryReader in) {
+        return RobotTask.restore(
+            in.readString(),
+            in.readString(),
+            in.readEnum(TASK_TYPES),
+            in.readEnum(PRIORITIES),
+            readPosition(in),
+            readPosition(in),
+            in.readEnum(CAPABILITIES),
+            (Map<String, Object>) readValue(in),
+            in.readEnum(TASK_STATUSES),
+            in.readInstant(),
+            in.readInstant(),
+            in.readInstant(),
+            in.readInstant(),
+            in.readString(),
+            in.readInstant());
+    }
+
+    /**
+     * Caller holds the station's lock
+     */
+    static void writeStation(BinaryWriter out, ChargingStation station) {
+        out.writeString(station.getStationId());
+        writePosition(out, station.getLocation());
+        out.writeInt(station.getCapacity());
+        List<String> queued = station.getQueuedRobots();
+        out.writeInt(queued.size());
+        for (String robotId : queued) {
+            out.writeString(robotId);
+        }
+        Map<String, Instant> charging = station.getChargingStartTimes();
+        out.writeInt(charging.size());
+        for (Map.Entry<String, Instant> entry : charging.entrySet()) {
+            out.writeString(entry.getKey());
+            out.writeInstant(entry.getValue());
+        }
+        out.writeInstant(station.getCreatedAt());
+        out.writeInstant(station.getUpdatedAt());
+    }
+
+    static ChargingStation readStation(BinaryReader in) {
+        String stationId = in.readString();
+        RobotPosition location = readPosition(in);
+        int capacity = in.readInt();
+        int queuedCount = in.readInt();
+        List<String> queued = new ArrayList<>(queuedCount);
+        for (int i = 0; i < queuedCount; i++) {
+            queued.add(in.readString());
+        }
+        int chargingCount = in.readInt();
+        Map<String, Instant> charging = new HashMap<>();
+        for (int i = 0; i < chargingCount; i++) {
+            charging.put(in.readString(), in.readInstant());
+        }
+        return ChargingStation.restore(stationId, location, capacity, queued, charging,
+            in.readInstant(), in.readInstant());
+    }
+
+    static void writeFleet(BinaryWriter out, Fleet fleet) {
+        out.writeString(fleet.getFleetId());
+        List<String> members = new ArrayList<>(fleet.getRobots().keySet());
+        out.writeInt(members.size());
+        for (String robotId : members) {
+            out.writeString(robotId);
+        }
+        out.writeInstant(fleet.getLastRebalanceAt());
+        out.writeInstant(fleet.getCreatedAt());
+        out.writeInstant(fleet.getUpdatedAt());
+    }
+
+    static FleetRecord readFleet(BinaryReader in) {
+        String fleetId = in.readString();
+        int memberCount = in.readInt();
+        List<String> memberIds = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount; i++) {
+            memberIds.add(in.readString());
+        }
+        return new FleetRecord(fleetId, memberIds, in.readInstant(), in.readInstant(), in.readInstant());
+    }
+
+    /**
+     * Decoded fleet whose members are resolved once all robots are final
+     */
+    record FleetRecord(String fleetId, List<String> memberIds, Instant lastRebalanceAt,
+                       Instant createdAt, Instant updatedAt) {
+
+        /**
+         * @param robots Restored robots by id; members that are gone are dropped
+         */
+        Fleet restore(Function<String, Robot> robots) {
+            List<Robot> members = new ArrayList<>(memberIds.size());
+            for (String robotId : memberIds) {
+                Robot robot = robots.apply(robotId);
+                if (robot != null) {
+                    members.add(robot);
+                }
+            }
+            return Fleet.restore(fleetId, members, lastRebalanceAt, createdAt, updatedAt);
+        }
+    }
+
+    private static void writePosition(BinaryWriter out, RobotPosition position) {
+        out.writeBoolean(position != null);
+        if (position != null) {
+            out.writeDouble(position.getX());
+            out.writeDouble(position.getY());
+            out.writeDouble(position.getHeading());
+        }
+    }
+
+    private static RobotPosition readPosition(BinaryReader in) {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        return new RobotPosition(in.readDouble(), in.readDouble(), in.readDouble());
+    }
+
+    private static void writeValue(BinaryWriter out, Object value) {
+        if (value == null) {
+            out.writeByte(VALUE_NULL);
+        } else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(VALUE_DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof Number number) {
+            out.writeByte(VALUE_LONG);
+            out.writeLong(number.longValue());
+        } else if (value instanceof Boolean flag) {
+            out.writeByte(VALUE_BOOLEAN);
+            out.writeBoolean(flag);
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(VALUE_MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                out.writeString(String.valueOf(entry.getKey()));
+                writeValue(out, entry.getValue());
+            }
+        } else if (value instanceof List<?> list) {
+            out.writeByte(VALUE_LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else {
+            out.writeByte(VALUE_STRING);
+            out.writeString(value.toString());
+        }
+    }
+
+    private static Object readValue(BinaryReader in) {
+        byte tag = in.readByte();
+        switch (tag) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                return in.readString();
+            case VALUE_LONG:
+                return in.readLong();
+            case VALUE_DOUBLE:
+                return in.readDouble();
+            case VALUE_BOOLEAN:
+                return in.readBoolean();
+            case VALUE_MAP: {
+                int size = in.readInt();
+                Map<String, Object> map = new LinkedHashMap<>(Math.max(4, size * 2));
+                for (int i = 0; i < size; i++) {
+                    map.put(in.readString(), readValue(in));
+                }
+                return map;
+            }
+            case VALUE_LIST: {
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            }
+            default:
+                throw new IllegalStateException("Unknown value tag " + tag);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.paklog.robotics.fleet.management.infrastructure.rest.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paklog.robotics.fleet.management.application.port.out.PositionHistory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+
+/**
+ * Streams recorded robot positions for replay, heatmaps and incident investigation.
+ * Samples are written as newline-delimited JSON while they are decoded, so a
+ * long window never has to fit in memory.
+ */
+@RestController
+@RequestMapping("/api/v1/history")
+public class PositionHistoryController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final PositionHistory positionHistory;
+    private final ObjectMapper objectMapper;
+
+    public PositionHistoryController(PositionHistory positionHistory, ObjectMapper objectMapper) {
+        this.positionHistory = positionHistory;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/positions")
+    public ResponseEntity<StreamingResponseBody> streamPositions(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String robotId) {
+        if (!from.isBefore(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+                // Lines are ended explicitly instead of the default space between root values
+                json.setRootValueSeparator(null);
+                positionHistory.replay(from, to, robotId, sample -> {
+                    try {
+                        json.writeStartObject();
+                        json.writeStringField("robotId", sample.robotId());
+                        json.writeStringField("timestamp", sample.timestamp().toString());
+                        json.writeNumberField("x", sample.x());
+                        json.writeNumberField("y", sample.y());
+                        json.writeNumberField("heading", sample.heading());
+                        json.writeNumberField("batteryPercentage", sample.batteryPercentage());
+                        json.writeEndObject();
+                        json.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+}
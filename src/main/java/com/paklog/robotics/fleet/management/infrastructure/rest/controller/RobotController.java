@@ -0,0 +1,58 @@
+package com.paklog.robotics.fleet.management.infrastructure.rest.controller;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.repository.RobotRepository;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotId;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.infrastructure.rest.dto.RegisterRobotRequest;
+import com.paklog.robotics.fleet.management.infrastructure.rest.dto.RobotResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Robot registration and lookup
+ */
+@RestController
+@RequestMapping("/api/v1/robots")
+public class RobotController {
+
+    private final RobotRepository robotRepository;
+
+    public RobotController(RobotRepository robotRepository) {
+        this.robotRepository = robotRepository;
+    }
+
+    @PostMapping
+    public ResponseEntity<RobotResponse> registerRobot(@RequestBody RegisterRobotRequest request) {
+        if (request.robotId() == null || request.robotId().isBlank()
+                || request.capabilities() == null || request.capabilities().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (robotRepository.findById(request.robotId()).isPresent()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+
+        Robot robot = Robot.register(
+            RobotId.of(request.robotId()),
+            request.model(),
+            RobotPosition.of(request.x(), request.y(), request.heading()),
+            request.capabilities()
+        );
+        robotRepository.save(robot);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(RobotResponse.from(robot));
+    }
+
+    @GetMapping("/{robotId}")
+    public ResponseEntity<RobotResponse> getRobot(@PathVariable String robotId) {
+        return robotRepository.findById(robotId)
+            .map(robot -> ResponseEntity.ok(RobotResponse.from(robot)))
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Void> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().build();
+    }
+}
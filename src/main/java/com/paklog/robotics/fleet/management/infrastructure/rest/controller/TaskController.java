@@ -0,0 +1,65 @@
+package com.paklog.robotics.fleet.management.infrastructure.rest.controller;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.repository.RobotTaskRepository;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskPriority;
+import com.paklog.robotics.fleet.management.infrastructure.rest.dto.CreateTaskRequest;
+import com.paklog.robotics.fleet.management.infrastructure.rest.dto.TaskResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Task creation and lookup. New tasks are PENDING until assigned to a robot.
+ */
+@RestController
+@RequestMapping("/api/v1/tasks")
+public class TaskController {
+
+    private final RobotTaskRepository taskRepository;
+
+    public TaskController(RobotTaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    @PostMapping
+    public ResponseEntity<TaskResponse> createTask(@RequestBody CreateTaskRequest request) {
+        if (request.taskType() == null || request.requiredCapability() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        String taskId = request.taskId() != null ? request.taskId() : "TASK-" + UUID.randomUUID();
+        if (taskRepository.findById(taskId).isPresent()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+
+        RobotTask task = RobotTask.create(
+            taskId,
+            request.taskType(),
+            request.priority() != null ? request.priority() : TaskPriority.NORMAL,
+            RobotPosition.of(request.originX(), request.originY(), 0.0),
+            RobotPosition.of(request.destinationX(), request.destinationY(), 0.0),
+            request.requiredCapability(),
+            request.payload() != null ? request.payload() : Map.of(),
+            request.dueAt()
+        );
+        taskRepository.save(task);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(TaskResponse.from(task));
+    }
+
+    @GetMapping("/{taskId}")
+    public ResponseEntity<TaskResponse> getTask(@PathVariable String taskId) {
+        return taskRepository.findById(taskId)
+            .map(task -> ResponseEntity.ok(TaskResponse.from(task)))
+            .orElse(ResponseEntity.notFound().build());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Void> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.paklog.robotics.fleet.management.infrastructure.rest.controller;
+
+import com.paklog.robotics.fleet.management.application.service.TaskTimingAnalytics;
+import com.paklog.robotics.fleet.management.application.service.TaskTimingAnalytics.Phase;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskType;
+import com.paklog.robotics.fleet.management.infrastructure.config.TaskTimingProperties;
+import com.paklog.robotics.fleet.management.infrastructure.rest.dto.TaskTimingHistogramResponse;
+import com.paklog.robotics.fleet.management.infrastructure.rest.dto.TaskTimingResponse;
+import org.HdrHistogram.Histogram;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Task phase times over a rolling window, from the timing histograms.
+ * Filters left out match everything, so a query can be as broad as all
+ * completed tasks or as narrow as one type, capability and zone.
+ */
+@RestController
+@RequestMapping("/api/v1/task-timing")
+public class TaskTimingController {
+
+    private final TaskTimingAnalytics analytics;
+    private final TaskTimingProperties properties;
+
+    public TaskTimingController(TaskTimingAnalytics analytics, TaskTimingProperties properties) {
+        this.analytics = analytics;
+        this.properties = properties;
+    }
+
+    @GetMapping("/percentiles")
+    public ResponseEntity<TaskTimingResponse> getPercentiles(@RequestParam(defaultValue = "TOTAL") Phase phase,
+                                                             @RequestParam(required = false) TaskType taskType,
+                                                             @RequestParam(required = false) RobotCapability capability,
+                                                             @RequestParam(required = false) String zone,
+                                                             @RequestParam(defaultValue = "300") long windowSeconds) {
+        if (!isWithinRetention(windowSeconds)) {
+            return ResponseEntity.badRequest().build();
+        }
+        Histogram histogram = analytics.histogram(phase, taskType, capability, zone, Duration.ofSeconds(windowSeconds));
+        return ResponseEntity.ok(TaskTimingResponse.from(
+            phase.name(),
+            taskType != null ? taskType.name() : null,
+            capability != null ? capability.name() : null,
+            zone,
+            windowSeconds,
+            analytics.getClosedAt(),
+            histogram
+        ));
+    }
+
+    @GetMapping("/histograms")
+    public ResponseEntity<List<TaskTimingHistogramResponse>> getHistograms(
+            @RequestParam(defaultValue = "300") long windowSeconds) {
+        if (!isWithinRetention(windowSeconds)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(analytics.export(Duration.ofSeconds(windowSeconds)).stream()
+            .map(TaskTimingHistogramResponse::from)
+            .toList());
+    }
+
+    private boolean isWithinRetention(long windowSeconds) {
+        return windowSeconds > 0 && windowSeconds <= properties.retention().toSeconds();
+    }
+}
@@ -0,0 +1,51 @@
+package com.paklog.robotics.fleet.management.infrastructure.rest.controller;
+
+import com.paklog.robotics.fleet.management.application.service.RobotHealthService;
+import com.paklog.robotics.fleet.management.application.service.TelemetryIngestionService;
+import com.paklog.robotics.fleet.management.infrastructure.rest.dto.RobotTelemetryRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * JSON telemetry and health endpoints for robots that cannot hold a WebSocket open.
+ * The binary /ws/telemetry channel is preferred at high update rates.
+ */
+@RestController
+@RequestMapping("/api/v1/robots")
+public class TelemetryController {
+
+    private final TelemetryIngestionService ingestionService;
+    private final RobotHealthService robotHealthService;
+
+    public TelemetryController(TelemetryIngestionService ingestionService,
+                               RobotHealthService robotHealthService) {
+        this.ingestionService = ingestionService;
+        this.robotHealthService = robotHealthService;
+    }
+
+    @PostMapping("/{robotId}/telemetry")
+    public ResponseEntity<Void> submitTelemetry(@PathVariable String robotId,
+                                                @RequestBody RobotTelemetryRequest request) {
+        if (request.x() != null && request.y() != null) {
+            double heading = request.heading() != null ? request.heading() : 0.0;
+            ingestionService.submitPosition(robotId, request.x(), request.y(), heading);
+        }
+        if (request.batteryPercentage() != null) {
+            ingestionService.submitBattery(robotId, request.batteryPercentage());
+        }
+        return ResponseEntity.accepted().build();
+    }
+
+    @PostMapping("/{robotId}/health")
+    public ResponseEntity<Map<String, Object>> reportHealth(@PathVariable String robotId,
+                                                            @RequestBody Map<String, Object> metrics) {
+        return robotHealthService.reportHealth(robotId, metrics)
+            .map(robot -> ResponseEntity.ok(Map.<String, Object>of(
+                "robotId", robotId,
+                "status", robot.getStatus().name()
+            )))
+            .orElse(ResponseEntity.notFound().build());
+    }
+}
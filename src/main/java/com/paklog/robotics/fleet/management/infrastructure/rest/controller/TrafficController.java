@@ -0,0 +1,63 @@
+package com.paklog.robotics.fleet.management.infrastructure.rest.controller;
+
+import com.paklog.robotics.fleet.management.application.port.out.RobotPositionCache;
+import com.paklog.robotics.fleet.management.application.port.out.RobotPositionCache.NearbyRobot;
+import com.paklog.robotics.fleet.management.domain.state.FleetStateStore;
+import com.paklog.robotics.fleet.management.infrastructure.rest.dto.TrafficHeatmapResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Traffic views computed from the columnar fleet state
+ */
+@RestController
+@RequestMapping("/api/v1/traffic")
+public class TrafficController {
+
+    private static final int MAX_CELLS = 1 << 20;
+    private static final int MAX_NEARBY = 1000;
+
+    private final FleetStateStore stateStore;
+    private final RobotPositionCache positionCache;
+
+    public TrafficController(FleetStateStore stateStore, RobotPositionCache positionCache) {
+        this.stateStore = stateStore;
+        this.positionCache = positionCache;
+    }
+
+    @GetMapping("/heatmap")
+    public ResponseEntity<TrafficHeatmapResponse> getHeatmap(@RequestParam(defaultValue = "5.0") double cellSize) {
+        if (cellSize <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        double[] bounds = stateStore.bounds();
+        if (bounds == null) {
+            return ResponseEntity.ok(new TrafficHeatmapResponse(0.0, 0.0, cellSize, 0, 0, new int[0]));
+        }
+
+        double originX = Math.floor(bounds[0] / cellSize) * cellSize;
+        double originY = Math.floor(bounds[1] / cellSize) * cellSize;
+        long columns = (long) Math.floor((bounds[2] - originX) / cellSize) + 1;
+        long rows = (long) Math.floor((bounds[3] - originY) / cellSize) + 1;
+        if (columns * rows > MAX_CELLS) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        int[] counts = stateStore.heatmap(originX, originY, cellSize, (int) columns, (int) rows);
+        return ResponseEntity.ok(new TrafficHeatmapResponse(originX, originY, cellSize, (int) columns, (int) rows, counts));
+    }
+
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyRobot>> getNearby(@RequestParam double x,
+                                                       @RequestParam double y,
+                                                       @RequestParam double radius,
+                                                       @RequestParam(defaultValue = "50") int limit) {
+        if (radius <= 0 || limit <= 0 || limit > MAX_NEARBY) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(positionCache.findWithinRadius(x, y, radius, limit));
+    }
+}
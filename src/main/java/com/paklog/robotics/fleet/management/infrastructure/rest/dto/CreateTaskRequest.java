@@ -0,0 +1,21 @@
+package com.paklog.robotics.fleet.management.infrastructure.rest.dto;
+
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskPriority;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskType;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record CreateTaskRequest(
+    String taskId,
+    TaskType taskType,
+    TaskPriority priority,
+    double originX,
+    double originY,
+    double destinationX,
+    double destinationY,
+    RobotCapability requiredCapability,
+    Map<String, Object> payload,
+    Instant dueAt
+) {}
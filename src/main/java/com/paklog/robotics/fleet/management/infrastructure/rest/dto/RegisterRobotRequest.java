@@ -0,0 +1,14 @@
+package com.paklog.robotics.fleet.management.infrastructure.rest.dto;
+
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+
+import java.util.Set;
+
+public record RegisterRobotRequest(
+    String robotId,
+    String model,
+    double x,
+    double y,
+    double heading,
+    Set<RobotCapability> capabilities
+) {}
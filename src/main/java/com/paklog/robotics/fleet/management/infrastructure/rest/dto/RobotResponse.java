@@ -0,0 +1,33 @@
+package com.paklog.robotics.fleet.management.infrastructure.rest.dto;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+
+import java.util.Set;
+
+public record RobotResponse(
+    String robotId,
+    String model,
+    String status,
+    int batteryLevel,
+    double x,
+    double y,
+    double heading,
+    Set<RobotCapability> capabilities,
+    String currentTaskId
+) {
+
+    public static RobotResponse from(Robot robot) {
+        return new RobotResponse(
+            robot.getRobotId().getValue(),
+            robot.getModel(),
+            robot.getStatus().name(),
+            robot.getBatteryLevel().getPercentage(),
+            robot.getPosition().getX(),
+            robot.getPosition().getY(),
+            robot.getPosition().getHeading(),
+            robot.getCapabilities(),
+            robot.getCurrentTaskId()
+        );
+    }
+}
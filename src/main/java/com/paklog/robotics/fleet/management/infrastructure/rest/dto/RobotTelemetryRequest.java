@@ -0,0 +1,8 @@
+package com.paklog.robotics.fleet.management.infrastructure.rest.dto;
+
+public record RobotTelemetryRequest(
+    Double x,
+    Double y,
+    Double heading,
+    Integer batteryPercentage
+) {}
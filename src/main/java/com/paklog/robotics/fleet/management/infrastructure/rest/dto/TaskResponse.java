@@ -0,0 +1,28 @@
+package com.paklog.robotics.fleet.management.infrastructure.rest.dto;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+
+import java.time.Instant;
+
+public record TaskResponse(
+    String taskId,
+    String taskType,
+    String priority,
+    String status,
+    String robotId,
+    String requiredCapability,
+    Instant dueAt
+) {
+
+    public static TaskResponse from(RobotTask task) {
+        return new TaskResponse(
+            task.getTaskId(),
+            task.getTaskType().name(),
+            task.getPriority().name(),
+            task.getStatus().name(),
+            task.getRobotId(),
+            task.getRequiredCapability().name(),
+            task.getDueAt()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.paklog.robotics.fleet.management.infrastructure.rest.dto;
+
+import com.paklog.robotics.fleet.management.application.service.TaskTimingAnalytics.EncodedHistogram;
+
+/**
+ * One phase of one task type, capability and zone as a compressed HdrHistogram
+ * of milliseconds, base64 in JSON; decode with Histogram.decodeFromCompressedByteBuffer
+ */
+public record TaskTimingHistogramResponse(
+    String phase,
+    String taskType,
+    String capability,
+    String zone,
+    byte[] histogram
+) {
+
+    public static TaskTimingHistogramResponse from(EncodedHistogram encoded) {
+        return new TaskTimingHistogramResponse(
+            encoded.phase().name(),
+            encoded.key().taskType().name(),
+            encoded.key().capability() != null ? encoded.key().capability().name() : null,
+            encoded.key().zone(),
+            encoded.histogram()
+        );
+    }
+}
@@ -0,0 +1,49 @@
+package com.paklog.robotics.fleet.management.infrastructure.rest.dto;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Instant;
+
+/**
+ * Percentiles of one task phase in milliseconds; zero when nothing was recorded
+ */
+public record TaskTimingResponse(
+    String phase,
+    String taskType,
+    String capability,
+    String zone,
+    long windowSeconds,
+    Instant asOf,
+    long count,
+    long minMillis,
+    double meanMillis,
+    long p50Millis,
+    long p90Millis,
+    long p95Millis,
+    long p99Millis,
+    long p999Millis,
+    long maxMillis
+) {
+
+    public static TaskTimingResponse from(String phase, String taskType, String capability, String zone,
+                                          long windowSeconds, Instant asOf, Histogram histogram) {
+        boolean empty = histogram.getTotalCount() == 0;
+        return new TaskTimingResponse(
+            phase,
+            taskType,
+            capability,
+            zone,
+            windowSeconds,
+            asOf,
+            histogram.getTotalCount(),
+            empty ? 0 : histogram.getMinValue(),
+            empty ? 0.0 : histogram.getMean(),
+            histogram.getValueAtPercentile(50.0),
+            histogram.getValueAtPercentile(90.0),
+            histogram.getValueAtPercentile(95.0),
+            histogram.getValueAtPercentile(99.0),
+            histogram.getValueAtPercentile(99.9),
+            histogram.getMaxValue()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.paklog.robotics.fleet.management.infrastructure.rest.dto;
+
+/**
+ * Robot density grid, counts are row-major from the origin cell
+ */
+public record TrafficHeatmapResponse(
+    double originX,
+    double originY,
+    double cellSize,
+    int columns,
+    int rows,
+    int[] counts
+) {}
@@ -0,0 +1,95 @@
+package com.paklog.robotics.fleet.management.infrastructure.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paklog.robotics.fleet.management.infrastructure.messaging.DomainEventHandler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Event Stream WebSocket Handler
+ * Fans domain events out to dashboards connected to {@code /ws/events}.
+ *
+ * Events are appended to a JSON array as they arrive from the bus and sent as a
+ * single text frame at the end of each batch, so a burst of events costs one
+ * frame per subscriber instead of one per event. Nothing is serialized while
+ * nobody is subscribed.
+ */
+@Component
+public class EventStreamWebSocketHandler extends TextWebSocketHandler implements DomainEventHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(EventStreamWebSocketHandler.class);
+    private static final int SEND_TIME_LIMIT_MS = 1000;
+    private static final int SEND_BUFFER_LIMIT_BYTES = 512 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final Map<String, WebSocketSession> subscribers = new ConcurrentHashMap<>();
+    private final StringBuilder batch = new StringBuilder(4096);
+    private final Counter framesSent;
+
+    public EventStreamWebSocketHandler(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.framesSent = Counter.builder("robotics.events.ws.frames").register(meterRegistry);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        subscribers.put(session.getId(),
+            new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, SEND_BUFFER_LIMIT_BYTES));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        subscribers.remove(session.getId());
+    }
+
+    @Override
+    public void onEvent(String aggregateId, Object event, long publishedNanos, boolean endOfBatch) throws IOException {
+        if (subscribers.isEmpty()) {
+            batch.setLength(0);
+            return;
+        }
+
+        batch.append(batch.isEmpty() ? '[' : ',')
+            .append("{\"type\":\"").append(event.getClass().getSimpleName())
+            .append("\",\"aggregateId\":").append(objectMapper.writeValueAsString(aggregateId))
+            .append(",\"payload\":").append(objectMapper.writeValueAsString(event))
+            .append('}');
+
+        if (endOfBatch) {
+            TextMessage frame = new TextMessage(batch.append(']'));
+            batch.setLength(0);
+            for (WebSocketSession subscriber : subscribers.values()) {
+                send(subscriber, frame);
+            }
+        }
+    }
+
+    /**
+     * Number of connected dashboards
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private void send(WebSocketSession subscriber, TextMessage frame) {
+        try {
+            subscriber.sendMessage(frame);
+            framesSent.increment();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping event subscriber {}: {}", subscriber.getId(), e.getMessage());
+            subscribers.remove(subscriber.getId());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.paklog.robotics.fleet.management.infrastructure.websocket;
+
+import com.paklog.robotics.fleet.management.domain.state.RobotSlotRegistry;
+import com.paklog.robotics.fleet.management.domain.valueobject.PathPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Robot Command Gateway
+ * Pushes server-side commands to robots over their telemetry socket
+ */
+@Component
+public class RobotCommandGateway {
+
+    private static final Logger log = LoggerFactory.getLogger(RobotCommandGateway.class);
+
+    private final RobotSlotRegistry slotRegistry;
+    private final Map<String, WebSocketSession> sessionsByRobotId = new ConcurrentHashMap<>();
+
+    public RobotCommandGateway(RobotSlotRegistry slotRegistry) {
+        this.slotRegistry = slotRegistry;
+    }
+
+    /**
+     * Bind a robot to the session it is connected on
+     */
+    void register(String robotId, WebSocketSession session) {
+        WebSocketSession previous = sessionsByRobotId.put(robotId, session);
+        if (previous != null && previous != session) {
+            log.info("Robot {} reconnected, replacing previous telemetry session", robotId);
+        }
+    }
+
+    /**
+     * Unbind a robot if it is still bound to the given session
+     */
+    void unregister(String robotId, WebSocketSession session) {
+        sessionsByRobotId.remove(robotId, session);
+    }
+
+    /**
+     * Check if a robot has an open telemetry socket
+     */
+    public boolean isConnected(String robotId) {
+        WebSocketSession session = sessionsByRobotId.get(robotId);
+        return session != null && session.isOpen();
+    }
+
+    /**
+     * Send a new path plan to a robot
+     * @return true if the command was handed to the socket
+     */
+    public boolean sendPathPlan(String robotId, PathPlan path) {
+        WebSocketSession session = sessionsByRobotId.get(robotId);
+        int slot = slotRegistry.slotOf(robotId);
+        if (session == null || !session.isOpen() || slot == RobotSlotRegistry.NO_SLOT) {
+            return false;
+        }
+
+        try {
+            session.sendMessage(new BinaryMessage(TelemetryFrameCodec.encodePath(slot, path)));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.warn("Failed to send path plan to robot {}: {}", robotId, e.getMessage());
+            return false;
+        }
+    }
+}
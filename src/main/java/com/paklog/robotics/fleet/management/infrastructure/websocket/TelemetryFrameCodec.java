@@ -0,0 +1,157 @@
+package com.paklog.robotics.fleet.management.infrastructure.websocket;
+
+import com.paklog.robotics.fleet.management.domain.valueobject.PathPlan;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Telemetry Frame Codec
+ * Fixed-layout big-endian binary frames exchanged with robots over WebSocket.
+ *
+ * Telemetry frame (robot to server), 18 bytes, several may be packed in one message:
+ * <pre>
+ *  0  u8   type = 0x01
+ *  1  u8   flags (0x01 position valid, 0x02 battery valid)
+ *  2  u8   battery percentage
+ *  3  u8   reserved for robot status bits
+ *  4  i32  robot slot
+ *  8  i32  x in millimetres
+ * 12  i32  y in millimetres
+ * 16  u16  heading in centidegrees
+ * </pre>
+ *
+ * Hello frame (server to robot), 8 bytes: type 0x80, 3 reserved bytes, i32 slot.
+ *
+ * Path frame (server to robot), 12 byte header followed by 12 bytes per waypoint:
+ * <pre>
+ *  0  u8   type = 0x81
+ *  1  u8   reserved
+ *  2  u16  waypoint count
+ *  4  i32  robot slot
+ *  8  i32  estimated time in milliseconds
+ * 12  per waypoint: i32 x mm, i32 y mm, u16 heading centidegrees, u16 reserved
+ * </pre>
+ */
+public final class TelemetryFrameCodec {
+
+    public static final byte TYPE_TELEMETRY = 0x01;
+    public static final byte TYPE_HELLO = (byte) 0x80;
+    public static final byte TYPE_PATH = (byte) 0x81;
+
+    public static final int FLAG_POSITION_VALID = 0x01;
+    public static final int FLAG_BATTERY_VALID = 0x02;
+
+    public static final int TELEMETRY_FRAME_SIZE = 18;
+    public static final int HELLO_FRAME_SIZE = 8;
+    public static final int PATH_HEADER_SIZE = 12;
+    public static final int PATH_WAYPOINT_SIZE = 12;
+    public static final int MAX_PATH_WAYPOINTS = 0xFFFF;
+
+    private static final double MILLIMETRES_PER_METRE = 1000.0;
+    private static final double CENTIDEGREES_PER_DEGREE = 100.0;
+
+    private TelemetryFrameCodec() {
+    }
+
+    /**
+     * Receives decoded telemetry fields without an intermediate object
+     */
+    @FunctionalInterface
+    public interface TelemetrySink {
+        void onTelemetry(int slot, int flags, double x, double y, double heading, int battery);
+    }
+
+    /**
+     * Decode all telemetry frames in the buffer into the sink
+     * @return Number of frames decoded
+     * @throws IllegalArgumentException if the buffer is not a whole number of telemetry frames
+     */
+    public static int decodeTelemetry(ByteBuffer buffer, TelemetrySink sink) {
+        if (buffer.remaining() % TELEMETRY_FRAME_SIZE != 0) {
+            throw new IllegalArgumentException(
+                "Telemetry message length " + buffer.remaining() + " is not a multiple of " + TELEMETRY_FRAME_SIZE);
+        }
+
+        int frames = 0;
+        int position = buffer.position();
+        int limit = buffer.limit();
+        while (position < limit) {
+            if (buffer.get(position) != TYPE_TELEMETRY) {
+                throw new IllegalArgumentException("Unexpected frame type " + buffer.get(position));
+            }
+            int flags = buffer.get(position + 1) & 0xFF;
+            int battery = buffer.get(position + 2) & 0xFF;
+            int slot = buffer.getInt(position + 4);
+            double x = buffer.getInt(position + 8) / MILLIMETRES_PER_METRE;
+            double y = buffer.getInt(position + 12) / MILLIMETRES_PER_METRE;
+            double heading = (buffer.getShort(position + 16) & 0xFFFF) / CENTIDEGREES_PER_DEGREE;
+
+            sink.onTelemetry(slot, flags, x, y, heading, battery);
+            position += TELEMETRY_FRAME_SIZE;
+            frames++;
+        }
+        buffer.position(limit);
+        return frames;
+    }
+
+    /**
+     * Encode a telemetry frame at the buffer's position
+     */
+    public static void encodeTelemetry(ByteBuffer buffer, int slot, int flags,
+                                       double x, double y, double heading, int battery) {
+        buffer.put(TYPE_TELEMETRY);
+        buffer.put((byte) flags);
+        buffer.put((byte) battery);
+        buffer.put((byte) 0);
+        buffer.putInt(slot);
+        buffer.putInt(toMillimetres(x));
+        buffer.putInt(toMillimetres(y));
+        buffer.putShort(toCentidegrees(heading));
+    }
+
+    /**
+     * Encode the hello frame telling a robot its slot
+     */
+    public static ByteBuffer encodeHello(int slot) {
+        ByteBuffer buffer = ByteBuffer.allocate(HELLO_FRAME_SIZE);
+        buffer.put(TYPE_HELLO);
+        buffer.put((byte) 0);
+        buffer.putShort((short) 0);
+        buffer.putInt(slot);
+        return buffer.flip();
+    }
+
+    /**
+     * Encode a path plan command for a robot
+     */
+    public static ByteBuffer encodePath(int slot, PathPlan path) {
+        List<RobotPosition> waypoints = path.waypoints();
+        if (waypoints.size() > MAX_PATH_WAYPOINTS) {
+            throw new IllegalArgumentException("Path has too many waypoints: " + waypoints.size());
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(PATH_HEADER_SIZE + waypoints.size() * PATH_WAYPOINT_SIZE);
+        buffer.put(TYPE_PATH);
+        buffer.put((byte) 0);
+        buffer.putShort((short) waypoints.size());
+        buffer.putInt(slot);
+        buffer.putInt((int) Math.round(path.estimatedTimeSeconds() * 1000.0));
+        for (RobotPosition waypoint : waypoints) {
+            buffer.putInt(toMillimetres(waypoint.getX()));
+            buffer.putInt(toMillimetres(waypoint.getY()));
+            buffer.putShort(toCentidegrees(waypoint.getHeading()));
+            buffer.putShort((short) 0);
+        }
+        return buffer.flip();
+    }
+
+    private static int toMillimetres(double metres) {
+        return (int) Math.round(metres * MILLIMETRES_PER_METRE);
+    }
+
+    private static short toCentidegrees(double degrees) {
+        return (short) ((int) Math.round(degrees * CENTIDEGREES_PER_DEGREE) % 36000);
+    }
+}
@@ -0,0 +1,132 @@
+package com.paklog.robotics.fleet.management.infrastructure.websocket;
+
+import com.paklog.robotics.fleet.management.application.service.TelemetryIngestionService;
+import com.paklog.robotics.fleet.management.domain.repository.RobotRepository;
+import com.paklog.robotics.fleet.management.domain.state.RobotSlotRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Telemetry WebSocket Handler
+ * Accepts binary telemetry frames from robots and feeds them to the ingestion pipeline.
+ *
+ * Robots connect to {@code /ws/telemetry?robotId=...}; a vendor bridge may pass
+ * several robotId parameters to multiplex robots over one socket. Each claimed
+ * robot is told its slot with a hello frame, and frames for unclaimed slots are dropped.
+ * Slots of deleted robots are reused, so a frame is also dropped when its slot
+ * now belongs to a robot the session did not claim.
+ */
+@Component
+public class TelemetryWebSocketHandler extends BinaryWebSocketHandler {
+
+    private static final String CLAIMED_SLOTS = "claimedSlots";
+    private static final String ROBOT_IDS = "robotIds";
+    private static final String COMMAND_SESSION = "commandSession";
+    private static final int SEND_TIME_LIMIT_MS = 1000;
+    private static final int SEND_BUFFER_LIMIT_BYTES = 64 * 1024;
+
+    private final RobotRepository robotRepository;
+    private final RobotSlotRegistry slotRegistry;
+    private final TelemetryIngestionService ingestionService;
+    private final RobotCommandGateway commandGateway;
+    private final Counter framesReceived;
+    private final Counter framesRejected;
+
+    public TelemetryWebSocketHandler(RobotRepository robotRepository,
+                                     RobotSlotRegistry slotRegistry,
+                                     TelemetryIngestionService ingestionService,
+                                     RobotCommandGateway commandGateway,
+                                     MeterRegistry meterRegistry) {
+        this.robotRepository = robotRepository;
+        this.slotRegistry = slotRegistry;
+        this.ingestionService = ingestionService;
+        this.commandGateway = commandGateway;
+        this.framesReceived = Counter.builder("robotics.telemetry.ws.frames")
+            .tag("outcome", "accepted").register(meterRegistry);
+        this.framesRejected = Counter.builder("robotics.telemetry.ws.frames")
+            .tag("outcome", "rejected").register(meterRegistry);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        List<String> robotIds = session.getUri() == null ? null :
+            UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams().get("robotId");
+        if (robotIds == null || robotIds.isEmpty()) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("robotId query parameter is required"));
+            return;
+        }
+
+        for (String robotId : robotIds) {
+            if (robotRepository.findById(robotId).isEmpty()) {
+                session.close(CloseStatus.POLICY_VIOLATION.withReason("Unknown robot: " + robotId));
+                return;
+            }
+        }
+
+        WebSocketSession concurrentSession =
+            new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, SEND_BUFFER_LIMIT_BYTES);
+        BitSet claimedSlots = new BitSet();
+        for (String robotId : robotIds) {
+            int slot = slotRegistry.assign(robotId);
+            claimedSlots.set(slot);
+            commandGateway.register(robotId, concurrentSession);
+            concurrentSession.sendMessage(new BinaryMessage(TelemetryFrameCodec.encodeHello(slot)));
+        }
+        session.getAttributes().put(CLAIMED_SLOTS, claimedSlots);
+        session.getAttributes().put(ROBOT_IDS, Set.copyOf(robotIds));
+        session.getAttributes().put(COMMAND_SESSION, concurrentSession);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws Exception {
+        BitSet claimedSlots = (BitSet) session.getAttributes().get(CLAIMED_SLOTS);
+        Set<String> claimedRobotIds = (Set<String>) session.getAttributes().get(ROBOT_IDS);
+        if (claimedSlots == null || claimedRobotIds == null) {
+            return;
+        }
+
+        try {
+            TelemetryFrameCodec.decodeTelemetry(message.getPayload(), (slot, flags, x, y, heading, battery) -> {
+                String robotId = slot >= 0 && claimedSlots.get(slot) ? slotRegistry.robotIdAt(slot) : null;
+                if (robotId == null || !claimedRobotIds.contains(robotId)) {
+                    framesRejected.increment();
+                    return;
+                }
+                if ((flags & TelemetryFrameCodec.FLAG_POSITION_VALID) != 0) {
+                    ingestionService.submitPosition(robotId, x, y, heading);
+                }
+                if ((flags & TelemetryFrameCodec.FLAG_BATTERY_VALID) != 0) {
+                    ingestionService.submitBattery(robotId, battery);
+                }
+                framesReceived.increment();
+            });
+        } catch (IllegalArgumentException e) {
+            session.close(CloseStatus.BAD_DATA.withReason(e.getMessage()));
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Set<String> robotIds = (Set<String>) session.getAttributes().get(ROBOT_IDS);
+        WebSocketSession commandSession = (WebSocketSession) session.getAttributes().get(COMMAND_SESSION);
+        if (robotIds == null || commandSession == null) {
+            return;
+        }
+        for (String robotId : robotIds) {
+            commandGateway.unregister(robotId, commandSession);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.paklog.robotics.fleet.management.simulation;
+
+import com.paklog.robotics.fleet.management.application.simulation.FleetSimulator;
+import com.paklog.robotics.fleet.management.application.simulation.SimulationConfig;
+
+import java.time.Duration;
+
+/**
+ * Fleet Simulation Runner
+ * Command line entry point of the simulation profile. Builds a
+ * {@link SimulationConfig} from key=value arguments on top of the defaults,
+ * simulates the shift and prints the report.
+ *
+ * Options: seed, hours, robots, stations, chargers, tasksPerHour and
+ * charging (nearest or scheduled).
+ */
+public final class FleetSimulationRunner {
+
+    private FleetSimulationRunner() {
+    }
+
+    public static void main(String[] args) {
+        System.out.print(new FleetSimulator(parse(args)).run().format());
+    }
+
+    static SimulationConfig parse(String[] args) {
+        SimulationConfig config = SimulationConfig.defaults();
+        for (String arg : args) {
+            String[] option = arg.split("=", 2);
+            if (option.length != 2) {
+                throw new IllegalArgumentException("Expected key=value but got " + arg);
+            }
+            config = switch (option[0]) {
+                case "seed" -> config.withSeed(Long.parseLong(option[1]));
+                case "hours" -> config.withDuration(Duration.ofMinutes(Math.round(Double.parseDouble(option[1]) * 60)));
+                case "robots" -> config.withFleet(Integer.parseInt(option[1]), config.chargingStations(),
+                    config.chargersPerStation());
+                case "stations" -> config.withFleet(config.robots(), Integer.parseInt(option[1]),
+                    config.chargersPerStation());
+                case "chargers" -> config.withFleet(config.robots(), config.chargingStations(),
+                    Integer.parseInt(option[1]));
+                case "tasksPerHour" -> config.withTasksPerHour(Double.parseDouble(option[1]));
+                case "charging" -> config.withChargingPolicy(
+                    SimulationConfig.ChargingPolicy.valueOf(option[1].toUpperCase()));
+                default -> throw new IllegalArgumentException("Unknown option " + option[0]);
+            };
+        }
+        return config;
+    }
+}
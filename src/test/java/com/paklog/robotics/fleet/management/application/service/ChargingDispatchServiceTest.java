@@ -0,0 +1,188 @@
+package com.paklog.robotics.fleet.management.application.service;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.ChargingStation;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.event.BatteryLowEvent;
+import com.paklog.robotics.fleet.management.domain.event.ChargingStartedEvent;
+import com.paklog.robotics.fleet.management.domain.valueobject.*;
+import com.paklog.robotics.fleet.management.infrastructure.config.ChargingProperties;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryChargingStationRepository;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryRobotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChargingDispatchServiceTest {
+
+    private InMemoryRobotRepository robotRepository;
+    private InMemoryChargingStationRepository stationRepository;
+    private ChargingDispatchService dispatch;
+    private ChargingStation near;
+    private ChargingStation far;
+
+    @BeforeEach
+    void setUp() {
+        robotRepository = new InMemoryRobotRepository();
+        stationRepository = new InMemoryChargingStationRepository();
+        dispatch = new ChargingDispatchService(
+            robotRepository,
+            stationRepository,
+            new ChargingProperties(Duration.ofMillis(500), 1.5, 2.5, 2.0),
+            new SimpleMeterRegistry()
+        );
+        near = ChargingStation.create("STATION-NEAR", RobotPosition.of(15.0, 10.0, 0.0), 1);
+        far = ChargingStation.create("STATION-FAR", RobotPosition.of(100.0, 10.0, 0.0), 1);
+        stationRepository.save(near);
+        stationRepository.save(far);
+    }
+
+    private Robot registerRobot(String robotId, int battery) {
+        Robot robot = Robot.register(
+            RobotId.of(robotId),
+            "AMR-X1",
+            RobotPosition.of(10.0, 10.0, 0.0),
+            Set.of(RobotCapability.PICKER)
+        );
+        robot.updateBatteryLevel(battery);
+        robot.clearDomainEvents();
+        robotRepository.save(robot);
+        return robot;
+    }
+
+    @Test
+    void shouldWalkRobotThroughReservationChargingAndRelease() {
+        Robot robot = registerRobot("ROBOT-001", 18);
+
+        dispatch.requestCharging("ROBOT-001", false);
+        assertEquals(1, dispatch.tick(Instant.now()));
+
+        assertEquals(RobotStatus.CHARGING, robot.getStatus());
+        assertTrue(near.isReserved("ROBOT-001"));
+        ChargingStartedEvent started = assertInstanceOf(ChargingStartedEvent.class, robot.getDomainEvents().get(0));
+        assertEquals("STATION-NEAR", started.getStationId());
+
+        robot.updatePosition(RobotPosition.of(14.0, 10.0, 0.0));
+        dispatch.onTelemetryApplied(robot, Instant.now());
+        dispatch.tick(Instant.now());
+        assertTrue(near.isRobotCharging("ROBOT-001"));
+
+        robot.updateBatteryLevel(100);
+        dispatch.onTelemetryApplied(robot, Instant.now());
+        dispatch.tick(Instant.now());
+        assertEquals(RobotStatus.IDLE, robot.getStatus());
+        assertFalse(near.holds("ROBOT-001"));
+        assertTrue(dispatch.getAssignment("ROBOT-001").isEmpty());
+    }
+
+    @Test
+    void shouldSendSecondRobotElsewhereOnceNearestIsReserved() {
+        registerRobot("ROBOT-001", 18);
+        registerRobot("ROBOT-002", 19);
+
+        dispatch.requestCharging("ROBOT-001", false);
+        dispatch.requestCharging("ROBOT-002", false);
+        assertEquals(2, dispatch.tick(Instant.now()));
+
+        assertEquals("STATION-NEAR", dispatch.getAssignment("ROBOT-001").orElseThrow().stationId());
+        assertEquals("STATION-FAR", dispatch.getAssignment("ROBOT-002").orElseThrow().stationId());
+    }
+
+    @Test
+    void shouldPlaceEmergenciesFirstAndWaitForTasksToEnd() {
+        Robot busy = registerRobot("ROBOT-001", 100);
+        busy.assignTask(RobotTask.create("TASK-001", TaskType.PICK, TaskPriority.HIGH,
+            RobotPosition.of(15.0, 15.0, 0.0), RobotPosition.of(20.0, 20.0, 0.0),
+            RobotCapability.PICKER, null));
+        busy.updateBatteryLevel(15);
+        registerRobot("ROBOT-002", 19);
+        registerRobot("ROBOT-003", 9);
+
+        dispatch.requestCharging("ROBOT-001", false);
+        dispatch.requestCharging("ROBOT-002", false);
+        dispatch.requestCharging("ROBOT-003", true);
+        assertEquals(2, dispatch.tick(Instant.now()));
+
+        assertEquals("STATION-NEAR", dispatch.getAssignment("ROBOT-003").orElseThrow().stationId());
+        assertTrue(dispatch.getAssignment("ROBOT-003").orElseThrow().emergency());
+        assertEquals("STATION-FAR", dispatch.getAssignment("ROBOT-002").orElseThrow().stationId());
+        assertTrue(dispatch.getAssignment("ROBOT-001").isEmpty());
+
+        busy.completeTask();
+        assertEquals(1, dispatch.tick(Instant.now()));
+        assertTrue(dispatch.getAssignment("ROBOT-001").isPresent());
+    }
+
+    @Test
+    void shouldReleaseAtPartialChargeTarget() {
+        Robot robot = registerRobot("ROBOT-001", 50);
+
+        dispatch.requestCharging("ROBOT-001", false, 80);
+        dispatch.tick(Instant.now());
+        robot.updatePosition(RobotPosition.of(15.0, 10.0, 0.0));
+        dispatch.onTelemetryApplied(robot, Instant.now());
+        dispatch.tick(Instant.now());
+        assertTrue(near.isRobotCharging("ROBOT-001"));
+
+        robot.updateBatteryLevel(80);
+        dispatch.onTelemetryApplied(robot, Instant.now());
+        dispatch.tick(Instant.now());
+        assertEquals(RobotStatus.IDLE, robot.getStatus());
+        assertEquals(80, robot.getBatteryLevel().getPercentage());
+        assertFalse(near.holds("ROBOT-001"));
+    }
+
+    @Test
+    void shouldReleaseEarlyWithChargeTakenSoFar() {
+        Robot robot = registerRobot("ROBOT-001", 50);
+
+        dispatch.requestCharging("ROBOT-001", false, 90);
+        dispatch.tick(Instant.now());
+        robot.updatePosition(RobotPosition.of(15.0, 10.0, 0.0));
+        dispatch.onTelemetryApplied(robot, Instant.now());
+        dispatch.tick(Instant.now());
+        robot.updateBatteryLevel(64);
+
+        dispatch.releaseEarly("ROBOT-001");
+        dispatch.tick(Instant.now());
+
+        assertEquals(RobotStatus.IDLE, robot.getStatus());
+        assertEquals(64, robot.getBatteryLevel().getPercentage());
+        assertFalse(near.holds("ROBOT-001"));
+        assertTrue(dispatch.getAssignment("ROBOT-001").isEmpty());
+    }
+
+    @Test
+    void shouldRequestChargingAgainWhenLowRobotComesBackOnline() {
+        Robot robot = registerRobot("ROBOT-001", 18);
+
+        dispatch.requestCharging("ROBOT-001", false);
+        dispatch.tick(Instant.now());
+        assertEquals(RobotStatus.CHARGING, robot.getStatus());
+
+        // Going offline drops the reservation while the battery stays low
+        robot.markOffline();
+        dispatch.tick(Instant.now());
+        assertTrue(dispatch.getAssignment("ROBOT-001").isEmpty());
+        assertFalse(near.holds("ROBOT-001"));
+
+        robot.markOnline();
+        BatteryLowEvent event = robot.getDomainEvents().stream()
+            .filter(BatteryLowEvent.class::isInstance)
+            .map(BatteryLowEvent.class::cast)
+            .findFirst()
+            .orElseThrow();
+        assertEquals(18, event.getBatteryPercentage());
+
+        dispatch.requestCharging(event.getRobotId(), event.isEmergency());
+        dispatch.tick(Instant.now());
+        assertEquals(RobotStatus.CHARGING, robot.getStatus());
+        assertTrue(near.holds("ROBOT-001"));
+    }
+}
@@ -0,0 +1,84 @@
+package com.paklog.robotics.fleet.management.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimerWheelTest {
+
+    private static final long TICK = 100;
+
+    @Test
+    void shouldExpireOnlyAfterDeadline() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(TICK, 8, 0);
+        List<String> expired = new ArrayList<>();
+
+        wheel.schedule("ROBOT-001", 450);
+
+        assertEquals(0, wheel.advance(400, expired::add));
+        assertEquals(1, wheel.advance(500, expired::add));
+        assertEquals(List.of("ROBOT-001"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldMoveDeadlineOnReschedule() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(TICK, 8, 0);
+        List<String> expired = new ArrayList<>();
+
+        wheel.schedule("ROBOT-001", 300);
+        wheel.schedule("ROBOT-001", 2_000);
+
+        assertEquals(0, wheel.advance(1_000, expired::add));
+        assertEquals(1, wheel.advance(2_000, expired::add));
+        assertEquals(1, expired.size());
+    }
+
+    @Test
+    void shouldHandleDeadlinesBeyondOneRevolution() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(TICK, 4, 0);
+        List<String> expired = new ArrayList<>();
+
+        // Same bucket as tick 1 but three revolutions later
+        wheel.schedule("ROBOT-001", 1_300);
+
+        assertEquals(0, wheel.advance(1_200, expired::add));
+        assertEquals(1, wheel.advance(1_300, expired::add));
+    }
+
+    @Test
+    void shouldNotExpireCancelledKeys() {
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(TICK, 8, 0);
+
+        wheel.schedule("ROBOT-001", 100);
+
+        assertTrue(wheel.cancel("ROBOT-001"));
+        assertEquals(0, wheel.advance(10_000, key -> fail("cancelled key expired")));
+    }
+
+    @Test
+    void shouldScaleToTensOfThousandsOfRobots() {
+        int robots = 50_000;
+        HashedTimerWheel<Integer> wheel = new HashedTimerWheel<>(TICK, 512, 0);
+
+        for (int i = 0; i < robots; i++) {
+            wheel.schedule(i, 5_000 + i % 1_000);
+        }
+        // Every robot checks in again except the odd ones
+        for (int i = 0; i < robots; i += 2) {
+            wheel.schedule(i, 20_000);
+        }
+
+        int[] expired = new int[1];
+        wheel.advance(10_000, robot -> {
+            assertEquals(1, robot % 2);
+            expired[0]++;
+        });
+
+        assertEquals(robots / 2, expired[0]);
+        assertEquals(robots / 2, wheel.size());
+    }
+}
@@ -0,0 +1,172 @@
+package com.paklog.robotics.fleet.management.application.service;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.ChargingStation;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.event.RobotLifecycleSink;
+import com.paklog.robotics.fleet.management.domain.event.RobotTaskFailedEvent;
+import com.paklog.robotics.fleet.management.domain.service.DeadlineScheduler.Mode;
+import com.paklog.robotics.fleet.management.domain.service.GridPathPlanningService;
+import com.paklog.robotics.fleet.management.domain.service.TaskAssignmentService;
+import com.paklog.robotics.fleet.management.domain.valueobject.*;
+import com.paklog.robotics.fleet.management.infrastructure.config.TaskSchedulingProperties;
+import com.paklog.robotics.fleet.management.infrastructure.config.WatchdogProperties;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryChargingStationRepository;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryRobotRepository;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryRobotTaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeartbeatWatchdogTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private InMemoryRobotRepository robotRepository;
+    private InMemoryChargingStationRepository stationRepository;
+    private InMemoryRobotTaskRepository taskRepository;
+    private HeartbeatWatchdog watchdog;
+    private long start;
+
+    @BeforeEach
+    void setUp() {
+        List<RobotLifecycleSink> lifecycleSinks = new ArrayList<>();
+        robotRepository = new InMemoryRobotRepository(null, null, lifecycleSinks);
+        stationRepository = new InMemoryChargingStationRepository();
+        taskRepository = new InMemoryRobotTaskRepository();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TaskDispatchService taskDispatchService = new TaskDispatchService(
+            taskRepository,
+            robotRepository,
+            new TaskAssignmentService(),
+            new GridPathPlanningService(),
+            new TaskSchedulingProperties(false, Mode.EDF, Duration.ofSeconds(1), Duration.ofSeconds(60),
+                Duration.ofMinutes(30), Duration.ofMinutes(5)),
+            meterRegistry
+        );
+        watchdog = new HeartbeatWatchdog(
+            robotRepository,
+            stationRepository,
+            taskDispatchService,
+            new WatchdogProperties(Duration.ofSeconds(5), Duration.ofMillis(100), 64),
+            meterRegistry
+        );
+        lifecycleSinks.add(watchdog);
+        start = System.nanoTime();
+    }
+
+    private Robot registerRobot(String robotId) {
+        Robot robot = Robot.register(
+            RobotId.of(robotId),
+            "AMR-X1",
+            RobotPosition.of(10.0, 10.0, 0.0),
+            Set.of(RobotCapability.PICKER)
+        );
+        robot.clearDomainEvents();
+        robotRepository.save(robot);
+        return robot;
+    }
+
+    @Test
+    void shouldMarkSilentRobotOfflineAndReleaseTask() {
+        Robot robot = registerRobot("ROBOT-001");
+        robot.assignTask(RobotTask.create("TASK-001", TaskType.PICK, TaskPriority.HIGH,
+            RobotPosition.of(15.0, 15.0, 0.0), RobotPosition.of(20.0, 20.0, 0.0),
+            RobotCapability.PICKER, null));
+        robot.clearDomainEvents();
+
+        watchdog.heartbeat("ROBOT-001", start);
+
+        assertEquals(0, watchdog.tick(start + 4 * SECOND));
+        assertEquals(RobotStatus.EXECUTING, robot.getStatus());
+
+        assertEquals(1, watchdog.tick(start + 6 * SECOND));
+        assertEquals(RobotStatus.OFFLINE, robot.getStatus());
+        assertNull(robot.getCurrentTaskId());
+        assertInstanceOf(RobotTaskFailedEvent.class, robot.getDomainEvents().get(0));
+    }
+
+    @Test
+    void shouldKeepRobotOnlineWhileHeartbeating() {
+        Robot robot = registerRobot("ROBOT-001");
+
+        for (int second = 0; second < 30; second++) {
+            watchdog.heartbeat("ROBOT-001", start + second * SECOND);
+            watchdog.tick(start + second * SECOND);
+        }
+
+        assertEquals(RobotStatus.IDLE, robot.getStatus());
+    }
+
+    @Test
+    void shouldReleaseChargingSlotOnExpiry() {
+        Robot robot = registerRobot("ROBOT-001");
+        registerRobot("ROBOT-002");
+        ChargingStation station = ChargingStation.create("STATION-1", RobotPosition.of(0.0, 0.0, 0.0), 1);
+        station.addToQueue("ROBOT-001");
+        station.startCharging("ROBOT-001");
+        station.addToQueue("ROBOT-002");
+        stationRepository.save(station);
+
+        watchdog.heartbeat("ROBOT-001", start);
+        watchdog.heartbeat("ROBOT-002", start + 6 * SECOND);
+        watchdog.tick(start + 6 * SECOND);
+
+        assertEquals(RobotStatus.OFFLINE, robot.getStatus());
+        assertFalse(station.holds("ROBOT-001"));
+        assertTrue(station.isRobotCharging("ROBOT-002"));
+    }
+
+    @Test
+    void shouldBringRobotBackOnlineOnTelemetry() {
+        Robot robot = registerRobot("ROBOT-001");
+        watchdog.heartbeat("ROBOT-001", start);
+        watchdog.tick(start + 6 * SECOND);
+
+        watchdog.onTelemetryApplied(robot, Instant.now());
+
+        assertEquals(RobotStatus.IDLE, robot.getStatus());
+    }
+
+    @Test
+    void shouldRequeueOpenTaskOnExpiry() {
+        Robot robot = registerRobot("ROBOT-001");
+        RobotTask task = RobotTask.create("TASK-001", TaskType.PICK, TaskPriority.HIGH,
+            RobotPosition.of(15.0, 15.0, 0.0), RobotPosition.of(20.0, 20.0, 0.0),
+            RobotCapability.PICKER, null);
+        taskRepository.save(task);
+        new TaskAssignmentService().assign(robot, task);
+
+        watchdog.heartbeat("ROBOT-001", start);
+        watchdog.tick(start + 6 * SECOND);
+
+        assertEquals(RobotStatus.OFFLINE, robot.getStatus());
+        assertEquals(TaskStatus.PENDING, task.getStatus());
+        assertTrue(taskRepository.findOpenByRobotId("ROBOT-001").isEmpty());
+    }
+
+    @Test
+    void shouldWatchRobotFromRegistration() {
+        Robot robot = registerRobot("ROBOT-001");
+
+        assertEquals(1, watchdog.tick(System.nanoTime() + 6 * SECOND));
+        assertEquals(RobotStatus.OFFLINE, robot.getStatus());
+    }
+
+    @Test
+    void shouldStopWatchingDeletedRobot() {
+        registerRobot("ROBOT-001");
+
+        robotRepository.deleteById("ROBOT-001");
+
+        assertEquals(0, watchdog.tick(System.nanoTime() + 6 * SECOND));
+    }
+}
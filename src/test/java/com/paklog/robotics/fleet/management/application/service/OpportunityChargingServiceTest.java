@@ -0,0 +1,132 @@
+package com.paklog.robotics.fleet.management.application.service;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.ChargingStation;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.service.OpportunityChargingPolicy.Demand;
+import com.paklog.robotics.fleet.management.domain.valueobject.*;
+import com.paklog.robotics.fleet.management.infrastructure.config.ChargingProperties;
+import com.paklog.robotics.fleet.management.infrastructure.config.OpportunityChargingProperties;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryChargingStationRepository;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryRobotRepository;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryRobotTaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpportunityChargingServiceTest {
+
+    private InMemoryRobotRepository robotRepository;
+    private InMemoryRobotTaskRepository taskRepository;
+    private ChargingDispatchService dispatch;
+    private OpportunityChargingService service;
+
+    @BeforeEach
+    void setUp() {
+        robotRepository = new InMemoryRobotRepository();
+        taskRepository = new InMemoryRobotTaskRepository();
+        InMemoryChargingStationRepository stationRepository = new InMemoryChargingStationRepository();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        dispatch = new ChargingDispatchService(
+            robotRepository,
+            stationRepository,
+            new ChargingProperties(Duration.ofMillis(500), 1.5, 2.5, 2.0),
+            meterRegistry
+        );
+        service = new OpportunityChargingService(
+            robotRepository,
+            taskRepository,
+            stationRepository,
+            dispatch,
+            new OpportunityChargingProperties(true, Duration.ofSeconds(5), 0.5, 0.9,
+                Duration.ofMinutes(3), Duration.ofMinutes(2), 70, 90, 40),
+            meterRegistry
+        );
+        stationRepository.save(ChargingStation.create("STATION-001", RobotPosition.of(15.0, 10.0, 0.0), 4));
+        for (int i = 0; i < 20; i++) {
+            Robot robot = Robot.register(
+                RobotId.of(String.format("ROBOT-%03d", i)),
+                "AMR-X1",
+                RobotPosition.of(10.0, 10.0, 0.0),
+                Set.of(RobotCapability.PICKER)
+            );
+            robot.updateBatteryLevel(i < 10 ? 50 : 80);
+            robotRepository.save(robot);
+        }
+    }
+
+    private List<Robot> chargingRobots() {
+        return robotRepository.findAll().stream()
+            .filter(robot -> robot.getStatus() == RobotStatus.CHARGING)
+            .toList();
+    }
+
+    @Test
+    void shouldTopUpMidLevelRobotsWhileFleetIsQuiet() {
+        Instant now = Instant.now();
+        assertEquals(Demand.TROUGH, service.tick(now));
+        dispatch.tick(now);
+
+        List<Robot> charging = chargingRobots();
+        assertEquals(4, charging.size());
+        for (Robot robot : charging) {
+            assertEquals(50, robot.getBatteryLevel().getPercentage());
+            assertEquals(90, robot.getChargeTarget());
+            assertTrue(service.isToppingUp(robot.getRobotId().getValue()));
+        }
+
+        // Slots are taken now, so nobody else is sent
+        assertEquals(Demand.TROUGH, service.tick(now.plusSeconds(5)));
+        dispatch.tick(now.plusSeconds(5));
+        assertEquals(4, chargingRobots().size());
+    }
+
+    @Test
+    void shouldRecallToppingUpRobotsWhenTasksPileUp() {
+        Instant now = Instant.now();
+        service.tick(now);
+        dispatch.tick(now);
+        chargingRobots().forEach(robot -> robot.updateBatteryLevel(65));
+
+        for (int i = 0; i < 20; i++) {
+            taskRepository.save(RobotTask.create("TASK-" + i, TaskType.PICK, TaskPriority.NORMAL,
+                RobotPosition.of(20.0, 20.0, 0.0), RobotPosition.of(30.0, 30.0, 0.0),
+                RobotCapability.PICKER, null));
+        }
+        assertEquals(Demand.PEAK, service.tick(now.plusSeconds(5)));
+        dispatch.tick(now.plusSeconds(5));
+
+        assertTrue(chargingRobots().isEmpty());
+        long recalled = robotRepository.findAll().stream()
+            .filter(robot -> robot.getBatteryLevel().getPercentage() == 65)
+            .filter(Robot::isAvailable)
+            .count();
+        assertEquals(4, recalled);
+    }
+
+    @Test
+    void shouldCountArrivalsAssignedBeforeTheNextTick() {
+        Instant now = Instant.now();
+        service.tick(now);
+
+        for (int i = 0; i < 10; i++) {
+            RobotTask task = RobotTask.create("TASK-" + i, TaskType.PICK, TaskPriority.NORMAL,
+                RobotPosition.of(20.0, 20.0, 0.0), RobotPosition.of(30.0, 30.0, 0.0),
+                RobotCapability.PICKER, null);
+            taskRepository.save(task);
+            // The fleet keeps up, so nothing is left pending at the tick
+            task.assign(String.format("ROBOT-%03d", i));
+        }
+        service.tick(now.plusSeconds(5));
+
+        assertTrue(service.getArrivalsPerMinute() > 0);
+        assertEquals(10, taskRepository.countCreated());
+    }
+}
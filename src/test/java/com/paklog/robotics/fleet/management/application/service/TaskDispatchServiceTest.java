@@ -0,0 +1,196 @@
+package com.paklog.robotics.fleet.management.application.service;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.service.DeadlineScheduler.Mode;
+import com.paklog.robotics.fleet.management.domain.service.GridPathPlanningService;
+import com.paklog.robotics.fleet.management.domain.service.TaskAssignmentService;
+import com.paklog.robotics.fleet.management.domain.time.DomainClock;
+import com.paklog.robotics.fleet.management.domain.valueobject.*;
+import com.paklog.robotics.fleet.management.infrastructure.config.TaskSchedulingProperties;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryRobotRepository;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryRobotTaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskDispatchServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-05T16:00:00Z");
+
+    private DomainClock.Scope clock;
+    private InMemoryRobotRepository robotRepository;
+    private InMemoryRobotTaskRepository taskRepository;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        clock = DomainClock.use(Clock.fixed(NOW, ZoneOffset.UTC));
+        robotRepository = new InMemoryRobotRepository();
+        taskRepository = new InMemoryRobotTaskRepository();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clock.close();
+    }
+
+    private TaskDispatchService service(Mode mode) {
+        return new TaskDispatchService(
+            taskRepository,
+            robotRepository,
+            new TaskAssignmentService(),
+            new GridPathPlanningService(),
+            new TaskSchedulingProperties(false, mode, Duration.ofSeconds(1), Duration.ofSeconds(60),
+                Duration.ofMinutes(30), Duration.ofMinutes(5)),
+            meterRegistry
+        );
+    }
+
+    private Robot robot(String robotId) {
+        Robot robot = Robot.register(RobotId.of(robotId), "AMR-X1", RobotPosition.of(0.0, 0.0, 0.0),
+            Set.of(RobotCapability.TRANSPORTER));
+        robotRepository.save(robot);
+        return robot;
+    }
+
+    private RobotTask task(String taskId, TaskPriority priority, Instant dueAt) {
+        RobotTask task = RobotTask.create(taskId, TaskType.TRANSPORT, priority, RobotPosition.of(5.0, 0.0, 0.0),
+            RobotPosition.of(35.0, 0.0, 0.0), RobotCapability.TRANSPORTER, Map.of(), dueAt);
+        taskRepository.save(task);
+        return task;
+    }
+
+    @Test
+    void shouldGiveTheOnlyIdleRobotToTheTightestCutoff() {
+        Robot robot = robot("ROBOT-001");
+        RobotTask urgent = task("URGENT", TaskPriority.URGENT, NOW.plus(Duration.ofHours(1)));
+        RobotTask truck = task("TRUCK", TaskPriority.NORMAL, NOW.plus(Duration.ofMinutes(10)));
+        TaskDispatchService service = service(Mode.EDF);
+
+        assertEquals(1, service.tick(NOW));
+        assertEquals(TaskStatus.ASSIGNED, truck.getStatus());
+        assertEquals("TRUCK", robot.getCurrentTaskId());
+        assertEquals(TaskStatus.PENDING, urgent.getStatus());
+
+        // A second robot frees up and takes what is left
+        Robot second = robot("ROBOT-002");
+        assertEquals(1, service.tick(NOW.plusSeconds(1)));
+        assertEquals("URGENT", second.getCurrentTaskId());
+        assertEquals(0, service.tick(NOW.plusSeconds(2)));
+        assertEquals(2.0, meterRegistry.get("robotics.tasks.dispatched").counter().count());
+    }
+
+    @Test
+    void shouldGiveTheOnlyIdleRobotToTheHighestPriorityWithoutEdf() {
+        Robot robot = robot("ROBOT-001");
+        task("URGENT", TaskPriority.URGENT, NOW.plus(Duration.ofHours(1)));
+        task("TRUCK", TaskPriority.NORMAL, NOW.plus(Duration.ofMinutes(10)));
+
+        assertEquals(1, service(Mode.PRIORITY).tick(NOW));
+        assertEquals("URGENT", robot.getCurrentTaskId());
+    }
+
+    @Test
+    void shouldCountDatedTasksRunningOutOfSlack() {
+        task("RELAXED", TaskPriority.NORMAL, NOW.plus(Duration.ofHours(1)));
+        task("TIGHT", TaskPriority.NORMAL, NOW.plus(Duration.ofMinutes(4)));
+        task("LATE", TaskPriority.NORMAL, NOW.minusSeconds(30));
+        task("UNDATED", TaskPriority.NORMAL, null);
+        TaskDispatchService service = service(Mode.EDF);
+
+        // No robots, so nothing leaves PENDING and the counts only grow
+        assertEquals(0, service.tick(NOW));
+        assertEquals(2, service.getAtRiskCount());
+        assertEquals(1, service.getOverdueCount());
+
+        service.tick(NOW.plus(Duration.ofMinutes(5)));
+        assertEquals(2, meterRegistry.get("robotics.tasks.at.risk").gauge().value());
+        assertEquals(2, meterRegistry.get("robotics.tasks.overdue").gauge().value());
+
+        service.tick(NOW.plus(Duration.ofMinutes(56)));
+        assertEquals(3, service.getAtRiskCount());
+    }
+
+    @Test
+    void shouldRequeueUnstartedTaskAndFailStartedOneWhenRobotIsReleased() {
+        Robot first = robot("ROBOT-001");
+        Robot second = robot("ROBOT-002");
+        RobotTask waiting = task("WAITING", TaskPriority.NORMAL, null);
+        RobotTask underWay = task("UNDER-WAY", TaskPriority.NORMAL, null);
+        TaskDispatchService service = service(Mode.EDF);
+        assertEquals(2, service.tick(NOW));
+        Robot startedRobot = underWay.getRobotId().equals("ROBOT-001") ? first : second;
+        Robot waitingRobot = startedRobot == first ? second : first;
+        underWay.start();
+
+        waitingRobot.markOffline();
+        service.releaseTasks(waitingRobot.getRobotId().getValue(), "Robot went offline");
+        startedRobot.markOffline();
+        service.releaseTasks(startedRobot.getRobotId().getValue(), "Robot went offline");
+
+        assertEquals(TaskStatus.PENDING, waiting.getStatus());
+        assertNull(waiting.getRobotId());
+        assertEquals(TaskStatus.FAILED, underWay.getStatus());
+        assertEquals("Robot went offline", underWay.getFailureReason());
+        assertTrue(taskRepository.findOpenByRobotId(startedRobot.getRobotId().getValue()).isEmpty());
+
+        // The requeued task goes out again once a robot is free
+        robot("ROBOT-003");
+        assertEquals(1, service.tick(NOW.plusSeconds(1)));
+        assertEquals("ROBOT-003", waiting.getRobotId());
+    }
+
+    @Test
+    void shouldReleaseOnlyTheDroppedTaskWhileTheRobotStillHoldsIt() {
+        robot("ROBOT-001");
+        RobotTask current = task("CURRENT", TaskPriority.NORMAL, null);
+        TaskDispatchService service = service(Mode.EDF);
+        assertEquals(1, service.tick(NOW));
+
+        // Late event for a task the robot dropped earlier
+        service.releaseTask("ROBOT-001", "EARLIER", "Robot went offline");
+        // Event naming the right task but another robot
+        service.releaseTask("ROBOT-002", "CURRENT", "Robot went offline");
+
+        assertEquals(TaskStatus.ASSIGNED, current.getStatus());
+        assertEquals("ROBOT-001", current.getRobotId());
+
+        service.releaseTask("ROBOT-001", "CURRENT", "Robot went offline");
+        assertEquals(TaskStatus.PENDING, current.getStatus());
+        assertNull(current.getRobotId());
+    }
+
+    @Test
+    void shouldPassOverTaskNoIdleRobotIsEquippedFor() {
+        Robot transporter = robot("ROBOT-001");
+        Robot lifter = Robot.register(RobotId.of("ROBOT-002"), "AMR-L1", RobotPosition.of(0.0, 0.0, 0.0),
+            Set.of(RobotCapability.LIFTER, RobotCapability.TRANSPORTER));
+        robotRepository.save(lifter);
+        RobotTask sort = RobotTask.create("SORT", TaskType.TRANSPORT, TaskPriority.NORMAL,
+            RobotPosition.of(5.0, 0.0, 0.0), RobotPosition.of(35.0, 0.0, 0.0), RobotCapability.SORTER,
+            Map.of(), NOW.plus(Duration.ofMinutes(5)));
+        taskRepository.save(sort);
+        RobotTask first = task("FIRST", TaskPriority.NORMAL, NOW.plus(Duration.ofMinutes(10)));
+        RobotTask second = task("SECOND", TaskPriority.NORMAL, NOW.plus(Duration.ofMinutes(20)));
+
+        assertEquals(2, service(Mode.EDF).tick(NOW));
+        assertEquals(TaskStatus.PENDING, sort.getStatus());
+        assertEquals(TaskStatus.ASSIGNED, first.getStatus());
+        assertEquals(TaskStatus.ASSIGNED, second.getStatus());
+        assertNotEquals(first.getRobotId(), second.getRobotId());
+        assertNotNull(transporter.getCurrentTaskId());
+        assertNotNull(lifter.getCurrentTaskId());
+    }
+}
@@ -0,0 +1,193 @@
+package com.paklog.robotics.fleet.management.application.service;
+
+import com.paklog.robotics.fleet.management.application.service.TaskTimingAnalytics.EncodedHistogram;
+import com.paklog.robotics.fleet.management.application.service.TaskTimingAnalytics.Phase;
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.time.DomainClock;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskPriority;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskType;
+import com.paklog.robotics.fleet.management.infrastructure.config.TaskStoreProperties;
+import com.paklog.robotics.fleet.management.infrastructure.config.TaskTimingProperties;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryRobotTaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TaskTimingAnalyticsTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-05T16:00:00Z");
+    private static final Duration WINDOW = Duration.ofMinutes(3);
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskTimingAnalytics analytics;
+    private InMemoryRobotTaskRepository taskRepository;
+    private int taskCount;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        analytics = analytics(meterRegistry);
+        taskRepository = new InMemoryRobotTaskRepository(new TaskStoreProperties(Duration.ofHours(1)), analytics);
+    }
+
+    // One minute slots, three kept, gauges over the last two
+    private static TaskTimingAnalytics analytics(SimpleMeterRegistry meterRegistry) {
+        return new TaskTimingAnalytics(
+            new TaskTimingProperties(true, Duration.ofMinutes(1), WINDOW, 25.0, 2, Duration.ofMinutes(2)),
+            meterRegistry
+        );
+    }
+
+    private static void at(Instant instant, Runnable action) {
+        try (DomainClock.Scope ignored = DomainClock.use(Clock.fixed(instant, ZoneOffset.UTC))) {
+            action.run();
+        }
+    }
+
+    private RobotTask run(TaskType taskType, RobotCapability capability, double originX, double originY,
+                          long waitMillis, long travelMillis, long executionMillis) {
+        RobotTask[] task = new RobotTask[1];
+        at(NOW, () -> task[0] = RobotTask.create("TASK-" + taskCount++, taskType, TaskPriority.NORMAL,
+            RobotPosition.of(originX, originY, 0.0), RobotPosition.of(10.0, 10.0, 0.0), capability, Map.of()));
+        taskRepository.save(task[0]);
+        Instant assignedAt = NOW.plusMillis(waitMillis);
+        Instant startedAt = assignedAt.plusMillis(travelMillis);
+        at(assignedAt, () -> task[0].assign("ROBOT-001"));
+        at(startedAt, task[0]::start);
+        at(startedAt.plusMillis(executionMillis), task[0]::complete);
+        return task[0];
+    }
+
+    private RobotTask pick(long waitMillis, long travelMillis, long executionMillis) {
+        return run(TaskType.PICK, RobotCapability.PICKER, 5.0, 5.0, waitMillis, travelMillis, executionMillis);
+    }
+
+    private long count(Phase phase, TaskType taskType, RobotCapability capability, String zone) {
+        return analytics.histogram(phase, taskType, capability, zone, WINDOW).getTotalCount();
+    }
+
+    @Test
+    void shouldKeepPhaseTimesToTheMillisecond() {
+        RobotTask task = pick(1_400, 2_750, 61_250);
+        // The whole-second views truncate what the histograms keep
+        assertEquals(1, task.getWaitTimeSeconds());
+        assertEquals(61, task.getDurationSeconds());
+
+        // Nothing is visible until the interval closes
+        assertEquals(0, count(Phase.TOTAL, null, null, null));
+        analytics.tick(NOW);
+
+        // Two significant digits: within 1%
+        assertEquals(1_400, analytics.histogram(Phase.WAIT, null, null, null, WINDOW).getValueAtPercentile(50), 14);
+        assertEquals(2_750, analytics.histogram(Phase.TRAVEL, null, null, null, WINDOW).getValueAtPercentile(50), 28);
+        assertEquals(61_250, analytics.histogram(Phase.EXECUTION, null, null, null, WINDOW).getValueAtPercentile(50), 613);
+        assertEquals(65_400, analytics.histogram(Phase.TOTAL, null, null, null, WINDOW).getValueAtPercentile(50), 654);
+        assertEquals(NOW, analytics.getClosedAt());
+    }
+
+    @Test
+    void shouldBreakDownByTypeCapabilityAndZone() {
+        pick(1_000, 2_000, 3_000);
+        pick(1_000, 2_000, 3_000);
+        run(TaskType.TRANSPORT, RobotCapability.LIFTER, 60.0, 30.0, 1_000, 2_000, 3_000);
+        run(TaskType.TRANSPORT, RobotCapability.TRANSPORTER, 60.0, 30.0, 1_000, 2_000, 3_000);
+
+        // Only completed tasks have all four phases
+        at(NOW, () -> {
+            RobotTask cancelled = RobotTask.create("CANCELLED", TaskType.PICK, TaskPriority.NORMAL,
+                RobotPosition.of(5.0, 5.0, 0.0), RobotPosition.of(10.0, 10.0, 0.0), RobotCapability.PICKER, Map.of());
+            taskRepository.save(cancelled);
+            cancelled.cancel();
+        });
+        analytics.tick(NOW);
+
+        assertEquals("2-1", analytics.zoneOf(RobotPosition.of(60.0, 30.0, 0.0)));
+        // The constructor skips validation, as restored positions do
+        assertEquals("-1-0", analytics.zoneOf(new RobotPosition(-5.0, 5.0, 0.0)));
+        assertEquals("0--1", analytics.zoneOf(new RobotPosition(5.0, -5.0, 0.0)));
+        assertEquals(4, count(Phase.TOTAL, null, null, null));
+        assertEquals(2, count(Phase.WAIT, TaskType.PICK, null, null));
+        assertEquals(2, count(Phase.WAIT, null, null, "0-0"));
+        assertEquals(2, count(Phase.TRAVEL, TaskType.TRANSPORT, null, "2-1"));
+        assertEquals(1, count(Phase.EXECUTION, TaskType.TRANSPORT, RobotCapability.LIFTER, "2-1"));
+        assertEquals(0, count(Phase.EXECUTION, TaskType.PICK, RobotCapability.LIFTER, null));
+        assertEquals(4.0, meterRegistry.get("robotics.tasks.timing.recorded").counter().count());
+    }
+
+    @Test
+    void shouldRollOldIntervalsOutOfTheWindow() {
+        pick(1_000, 1_000, 1_000);
+        analytics.tick(NOW);
+        pick(5_000, 1_000, 1_000);
+        pick(5_000, 1_000, 1_000);
+        analytics.tick(NOW.plusSeconds(60));
+
+        assertEquals(3, count(Phase.WAIT, null, null, null));
+        Histogram lastMinute = analytics.histogram(Phase.WAIT, null, null, null, Duration.ofMinutes(1));
+        assertEquals(2, lastMinute.getTotalCount());
+        assertEquals(5_000, lastMinute.getMinValue(), 50);
+        assertEquals(5.0, gauge("wait", "pick", "0.5"), 0.05);
+
+        // Two quiet minutes later only the busy interval is left, and only in the full window
+        analytics.tick(NOW.plusSeconds(120));
+        analytics.tick(NOW.plusSeconds(180));
+        assertEquals(2, count(Phase.WAIT, null, null, null));
+        assertEquals(0, analytics.histogram(Phase.WAIT, null, null, null, Duration.ofMinutes(2)).getTotalCount());
+        assertTrue(Double.isNaN(gauge("wait", "pick", "0.5")));
+        assertThrows(IllegalArgumentException.class,
+            () -> analytics.histogram(Phase.WAIT, null, null, null, Duration.ofMinutes(4)));
+    }
+
+    @Test
+    void shouldMergeReplicaHistogramsIntoTheFleetDistribution() throws DataFormatException {
+        SimpleMeterRegistry otherRegistry = new SimpleMeterRegistry();
+        TaskTimingAnalytics other = analytics(otherRegistry);
+        TaskTimingAnalytics combined = analytics(new SimpleMeterRegistry());
+        for (int i = 0; i < 200; i++) {
+            RobotTask task = pick(1_000 + i * 37L, 2_000, 3_000 + i * 11L);
+            // The other replica completes a copy of every second task; one instance sees both
+            combined.finished(task);
+            if (i % 2 == 0) {
+                other.finished(task);
+                combined.finished(task);
+            }
+        }
+        analytics.tick(NOW);
+        other.tick(NOW);
+        combined.tick(NOW);
+
+        Histogram merged = new Histogram(2);
+        for (TaskTimingAnalytics replica : new TaskTimingAnalytics[]{analytics, other}) {
+            for (EncodedHistogram encoded : replica.export(WINDOW)) {
+                if (encoded.phase() == Phase.WAIT) {
+                    merged.add(Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(encoded.histogram()), 0));
+                }
+            }
+        }
+        Histogram expected = combined.histogram(Phase.WAIT, null, null, null, WINDOW);
+        assertEquals(300, merged.getTotalCount());
+        assertEquals(expected, merged);
+        assertEquals(expected.getValueAtPercentile(99), merged.getValueAtPercentile(99));
+    }
+
+    private double gauge(String phase, String taskType, String quantile) {
+        return meterRegistry.get("robotics.tasks.timing")
+            .tag("phase", phase)
+            .tag("type", taskType)
+            .tag("quantile", quantile)
+            .gauge().value();
+    }
+}
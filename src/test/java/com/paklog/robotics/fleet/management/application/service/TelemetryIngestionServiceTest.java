@@ -0,0 +1,137 @@
+package com.paklog.robotics.fleet.management.application.service;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.event.RobotLifecycleSink;
+import com.paklog.robotics.fleet.management.domain.valueobject.*;
+import com.paklog.robotics.fleet.management.infrastructure.config.TelemetryProperties;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryRobotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TelemetryIngestionServiceTest {
+
+    private InMemoryRobotRepository robotRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private Robot robot;
+
+    @BeforeEach
+    void setUp() {
+        robotRepository = new InMemoryRobotRepository();
+        meterRegistry = new SimpleMeterRegistry();
+        robot = Robot.register(
+            RobotId.of("ROBOT-001"),
+            "AMR-X1",
+            RobotPosition.of(10.0, 10.0, 0.0),
+            Set.of(RobotCapability.PICKER)
+        );
+        robotRepository.save(robot);
+    }
+
+    private TelemetryIngestionService service(Duration maxSampleAge) {
+        return new TelemetryIngestionService(
+            robotRepository,
+            new TelemetryProperties(1, 64, 16, maxSampleAge),
+            List.of(),
+            meterRegistry
+        );
+    }
+
+    @Test
+    void shouldCoalescePendingSamplesToLatest() {
+        TelemetryIngestionService service = service(Duration.ofSeconds(5));
+
+        for (int i = 1; i <= 10; i++) {
+            service.submitPosition("ROBOT-001", 10.0 + i, 20.0, 90.0);
+        }
+        service.submitBattery("ROBOT-001", 80);
+        service.submitBattery("ROBOT-001", 75);
+
+        assertEquals(1, service.getPendingRobotCount());
+        assertEquals(1, service.drainReady(16));
+
+        assertEquals(20.0, robot.getPosition().getX());
+        assertEquals(75, robot.getBatteryLevel().getPercentage());
+        assertEquals(10.0, meterRegistry.get("robotics.telemetry.samples.coalesced").counter().count());
+        assertEquals(2, meterRegistry.get("robotics.telemetry.apply.latency").timer().count());
+    }
+
+    @Test
+    void shouldDropStaleSamples() throws InterruptedException {
+        TelemetryIngestionService service = service(Duration.ofMillis(1));
+
+        service.submitPosition("ROBOT-001", 50.0, 50.0, 0.0);
+        Thread.sleep(5);
+        service.drainReady(16);
+
+        assertEquals(10.0, robot.getPosition().getX());
+        assertEquals(1.0, meterRegistry.get("robotics.telemetry.samples.dropped")
+            .tag("reason", "stale").counter().count());
+    }
+
+    @Test
+    void shouldDropSamplesForUnknownRobot() {
+        TelemetryIngestionService service = service(Duration.ofSeconds(5));
+
+        service.submitPosition("ROBOT-404", 1.0, 1.0, 0.0);
+
+        assertEquals(0, service.getPendingRobotCount());
+        assertEquals(1.0, meterRegistry.get("robotics.telemetry.samples.dropped")
+            .tag("reason", "unknown_robot").counter().count());
+    }
+
+    @Test
+    void shouldApplySamplesOnWorkerThreads() throws InterruptedException {
+        TelemetryIngestionService service = service(Duration.ofSeconds(5));
+        service.start();
+        try {
+            service.submitPosition("ROBOT-001", 42.0, 24.0, 180.0);
+
+            long deadline = System.currentTimeMillis() + 2000;
+            while (robot.getPosition().getX() != 42.0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+        } finally {
+            service.stop();
+        }
+
+        assertEquals(42.0, robot.getPosition().getX());
+        assertEquals(180.0, robot.getPosition().getHeading());
+    }
+
+    @Test
+    void shouldApplyToReplacementRobotOnceOriginalIsRemoved() {
+        List<RobotLifecycleSink> lifecycleSinks = new ArrayList<>();
+        robotRepository = new InMemoryRobotRepository(null, null, lifecycleSinks);
+        robotRepository.save(robot);
+        TelemetryIngestionService service = service(Duration.ofSeconds(5));
+        lifecycleSinks.add(service);
+
+        service.submitPosition("ROBOT-001", 20.0, 20.0, 0.0);
+        Robot replacement = Robot.register(
+            RobotId.of("ROBOT-001"),
+            "AMR-X2",
+            RobotPosition.of(0.0, 0.0, 0.0),
+            Set.of(RobotCapability.PICKER)
+        );
+        robotRepository.save(replacement);
+        service.drainReady(16);
+
+        // The queued sample was meant for the robot that left and is discarded
+        assertEquals(10.0, robot.getPosition().getX());
+        assertEquals(0.0, replacement.getPosition().getX());
+
+        service.submitPosition("ROBOT-001", 30.0, 20.0, 0.0);
+        service.drainReady(16);
+
+        assertEquals(30.0, replacement.getPosition().getX());
+        assertEquals(10.0, robot.getPosition().getX());
+    }
+}
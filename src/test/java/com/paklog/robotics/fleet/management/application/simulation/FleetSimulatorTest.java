@@ -0,0 +1,84 @@
+package com.paklog.robotics.fleet.management.application.simulation;
+
+import com.paklog.robotics.fleet.management.domain.time.DomainClock;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FleetSimulatorTest {
+
+    // A small shift that still cycles every robot through a charger
+    private static final SimulationConfig SHIFT = SimulationConfig.defaults()
+        .withFleet(40, 2, 4)
+        .withTasksPerHour(900)
+        .withDuration(Duration.ofHours(2));
+
+    @Test
+    void shouldReproduceReportForSameSeed() {
+        SimulationReport first = new FleetSimulator(SHIFT).run();
+        SimulationReport second = new FleetSimulator(SHIFT).run();
+
+        assertEquals(withoutWallTime(first), withoutWallTime(second));
+        assertNotEquals(withoutWallTime(first), withoutWallTime(new FleetSimulator(SHIFT.withSeed(7)).run()));
+    }
+
+    /**
+     * Regression gate: the baseline shift must keep up with demand at these service levels
+     */
+    @Test
+    void shouldMeetBaselineServiceLevels() {
+        SimulationReport report = new FleetSimulator(SHIFT).run();
+
+        assertTrue(report.tasksCreated() > 1_500, report::format);
+        assertTrue(report.tasksCompleted() >= report.tasksCreated() * 0.97, report::format);
+        assertTrue(report.taskWaitSeconds().p50() <= 5.0, report::format);
+        assertTrue(report.taskWaitSeconds().p95() <= 120.0, report::format);
+        assertTrue(report.cycleSeconds().p95() <= 240.0, report::format);
+        assertTrue(report.utilization() > 0.3 && report.utilization() < 0.8, report::format);
+        assertTrue(report.chargerWaitSeconds().count() > 0, report::format);
+        assertTrue(report.maxBacklog() <= 60, report::format);
+        assertTrue(report.speedup() > 100.0, report::format);
+    }
+
+    @Test
+    void shouldQueueAtChargersWhenTheyAreScarce() {
+        SimulationReport plenty = new FleetSimulator(SHIFT).run();
+        SimulationReport scarce = new FleetSimulator(SHIFT.withFleet(40, 1, 1)).run();
+
+        assertTrue(scarce.maxChargerQueue() > plenty.maxChargerQueue(), scarce::format);
+        assertTrue(scarce.chargerWaitSeconds().max() > 0.0, scarce::format);
+        assertTrue(scarce.meanChargerQueue() > plenty.meanChargerQueue(), scarce::format);
+    }
+
+    @Test
+    void shouldCutChargingDowntimeWithScheduler() {
+        SimulationConfig busyChargers = SHIFT.withFleet(40, 3, 1);
+        SimulationReport nearest = new FleetSimulator(
+            busyChargers.withChargingPolicy(SimulationConfig.ChargingPolicy.NEAREST)).run();
+        SimulationReport scheduled = new FleetSimulator(busyChargers).run();
+
+        assertTrue(scheduled.chargingDowntimeHours() < nearest.chargingDowntimeHours(),
+            () -> nearest.format() + scheduled.format());
+        assertTrue(scheduled.chargerWaitSeconds().p95() < nearest.chargerWaitSeconds().p95(),
+            () -> nearest.format() + scheduled.format());
+    }
+
+    @Test
+    void shouldLeaveDomainClockOnSystemTime() {
+        new FleetSimulator(SHIFT.withDuration(Duration.ofMinutes(10))).run();
+
+        assertTrue(Duration.between(DomainClock.now(), Instant.now()).abs().toSeconds() < 5);
+    }
+
+    private static SimulationReport withoutWallTime(SimulationReport report) {
+        return new SimulationReport(report.simulated(), report.robots(), report.tasksCreated(),
+            report.tasksCompleted(), report.throughputPerHour(), report.utilization(), report.chargingShare(),
+            report.taskWaitSeconds(), report.cycleSeconds(), report.meanBacklog(), report.maxBacklog(),
+            report.meanChargerQueue(), report.maxChargerQueue(), report.chargerWaitSeconds(),
+            report.chargingTripSeconds(), report.chargingDowntimeHours(), report.events(), report.domainEvents(),
+            Duration.ZERO);
+    }
+}
@@ -1,9 +1,15 @@
 package com.paklog.robotics.fleet.management.domain.aggregate;
 
+import com.paklog.robotics.fleet.management.domain.event.BatteryLowEvent;
+import com.paklog.robotics.fleet.management.domain.event.ChargingCompletedEvent;
+import com.paklog.robotics.fleet.management.domain.event.ChargingStartedEvent;
 import com.paklog.robotics.fleet.management.domain.valueobject.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -54,11 +60,46 @@ class RobotTest {
 
     @Test
     void shouldNotAssignTaskWhenBatteryLow() {
-        robot.updateBatteryLevel(25);
+        robot.updateBatteryLevel(20);
 
         assertThrows(IllegalStateException.class, () -> robot.assignTask(task));
     }
 
+    @Test
+    void shouldAcceptShortTaskBelowFlatThreshold() {
+        robot.updateBatteryLevel(25);
+
+        robot.assignTask(task, RobotPosition.of(30.0, 45.0, 0.0));
+
+        assertEquals(RobotStatus.EXECUTING, robot.getStatus());
+    }
+
+    @Test
+    void shouldRefuseTaskWhoseReturnTripWouldDrainBattery() {
+        robot.updateBatteryLevel(31);
+        RobotTask longHaul = RobotTask.create("TASK-002", TaskType.TRANSPORT, TaskPriority.NORMAL,
+            RobotPosition.of(15.0, 25.0, 0.0), RobotPosition.of(800.0, 25.0, 0.0),
+            RobotCapability.TRANSPORTER, null);
+        RobotPosition charger = RobotPosition.of(10.0, 20.0, 0.0);
+
+        assertFalse(robot.hasEnergyFor(longHaul, charger));
+        assertThrows(IllegalStateException.class, () -> robot.assignTask(longHaul, charger));
+        assertEquals(RobotStatus.IDLE, robot.getStatus());
+    }
+
+    @Test
+    void shouldLearnTaskDrainFromCompletedTasks() {
+        robot.assignTask(task);
+        robot.startTask();
+        robot.updatePosition(RobotPosition.of(15.0, 25.0, 0.0));
+        robot.updatePosition(RobotPosition.of(30.0, 40.0, 0.0));
+        robot.updateBatteryLevel(95);
+        robot.completeTask();
+
+        assertEquals(1.0, robot.getDrainEstimator().taskWeight(TaskType.PICK), 1e-9);
+        assertEquals(5.0, robot.getDrainEstimator().predictTask(TaskType.PICK, 28.28), 0.1);
+    }
+
     @Test
     void shouldCompleteTaskSuccessfully() {
         robot.assignTask(task);
@@ -88,6 +129,37 @@ class RobotTest {
         assertEquals(100, robot.getBatteryLevel().getPercentage());
     }
 
+    @Test
+    void shouldChargeToPartialTarget() {
+        robot.updateBatteryLevel(45);
+        robot.clearDomainEvents();
+        robot.sendToCharging("STATION-001", 80);
+        ChargingStartedEvent started = (ChargingStartedEvent) robot.getDomainEvents().get(0);
+
+        assertEquals(80, started.getTargetBatteryLevel());
+        assertFalse(robot.hasReachedChargeTarget());
+        robot.updateBatteryLevel(80);
+        assertTrue(robot.hasReachedChargeTarget());
+
+        robot.completeCharging();
+        assertEquals(RobotStatus.IDLE, robot.getStatus());
+        assertEquals(80, robot.getBatteryLevel().getPercentage());
+        assertEquals(100, robot.getChargeTarget());
+    }
+
+    @Test
+    void shouldStopChargingEarlyAtReportedLevel() {
+        robot.updateBatteryLevel(45);
+        robot.sendToCharging("STATION-001", 90);
+        robot.clearDomainEvents();
+
+        robot.completeCharging(60);
+
+        assertEquals(60, robot.getBatteryLevel().getPercentage());
+        ChargingCompletedEvent completed = (ChargingCompletedEvent) robot.getDomainEvents().get(0);
+        assertEquals(60, completed.getFinalBatteryLevel());
+    }
+
     @Test
     void shouldCheckBatteryLevel() {
         robot.updateBatteryLevel(15);
@@ -113,4 +185,59 @@ class RobotTest {
 
         assertTrue(distance > 0);
     }
+
+    @Test
+    void shouldRequireMaintenanceWhenMetricExceedsLimit() {
+        robot.updateHealthMetrics(Map.of("errorCount", 12, "temperature", 45.0));
+        robot.performHealthCheck();
+
+        assertEquals(RobotStatus.MAINTENANCE, robot.getStatus());
+    }
+
+    @Test
+    void shouldRequireMaintenanceWhenTrendHeadsPastLimit() {
+        Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 10; i++) {
+            robot.recordHealthMetric(HealthMetric.TEMPERATURE, 60.0 + i, start.plusSeconds(i * 10L));
+        }
+        robot.performHealthCheck();
+
+        assertEquals(RobotStatus.MAINTENANCE, robot.getStatus());
+    }
+
+    @Test
+    void shouldStayIdleWithStableMetrics() {
+        Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 10; i++) {
+            robot.recordHealthMetric(HealthMetric.TEMPERATURE, 60.0, start.plusSeconds(i * 10L));
+        }
+        robot.performHealthCheck();
+
+        assertEquals(RobotStatus.IDLE, robot.getStatus());
+    }
+
+    @Test
+    void shouldEmitBatteryLowOnlyOnCrossingAndEscalation() {
+        robot.clearDomainEvents();
+        for (int percentage = 25; percentage >= 5; percentage--) {
+            robot.updateBatteryLevel(percentage);
+        }
+
+        List<Object> events = robot.getDomainEvents();
+        assertEquals(2, events.size());
+        assertFalse(((BatteryLowEvent) events.get(0)).isEmergency());
+        assertTrue(((BatteryLowEvent) events.get(1)).isEmergency());
+        assertEquals(14, robot.getBatteryAlarm().getSuppressedCount());
+    }
+
+    @Test
+    void shouldEmitMaintenanceRequiredOncePerEpisode() {
+        robot.updateHealthMetrics(Map.of("errorCount", 12));
+        robot.clearDomainEvents();
+        robot.performHealthCheck();
+        robot.performHealthCheck();
+
+        assertEquals(1, robot.getDomainEvents().size());
+        assertEquals(1, robot.getMaintenanceAlarm().getSuppressedCount());
+    }
 }
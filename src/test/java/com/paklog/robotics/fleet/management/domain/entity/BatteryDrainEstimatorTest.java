@@ -0,0 +1,86 @@
+package com.paklog.robotics.fleet.management.domain.entity;
+
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatteryDrainEstimatorTest {
+
+    private BatteryDrainEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        estimator = new BatteryDrainEstimator(0.01);
+        estimator.observePosition(0.0, 0.0);
+        estimator.observeBattery(100);
+    }
+
+    @Test
+    void shouldPredictPriorRateWithoutData() {
+        assertEquals(0.01, estimator.drainPerMeter(), 1e-12);
+        assertEquals(2.0, estimator.predictTask(TaskType.TRANSPORT, 200.0), 1e-9);
+    }
+
+    @Test
+    void shouldConvergeOnObservedDrivingRate() {
+        // 5% every 100 m, five times the prior, over 30 discharge cycles
+        double x = 0.0;
+        for (int cycle = 0; cycle < 30; cycle++) {
+            for (int battery = 95; battery >= 50; battery -= 5) {
+                x += 100.0;
+                estimator.observePosition(x, 0.0);
+                estimator.observeBattery(battery);
+            }
+            estimator.observeBattery(100);
+        }
+
+        assertEquals(0.05, estimator.drainPerMeter(), 0.005);
+        assertEquals(30_000.0, estimator.getOdometer(), 1e-6);
+    }
+
+    @Test
+    void shouldIgnoreIdleDrainAndJitter() {
+        estimator.observePosition(0.01, 0.01);
+        estimator.observeBattery(99);
+        estimator.observeBattery(98);
+
+        assertEquals(0.01, estimator.drainPerMeter(), 1e-12);
+        assertEquals(0.0, estimator.getOdometer());
+    }
+
+    @Test
+    void shouldFitTaskOverheadAndSlope() {
+        // Each task costs 2% fixed plus 0.03% per metre
+        double x = 0.0;
+        int battery = 100;
+        for (int i = 0; i < 8; i++) {
+            double meters = 50.0 + i * 25.0;
+            int drain = (int) Math.round(2.0 + 0.03 * meters);
+            estimator.startTask(TaskType.TRANSPORT);
+            x += meters;
+            estimator.observePosition(x, 0.0);
+            battery -= drain;
+            estimator.observeBattery(battery);
+            estimator.completeTask();
+            estimator.observeBattery(100);
+            battery = 100;
+        }
+
+        assertTrue(estimator.taskWeight(TaskType.TRANSPORT) > 6.0);
+        assertEquals(2.0 + 0.03 * 150.0, estimator.predictTask(TaskType.TRANSPORT, 150.0), 0.5);
+        assertEquals(0.0, estimator.taskWeight(TaskType.PICK));
+    }
+
+    @Test
+    void shouldDiscardTaskInterruptedByCharging() {
+        estimator.startTask(TaskType.PICK);
+        estimator.observePosition(30.0, 0.0);
+        estimator.observeBattery(99);
+        estimator.observeBattery(100);
+        estimator.completeTask();
+
+        assertEquals(0.0, estimator.taskWeight(TaskType.PICK));
+    }
+}
@@ -0,0 +1,80 @@
+package com.paklog.robotics.fleet.management.domain.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChargingQueueTest {
+
+    private final ChargingQueue queue = new ChargingQueue();
+
+    @Test
+    void shouldServeRobotsInArrivalOrder() {
+        queue.offer("ROBOT-1");
+        queue.offer("ROBOT-2");
+        queue.offer("ROBOT-3");
+
+        assertEquals("ROBOT-1", queue.peek());
+        assertEquals("ROBOT-1", queue.poll());
+        assertEquals("ROBOT-2", queue.poll());
+        assertEquals(List.of("ROBOT-3"), queue.toList());
+        assertEquals("ROBOT-3", queue.poll());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void shouldRejectRobotAlreadyQueued() {
+        assertTrue(queue.offer("ROBOT-1"));
+        assertFalse(queue.offer("ROBOT-1"));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void shouldShiftPositionsWhenRobotLeavesFromTheMiddle() {
+        queue.offer("ROBOT-1");
+        queue.offer("ROBOT-2");
+        queue.offer("ROBOT-3");
+
+        assertTrue(queue.remove("ROBOT-2"));
+        assertFalse(queue.remove("ROBOT-2"));
+
+        assertEquals(1, queue.position("ROBOT-1"));
+        assertEquals(2, queue.position("ROBOT-3"));
+        assertEquals(-1, queue.position("ROBOT-2"));
+        assertEquals(List.of("ROBOT-1", "ROBOT-3"), queue.toList());
+    }
+
+    @Test
+    void shouldMatchListQueueThroughRenumbering() {
+        Random random = new Random(7);
+        LinkedList<String> expected = new LinkedList<>();
+        for (int step = 0; step < 20_000; step++) {
+            String robotId = "ROBOT-" + random.nextInt(200);
+            switch (random.nextInt(4)) {
+                case 0, 1 -> {
+                    boolean absent = !expected.contains(robotId);
+                    if (absent) {
+                        expected.add(robotId);
+                    }
+                    assertEquals(absent, queue.offer(robotId));
+                }
+                case 2 -> assertEquals(expected.poll(), queue.poll());
+                default -> assertEquals(expected.remove(robotId), queue.remove(robotId));
+            }
+            assertEquals(expected.size(), queue.size());
+            if (!expected.isEmpty()) {
+                String probe = expected.get(random.nextInt(expected.size()));
+                assertEquals(expected.indexOf(probe) + 1, queue.position(probe));
+            }
+        }
+        List<String> iterated = new ArrayList<>();
+        queue.forEach(iterated::add);
+        assertEquals(expected, iterated);
+    }
+}
@@ -0,0 +1,67 @@
+package com.paklog.robotics.fleet.management.domain.entity;
+
+import com.paklog.robotics.fleet.management.domain.valueobject.HealthMetric;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RobotHealthMetricsTest {
+
+    private RobotHealthMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new RobotHealthMetrics();
+    }
+
+    @Test
+    void shouldReportNaNWhenEmpty() {
+        assertEquals(0, metrics.count(HealthMetric.TEMPERATURE));
+        assertTrue(Double.isNaN(metrics.latest(HealthMetric.TEMPERATURE)));
+        assertTrue(Double.isNaN(metrics.mean(HealthMetric.TEMPERATURE)));
+        assertTrue(Double.isNaN(metrics.slopePerSecond(HealthMetric.TEMPERATURE)));
+        assertTrue(metrics.toMap().isEmpty());
+    }
+
+    @Test
+    void shouldComputeRollingAggregates() {
+        metrics.record(HealthMetric.TEMPERATURE, 40.0, 0);
+        metrics.record(HealthMetric.TEMPERATURE, 42.0, 1000);
+        metrics.record(HealthMetric.TEMPERATURE, 44.0, 2000);
+
+        assertEquals(44.0, metrics.latest(HealthMetric.TEMPERATURE));
+        assertEquals(42.0, metrics.mean(HealthMetric.TEMPERATURE), 1e-9);
+        assertEquals(44.0, metrics.max(HealthMetric.TEMPERATURE));
+        assertEquals(2.0, metrics.slopePerSecond(HealthMetric.TEMPERATURE), 1e-9);
+        assertEquals(54.0, metrics.projected(HealthMetric.TEMPERATURE, 5.0), 1e-9);
+    }
+
+    @Test
+    void shouldKeepOnlyTheLatestWindow() {
+        for (int i = 0; i < RobotHealthMetrics.WINDOW * 3; i++) {
+            metrics.record(HealthMetric.VIBRATION, i, i * 100L);
+        }
+
+        int last = RobotHealthMetrics.WINDOW * 3 - 1;
+        assertEquals(RobotHealthMetrics.WINDOW, metrics.count(HealthMetric.VIBRATION));
+        assertEquals(last, metrics.latest(HealthMetric.VIBRATION));
+        assertEquals(last, metrics.max(HealthMetric.VIBRATION));
+        assertEquals(last - (RobotHealthMetrics.WINDOW - 1) / 2.0, metrics.mean(HealthMetric.VIBRATION), 1e-9);
+        assertEquals(10.0, metrics.slopePerSecond(HealthMetric.VIBRATION), 1e-9);
+    }
+
+    @Test
+    void shouldExposeLatestValuesByKey() {
+        metrics.record(HealthMetric.ERROR_COUNT, 3, 0);
+        metrics.record(HealthMetric.TEMPERATURE, 55.5, 0);
+
+        Map<String, Object> latest = metrics.toMap();
+
+        assertEquals(3.0, latest.get("errorCount"));
+        assertEquals(55.5, latest.get("temperature"));
+        assertFalse(latest.containsKey("vibration"));
+    }
+}
@@ -0,0 +1,64 @@
+package com.paklog.robotics.fleet.management.domain.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThresholdAlarmTest {
+
+    private final ThresholdAlarm battery =
+        ThresholdAlarm.falling(new double[] {20, 10}, new double[] {25, 15});
+
+    @Test
+    void shouldFireOnlyOnCrossingsAndEscalation() {
+        assertFalse(battery.observe(50));
+        assertTrue(battery.observe(20));
+        assertFalse(battery.observe(19));
+        assertFalse(battery.observe(18));
+        assertTrue(battery.observe(10));
+        assertEquals(2, battery.getLevel());
+        assertFalse(battery.observe(9));
+
+        assertEquals(3, battery.getSuppressedCount());
+    }
+
+    @Test
+    void shouldNotFlapInsideHysteresisBand() {
+        battery.observe(20);
+        assertFalse(battery.observe(22));
+        assertFalse(battery.observe(20));
+        assertEquals(1, battery.getLevel());
+
+        assertFalse(battery.observe(25));
+        assertFalse(battery.isActive());
+        assertTrue(battery.observe(20));
+    }
+
+    @Test
+    void shouldStepDownOneBandAtATime() {
+        battery.observe(5);
+        assertEquals(2, battery.getLevel());
+
+        battery.observe(16);
+        assertEquals(1, battery.getLevel());
+        assertFalse(battery.observe(12));
+        assertTrue(battery.observe(10));
+    }
+
+    @Test
+    void shouldTrackBooleanCondition() {
+        ThresholdAlarm condition = ThresholdAlarm.condition();
+
+        assertTrue(condition.observe(true));
+        assertFalse(condition.observe(true));
+        assertFalse(condition.observe(false));
+        assertTrue(condition.observe(true));
+        assertEquals(1, condition.getSuppressedCount());
+    }
+
+    @Test
+    void shouldRejectClearThresholdOnUnsafeSide() {
+        assertThrows(IllegalArgumentException.class,
+            () -> ThresholdAlarm.rising(new double[] {80}, new double[] {85}));
+    }
+}
@@ -0,0 +1,112 @@
+package com.paklog.robotics.fleet.management.domain.service;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.ChargingStation;
+import com.paklog.robotics.fleet.management.domain.time.DomainClock;
+import com.paklog.robotics.fleet.management.domain.valueobject.ChargingPlan;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChargingSchedulerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-05T06:00:00Z");
+    private static final RobotPosition ORIGIN = RobotPosition.of(0.0, 0.0, 0.0);
+
+    // 2.5% per minute: 20 minutes from half charge, 8 minutes from 80%
+    private final ChargingScheduler scheduler = new ChargingScheduler(ChargeRateModel.linear(2.5), 1.5);
+    private final Map<String, Double> battery = Map.of("BUSY-1", 50.0, "BUSY-2", 80.0, "WAITING", 50.0,
+        "ROBOT-1", 30.0, "LATE", 50.0);
+    private DomainClock.Scope clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = DomainClock.use(Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        clock.close();
+    }
+
+    private ChargingStation station(String stationId, double x, String... charging) {
+        ChargingStation station = ChargingStation.create(stationId, RobotPosition.of(x, 0.0, 0.0), charging.length);
+        for (String robotId : charging) {
+            station.addToQueue(robotId);
+            station.startCharging(robotId);
+        }
+        return station;
+    }
+
+    private ChargingPlan plan(boolean emergency, ChargingStation... stations) {
+        return scheduler.plan("ROBOT-1", ORIGIN, emergency, List.of(stations), battery::get, NOW).orElseThrow();
+    }
+
+    @Test
+    void shouldPreferFartherStationWhenNearestIsBusy() {
+        ChargingStation near = station("NEAR", 15.0, "BUSY-1");
+        ChargingStation far = ChargingStation.create("FAR", RobotPosition.of(150.0, 0.0, 0.0), 1);
+
+        ChargingPlan plan = plan(false, near, far);
+
+        assertEquals("FAR", plan.stationId());
+        assertEquals(Duration.ofSeconds(100), plan.travelTime());
+        assertEquals(Duration.ZERO, plan.expectedWait());
+        assertEquals(NOW.plusSeconds(100), plan.expectedArrival());
+    }
+
+    @Test
+    void shouldPredictWaitFromRemainingChargeOfRobotsAhead() {
+        ChargingStation station = station("STATION", 15.0, "BUSY-1", "BUSY-2");
+        station.addToQueue("WAITING");
+
+        ChargingPlan plan = plan(false, station);
+
+        // WAITING takes BUSY-2's charger after 8 minutes, BUSY-1 frees the other after 20
+        assertEquals(Duration.ofSeconds(10), plan.travelTime());
+        assertEquals(Duration.ofMinutes(20).minusSeconds(10), plan.expectedWait());
+    }
+
+    @Test
+    void shouldCountReservationsDueBeforeArrival() {
+        ChargingStation station = ChargingStation.create("STATION", RobotPosition.of(15.0, 0.0, 0.0), 1);
+        station.reserve("WAITING", NOW.plusSeconds(5), false);
+        station.reserve("LATE", NOW.plusSeconds(60), false);
+
+        ChargingPlan plan = plan(false, station);
+
+        assertEquals(Duration.ofMinutes(20).minusSeconds(5), plan.expectedWait());
+        assertTrue(station.holds("LATE"));
+
+        station.addToQueue("WAITING");
+        assertFalse(station.isReserved("WAITING"));
+        assertEquals(1, station.getQueuePosition("WAITING"));
+    }
+
+    @Test
+    void shouldLetEmergencyPreemptTheQueue() {
+        ChargingStation station = station("STATION", 15.0, "BUSY-2");
+        station.addToQueue("WAITING");
+
+        assertEquals(Duration.ofMinutes(28).minusSeconds(10), plan(false, station).expectedWait());
+        assertEquals(Duration.ofMinutes(8).minusSeconds(10), plan(true, station).expectedWait());
+
+        station.addToQueue("ROBOT-1", true);
+        assertEquals(1, station.getQueuePosition("ROBOT-1"));
+        assertEquals(2, station.getQueuePosition("WAITING"));
+        assertEquals(List.of("ROBOT-1", "WAITING"), station.getQueuedRobots());
+
+        station.releaseRobot("BUSY-2");
+        assertTrue(station.isRobotCharging("ROBOT-1"));
+        assertEquals(1, station.getQueuePosition("WAITING"));
+    }
+}
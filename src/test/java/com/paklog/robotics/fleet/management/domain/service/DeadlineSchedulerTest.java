@@ -0,0 +1,116 @@
+package com.paklog.robotics.fleet.management.domain.service;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.service.DeadlineScheduler.Mode;
+import com.paklog.robotics.fleet.management.domain.service.DeadlineScheduler.ScheduledTask;
+import com.paklog.robotics.fleet.management.domain.time.DomainClock;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskPriority;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineSchedulerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-05T16:00:00Z");
+
+    private DomainClock.Scope clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = DomainClock.use(Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        clock.close();
+    }
+
+    // Drive time is the distance along x at 1 m/s
+    private static DeadlineScheduler scheduler(Mode mode) {
+        return new DeadlineScheduler(mode, Duration.ofMinutes(30), Duration.ofSeconds(60),
+            task -> Math.abs(task.getDestination().getX() - task.getOrigin().getX()));
+    }
+
+    private static RobotTask task(String taskId, TaskPriority priority, double meters, Instant dueAt) {
+        return RobotTask.create(taskId, TaskType.TRANSPORT, priority, RobotPosition.of(0.0, 0.0, 0.0),
+            RobotPosition.of(meters, 0.0, 0.0), RobotCapability.TRANSPORTER, Map.of(), dueAt);
+    }
+
+    private static List<String> ids(List<ScheduledTask> schedule) {
+        return schedule.stream().map(scheduled -> scheduled.task().getTaskId()).toList();
+    }
+
+    @Test
+    void shouldSubtractPlannedDriveAndHandlingFromTimeUntilDue() {
+        RobotTask task = task("TASK-1", TaskPriority.NORMAL, 240.0, NOW.plusSeconds(600));
+
+        // 600 s to the cutoff, 240 s driving, 60 s handling
+        assertEquals(300.0, scheduler(Mode.EDF).slackSeconds(task, NOW), 1e-9);
+        assertEquals(-60.0, scheduler(Mode.EDF).slackSeconds(task, NOW.plusSeconds(360)), 1e-9);
+    }
+
+    @Test
+    void shouldPutTightCutoffAheadOfHigherPriority() {
+        RobotTask urgent = task("URGENT", TaskPriority.URGENT, 10.0, NOW.plusSeconds(3600));
+        RobotTask truck = task("TRUCK", TaskPriority.NORMAL, 10.0, NOW.plusSeconds(600));
+        RobotTask longHaul = task("LONG-HAUL", TaskPriority.LOW, 400.0, NOW.plusSeconds(900));
+
+        List<ScheduledTask> edf = scheduler(Mode.EDF).schedule(List.of(urgent, truck, longHaul), NOW);
+        List<ScheduledTask> byPriority = scheduler(Mode.PRIORITY).schedule(List.of(longHaul, truck, urgent), NOW);
+
+        // Long haul: 900 - 400 - 60 = 440 s, truck: 600 - 10 - 60 = 530 s
+        assertEquals(List.of("LONG-HAUL", "TRUCK", "URGENT"), ids(edf));
+        assertEquals(List.of("URGENT", "TRUCK", "LONG-HAUL"), ids(byPriority));
+        assertEquals(440.0, edf.get(0).slackSeconds(), 1e-9);
+    }
+
+    @Test
+    void shouldAgeUndatedTasksIntoTheSchedule() {
+        RobotTask dated = task("DATED", TaskPriority.NORMAL, 10.0, NOW.plus(Duration.ofMinutes(20)));
+        RobotTask undated = task("UNDATED", TaskPriority.NORMAL, 10.0, null);
+        DeadlineScheduler scheduler = scheduler(Mode.EDF);
+
+        assertEquals(List.of("DATED", "UNDATED"), ids(scheduler.schedule(List.of(undated, dated), NOW)));
+
+        // Fifteen minutes later a fresh task due in 20 minutes waits behind the old undated one
+        RobotTask fresh = task("FRESH", TaskPriority.NORMAL, 10.0, NOW.plus(Duration.ofMinutes(35)));
+        assertEquals(List.of("DATED", "UNDATED", "FRESH"),
+            ids(scheduler.schedule(List.of(fresh, undated, dated), NOW.plus(Duration.ofMinutes(15)))));
+    }
+
+    @Test
+    void shouldFlagOnlyDatedTasksAsAtRisk() {
+        RobotTask tight = task("TIGHT", TaskPriority.NORMAL, 100.0, NOW.plusSeconds(400));
+        RobotTask late = task("LATE", TaskPriority.NORMAL, 10.0, NOW.minusSeconds(30));
+        RobotTask relaxed = task("RELAXED", TaskPriority.NORMAL, 10.0, NOW.plusSeconds(3600));
+        RobotTask undated = task("UNDATED", TaskPriority.NORMAL, 10.0, null);
+
+        List<ScheduledTask> schedule = scheduler(Mode.EDF).schedule(List.of(tight, late, relaxed, undated), NOW);
+        Duration threshold = Duration.ofMinutes(5);
+
+        assertEquals(List.of("LATE", "TIGHT", "UNDATED", "RELAXED"), ids(schedule));
+        assertTrue(schedule.get(0).isAtRisk(threshold));
+        assertTrue(schedule.get(0).isOverdue(NOW));
+        assertTrue(schedule.get(1).isAtRisk(threshold));
+        assertFalse(schedule.get(1).isOverdue(NOW));
+        assertFalse(schedule.get(2).isAtRisk(threshold));
+        assertFalse(schedule.get(3).isAtRisk(threshold));
+
+        // Past its allowance an undated task goes first but is not an SLA at risk
+        ScheduledTask stale = scheduler(Mode.EDF).schedule(List.of(undated), NOW.plus(Duration.ofMinutes(35))).get(0);
+        assertTrue(stale.slackSeconds() < 0);
+        assertFalse(stale.isAtRisk(threshold));
+    }
+}
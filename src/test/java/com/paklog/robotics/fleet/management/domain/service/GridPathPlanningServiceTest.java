@@ -0,0 +1,111 @@
+package com.paklog.robotics.fleet.management.domain.service;
+
+import com.paklog.robotics.fleet.management.domain.valueobject.PathPlan;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.TrafficZone;
+import com.paklog.robotics.fleet.management.domain.valueobject.TrafficZoneType;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridPathPlanningServiceTest {
+
+    private final GridPathPlanningService planner = new GridPathPlanningService();
+
+    private static Set<RobotPosition> wall(double x, double fromY, double toY) {
+        Set<RobotPosition> wall = new LinkedHashSet<>();
+        for (double y = fromY; y <= toY; y += 0.5) {
+            wall.add(RobotPosition.of(x, y, 0.0));
+        }
+        return wall;
+    }
+
+    @Test
+    void shouldDriveStraightWhenNothingIsInTheWay() {
+        RobotPosition start = RobotPosition.of(0.0, 0.0, 0.0);
+        RobotPosition goal = RobotPosition.of(30.0, 40.0, 0.0);
+
+        PathPlan path = planner.calculatePath(start, goal, Set.of(), List.of());
+
+        assertEquals(2, path.getWaypointCount());
+        assertSame(start, path.waypoints().get(0));
+        assertSame(goal, path.waypoints().get(1));
+        assertEquals(50.0, path.getTotalDistance(), 1e-9);
+        assertEquals(50.0 / 1.5, path.getEstimatedTimeSeconds(), 1e-9);
+    }
+
+    @Test
+    void shouldRouteAroundBlockedPositions() {
+        RobotPosition start = RobotPosition.of(10.0, 20.0, 0.0);
+        RobotPosition goal = RobotPosition.of(30.0, 20.0, 0.0);
+        Set<RobotPosition> wall = wall(20.0, 5.0, 35.0);
+
+        PathPlan path = planner.calculatePath(start, goal, wall, List.of());
+
+        assertTrue(path.getWaypointCount() > 2);
+        assertSame(goal, path.waypoints().get(path.getWaypointCount() - 1));
+        assertTrue(planner.validatePath(path, wall));
+        assertFalse(planner.validatePath(planner.calculatePath(start, goal, Set.of(), List.of()), wall));
+        // Round the end of the wall and back: well over the 20 m straight line
+        assertTrue(path.getTotalDistance() > 30.0 && path.getTotalDistance() < 45.0);
+    }
+
+    @Test
+    void shouldDetourAroundSlowZoneWhenThatIsFaster() {
+        RobotPosition start = RobotPosition.of(10.0, 20.0, 0.0);
+        RobotPosition goal = RobotPosition.of(50.0, 20.0, 0.0);
+        TrafficZone crawl = TrafficZone.of("CRAWL", 20.0, 17.0, 40.0, 23.0, 5, 0.1, TrafficZoneType.RESTRICTED);
+
+        PathPlan path = planner.calculatePath(start, goal, Set.of(), List.of(crawl));
+
+        // Straight through would take 20 m at 0.1 m/s
+        assertTrue(path.getEstimatedTimeSeconds() < 60.0);
+        for (RobotPosition waypoint : path.waypoints()) {
+            assertFalse(waypoint.getX() > 20.5 && waypoint.getX() < 39.5 && crawl.contains(waypoint));
+        }
+    }
+
+    @Test
+    void shouldChargeTimeForSlowZoneOnTheWay() {
+        RobotPosition start = RobotPosition.of(10.0, 20.0, 0.0);
+        RobotPosition goal = RobotPosition.of(30.0, 20.0, 0.0);
+        TrafficZone dock = TrafficZone.of("DOCK", 0.0, 0.0, 100.0, 100.0, 5, 0.5, TrafficZoneType.STAGING_AREA);
+
+        PathPlan path = planner.calculatePath(start, goal, Set.of(), List.of(dock));
+
+        assertEquals(20.0, path.getTotalDistance(), 1e-6);
+        assertEquals(40.0, path.getEstimatedTimeSeconds(), 1e-6);
+    }
+
+    @Test
+    void shouldFailWhenGoalIsWalledIn() {
+        Set<RobotPosition> pen = new LinkedHashSet<>();
+        for (double d = 0.0; d <= 10.0; d += 0.5) {
+            pen.add(RobotPosition.of(45.0 + d, 45.0, 0.0));
+            pen.add(RobotPosition.of(45.0 + d, 55.0, 0.0));
+            pen.add(RobotPosition.of(45.0, 45.0 + d, 0.0));
+            pen.add(RobotPosition.of(55.0, 45.0 + d, 0.0));
+        }
+        GridPathPlanningService coarse = new GridPathPlanningService(1.0, 1.5, 1.0);
+
+        assertThrows(IllegalStateException.class, () -> coarse.calculatePath(
+            RobotPosition.of(10.0, 10.0, 0.0), RobotPosition.of(50.0, 50.0, 0.0), pen, List.of()));
+    }
+
+    @Test
+    void shouldRecalculateFromCurrentPositionToSameGoal() {
+        RobotPosition goal = RobotPosition.of(30.0, 20.0, 0.0);
+        PathPlan original = planner.calculatePath(RobotPosition.of(10.0, 20.0, 0.0), goal, Set.of(), List.of());
+        RobotPosition current = RobotPosition.of(15.0, 20.0, 0.0);
+
+        PathPlan replanned = planner.recalculatePath(original, current, Set.of(RobotPosition.of(22.0, 20.0, 0.0)));
+
+        assertSame(current, replanned.waypoints().get(0));
+        assertSame(goal, replanned.waypoints().get(replanned.getWaypointCount() - 1));
+        assertTrue(planner.validatePath(replanned, Set.of(RobotPosition.of(22.0, 20.0, 0.0))));
+    }
+}
@@ -0,0 +1,51 @@
+package com.paklog.robotics.fleet.management.domain.service;
+
+import com.paklog.robotics.fleet.management.domain.service.OpportunityChargingPolicy.Demand;
+import com.paklog.robotics.fleet.management.domain.service.OpportunityChargingPolicy.FleetDemand;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpportunityChargingPolicyTest {
+
+    // Trough at half load, peak at 90%, three minute tasks
+    private final OpportunityChargingPolicy policy = new OpportunityChargingPolicy(0.5, 0.9, 3.0, 70, 90, 40);
+
+    @Test
+    void shouldSendSpareIdleRobotsInTrough() {
+        // 2 tasks a minute keep 6 robots busy; 20 in service leaves 8 to spare at half load
+        FleetDemand quiet = new FleetDemand(2.0, 0, 6, 14, 0);
+
+        assertEquals(Demand.TROUGH, policy.assess(quiet));
+        assertEquals(8, policy.robotsToSend(quiet, 10));
+        assertEquals(3, policy.robotsToSend(quiet, 3));
+        assertEquals(0, policy.robotsToRelease(quiet));
+    }
+
+    @Test
+    void shouldHoldBetweenTroughAndPeak() {
+        FleetDemand steady = new FleetDemand(4.0, 2, 12, 6, 3);
+
+        assertEquals(Demand.STEADY, policy.assess(steady));
+        assertEquals(0, policy.robotsToSend(steady, 10));
+        assertEquals(0, policy.robotsToRelease(steady));
+    }
+
+    @Test
+    void shouldRecallRobotsToCoverWaitingTasksAtPeak() {
+        FleetDemand spike = new FleetDemand(6.0, 9, 18, 2, 5);
+
+        assertEquals(Demand.PEAK, policy.assess(spike));
+        assertEquals(5, policy.robotsToRelease(spike));
+        assertEquals(0, policy.robotsToSend(spike, 10));
+    }
+
+    @Test
+    void shouldOnlyTopUpMidLevelAndReleaseChargedRobots() {
+        assertFalse(policy.shouldTopUp(20));
+        assertTrue(policy.shouldTopUp(45));
+        assertFalse(policy.shouldTopUp(70));
+        assertFalse(policy.canRelease(39));
+        assertTrue(policy.canRelease(40));
+    }
+}
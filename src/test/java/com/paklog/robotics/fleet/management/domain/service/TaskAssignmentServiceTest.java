@@ -104,4 +104,54 @@ class TaskAssignmentServiceTest {
 
         assertTrue(taskAssignmentService.canRobotAcceptTask(robot, task));
     }
+
+    @Test
+    void shouldSkipRobotThatCannotReachChargerAfterTask() {
+        TaskAssignmentService withCharger = new TaskAssignmentService(
+            position -> Optional.of(RobotPosition.of(0.0, 0.0, 0.0)));
+        Robot nearButLow = Robot.register(RobotId.of("ROBOT-001"), "AMR-X1",
+            RobotPosition.of(10.0, 10.0, 0.0), Set.of(RobotCapability.TRANSPORTER));
+        nearButLow.updateBatteryLevel(29);
+        Robot farButCharged = Robot.register(RobotId.of("ROBOT-002"), "AMR-X1",
+            RobotPosition.of(100.0, 10.0, 0.0), Set.of(RobotCapability.TRANSPORTER));
+
+        RobotTask task = RobotTask.create("TASK-001", TaskType.TRANSPORT, TaskPriority.NORMAL,
+            RobotPosition.of(15.0, 10.0, 0.0), RobotPosition.of(600.0, 10.0, 0.0),
+            RobotCapability.TRANSPORTER, null);
+
+        Optional<Robot> optimal = withCharger.findOptimalRobot(task, List.of(nearButLow, farButCharged));
+
+        assertTrue(optimal.isPresent());
+        assertEquals("ROBOT-002", optimal.get().getRobotId().getValue());
+        assertFalse(withCharger.canRobotAcceptTask(nearButLow, task));
+    }
+
+    @Test
+    void shouldLeaveRobotUntouchedWhenTaskIsNoLongerPending() {
+        Robot robot = Robot.register(RobotId.of("ROBOT-001"), "AMR-X1",
+            RobotPosition.of(10.0, 10.0, 0.0), Set.of(RobotCapability.PICKER));
+        RobotTask task = RobotTask.create("TASK-001", TaskType.PICK, TaskPriority.NORMAL,
+            RobotPosition.of(15.0, 15.0, 0.0), RobotPosition.of(20.0, 20.0, 0.0),
+            RobotCapability.PICKER, null);
+        task.cancel();
+
+        assertThrows(IllegalStateException.class, () -> taskAssignmentService.assign(robot, task));
+        assertEquals(RobotStatus.IDLE, robot.getStatus());
+        assertNull(robot.getCurrentTaskId());
+    }
+
+    @Test
+    void shouldRequeueTaskWhenRobotRefusesIt() {
+        Robot robot = Robot.register(RobotId.of("ROBOT-001"), "AMR-X1",
+            RobotPosition.of(10.0, 10.0, 0.0), Set.of(RobotCapability.PICKER));
+        robot.markOffline();
+        RobotTask task = RobotTask.create("TASK-001", TaskType.PICK, TaskPriority.NORMAL,
+            RobotPosition.of(15.0, 15.0, 0.0), RobotPosition.of(20.0, 20.0, 0.0),
+            RobotCapability.PICKER, null);
+
+        assertThrows(IllegalStateException.class, () -> taskAssignmentService.assign(robot, task));
+        assertEquals(TaskStatus.PENDING, task.getStatus());
+        assertNull(task.getRobotId());
+        assertNull(task.getAssignedAt());
+    }
 }
@@ -0,0 +1,123 @@
+package com.paklog.robotics.fleet.management.domain.state;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.ChargingStation;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChargingStationIndexTest {
+
+    private ChargingStationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ChargingStationIndex(10.0);
+    }
+
+    private ChargingStation station(String stationId, double x, double y, int capacity) {
+        ChargingStation station = ChargingStation.create(stationId, RobotPosition.of(x, y, 0.0), capacity);
+        station.attachIndex(index);
+        return station;
+    }
+
+    @Test
+    void shouldWalkStationsNearestFirstLikeAFullScan() {
+        Random random = new Random(7);
+        List<ChargingStation> stations = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            stations.add(station("STATION-" + i, 100 + random.nextDouble() * 200, 100 + random.nextDouble() * 150, 2));
+        }
+
+        for (int query = 0; query < 50; query++) {
+            RobotPosition from = RobotPosition.of(random.nextDouble() * 500, random.nextDouble() * 400, 0.0);
+            List<String> expected = stations.stream()
+                .sorted(Comparator.comparingDouble(station -> station.getLocation().distanceTo(from)))
+                .map(ChargingStation::getStationId)
+                .toList();
+            List<String> walked = new ArrayList<>();
+            index.byDistance(from.getX(), from.getY()).forEachRemaining(walked::add);
+
+            assertEquals(expected, walked);
+            assertEquals(Optional.of(expected.get(0)), index.nearest(from.getX(), from.getY()));
+        }
+    }
+
+    @Test
+    void shouldSkipFullStationsWhenLookingForCapacity() {
+        ChargingStation near = station("STATION-NEAR", 5.0, 5.0, 1);
+        station("STATION-MID", 40.0, 5.0, 1);
+        station("STATION-FAR", 95.0, 95.0, 1);
+
+        assertEquals(Optional.of("STATION-NEAR"), index.nearestAvailable(0.0, 0.0));
+
+        near.addToQueue("ROBOT-001");
+        near.startCharging("ROBOT-001");
+        assertEquals(Optional.of("STATION-MID"), index.nearestAvailable(0.0, 0.0));
+
+        near.releaseRobot("ROBOT-001");
+        assertEquals(Optional.of("STATION-NEAR"), index.nearestAvailable(0.0, 0.0));
+    }
+
+    @Test
+    void shouldKeepShortestWaitAtHeadAsStationsFillAndDrain() {
+        ChargingStation a = station("STATION-A", 0.0, 0.0, 2);
+        ChargingStation b = station("STATION-B", 50.0, 0.0, 1);
+        assertEquals(Optional.of("STATION-A"), index.shortestWait());
+        assertEquals(3, index.getSpareSlots());
+
+        a.addToQueue("ROBOT-001");
+        a.startCharging("ROBOT-001");
+        a.addToQueue("ROBOT-002");
+        a.startCharging("ROBOT-002");
+        a.addToQueue("ROBOT-003");
+        assertEquals(Optional.of("STATION-B"), index.shortestWait());
+        assertEquals(1, index.getSpareSlots());
+
+        b.reserve("ROBOT-004", Instant.now(), false);
+        assertEquals(0, index.getSpareSlots());
+        b.addToQueue("ROBOT-004");
+        b.startCharging("ROBOT-004");
+        b.addToQueue("ROBOT-005");
+        b.addToQueue("ROBOT-006");
+        // Both full; A has one robot waiting, B two
+        assertEquals(Optional.of("STATION-A"), index.shortestWait());
+
+        a.releaseRobot("ROBOT-001");
+        assertEquals(Optional.of("STATION-A"), index.shortestWait());
+        assertTrue(a.isRobotCharging("ROBOT-003"));
+        a.evict("ROBOT-002");
+        assertEquals(1, index.getSpareSlots());
+    }
+
+    @Test
+    void shouldMoveStationRegisteredAgainElsewhere() {
+        index.register("STATION-001", 0.0, 0.0);
+        index.register("STATION-002", 30.0, 0.0);
+        index.register("STATION-001", 100.0, 0.0);
+
+        assertEquals(Optional.of("STATION-002"), index.nearest(0.0, 0.0));
+        Iterator<String> walk = index.byDistance(0.0, 0.0);
+        assertEquals("STATION-002", walk.next());
+        assertEquals("STATION-001", walk.next());
+        assertFalse(walk.hasNext());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void shouldFindNothingInEmptyIndex() {
+        assertTrue(index.nearest(0.0, 0.0).isEmpty());
+        assertTrue(index.nearestAvailable(0.0, 0.0).isEmpty());
+        assertTrue(index.shortestWait().isEmpty());
+        assertFalse(index.byDistance(0.0, 0.0).hasNext());
+    }
+}
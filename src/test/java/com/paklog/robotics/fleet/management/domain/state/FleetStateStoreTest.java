@@ -0,0 +1,106 @@
+package com.paklog.robotics.fleet.management.domain.state;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.Fleet;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.valueobject.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FleetStateStoreTest {
+
+    private FleetStateStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new FleetStateStore(new RobotSlotRegistry(4), 16);
+    }
+
+    private Robot robot(String robotId, double x, double y, RobotCapability... capabilities) {
+        Robot robot = Robot.register(RobotId.of(robotId), "AMR-X1",
+            RobotPosition.of(x, y, 0.0), Set.of(capabilities));
+        robot.attachStateStore(store);
+        return robot;
+    }
+
+    @Test
+    void shouldWriteThroughRobotChanges() {
+        Robot robot = robot("ROBOT-001", 1.0, 2.0, RobotCapability.PICKER);
+        int slot = robot.getStateSlot();
+
+        robot.updatePosition(RobotPosition.of(5.0, 6.0, 90.0));
+        robot.updateBatteryLevel(15);
+
+        assertEquals(5.0, store.xAt(slot));
+        assertEquals(6.0, store.yAt(slot));
+        assertEquals(90.0, store.headingAt(slot));
+        assertEquals(15, store.batteryAt(slot));
+        assertEquals(RobotStatus.IDLE, store.statusAt(slot));
+        // Idle but low on battery
+        assertEquals(0L, store.capabilityMaskAt(slot) & FleetStateStore.AVAILABLE_BIT);
+    }
+
+    @Test
+    void shouldFindNearestAvailableRobotWithCapability() {
+        robot("ROBOT-001", 1.0, 1.0, RobotCapability.TRANSPORTER);
+        Robot busy = robot("ROBOT-002", 2.0, 2.0, RobotCapability.PICKER);
+        Robot expected = robot("ROBOT-003", 8.0, 8.0, RobotCapability.PICKER);
+        busy.assignTask(RobotTask.create("TASK-001", TaskType.PICK, TaskPriority.HIGH,
+            RobotPosition.of(0.0, 0.0, 0.0), RobotPosition.of(1.0, 1.0, 0.0), RobotCapability.PICKER, null));
+
+        long required = FleetStateStore.AVAILABLE_BIT | FleetStateStore.capabilityBit(RobotCapability.PICKER);
+        int slot = store.findNearest(0.0, 0.0, required, null);
+
+        assertEquals(expected.getStateSlot(), slot);
+        assertEquals("ROBOT-003", store.robotIdAt(slot));
+        assertEquals(1.0 / 3.0, store.utilization(null), 1e-9);
+    }
+
+    @Test
+    void shouldCountRobotsPerHeatmapCell() {
+        robot("ROBOT-001", 1.0, 1.0, RobotCapability.PICKER);
+        robot("ROBOT-002", 4.0, 4.0, RobotCapability.PICKER);
+        robot("ROBOT-003", 6.0, 1.0, RobotCapability.PICKER);
+        robot("ROBOT-004", 50.0, 50.0, RobotCapability.PICKER);
+
+        int[] cells = store.heatmap(0.0, 0.0, 5.0, 2, 2);
+
+        assertArrayEquals(new int[] {2, 1, 0, 0}, cells);
+    }
+
+    @Test
+    void shouldSkipReleasedSlots() {
+        Robot robot = robot("ROBOT-001", 1.0, 1.0, RobotCapability.PICKER);
+        robot.detachStateStore();
+
+        assertEquals(FleetStateStore.NO_SLOT, store.findNearest(0.0, 0.0, 0L, null));
+        assertNull(store.bounds());
+    }
+
+    @Test
+    void shouldRejectRobotsBeyondCapacity() {
+        FleetStateStore small = new FleetStateStore(new RobotSlotRegistry(), 1);
+        small.register("ROBOT-001");
+
+        assertThrows(IllegalStateException.class, () -> small.register("ROBOT-002"));
+    }
+
+    @Test
+    void shouldAnswerFleetQueriesFromStoreOnlyForMembers() {
+        robot("ROBOT-OTHER", 0.5, 0.5, RobotCapability.PICKER);
+        Fleet fleet = Fleet.create("FLEET-001");
+        fleet.attachStateStore(store);
+        fleet.addRobot(robot("ROBOT-001", 3.0, 3.0, RobotCapability.PICKER));
+        fleet.addRobot(robot("ROBOT-002", 9.0, 9.0, RobotCapability.PICKER));
+
+        Optional<Robot> nearest = fleet.findNearestAvailableRobot(RobotPosition.of(0.0, 0.0, 0.0), RobotCapability.PICKER);
+
+        assertEquals("ROBOT-001", nearest.orElseThrow().getRobotId().getValue());
+        assertEquals(2, fleet.getIdleRobotCount());
+    }
+}
@@ -0,0 +1,95 @@
+package com.paklog.robotics.fleet.management.domain.state;
+
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProximityKernelTest {
+
+    private static final long PICKER = 1L;
+    private static final long AVAILABLE = FleetStateStore.AVAILABLE_BIT;
+
+    private final ProximityKernel scalar = new ScalarProximityKernel();
+    private final ProximityKernel vector = new VectorProximityKernel();
+
+    @Test
+    void shouldPickVectorKernelWhenModuleIsEnabled() {
+        assertInstanceOf(VectorProximityKernel.class, ProximityKernel.best());
+    }
+
+    @Test
+    void shouldMatchScalarNearestForEveryFleetSize() {
+        Random random = new Random(7);
+        for (int size : new int[] {0, 1, 3, 7, 8, 9, 63, 64, 65, 200, 2003}) {
+            double[] x = new double[size];
+            double[] y = new double[size];
+            long[] masks = new long[size];
+            BitSet members = new BitSet();
+            for (int i = 0; i < size; i++) {
+                // Coarse grid so equal distances occur and tie-breaking is exercised
+                x[i] = random.nextInt(50);
+                y[i] = random.nextInt(50);
+                masks[i] = (random.nextBoolean() ? AVAILABLE : 0L) | (random.nextInt(3) == 0 ? 0L : PICKER);
+                if (random.nextInt(4) != 0) {
+                    members.set(i);
+                }
+            }
+            long[] memberWords = members.toLongArray();
+
+            for (int query = 0; query < 20; query++) {
+                double tx = random.nextDouble() * 50;
+                double ty = random.nextDouble() * 50;
+                assertEquals(scalar.nearest(x, y, masks, null, size, tx, ty, AVAILABLE | PICKER),
+                    vector.nearest(x, y, masks, null, size, tx, ty, AVAILABLE | PICKER), "size " + size);
+                assertEquals(scalar.nearest(x, y, masks, memberWords, size, tx, ty, AVAILABLE | PICKER),
+                    vector.nearest(x, y, masks, memberWords, size, tx, ty, AVAILABLE | PICKER), "members, size " + size);
+            }
+        }
+    }
+
+    @Test
+    void shouldMatchScalarWithinRadius() {
+        Random random = new Random(11);
+        int size = 517;
+        double[] x = new double[size];
+        double[] y = new double[size];
+        long[] masks = new long[size];
+        for (int i = 0; i < size; i++) {
+            x[i] = random.nextDouble() * 40;
+            y[i] = random.nextDouble() * 40;
+            masks[i] = random.nextInt(5) == 0 ? 0L : FleetStateStore.OCCUPIED_BIT;
+        }
+
+        int[] expected = new int[size];
+        int[] actual = new int[size];
+        for (int from : new int[] {0, 1, 5, 100, 513, 516}) {
+            int expectedCount = scalar.withinRadius(x, y, masks, from, size, 20.0, 20.0, 25.0,
+                FleetStateStore.OCCUPIED_BIT, expected);
+            int actualCount = vector.withinRadius(x, y, masks, from, size, 20.0, 20.0, 25.0,
+                FleetStateStore.OCCUPIED_BIT, actual);
+            assertArrayEquals(Arrays.copyOf(expected, expectedCount), Arrays.copyOf(actual, actualCount));
+        }
+    }
+
+    @Test
+    void shouldReportTooClosePairsOnce() {
+        FleetStateStore store = new FleetStateStore(new RobotSlotRegistry(), 8);
+        double[][] positions = {{0.0, 0.0}, {1.0, 0.0}, {10.0, 10.0}, {10.5, 10.0}, {30.0, 30.0}};
+        for (int i = 0; i < positions.length; i++) {
+            int slot = store.register("ROBOT-" + i);
+            store.write(slot, positions[i][0], positions[i][1], 0.0,
+                RobotStatus.IDLE, 100, PICKER, 0L);
+        }
+
+        StringBuilder pairs = new StringBuilder();
+        int count = store.forEachTooClosePair(1.5, (first, second) -> pairs.append(first).append('-').append(second).append(' '));
+
+        assertEquals(2, count);
+        assertEquals("0-1 2-3 ", pairs.toString());
+    }
+}
@@ -0,0 +1,165 @@
+package com.paklog.robotics.fleet.management.domain.state;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.time.DomainClock;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskPriority;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskStatus;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RobotTaskIndexTest {
+
+    private RobotTaskIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new RobotTaskIndex(Duration.ofMinutes(10));
+    }
+
+    private RobotTask task(String taskId, TaskPriority priority, RobotCapability capability) {
+        RobotTask task = RobotTask.create(taskId, TaskType.TRANSPORT, priority,
+            RobotPosition.of(10.0, 10.0, 0.0), RobotPosition.of(20.0, 20.0, 0.0),
+            capability, Map.of("load", "pallet"));
+        task.attachIndex(index);
+        index.add(task);
+        return task;
+    }
+
+    private static List<String> ids(List<RobotTask> tasks) {
+        return tasks.stream().map(RobotTask::getTaskId).toList();
+    }
+
+    @Test
+    void shouldAnswerAnyMixOfStatusPriorityAndCapability() {
+        task("TASK-1", TaskPriority.URGENT, RobotCapability.LIFTER);
+        task("TASK-2", TaskPriority.NORMAL, RobotCapability.LIFTER);
+        task("TASK-3", TaskPriority.URGENT, RobotCapability.PICKER);
+        task("TASK-4", TaskPriority.URGENT, RobotCapability.LIFTER).assign("ROBOT-001");
+
+        assertEquals(List.of("TASK-1"),
+            ids(index.find(TaskStatus.PENDING, TaskPriority.URGENT, RobotCapability.LIFTER)));
+        assertEquals(Set.of("TASK-1", "TASK-3"),
+            Set.copyOf(ids(index.find(TaskStatus.PENDING, TaskPriority.URGENT, null))));
+        assertEquals(Set.of("TASK-1", "TASK-2"),
+            Set.copyOf(ids(index.find(TaskStatus.PENDING, null, RobotCapability.LIFTER))));
+        assertEquals(List.of("TASK-4"), ids(index.find(TaskStatus.ASSIGNED, null, null)));
+        assertEquals(4, index.find(null, null, null).size());
+        assertEquals(3, index.count(TaskStatus.PENDING));
+    }
+
+    @Test
+    void shouldFollowTasksThroughEveryTransition() {
+        RobotTask task = task("TASK-1", TaskPriority.HIGH, RobotCapability.PICKER);
+
+        task.assign("ROBOT-001");
+        assertEquals(0, index.count(TaskStatus.PENDING));
+        assertEquals(List.of("TASK-1"), ids(index.findOpenByRobot("ROBOT-001")));
+
+        task.start();
+        assertEquals(1, index.count(TaskStatus.IN_PROGRESS));
+        assertEquals(0, index.count(TaskStatus.ASSIGNED));
+        assertSame(task, index.find("TASK-1").orElseThrow());
+
+        task.complete();
+        assertEquals(0, index.openSize());
+        assertTrue(index.findOpenByRobot("ROBOT-001").isEmpty());
+        assertEquals(1, index.archivedSize());
+
+        RobotTask archived = index.find("TASK-1").orElseThrow();
+        assertNotSame(task, archived);
+        assertEquals(TaskStatus.COMPLETED, archived.getStatus());
+        assertEquals("ROBOT-001", archived.getRobotId());
+        assertTrue(archived.getPayload().isEmpty());
+        assertEquals(List.of("TASK-1"), ids(index.find(TaskStatus.COMPLETED, TaskPriority.HIGH, null)));
+    }
+
+    @Test
+    void shouldArchiveFailedAndCancelledTasks() {
+        task("TASK-1", TaskPriority.NORMAL, RobotCapability.PICKER).fail("Blocked aisle");
+        task("TASK-2", TaskPriority.NORMAL, RobotCapability.PICKER).cancel();
+
+        assertEquals(0, index.openSize());
+        assertEquals("Blocked aisle", index.find("TASK-1").orElseThrow().getFailureReason());
+        assertEquals(1, index.count(TaskStatus.FAILED));
+        assertEquals(1, index.count(TaskStatus.CANCELLED));
+    }
+
+    @Test
+    void shouldShareArchivedCopiesWithReadOnlyCallers() {
+        RobotTask open = task("TASK-1", TaskPriority.NORMAL, RobotCapability.PICKER);
+        task("TASK-2", TaskPriority.NORMAL, RobotCapability.PICKER).cancel();
+
+        List<RobotTask> first = index.findAllReadOnly();
+        List<RobotTask> second = index.findAllReadOnly();
+
+        assertSame(open, first.get(0));
+        assertSame(first.get(1), second.get(1));
+        assertTrue(first.get(1).isPayloadDropped());
+        assertFalse(open.isPayloadDropped());
+        assertNotSame(first.get(1), index.find("TASK-2").orElseThrow());
+    }
+
+    @Test
+    void shouldExpireArchivedTasksAfterTtl() {
+        Instant start = Instant.parse("2024-01-01T08:00:00Z");
+        try (DomainClock.Scope ignored = DomainClock.use(Clock.fixed(start, ZoneOffset.UTC))) {
+            task("TASK-1", TaskPriority.NORMAL, RobotCapability.PICKER).cancel();
+        }
+        try (DomainClock.Scope ignored = DomainClock.use(Clock.fixed(start.plusSeconds(300), ZoneOffset.UTC))) {
+            task("TASK-2", TaskPriority.NORMAL, RobotCapability.PICKER).cancel();
+        }
+
+        assertEquals(0, index.expire(start.plusSeconds(599)));
+        assertEquals(1, index.expire(start.plusSeconds(600)));
+        assertEquals(1, index.archivedSize());
+        try (DomainClock.Scope ignored = DomainClock.use(Clock.fixed(start.plusSeconds(900), ZoneOffset.UTC))) {
+            assertTrue(index.find("TASK-2").isEmpty());
+        }
+    }
+
+    @Test
+    void shouldReplaceTaskSavedAgainUnderSameId() {
+        task("TASK-1", TaskPriority.NORMAL, RobotCapability.PICKER);
+        RobotTask replacement = task("TASK-1", TaskPriority.URGENT, RobotCapability.PICKER);
+
+        assertEquals(1, index.openSize());
+        assertTrue(index.find(TaskStatus.PENDING, TaskPriority.NORMAL, null).isEmpty());
+        assertSame(replacement, index.find("TASK-1").orElseThrow());
+
+        assertTrue(index.remove("TASK-1"));
+        assertEquals(0, index.count(TaskStatus.PENDING));
+        assertTrue(index.find("TASK-1").isEmpty());
+    }
+
+    @Test
+    void shouldAddOnlyUnknownIds() {
+        task("TASK-1", TaskPriority.NORMAL, RobotCapability.PICKER).cancel();
+        task("TASK-2", TaskPriority.NORMAL, RobotCapability.PICKER);
+        RobotTask fresh = RobotTask.create("TASK-3", TaskType.PICK, TaskPriority.HIGH,
+            RobotPosition.of(1.0, 1.0, 0.0), RobotPosition.of(2.0, 2.0, 0.0), RobotCapability.PICKER, Map.of());
+
+        assertFalse(index.addIfAbsent(RobotTask.create("TASK-1", TaskType.PICK, TaskPriority.HIGH,
+            RobotPosition.of(1.0, 1.0, 0.0), RobotPosition.of(2.0, 2.0, 0.0), RobotCapability.PICKER, Map.of())));
+        assertFalse(index.addIfAbsent(RobotTask.create("TASK-2", TaskType.PICK, TaskPriority.HIGH,
+            RobotPosition.of(1.0, 1.0, 0.0), RobotPosition.of(2.0, 2.0, 0.0), RobotCapability.PICKER, Map.of())));
+        assertTrue(index.addIfAbsent(fresh));
+        assertFalse(index.addIfAbsent(fresh));
+
+        assertEquals(TaskStatus.CANCELLED, index.find("TASK-1").orElseThrow().getStatus());
+        assertEquals(TaskPriority.NORMAL, index.find("TASK-2").orElseThrow().getPriority());
+        assertEquals(2, index.count(TaskStatus.PENDING));
+    }
+}
@@ -0,0 +1,158 @@
+package com.paklog.robotics.fleet.management.infrastructure.cache;
+
+import com.paklog.robotics.fleet.management.application.port.out.RobotPositionCache.CachedPosition;
+import com.paklog.robotics.fleet.management.application.port.out.RobotPositionCache.NearbyRobot;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotId;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotStatus;
+import com.paklog.robotics.fleet.management.infrastructure.config.PositionCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedisRobotPositionCacheTest {
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RedisRobotPositionCache cache;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = RedisServer.newRedisServer().port(port).bind("127.0.0.1").setting("save \"\"").build();
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        cache = new RedisRobotPositionCache(redisTemplate,
+            new PositionCacheProperties("robotics:robots:geo", "robotics:robot:", Duration.ofMillis(100), 2),
+            meterRegistry);
+    }
+
+    private static Robot robotAt(String robotId, double x, double y) {
+        return Robot.register(RobotId.of(robotId), "AMR-X1", RobotPosition.of(x, y, 0.0),
+            Set.of(RobotCapability.PICKER));
+    }
+
+    @Test
+    void shouldServeLookupsFromNearCacheBeforeFlush() {
+        Robot robot = robotAt("ROBOT-001", 10.0, 20.0);
+        cache.onTelemetryApplied(robot, Instant.ofEpochMilli(1_000));
+
+        CachedPosition cached = cache.findPosition("ROBOT-001").orElseThrow();
+        assertEquals(10.0, cached.position().getX());
+        assertEquals(20.0, cached.position().getY());
+        assertEquals(100, cached.batteryPercentage());
+        assertEquals(RobotStatus.IDLE, cached.status());
+        assertFalse(redisTemplate.hasKey("robotics:robot:ROBOT-001"));
+        assertTrue(cache.findPosition("ROBOT-404").isEmpty());
+    }
+
+    @Test
+    void shouldCoalesceUpdatesIntoOneWritePerRobot() {
+        Robot robot = robotAt("ROBOT-001", 0.0, 0.0);
+        for (int i = 1; i <= 10; i++) {
+            robot.updatePosition(RobotPosition.of(i, 2.0 * i, 90.0));
+            cache.onTelemetryApplied(robot, Instant.ofEpochMilli(1_000 + i));
+        }
+
+        assertEquals(1, cache.flushAll());
+        assertEquals(0, cache.flushAll());
+
+        Map<Object, Object> hash = redisTemplate.opsForHash().entries("robotics:robot:ROBOT-001");
+        assertEquals("10.0", hash.get("x"));
+        assertEquals("20.0", hash.get("y"));
+        assertEquals("90.0", hash.get("heading"));
+        assertEquals("IDLE", hash.get("status"));
+        assertEquals("1010", hash.get("observedAt"));
+        assertEquals(1.0, meterRegistry.get("robotics.position.cache.written").counter().count());
+    }
+
+    @Test
+    void shouldAnswerRadiusQueriesInMetresWithGeoSearch() {
+        cache.onTelemetryApplied(robotAt("ROBOT-001", 100.0, 100.0), Instant.now());
+        cache.onTelemetryApplied(robotAt("ROBOT-002", 103.0, 104.0), Instant.now());
+        cache.onTelemetryApplied(robotAt("ROBOT-003", 100.0, 112.0), Instant.now());
+        cache.onTelemetryApplied(robotAt("ROBOT-004", 400.0, 100.0), Instant.now());
+
+        // Max batch of two splits the flush into several pipelines
+        assertEquals(4, cache.flushAll());
+
+        List<NearbyRobot> nearby = cache.findWithinRadius(100.0, 100.0, 15.0, 10);
+        assertEquals(List.of("ROBOT-001", "ROBOT-002", "ROBOT-003"), nearby.stream().map(NearbyRobot::robotId).toList());
+        // The geohash index quantizes positions to well under a metre
+        assertEquals(0.0, nearby.get(0).distance(), 0.5);
+        assertEquals(5.0, nearby.get(1).distance(), 0.5);
+        assertEquals(12.0, nearby.get(2).distance(), 0.5);
+
+        assertEquals(1, cache.findWithinRadius(100.0, 100.0, 15.0, 1).size());
+    }
+
+    @Test
+    void shouldEvictRobotLocallyAndFromRedis() {
+        cache.onTelemetryApplied(robotAt("ROBOT-001", 1.0, 1.0), Instant.now());
+        cache.flushAll();
+
+        cache.evict("ROBOT-001");
+
+        assertTrue(cache.findPosition("ROBOT-001").isEmpty());
+        assertFalse(redisTemplate.hasKey("robotics:robot:ROBOT-001"));
+        assertTrue(cache.findWithinRadius(1.0, 1.0, 10.0, 10).isEmpty());
+    }
+
+    @Test
+    void shouldEvictRobotRemovedFromRepository() {
+        Robot robot = robotAt("ROBOT-001", 1.0, 1.0);
+        cache.onTelemetryApplied(robot, Instant.now());
+        cache.flushAll();
+        // Reported again, so it is queued for the next flush when it is removed
+        cache.onTelemetryApplied(robot, Instant.now());
+
+        cache.removed(robot);
+
+        assertEquals(0, cache.flushAll());
+        assertTrue(cache.findPosition("ROBOT-001").isEmpty());
+        assertFalse(redisTemplate.hasKey("robotics:robot:ROBOT-001"));
+        assertTrue(cache.findWithinRadius(1.0, 1.0, 10.0, 10).isEmpty());
+    }
+}
@@ -0,0 +1,188 @@
+package com.paklog.robotics.fleet.management.infrastructure.history;
+
+import com.paklog.robotics.fleet.management.application.port.out.PositionHistory.PositionSample;
+import com.paklog.robotics.fleet.management.infrastructure.config.PositionHistoryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedPositionHistoryTest {
+
+    // Recent enough to survive the retention check on open
+    private static final long T0 = Instant.now().minusSeconds(600).truncatedTo(ChronoUnit.SECONDS).toEpochMilli();
+
+    @TempDir
+    Path directory;
+
+    private MappedPositionHistory history;
+
+    private MappedPositionHistory open(DataSize segmentSize, Duration retention) throws IOException {
+        history = new MappedPositionHistory(
+            new PositionHistoryProperties(directory, segmentSize, Duration.ofSeconds(10), retention),
+            new SimpleMeterRegistry());
+        history.open();
+        return history;
+    }
+
+    private MappedPositionHistory open() throws IOException {
+        return open(DataSize.ofMegabytes(1), Duration.ofDays(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (history != null) {
+            history.close();
+        }
+    }
+
+    private List<PositionSample> replay(long fromMillis, long toMillis, String robotId) {
+        List<PositionSample> samples = new ArrayList<>();
+        history.replay(Instant.ofEpochMilli(fromMillis), Instant.ofEpochMilli(toMillis), robotId, samples::add);
+        return samples;
+    }
+
+    @Test
+    void shouldRoundTripSamplesAtStoredPrecision() throws IOException {
+        open();
+        history.record("ROBOT-001", T0, 12.3456, 7.0, 359.99, 80);
+        history.record("ROBOT-001", T0 + 100, 12.5, 6.8, 0.5, 79);
+        history.record("ROBOT-002", T0 + 150, 1.0, 2.0, 90.0, 55);
+
+        List<PositionSample> samples = replay(T0, T0 + 1_000, null);
+
+        assertEquals(3, samples.size());
+        PositionSample first = samples.get(0);
+        assertEquals("ROBOT-001", first.robotId());
+        assertEquals(Instant.ofEpochMilli(T0), first.timestamp());
+        assertEquals(12.346, first.x(), 1e-9);
+        assertEquals(359.99, first.heading(), 1e-9);
+        // Heading wrapped across north
+        assertEquals(0.5, samples.get(1).heading(), 1e-9);
+        assertEquals(12.5, samples.get(1).x(), 1e-9);
+        assertEquals(79, samples.get(1).batteryPercentage());
+        assertEquals("ROBOT-002", samples.get(2).robotId());
+    }
+
+    @Test
+    void shouldStreamOnlyTheRequestedWindowAndRobot() throws IOException {
+        open();
+        for (int i = 0; i < 600; i++) {
+            long millis = T0 + i * 100L;
+            history.record("ROBOT-001", millis, i * 0.15, 5.0, 90.0, 100 - i / 10);
+            history.record("ROBOT-002", millis, 5.0, i * 0.15, 0.0, 90);
+        }
+
+        List<PositionSample> window = replay(T0 + 25_000, T0 + 35_000, "ROBOT-002");
+
+        assertEquals(100, window.size());
+        assertTrue(window.stream().allMatch(sample -> sample.robotId().equals("ROBOT-002")));
+        assertEquals(Instant.ofEpochMilli(T0 + 25_000), window.get(0).timestamp());
+        assertEquals(250 * 0.15, window.get(0).y(), 1e-3);
+        assertEquals(Instant.ofEpochMilli(T0 + 34_900), window.get(99).timestamp());
+    }
+
+    @Test
+    void shouldIncludeSamplesOfTheBlockStillBeingWritten() throws IOException {
+        open();
+        history.record("ROBOT-001", T0, 1.0, 1.0, 0.0, 50);
+        history.record("ROBOT-001", T0 + 11_000, 2.0, 1.0, 0.0, 50);
+        history.record("ROBOT-001", T0 + 11_100, 3.0, 1.0, 0.0, 50);
+
+        assertEquals(3, replay(T0, T0 + 60_000, null).size());
+    }
+
+    @Test
+    void shouldRollSegmentsAndKeepThemReadable() throws IOException {
+        open(DataSize.ofKilobytes(4), Duration.ofDays(1));
+        for (int i = 0; i < 2_000; i++) {
+            history.record("ROBOT-" + (i % 20), T0 + i * 10L, i % 500, 3.0, 45.0, 60);
+        }
+
+        assertTrue(segmentFiles().size() > 1);
+        assertEquals(2_000, replay(T0, T0 + 60_000, null).size());
+    }
+
+    @Test
+    void shouldReadOlderSegmentsAfterRestart() throws IOException {
+        open();
+        history.record("ROBOT-001", T0, 1.0, 1.0, 0.0, 50);
+        history.record("ROBOT-001", T0 + 100, 1.1, 1.0, 0.0, 50);
+        history.close();
+
+        open();
+        history.record("ROBOT-001", T0 + 200, 1.2, 1.0, 0.0, 50);
+
+        List<PositionSample> samples = replay(T0, T0 + 1_000, "ROBOT-001");
+        assertEquals(3, samples.size());
+        assertEquals(1.1, samples.get(1).x(), 1e-9);
+        assertEquals(2, segmentFiles().size());
+    }
+
+    @Test
+    void shouldRecoverBlockLeftOpenByCrash() throws IOException {
+        open();
+        history.record("ROBOT-001", T0, 1.0, 1.0, 0.0, 50);
+        history.record("ROBOT-001", T0 + 100, 1.1, 1.0, 0.0, 50);
+        history.record("ROBOT-001", T0 + 200, 1.2, 1.0, 0.0, 50);
+        // Crash: the open block never gets its length and the third record is garbage.
+        // KEY record is 18 bytes, each DELTA record 8.
+        history = null;
+        long thirdRecord = PositionSegment.HEADER + PositionSegment.BLOCK_HEADER + 18 + 8;
+        try (FileChannel channel = FileChannel.open(segmentFiles().get(0), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7F}), thirdRecord);
+        }
+
+        open();
+        history.record("ROBOT-001", T0 + 300, 1.3, 1.0, 0.0, 50);
+
+        List<PositionSample> samples = replay(T0, T0 + 1_000, null);
+        assertEquals(3, samples.size());
+        assertEquals(1.1, samples.get(1).x(), 1e-9);
+        assertEquals(Instant.ofEpochMilli(T0 + 300), samples.get(2).timestamp());
+    }
+
+    @Test
+    void shouldDeleteSegmentsPastRetentionOnRoll() throws IOException {
+        open(DataSize.ofKilobytes(4), Duration.ofHours(1));
+        for (int i = 0; i < 1_000; i++) {
+            history.record("ROBOT-" + (i % 20), T0 + i * 10L, i % 500, 3.0, 45.0, 60);
+        }
+        List<Path> firstBatch = segmentFiles();
+
+        long later = T0 + Duration.ofHours(2).toMillis();
+        for (int i = 0; i < 1_000; i++) {
+            history.record("ROBOT-" + (i % 20), later + i * 10L, i % 500, 3.0, 45.0, 60);
+        }
+
+        // Retention works per segment: the one that was being written when time moved on stays
+        assertTrue(firstBatch.size() > 2);
+        for (Path expired : firstBatch.subList(0, firstBatch.size() - 1)) {
+            assertFalse(Files.exists(expired));
+        }
+        assertTrue(replay(T0, T0 + 60_000, null).size() < 1_000);
+        assertEquals(1_000, replay(later, later + 60_000, null).size());
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".seg")).sorted().toList();
+        }
+    }
+}
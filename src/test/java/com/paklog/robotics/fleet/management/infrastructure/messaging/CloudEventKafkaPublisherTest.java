@@ -0,0 +1,123 @@
+package com.paklog.robotics.fleet.management.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.paklog.robotics.fleet.management.domain.event.BatteryLowEvent;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.infrastructure.config.EventPublisherProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CloudEventKafkaPublisherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CloudEventKafkaPublisher publisher(MockProducer<String, byte[]> producer, int maxInFlight) {
+        EventPublisherProperties properties = new EventPublisherProperties("fleet-events",
+            URI.create("/robotics-fleet-management"), maxInFlight, Duration.ofMillis(5), 65536, "lz4",
+            Duration.ofSeconds(1));
+        return new CloudEventKafkaPublisher(producer, objectMapper, properties, meterRegistry);
+    }
+
+    private static BatteryLowEvent batteryLow(String robotId) {
+        return new BatteryLowEvent(robotId, 12, false, RobotPosition.of(1.0, 2.0, 0.0), Instant.EPOCH);
+    }
+
+    private static String header(Headers headers, String key) {
+        return new String(headers.lastHeader(key).value(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void shouldPublishBinaryModeCloudEventKeyedByRobot() throws Exception {
+        MockProducer<String, byte[]> producer =
+            new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        CloudEventKafkaPublisher publisher = publisher(producer, 10);
+
+        publisher.onEvent("ROBOT-001", batteryLow("ROBOT-001"), 0L, true);
+
+        ProducerRecord<String, byte[]> record = producer.history().get(0);
+        assertEquals("fleet-events", record.topic());
+        assertEquals("ROBOT-001", record.key());
+        assertEquals("1.0", header(record.headers(), "ce_specversion"));
+        assertEquals("com.paklog.robotics.fleet.BatteryLowEvent", header(record.headers(), "ce_type"));
+        assertEquals("/robotics-fleet-management", header(record.headers(), "ce_source"));
+        assertEquals("ROBOT-001", header(record.headers(), "ce_subject"));
+        assertEquals(Instant.EPOCH, OffsetDateTime.parse(header(record.headers(), "ce_time")).toInstant());
+        assertEquals("application/json", header(record.headers(), "content-type"));
+
+        JsonNode payload = objectMapper.readTree(record.value());
+        assertEquals("ROBOT-001", payload.get("robotId").asText());
+        assertEquals(12, payload.get("batteryPercentage").asInt());
+        assertEquals(1.0, meterRegistry.get("robotics.events.kafka.sent").counter().count());
+        assertEquals(0, publisher.getInFlightCount());
+    }
+
+    @Test
+    void shouldGiveEachEventADistinctId() throws Exception {
+        MockProducer<String, byte[]> producer =
+            new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        CloudEventKafkaPublisher publisher = publisher(producer, 10);
+
+        publisher.onEvent("ROBOT-001", batteryLow("ROBOT-001"), 0L, false);
+        publisher.onEvent("ROBOT-001", batteryLow("ROBOT-001"), 0L, true);
+
+        assertNotEquals(header(producer.history().get(0).headers(), "ce_id"),
+            header(producer.history().get(1).headers(), "ce_id"));
+    }
+
+    @Test
+    void shouldBlockWhenInFlightLimitIsReached() throws Exception {
+        MockProducer<String, byte[]> producer =
+            new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+        CloudEventKafkaPublisher publisher = publisher(producer, 2);
+
+        publisher.onEvent("ROBOT-001", batteryLow("ROBOT-001"), 0L, false);
+        publisher.onEvent("ROBOT-002", batteryLow("ROBOT-002"), 0L, false);
+        assertEquals(2, publisher.getInFlightCount());
+
+        Thread third = new Thread(() -> {
+            try {
+                publisher.onEvent("ROBOT-003", batteryLow("ROBOT-003"), 0L, true);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        third.start();
+        third.join(200);
+        assertTrue(third.isAlive());
+        assertEquals(2, producer.history().size());
+
+        producer.completeNext();
+        third.join(5_000);
+        assertFalse(third.isAlive());
+        assertEquals(3, producer.history().size());
+    }
+
+    @Test
+    void shouldReleaseInFlightPermitOnFailedSend() throws Exception {
+        MockProducer<String, byte[]> producer =
+            new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+        CloudEventKafkaPublisher publisher = publisher(producer, 1);
+
+        publisher.onEvent("ROBOT-001", batteryLow("ROBOT-001"), 0L, true);
+        producer.errorNext(new RuntimeException("broker unavailable"));
+
+        assertEquals(0, publisher.getInFlightCount());
+        assertEquals(1.0, meterRegistry.get("robotics.events.kafka.failed").counter().count());
+    }
+}
@@ -0,0 +1,156 @@
+package com.paklog.robotics.fleet.management.infrastructure.messaging;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.event.BatteryLowEvent;
+import com.paklog.robotics.fleet.management.domain.event.RobotRegisteredEvent;
+import com.paklog.robotics.fleet.management.domain.event.RobotTaskFailedEvent;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotId;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.infrastructure.config.EventBusProperties;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryRobotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DomainEventBusTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DomainEventBus bus(int ringSize, DomainEventHandler... handlers) {
+        return new DomainEventBus(new EventBusProperties(2, ringSize, 64, Duration.ofMillis(1)),
+            List.of(handlers), meterRegistry);
+    }
+
+    private static RobotTaskFailedEvent event(String robotId, int n) {
+        return new RobotTaskFailedEvent(robotId, "TASK-" + n, "test", Instant.EPOCH);
+    }
+
+    @Test
+    void shouldDeliverEventsInOrderAndFlagEndOfBatch() {
+        List<String> taskIds = new ArrayList<>();
+        List<Boolean> endOfBatch = new ArrayList<>();
+        DomainEventBus bus = bus(16, (aggregateId, event, publishedNanos, end) -> {
+            taskIds.add(((RobotTaskFailedEvent) event).getTaskId());
+            endOfBatch.add(end);
+        });
+
+        for (int i = 0; i < 5; i++) {
+            bus.publish("ROBOT-001", event("ROBOT-001", i));
+        }
+
+        assertEquals(5, bus.drain(0));
+        assertEquals(List.of("TASK-0", "TASK-1", "TASK-2", "TASK-3", "TASK-4"), taskIds);
+        assertEquals(List.of(false, false, false, false, true), endOfBatch);
+        assertEquals(0, bus.getBacklog());
+    }
+
+    @Test
+    void shouldPublishRobotEventsDirectlyOnceSaved() {
+        List<Object> received = new ArrayList<>();
+        DomainEventBus bus = bus(16, (aggregateId, event, publishedNanos, end) -> received.add(event));
+        InMemoryRobotRepository repository = new InMemoryRobotRepository(bus);
+
+        Robot robot = Robot.register(RobotId.of("ROBOT-001"), "AMR-X1",
+            RobotPosition.of(0.0, 0.0, 0.0), Set.of(RobotCapability.PICKER));
+        repository.save(robot);
+        robot.updateBatteryLevel(5);
+
+        assertTrue(robot.getDomainEvents().isEmpty());
+        bus.drain(0);
+        assertEquals(2, received.size());
+        assertInstanceOf(RobotRegisteredEvent.class, received.get(0));
+        assertInstanceOf(BatteryLowEvent.class, received.get(1));
+    }
+
+    @Test
+    void shouldCountSuppressedRepeatsPerType() {
+        DomainEventBus bus = bus(16, (aggregateId, event, publishedNanos, end) -> { });
+        Robot robot = Robot.register(RobotId.of("ROBOT-001"), "AMR-X1",
+            RobotPosition.of(0.0, 0.0, 0.0), Set.of(RobotCapability.PICKER));
+        new InMemoryRobotRepository(bus).save(robot);
+
+        robot.updateBatteryLevel(18);
+        robot.updateBatteryLevel(17);
+        robot.updateBatteryLevel(16);
+
+        assertEquals(2, meterRegistry.get("robotics.events.suppressed")
+            .tag("type", "BatteryLowEvent").counter().count());
+    }
+
+    @Test
+    void shouldDropInsteadOfBlockingWhenFullAndStopped() {
+        DomainEventBus bus = bus(4, (aggregateId, event, publishedNanos, end) -> { });
+
+        for (int i = 0; i < 20; i++) {
+            bus.publish("ROBOT-001", event("ROBOT-001", i));
+        }
+
+        assertEquals(4, bus.getBacklog());
+        assertEquals(16, meterRegistry.get("robotics.events.dropped").counter().count());
+        assertEquals(4, bus.drain(0));
+    }
+
+    @Test
+    void shouldKeepPerAggregateOrderUnderBackpressure() throws InterruptedException {
+        int robots = 8;
+        int eventsPerRobot = 2_000;
+        Map<String, Integer> lastSeen = new ConcurrentHashMap<>();
+        List<String> violations = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(robots * eventsPerRobot);
+        DomainEventBus bus = bus(8, (aggregateId, event, publishedNanos, end) -> {
+            int n = Integer.parseInt(((RobotTaskFailedEvent) event).getTaskId().substring(5));
+            Integer previous = lastSeen.put(aggregateId, n);
+            if (previous != null && previous != n - 1) {
+                violations.add(aggregateId + ": " + previous + " -> " + n);
+            }
+            done.countDown();
+        });
+        bus.start();
+
+        List<Thread> producers = new ArrayList<>();
+        for (int r = 0; r < robots; r++) {
+            String robotId = "ROBOT-" + r;
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < eventsPerRobot; i++) {
+                    bus.publish(robotId, event(robotId, i));
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        bus.stop();
+        assertEquals(List.of(), violations);
+    }
+
+    @Test
+    void shouldReleaseEventsOnceEveryHandlerHasSeenThem() {
+        DomainEventBus bus = bus(16, (aggregateId, event, publishedNanos, end) -> { },
+            (aggregateId, event, publishedNanos, end) -> { });
+
+        for (int i = 0; i < 5; i++) {
+            bus.publish("ROBOT-001", event("ROBOT-001", i));
+        }
+
+        assertEquals(5, bus.drain(0));
+        assertEquals(5, bus.retained());
+        assertEquals(5, bus.drain(1));
+        assertEquals(0, bus.retained());
+    }
+}
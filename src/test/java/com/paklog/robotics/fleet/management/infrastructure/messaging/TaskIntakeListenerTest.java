@@ -0,0 +1,206 @@
+package com.paklog.robotics.fleet.management.infrastructure.messaging;
+
+import com.paklog.robotics.fleet.management.application.service.TaskIntakeService;
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.repository.RobotTaskRepository;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskStatus;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskType;
+import com.paklog.robotics.fleet.management.infrastructure.config.KafkaIntakeConfig;
+import com.paklog.robotics.fleet.management.infrastructure.config.TaskIntakeProperties;
+import com.paklog.robotics.fleet.management.infrastructure.config.TaskStoreProperties;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryRobotTaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = TaskIntakeListenerTest.IntakeContext.class, properties = {
+    "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+    "robotics.tasks.intake.max-poll-records=200",
+    "robotics.tasks.intake.max-pending=20000",
+    "robotics.tasks.intake.resume-pending=15000",
+    "robotics.tasks.intake.check-interval=10ms"
+})
+@EmbeddedKafka(kraft = true, partitions = 4, topics = {"pick.tasks.created", "transport.tasks.created"})
+class TaskIntakeListenerTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskIntakeListenerTest.class);
+
+    // Two listeners, two consumers each, each possibly holding a batch in hand and one more polled
+    private static final int MAX_OVERSHOOT = 2 * 2 * 2 * 200;
+
+    @Configuration
+    @ImportAutoConfiguration({KafkaAutoConfiguration.class, JacksonAutoConfiguration.class})
+    @EnableConfigurationProperties({TaskIntakeProperties.class, TaskStoreProperties.class})
+    @Import({KafkaIntakeConfig.class, InMemoryRobotTaskRepository.class, TaskIntakeService.class,
+        TaskIntakeListener.class})
+    static class IntakeContext {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+    @Autowired
+    private RobotTaskRepository taskRepository;
+    @Autowired
+    private TaskIntakeListener listener;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private KafkaListenerEndpointRegistry registry;
+
+    private Producer<String, byte[]> producer;
+
+    @BeforeEach
+    void setUp() {
+        // Time ingestion, not the consumer group join
+        for (MessageListenerContainer container : registry.getListenerContainers()) {
+            ContainerTestUtils.waitForAssignment(container, 4);
+        }
+        Map<String, Object> config = KafkaTestUtils.producerProps(broker);
+        config.put("linger.ms", 5);
+        producer = new KafkaProducer<>(config, new StringSerializer(), new ByteArraySerializer());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        producer.close();
+        taskRepository.findByStatus(TaskStatus.PENDING).forEach(RobotTask::cancel);
+        awaitCondition(() -> !listener.isPaused());
+    }
+
+    private static byte[] pickEvent(String taskId) {
+        return ("{\"taskId\":\"" + taskId + "\",\"priority\":\"HIGH\",\"originX\":10.0,\"originY\":20.0,"
+            + "\"destinationX\":30.0,\"destinationY\":40.0,\"payload\":{\"wave\":\"W-1\"},\"source\":\"pick\"}")
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] transportEvent(String taskId) {
+        return ("{\"taskId\":\"" + taskId + "\",\"originX\":1.0,\"originY\":2.0,"
+            + "\"destinationX\":3.0,\"destinationY\":4.0,\"requiredCapability\":\"LIFTER\"}")
+            .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void send(String topic, String taskId, byte[] value) {
+        producer.send(new ProducerRecord<>(topic, taskId, value));
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 60_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 60s");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    void shouldIngestBatchesAndSkipDuplicates() throws InterruptedException {
+        int tasks = 12_000;
+        double createdBefore = counter("robotics.tasks.intake.created");
+        double duplicatesBefore = counter("robotics.tasks.intake.duplicates");
+        double rejectedBefore = counter("robotics.tasks.intake.rejected");
+
+        // Queue the whole wave first so the timing covers intake alone
+        registry.stop();
+        for (int i = 0; i < tasks; i++) {
+            if (i % 2 == 0) {
+                send("pick.tasks.created", "INGEST-" + i, pickEvent("INGEST-" + i));
+            } else {
+                send("transport.tasks.created", "INGEST-" + i, transportEvent("INGEST-" + i));
+            }
+            if (i % 10 == 0) {
+                // Redelivered wave release
+                send("pick.tasks.created", "INGEST-" + i, pickEvent("INGEST-" + i));
+            }
+        }
+        send("pick.tasks.created", "BROKEN", "{\"taskId\":".getBytes(StandardCharsets.UTF_8));
+        producer.flush();
+
+        long start = System.nanoTime();
+        registry.start();
+        awaitCondition(() -> counter("robotics.tasks.intake.created") - createdBefore >= tasks
+            && counter("robotics.tasks.intake.rejected") - rejectedBefore >= 1);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("Ingested {} tasks in {} ms, {} tasks/s", tasks, Math.round(seconds * 1000),
+            Math.round(tasks / seconds));
+
+        assertEquals(tasks, counter("robotics.tasks.intake.created") - createdBefore);
+        assertEquals(tasks / 10, counter("robotics.tasks.intake.duplicates") - duplicatesBefore);
+        assertEquals(1, counter("robotics.tasks.intake.rejected") - rejectedBefore);
+
+        RobotTask pick = taskRepository.findById("INGEST-0").orElseThrow();
+        assertEquals(TaskType.PICK, pick.getTaskType());
+        assertEquals(RobotCapability.PICKER, pick.getRequiredCapability());
+        assertEquals("W-1", pick.getPayload().get("wave"));
+        RobotTask transport = taskRepository.findById("INGEST-1").orElseThrow();
+        assertEquals(TaskType.TRANSPORT, transport.getTaskType());
+        assertEquals(RobotCapability.LIFTER, transport.getRequiredCapability());
+    }
+
+    @Test
+    void shouldPauseAtPendingBoundAndResumeOnceDrained() throws InterruptedException {
+        int tasks = 40_000;
+        double createdBefore = counter("robotics.tasks.intake.created");
+        double pausesBefore = counter("robotics.tasks.intake.paused");
+
+        for (int i = 0; i < tasks; i++) {
+            send("pick.tasks.created", "BURST-" + i, pickEvent("BURST-" + i));
+        }
+        producer.flush();
+
+        awaitCondition(listener::isPaused);
+        // Nothing is dispatching, so the backlog must stay in Kafka
+        Thread.sleep(500);
+        int pending = taskRepository.countByStatus(TaskStatus.PENDING);
+        assertTrue(pending >= 20_000 && pending <= 20_000 + MAX_OVERSHOOT, "pending " + pending);
+        assertTrue(counter("robotics.tasks.intake.created") - createdBefore < tasks);
+
+        // Dispatch catches up; intake resumes and finishes the burst
+        awaitCondition(() -> {
+            taskRepository.findByStatus(TaskStatus.PENDING).forEach(RobotTask::cancel);
+            return counter("robotics.tasks.intake.created") - createdBefore >= tasks;
+        });
+        assertEquals(tasks, counter("robotics.tasks.intake.created") - createdBefore);
+        assertTrue(counter("robotics.tasks.intake.paused") - pausesBefore >= 1);
+    }
+}
@@ -0,0 +1,47 @@
+package com.paklog.robotics.fleet.management.infrastructure.persistence;
+
+import com.paklog.robotics.fleet.management.domain.aggregate.Fleet;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.state.FleetStateStore;
+import com.paklog.robotics.fleet.management.domain.state.RobotSlotRegistry;
+import com.paklog.robotics.fleet.management.domain.valueobject.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryFleetRepositoryTest {
+
+    @Test
+    void shouldNotMatchRobotThatReusedTheSlotOfADeletedMember() {
+        FleetStateStore store = new FleetStateStore(new RobotSlotRegistry(4), 16);
+        InMemoryFleetRepository fleetRepository = new InMemoryFleetRepository(null, store);
+        InMemoryRobotRepository robotRepository = new InMemoryRobotRepository(null, store, List.of(fleetRepository));
+
+        Robot member = robot("ROBOT-001", 1.0);
+        Robot farMember = robot("ROBOT-003", 50.0);
+        robotRepository.save(member);
+        robotRepository.save(farMember);
+        Fleet fleet = Fleet.create("FLEET-A");
+        fleet.addRobot(member);
+        fleet.addRobot(farMember);
+        fleetRepository.save(fleet);
+        int slot = member.getStateSlot();
+
+        robotRepository.deleteById("ROBOT-001");
+        Robot stranger = robot("ROBOT-002", 1.0);
+        robotRepository.save(stranger);
+
+        assertEquals(slot, stranger.getStateSlot());
+        assertEquals(Set.of("ROBOT-003"), fleet.getRobots().keySet());
+        assertEquals(farMember, fleet.findNearestAvailableRobot(RobotPosition.of(0.0, 0.0, 0.0),
+            RobotCapability.PICKER).orElseThrow());
+    }
+
+    private static Robot robot(String robotId, double x) {
+        return Robot.register(RobotId.of(robotId), "AMR-X1", RobotPosition.of(x, 1.0, 0.0),
+            Set.of(RobotCapability.PICKER));
+    }
+}
@@ -0,0 +1,156 @@
+package com.paklog.robotics.fleet.management.infrastructure.persistence;
+
+import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.UpdateOneModel;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.valueobject.HealthMetric;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotId;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskPriority;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskType;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindCollectionTest {
+
+    private final List<Robot> robots = new ArrayList<>();
+    private WriteBehindCollection<Robot> collection;
+    private Robot robot;
+
+    @BeforeEach
+    void setUp() {
+        collection = new WriteBehindCollection<>(AggregateDocuments.ROBOTS, () -> robots,
+            r -> r.getRobotId().getValue(), AggregateDocuments::robotVersion, AggregateDocuments::robot, true);
+        robot = Robot.register(RobotId.of("ROBOT-001"), "AMR-X1", RobotPosition.of(0.0, 0.0, 0.0),
+            Set.of(RobotCapability.PICKER));
+        robots.add(robot);
+    }
+
+    private static Document setOf(WriteBehindCollection.Changes changes) {
+        UpdateOneModel<Document> update = (UpdateOneModel<Document>) changes.models.get(0);
+        return (Document) ((Document) update.getUpdate()).get("$set");
+    }
+
+    private WriteBehindCollection.Changes flush() {
+        WriteBehindCollection.Changes changes = collection.collect();
+        changes.commit(0, changes.models.size());
+        return changes;
+    }
+
+    @Test
+    void shouldUpsertFullDocumentOnFirstFlush() {
+        WriteBehindCollection.Changes changes = flush();
+
+        assertEquals(1, changes.models.size());
+        Document set = setOf(changes);
+        assertEquals("IDLE", set.get("status"));
+        assertEquals(List.of("PICKER"), set.get("capabilities"));
+        assertTrue(set.containsKey("healthMetrics"));
+        assertTrue(((UpdateOneModel<Document>) changes.models.get(0)).getOptions().isUpsert());
+    }
+
+    @Test
+    void shouldCollapsePositionUpdatesIntoOneSetOfChangedFields() {
+        flush();
+        for (int i = 1; i <= 10; i++) {
+            robot.updatePosition(RobotPosition.of(i, i, 0.0), Instant.now().plusMillis(i));
+        }
+
+        WriteBehindCollection.Changes changes = flush();
+
+        assertEquals(1, changes.models.size());
+        Document set = setOf(changes);
+        assertEquals(Set.of("position", "lastHeartbeat", "updatedAt"), set.keySet());
+        assertEquals(10.0, ((Document) set.get("position")).getDouble("x"));
+    }
+
+    @Test
+    void shouldSkipUnchangedAggregates() {
+        flush();
+
+        assertTrue(flush().models.isEmpty());
+    }
+
+    @Test
+    void shouldWriteHealthMetricsOnlyWhenTheyChange() {
+        flush();
+        robot.recordHealthMetric(HealthMetric.TEMPERATURE, 55.0, Instant.now().plusSeconds(1));
+
+        Document set = setOf(flush());
+
+        assertEquals(Set.of("healthMetrics", "updatedAt"), set.keySet());
+    }
+
+    @Test
+    void shouldRetryChangesThatWereNotCommitted() {
+        flush();
+        robot.updatePosition(RobotPosition.of(5.0, 5.0, 0.0), Instant.now().plusSeconds(1));
+
+        // Simulates a failed bulkWrite: collected but never committed
+        collection.collect();
+
+        WriteBehindCollection.Changes retried = flush();
+        assertEquals(1, retried.models.size());
+        assertTrue(setOf(retried).containsKey("position"));
+    }
+
+    @Test
+    void shouldDeleteAggregatesRemovedFromSource() {
+        flush();
+        robots.clear();
+
+        WriteBehindCollection.Changes changes = flush();
+
+        assertEquals(1, changes.models.size());
+        assertInstanceOf(DeleteOneModel.class, changes.models.get(0));
+        assertTrue(flush().models.isEmpty());
+    }
+
+    @Test
+    void shouldKeepHistoryWhenDeletesAreDisabled() {
+        List<RobotTask> tasks = new ArrayList<>();
+        WriteBehindCollection<RobotTask> taskCollection = new WriteBehindCollection<>(AggregateDocuments.TASKS,
+            () -> tasks, RobotTask::getTaskId, AggregateDocuments::taskVersion, AggregateDocuments::task, false);
+        tasks.add(RobotTask.create("TASK-001", TaskType.PICK, TaskPriority.HIGH, RobotPosition.of(0.0, 0.0, 0.0),
+            RobotPosition.of(1.0, 1.0, 0.0), RobotCapability.PICKER, Map.of()));
+        WriteBehindCollection.Changes first = taskCollection.collect();
+        first.commit(0, first.models.size());
+        tasks.clear();
+
+        assertTrue(taskCollection.collect().models.isEmpty());
+    }
+
+    @Test
+    void shouldKeepStoredPayloadWhenTaskIsArchived() {
+        InMemoryRobotTaskRepository repository = new InMemoryRobotTaskRepository();
+        WriteBehindCollection<RobotTask> taskCollection = new WriteBehindCollection<>(AggregateDocuments.TASKS,
+            repository::findAllReadOnly, RobotTask::getTaskId, AggregateDocuments::taskVersion,
+            AggregateDocuments::task, false);
+        RobotTask task = RobotTask.create("TASK-001", TaskType.PICK, TaskPriority.HIGH,
+            RobotPosition.of(0.0, 0.0, 0.0), RobotPosition.of(1.0, 1.0, 0.0), RobotCapability.PICKER,
+            Map.of("orderId", "ORDER-7"));
+        repository.save(task);
+        WriteBehindCollection.Changes first = taskCollection.collect();
+        first.commit(0, first.models.size());
+        assertEquals(new Document("orderId", "ORDER-7"), setOf(first).get("payload"));
+
+        task.cancel();
+        WriteBehindCollection.Changes changes = taskCollection.collect();
+
+        assertEquals(1, changes.models.size());
+        Document set = setOf(changes);
+        assertEquals("CANCELLED", set.get("status"));
+        assertFalse(set.containsKey("payload"));
+    }
+}
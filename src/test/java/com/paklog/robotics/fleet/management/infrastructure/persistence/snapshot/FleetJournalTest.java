@@ -0,0 +1,267 @@
+package com.paklog.robotics.fleet.management.infrastructure.persistence.snapshot;
+
+import com.paklog.robotics.fleet.management.application.service.ChargingDispatchService;
+import com.paklog.robotics.fleet.management.domain.aggregate.ChargingStation;
+import com.paklog.robotics.fleet.management.domain.aggregate.Fleet;
+import com.paklog.robotics.fleet.management.domain.aggregate.Robot;
+import com.paklog.robotics.fleet.management.domain.aggregate.RobotTask;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotCapability;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotId;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotStatus;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskPriority;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskStatus;
+import com.paklog.robotics.fleet.management.domain.valueobject.TaskType;
+import com.paklog.robotics.fleet.management.infrastructure.config.ChargingProperties;
+import com.paklog.robotics.fleet.management.infrastructure.config.SnapshotProperties;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryChargingStationRepository;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryFleetRepository;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryRobotRepository;
+import com.paklog.robotics.fleet.management.infrastructure.persistence.InMemoryRobotTaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FleetJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private final InMemoryRobotRepository robots = new InMemoryRobotRepository();
+    private final InMemoryChargingStationRepository stations = new InMemoryChargingStationRepository();
+    private final InMemoryRobotTaskRepository tasks = new InMemoryRobotTaskRepository();
+    private final InMemoryFleetRepository fleets = new InMemoryFleetRepository(null, null);
+
+    private FleetJournal journal(InMemoryRobotRepository robotRepository,
+                                 InMemoryChargingStationRepository stationRepository,
+                                 InMemoryRobotTaskRepository taskRepository,
+                                 InMemoryFleetRepository fleetRepository) {
+        return new FleetJournal(robotRepository, stationRepository, taskRepository, fleetRepository,
+            new SnapshotProperties(directory, Duration.ofMillis(100), Duration.ofSeconds(60)),
+            new SimpleMeterRegistry());
+    }
+
+    private Recovered restart() throws IOException {
+        Recovered recovered = new Recovered();
+        recovered.result = journal(recovered.robots, recovered.stations, recovered.tasks, recovered.fleets).recover();
+        return recovered;
+    }
+
+    private static final class Recovered {
+        final InMemoryRobotRepository robots = new InMemoryRobotRepository();
+        final InMemoryChargingStationRepository stations = new InMemoryChargingStationRepository();
+        final InMemoryRobotTaskRepository tasks = new InMemoryRobotTaskRepository();
+        final InMemoryFleetRepository fleets = new InMemoryFleetRepository(null, null);
+        FleetJournal.RecoveryResult result;
+    }
+
+    private Robot robot(String robotId, double x) {
+        return robots.save(Robot.register(RobotId.of(robotId), "AMR-X1", RobotPosition.of(x, 1.0, 90.0),
+            Set.of(RobotCapability.PICKER, RobotCapability.SCANNER)));
+    }
+
+    private RobotTask task(String taskId) {
+        return tasks.save(RobotTask.create(taskId, TaskType.PICK, TaskPriority.HIGH, RobotPosition.of(1.0, 2.0, 0.0),
+            RobotPosition.of(3.0, 4.0, 0.0), RobotCapability.PICKER, Map.of("sku", "SKU-1", "quantity", 3),
+            Instant.parse("2026-01-05T17:30:00Z")));
+    }
+
+    @Test
+    void shouldRestoreSnapshotAndReplayLogTail() throws IOException {
+        FleetJournal journal = journal(robots, stations, tasks, fleets);
+        journal.recover();
+        Robot robot = robot("ROBOT-001", 5.0);
+        robot("ROBOT-002", 6.0);
+        RobotTask task = task("TASK-001");
+        ChargingStation station = stations.save(ChargingStation.create("CS-1", RobotPosition.of(0.0, 0.0, 0.0), 2));
+        station.addToQueue("ROBOT-002");
+        Fleet fleet = Fleet.create("FLEET-A");
+        fleet.addRobot(robot);
+        fleets.save(fleet);
+        journal.snapshot();
+
+        // Changes after the snapshot only reach the log
+        robot.assignTask(task);
+        task.assign("ROBOT-001");
+        robot.updatePosition(RobotPosition.of(7.5, 2.5, 180.0), Instant.now().plusSeconds(1));
+        robot("ROBOT-003", 8.0);
+        assertEquals(3, journal.appendChanges());
+
+        Recovered recovered = restart();
+
+        assertEquals(3, recovered.result.robots());
+        assertEquals(3, recovered.result.replayedRecords());
+        Robot restored = recovered.robots.findById("ROBOT-001").orElseThrow();
+        assertEquals(RobotStatus.EXECUTING, restored.getStatus());
+        assertEquals("TASK-001", restored.getCurrentTaskId());
+        assertEquals(7.5, restored.getPosition().getX());
+        assertEquals(Set.of(RobotCapability.PICKER, RobotCapability.SCANNER), restored.getCapabilities());
+        assertTrue(restored.getDomainEvents().isEmpty());
+
+        RobotTask restoredTask = recovered.tasks.findById("TASK-001").orElseThrow();
+        assertEquals(TaskStatus.ASSIGNED, restoredTask.getStatus());
+        assertEquals("ROBOT-001", restoredTask.getRobotId());
+        assertEquals("SKU-1", restoredTask.getPayload().get("sku"));
+        assertEquals(3L, restoredTask.getPayload().get("quantity"));
+        assertEquals(Instant.parse("2026-01-05T17:30:00Z"), restoredTask.getDueAt());
+
+        assertEquals(1, recovered.stations.findById("CS-1").orElseThrow().getQueuePosition("ROBOT-002"));
+        assertSame(restored, recovered.fleets.findById("FLEET-A").orElseThrow().getRobots().get("ROBOT-001"));
+    }
+
+    @Test
+    void shouldReleaseRobotRestoredWhileCharging() throws IOException, InterruptedException {
+        FleetJournal journal = journal(robots, stations, tasks, fleets);
+        journal.recover();
+        Robot robot = robot("ROBOT-001", 0.0);
+        robot.updateBatteryLevel(40);
+        ChargingStation station = stations.save(ChargingStation.create("CS-1", RobotPosition.of(0.0, 0.0, 0.0), 1));
+        robot.sendToCharging("CS-1");
+        station.addToQueue("ROBOT-001");
+        station.startCharging("ROBOT-001");
+        journal.snapshot();
+
+        Recovered recovered = restart();
+        Robot restored = recovered.robots.findById("ROBOT-001").orElseThrow();
+        ChargingStation restoredStation = recovered.stations.findById("CS-1").orElseThrow();
+        assertEquals(RobotStatus.CHARGING, restored.getStatus());
+        ChargingDispatchService dispatch = new ChargingDispatchService(recovered.robots, recovered.stations,
+            new ChargingProperties(Duration.ofMillis(10), 1.5, 2.5, 2.0), new SimpleMeterRegistry());
+
+        assertEquals(1, dispatch.resumeRestored());
+        assertEquals("CS-1", dispatch.getAssignment("ROBOT-001").orElseThrow().stationId());
+
+        restored.updateBatteryLevel(100);
+        dispatch.onTelemetryApplied(restored, Instant.now());
+        dispatch.start();
+        try {
+            // The robot is released before the station, under their own locks
+            for (int i = 0; i < 200 && !released(restored, restoredStation); i++) {
+                Thread.sleep(10);
+            }
+        } finally {
+            dispatch.stop();
+        }
+
+        assertEquals(RobotStatus.IDLE, restored.getStatus());
+        assertFalse(restoredStation.holds("ROBOT-001"));
+        assertEquals(1, restoredStation.getAvailableSlots());
+    }
+
+    private static boolean released(Robot robot, ChargingStation station) {
+        synchronized (robot) {
+            if (robot.getStatus() == RobotStatus.CHARGING) {
+                return false;
+            }
+        }
+        synchronized (station) {
+            return !station.holds(robot.getRobotId().getValue());
+        }
+    }
+
+    @Test
+    void shouldOnlyLogAggregatesThatChanged() throws IOException {
+        FleetJournal journal = journal(robots, stations, tasks, fleets);
+        journal.recover();
+        robot("ROBOT-001", 5.0);
+        task("TASK-001");
+
+        assertEquals(2, journal.appendChanges());
+        assertEquals(0, journal.appendChanges());
+    }
+
+    @Test
+    void shouldLogReassignmentThatKeepsTheStatus() throws IOException {
+        FleetJournal journal = journal(robots, stations, tasks, fleets);
+        journal.recover();
+        RobotTask task = task("TASK-001");
+        task.assign("ROBOT-001");
+        journal.appendChanges();
+
+        task.requeue();
+        task.assign("ROBOT-002");
+
+        assertEquals(1, journal.appendChanges());
+        assertEquals("ROBOT-002", restart().tasks.findById("TASK-001").orElseThrow().getRobotId());
+    }
+
+    @Test
+    void shouldJournalChangesAgainAfterFailedSnapshot() throws IOException {
+        FleetJournal journal = journal(robots, stations, tasks, fleets);
+        journal.recover();
+        robot("ROBOT-001", 5.0);
+        task("TASK-001");
+        // The snapshot cannot create its temp file
+        Path blocked = Files.createDirectory(directory.resolve("fleet-1.snap.tmp"));
+
+        assertThrows(IOException.class, journal::snapshot);
+        Files.delete(blocked);
+
+        assertEquals(2, journal.appendChanges());
+        Recovered recovered = restart();
+        assertTrue(recovered.robots.findById("ROBOT-001").isPresent());
+        assertTrue(recovered.tasks.findById("TASK-001").isPresent());
+    }
+
+    @Test
+    void shouldReplayRemovals() throws IOException {
+        FleetJournal journal = journal(robots, stations, tasks, fleets);
+        journal.recover();
+        robot("ROBOT-001", 5.0);
+        task("TASK-001");
+        task("TASK-002");
+        journal.snapshot();
+
+        tasks.deleteById("TASK-001");
+        robots.deleteById("ROBOT-001");
+        assertEquals(2, journal.appendChanges());
+
+        Recovered recovered = restart();
+        assertTrue(recovered.tasks.findById("TASK-001").isEmpty());
+        assertTrue(recovered.tasks.findById("TASK-002").isPresent());
+        assertTrue(recovered.robots.findAll().isEmpty());
+    }
+
+    @Test
+    void shouldStopReplayAtTornTailAndKeepAppending() throws IOException {
+        FleetJournal journal = journal(robots, stations, tasks, fleets);
+        journal.recover();
+        robot("ROBOT-001", 5.0);
+        journal.appendChanges();
+        Path log = directory.resolve("fleet-0.log");
+        long validLength = Files.size(log);
+        Files.write(log, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        Recovered recovered = restart();
+
+        assertEquals(1, recovered.result.replayedRecords());
+        assertTrue(recovered.robots.findById("ROBOT-001").isPresent());
+        assertEquals(validLength, Files.size(log));
+    }
+
+    @Test
+    void shouldReplaceOldGenerationOnSnapshot() throws IOException {
+        FleetJournal journal = journal(robots, stations, tasks, fleets);
+        journal.recover();
+        robot("ROBOT-001", 5.0);
+        journal.snapshot();
+        journal.snapshot();
+
+        assertTrue(Files.exists(directory.resolve("fleet-2.snap")));
+        assertTrue(Files.exists(directory.resolve("fleet-2.log")));
+        assertFalse(Files.exists(directory.resolve("fleet-1.snap")));
+        assertFalse(Files.exists(directory.resolve("fleet-0.log")));
+        assertEquals(2, restart().result.generation());
+    }
+}
@@ -0,0 +1,61 @@
+package com.paklog.robotics.fleet.management.infrastructure.websocket;
+
+import com.paklog.robotics.fleet.management.domain.valueobject.PathPlan;
+import com.paklog.robotics.fleet.management.domain.valueobject.RobotPosition;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TelemetryFrameCodecTest {
+
+    @Test
+    void shouldRoundTripPackedTelemetryFrames() {
+        ByteBuffer buffer = ByteBuffer.allocate(2 * TelemetryFrameCodec.TELEMETRY_FRAME_SIZE);
+        TelemetryFrameCodec.encodeTelemetry(buffer, 7, TelemetryFrameCodec.FLAG_POSITION_VALID,
+            12.345, 67.891, 359.99, 55);
+        TelemetryFrameCodec.encodeTelemetry(buffer, 8, TelemetryFrameCodec.FLAG_BATTERY_VALID,
+            0.0, 0.0, 0.0, 100);
+        buffer.flip();
+
+        List<double[]> decoded = new ArrayList<>();
+        int frames = TelemetryFrameCodec.decodeTelemetry(buffer, (slot, flags, x, y, heading, battery) ->
+            decoded.add(new double[] {slot, flags, x, y, heading, battery}));
+
+        assertEquals(2, frames);
+        assertArrayEquals(new double[] {7, 1, 12.345, 67.891, 359.99, 55}, decoded.get(0), 1e-9);
+        assertArrayEquals(new double[] {8, 2, 0.0, 0.0, 0.0, 100}, decoded.get(1), 1e-9);
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void shouldRejectTruncatedMessage() {
+        ByteBuffer buffer = ByteBuffer.allocate(TelemetryFrameCodec.TELEMETRY_FRAME_SIZE - 1);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> TelemetryFrameCodec.decodeTelemetry(buffer, (slot, flags, x, y, heading, battery) -> { }));
+    }
+
+    @Test
+    void shouldEncodePathPlanCommand() {
+        PathPlan path = PathPlan.of(
+            List.of(RobotPosition.of(1.0, 2.0, 0.0), RobotPosition.of(3.5, 4.25, 90.0)),
+            3.2,
+            1.6
+        );
+
+        ByteBuffer frame = TelemetryFrameCodec.encodePath(3, path);
+
+        assertEquals(TelemetryFrameCodec.PATH_HEADER_SIZE + 2 * TelemetryFrameCodec.PATH_WAYPOINT_SIZE, frame.remaining());
+        assertEquals(TelemetryFrameCodec.TYPE_PATH, frame.get(0));
+        assertEquals(2, frame.getShort(2));
+        assertEquals(3, frame.getInt(4));
+        assertEquals(1600, frame.getInt(8));
+        assertEquals(3500, frame.getInt(24));
+        assertEquals(4250, frame.getInt(28));
+        assertEquals(9000, frame.getShort(32));
+    }
+}